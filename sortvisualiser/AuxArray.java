@@ -0,0 +1,121 @@
+package src.main.java.sortvisualiser;
+
+/**
+ * A classe AuxArray é um buffer auxiliar de um algoritmo de ordenação, criado com
+ * SortArray.createAuxArray. As leituras e escritas são contadas nas métricas do SortArray
+ * dono do buffer, o seu tamanho entra no pico de memória auxiliar e as escritas são
+ * notificadas aos observadores, para que o buffer apareça e seja animado na visualização.
+ *
+ * <p>O buffer deve ser liberado com close() quando o algoritmo não precisar mais dele,
+ * de preferência com try-with-resources.</p>
+ */
+public final class AuxArray implements AutoCloseable {
+    private final SortArray owner; // Array cujas métricas e observadores recebem as operações
+    private final String name; // Nome do buffer, exibido na visualização
+    private final int[] values; // Valores do buffer
+    private boolean released = false; // Indica se o buffer já foi liberado
+
+    /**
+     * Cria um buffer zerado. Usado apenas por SortArray.createAuxArray.
+     *
+     * @param owner O array dono do buffer.
+     * @param name  O nome do buffer.
+     * @param size  O número de elementos.
+     */
+    AuxArray(SortArray owner, String name, int size) {
+        this.owner = owner;
+        this.name = name;
+        this.values = new int[size];
+    }
+
+    /**
+     * Retorna o nome do buffer.
+     *
+     * @return O nome do buffer.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retorna o número de elementos do buffer.
+     *
+     * @return O tamanho do buffer.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Retorna o número de bytes ocupados pelos valores do buffer.
+     *
+     * @return O tamanho do buffer em bytes.
+     */
+    public long sizeInBytes() {
+        return (long) values.length * Integer.BYTES;
+    }
+
+    /**
+     * Lê um valor do buffer, contando a leitura e notificando os observadores.
+     *
+     * @param index O índice.
+     * @return O valor no índice.
+     */
+    public int get(int index) {
+        owner.auxRead(this, index);
+        return values[index];
+    }
+
+    /**
+     * Lê um valor do buffer sem contar a leitura. Usado pela visualização.
+     *
+     * @param index O índice.
+     * @return O valor no índice.
+     */
+    public int peek(int index) {
+        return values[index];
+    }
+
+    /**
+     * Escreve um valor no buffer, contando a escrita e notificando os observadores.
+     *
+     * @param index            O índice.
+     * @param value            O novo valor.
+     * @param millisecondDelay O atraso em milissegundos solicitado pelo algoritmo.
+     */
+    public void set(int index, int value, long millisecondDelay) {
+        values[index] = value;
+        owner.auxUpdated(this, index, value, millisecondDelay);
+    }
+
+    /**
+     * Substitui os valores do buffer sem contar escritas nem notificar os observadores. Usado
+     * pela reprodução de um log gravado ao saltar para outra operação.
+     *
+     * @param source Os novos valores.
+     * @param offset O índice em source do primeiro valor do buffer.
+     */
+    public void load(int[] source, int offset) {
+        System.arraycopy(source, offset, values, 0, values.length);
+    }
+
+    /**
+     * Indica se o buffer já foi liberado com close().
+     *
+     * @return true se o buffer foi liberado.
+     */
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Libera o buffer: o seu tamanho sai da memória auxiliar em uso e ele deixa de ser exibido.
+     */
+    @Override
+    public void close() {
+        if (!released) {
+            released = true;
+            owner.releaseAuxArray(this);
+        }
+    }
+}
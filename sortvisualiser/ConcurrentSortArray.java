@@ -0,0 +1,224 @@
+package src.main.java.sortvisualiser;
+
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A classe ConcurrentSortArray é a variante do SortArray usada pelos algoritmos paralelos.
+ * Vários workers de um ForkJoinPool escrevem ao mesmo tempo, cada um em uma faixa disjunta
+ * do array; a visibilidade entre eles é garantida pelos próprios fork/join. O que é
+ * compartilhado entre os workers fica seguro e barato:
+ *
+ * <ul>
+ *     <li>o número de mudanças e os contadores de custo são LongAdders, com uma célula por thread em disputa;</li>
+ *     <li>o maior valor é mantido com compare-and-set;</li>
+ *     <li>cada barra alterada recebe a cor do worker que a alterou.</li>
+ * </ul>
+ */
+public class ConcurrentSortArray extends SortArray {
+    public static final byte COLOUR_WORKER_FIRST = 2; // Cor das barras alteradas pelo primeiro worker
+    public static final int WORKER_COLOUR_COUNT = 16; // Número de cores distintas de workers
+
+    private final LongAdder arrayChanges = new LongAdder(); // Número de mudanças no array
+    private final AtomicInteger maxValue = new AtomicInteger(Integer.MIN_VALUE); // Maior valor do array
+    private volatile boolean maxValueStale = true; // Indica se o maior valor precisa ser recalculado
+
+    /**
+     * Cria um array com o tamanho informado, preenchido com os valores de 0 a size - 1.
+     *
+     * @param size O número de elementos do array.
+     */
+    public ConcurrentSortArray(int size) {
+        super(size);
+    }
+
+    /**
+     * Cria um array com uma cópia dos valores informados.
+     *
+     * @param values Os valores iniciais do array.
+     */
+    public ConcurrentSortArray(int[] values) {
+        super(values);
+    }
+
+    /**
+     * Retorna a cor de um worker pelo seu índice no pool.
+     *
+     * @param workerIndex O índice do worker.
+     * @return A cor das barras alteradas pelo worker.
+     */
+    public static byte workerColour(int workerIndex) {
+        return (byte) (COLOUR_WORKER_FIRST + Math.floorMod(workerIndex, WORKER_COLOUR_COUNT));
+    }
+
+    /**
+     * Indica se uma cor de barra é a cor de um worker.
+     *
+     * @param barColour A cor da barra.
+     * @return true se a cor pertencer a um worker.
+     */
+    public static boolean isWorkerColour(byte barColour) {
+        return barColour >= COLOUR_WORKER_FIRST && barColour < COLOUR_WORKER_FIRST + WORKER_COLOUR_COUNT;
+    }
+
+    @Override
+    protected SortMetrics createMetrics() {
+        return new ConcurrentMetrics();
+    }
+
+    @Override
+    protected byte changedColour() {
+        Thread thread = Thread.currentThread();
+        if (thread instanceof ForkJoinWorkerThread) {
+            return workerColour(((ForkJoinWorkerThread) thread).getPoolIndex());
+        }
+        return COLOUR_CHANGED;
+    }
+
+    @Override
+    protected void countChange() {
+        arrayChanges.increment();
+    }
+
+    @Override
+    public int getArrayChanges() {
+        return (int) arrayChanges.sum();
+    }
+
+    /**
+     * Redefine o número de mudanças no array. Deve ser chamado apenas quando nenhum worker está rodando.
+     *
+     * @param arrayChanges O novo número de mudanças.
+     */
+    @Override
+    public void setArrayChanges(int arrayChanges) {
+        this.arrayChanges.reset();
+        this.arrayChanges.add(arrayChanges);
+    }
+
+    @Override
+    protected int maxStoredValue() {
+        if (maxValueStale) {
+            maxValueStale = false;
+            maxValue.set(scanMaxValue());
+        }
+        return maxValue.get();
+    }
+
+    @Override
+    protected void trackMaxValue(int previousValue, int value) {
+        int current = maxValue.get();
+        while (value > current) {
+            if (maxValue.compareAndSet(current, value)) {
+                return;
+            }
+            current = maxValue.get();
+        }
+        if (previousValue == current && value < previousValue) {
+            maxValueStale = true;
+        }
+    }
+
+    @Override
+    protected void invalidateMaxValue() {
+        maxValueStale = true;
+    }
+
+    /**
+     * Contadores de custo seguros para vários workers escrevendo ao mesmo tempo.
+     */
+    private static final class ConcurrentMetrics extends SortMetrics {
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder compares = new LongAdder();
+        private final LongAdder writes = new LongAdder();
+        private final LongAdder swaps = new LongAdder();
+        private final LongAdder listenerNanos = new LongAdder();
+        private final AtomicLong auxBytes = new AtomicLong();
+        private final AtomicLong peakAuxBytes = new AtomicLong();
+
+        @Override
+        public void start() {
+            reads.reset();
+            compares.reset();
+            writes.reset();
+            swaps.reset();
+            listenerNanos.reset();
+            auxBytes.set(0);
+            peakAuxBytes.set(0);
+            super.start();
+        }
+
+        @Override
+        public void countRead() {
+            reads.increment();
+        }
+
+        @Override
+        public void countCompare() {
+            compares.increment();
+        }
+
+        @Override
+        public void countWrite() {
+            writes.increment();
+        }
+
+        @Override
+        public void countSwap() {
+            swaps.increment();
+        }
+
+        @Override
+        public void addListenerNanos(long nanos) {
+            listenerNanos.add(nanos);
+        }
+
+        @Override
+        public void allocateAux(long bytes) {
+            long current = auxBytes.addAndGet(bytes);
+            peakAuxBytes.accumulateAndGet(current, Math::max);
+        }
+
+        @Override
+        public void releaseAux(long bytes) {
+            auxBytes.addAndGet(-bytes);
+        }
+
+        @Override
+        public long getReads() {
+            return reads.sum();
+        }
+
+        @Override
+        public long getCompares() {
+            return compares.sum();
+        }
+
+        @Override
+        public long getWrites() {
+            return writes.sum();
+        }
+
+        @Override
+        public long getSwaps() {
+            return swaps.sum();
+        }
+
+        @Override
+        public long getAuxBytes() {
+            return auxBytes.get();
+        }
+
+        @Override
+        public long getPeakAuxBytes() {
+            return peakAuxBytes.get();
+        }
+
+        @Override
+        public long getListenerNanos() {
+            return listenerNanos.sum();
+        }
+    }
+}
@@ -1,299 +1,768 @@
-package src.main.java.sortvisualiser;
-
-import java.awt.AlphaComposite;
-import java.awt.BorderLayout;
-import java.awt.Color;
-import java.awt.Dimension;
-import java.awt.Font;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.image.BufferedImage;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
-
-import javax.swing.JPanel;
-import javax.swing.JSpinner;
-import javax.swing.SpinnerNumberModel;
-
-import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
-
-/**
- * A classe SortArray é um painel que visualiza um array de barras, representando os valores
- * de um algoritmo de ordenação. Ela permite a manipulação e visualização das mudanças no array
- * durante a execução do algoritmo.
- */
-public class SortArray extends JPanel {
-    public static final int DEFAULT_WIN_WIDTH = 1280; // Largura padrão da janela
-    public static final int DEFAULT_WIN_HEIGHT = 720; // Altura padrão da janela
-    private static final int DEFAULT_BAR_WIDTH = 5; // Largura padrão das barras
-
-    /**
-     * Percentagem do painel que as barras vão consumir com base no número original de barras.
-     * Cada barra tem 2x sua própria altura em um painel de 720 pixels de altura.
-     */
-    private static final double BAR_HEIGHT_PERCENT = 512.0 / 720.0;
-    private static final int NUM_BARS = DEFAULT_WIN_WIDTH / DEFAULT_BAR_WIDTH; // Número de barras
-
-    private final int[] array; // Array que contém os valores a serem ordenados
-    private final int[] barColours; // Array que contém as cores das barras
-    private int spinnerValue = 0; // Valor do spinner para atraso do algoritmo
-    public String algorithmName = ""; // Nome do algoritmo atual
-    private UiSortAlgoritimo algorithm; // Instância do algoritmo de ordenação
-    private long algorithmDelay = 0; // Atraso do algoritmo em milissegundos
-
-    private JSpinner spinner; // Componente spinner para ajustar o atraso do algoritmo
-    private int arrayChanges = 0; // Número de mudanças no array
-
-    /**
-     * Construtor da classe SortArray.
-     * Inicializa o painel, cria o array de barras e configura o spinner para o atraso do algoritmo.
-     *
-     * @param b Parâmetro booleano (não utilizado no código atual).
-     */
-    public SortArray(boolean b) {
-        setBackground(Color.DARK_GRAY);
-        array = new int[NUM_BARS];
-        barColours = new int[NUM_BARS];
-        for (int i = 0; i < NUM_BARS; i++) {
-            array[i] = i;
-            barColours[i] = 0;
-        }
-        spinner = new JSpinner(new SpinnerNumberModel(1, 1, 1000, 1));
-        spinner.addChangeListener((event) -> {
-            algorithmDelay = (Integer) spinner.getValue();
-            algorithm.setDelay(algorithmDelay);
-        });
-        add(spinner, BorderLayout.LINE_START);
-    }
-
-    /**
-     * Retorna o tamanho do array.
-     *
-     * @return O tamanho do array.
-     */
-    public int arraySize() {
-        return array.length;
-    }
-
-    /**
-     * Retorna o valor no índice especificado do array.
-     *
-     * @param index O índice do valor a ser retornado.
-     * @return O valor no índice especificado.
-     */
-    public int getValue(int index) {
-        return array[index];
-    }
-
-    /**
-     * Retorna o valor máximo do array.
-     *
-     * @return O valor máximo do array ou Integer.MIN_VALUE se o array estiver vazio.
-     */
-    public int getMaxValue() {
-        return Arrays.stream(array).max().orElse(Integer.MIN_VALUE);
-    }
-
-    /**
-     * Finaliza a atualização do painel, executando o repaint e aguardando um tempo especificado.
-     *
-     * @param value          O valor a ser usado na atualização.
-     * @param millisecondDelay O atraso em milissegundos.
-     * @param isStep        Indica se a atualização é um passo no algoritmo.
-     */
-    private void finaliseUpdate(int value, long millisecondDelay, boolean isStep) {
-        repaint();
-        try {
-            Thread.sleep(millisecondDelay);
-        } catch (InterruptedException ex) {
-            Thread.currentThread().interrupt();
-        }
-        if (isStep) {
-            arrayChanges++;
-        }
-    }
-
-    /**
-     * Troca os valores em dois índices no array e atualiza as cores das barras trocadas,
-     * usando finaliseUpdate para refletir a troca na interface.
-     *
-     * @param firstIndex      O primeiro índice a ser trocado.
-     * @param secondIndex     O segundo índice a ser trocado.
-     * @param millisecondDelay O atraso em milissegundos.
-     * @param isStep          Indica se a troca é um passo no algoritmo.
-     */
-    public void swap(int firstIndex, int secondIndex, long millisecondDelay, boolean isStep) {
-        int temp = array[firstIndex];
-        array[firstIndex] = array[secondIndex];
-        array[secondIndex] = temp;
-
-        barColours[firstIndex] = 100;
-        barColours[secondIndex] = 100;
-
-        finaliseUpdate((array[firstIndex] + array[secondIndex]) / 2, millisecondDelay, isStep);
-    }
-
-    /**
-     * Atualiza um valor em um índice específico do array e atualiza a cor da barra correspondente.
-     *
-     * @param index          O índice a ser atualizado.
-     * @param value          O novo valor.
-     * @param millisecondDelay O atraso em milissegundos.
-     * @param isStep        Indica se a atualização é um passo no algoritmo.
-     */
-    public void updateSingle(int index, int value, long millisecondDelay, boolean isStep) {
-        array[index] = value;
-        barColours[index] = 100;
-
-        finaliseUpdate(value, millisecondDelay, isStep);
-        repaint();
-    }
-
-    /**
-     * Embaralha os valores no array usando um gerador de números aleatórios.
-     */
-    public void shuffle() {
-        arrayChanges = 0;
-        Random rng = new Random();
-        for (int i = 0; i < arraySize(); i++) {
-            int swapWithIndex = rng.nextInt(arraySize() - 1);
-            swap(i, swapWithIndex, 5, false);
-        }
-        arrayChanges = 0;
-    }
-
-    /**
-     * Destaca todos os valores do array atualizando suas cores.
-     */
-    public void highlightArray() {
-        for (int i = 0; i < arraySize(); i++) {
-            updateSingle(i, getValue(i), 5, false);
-        }
-    }
-
-    /**
-     * Define o tamanho preferido do painel.
-     *
-     * @return O tamanho preferido do painel.
-     */
-    @Override
-    public Dimension getPreferredSize() {
-        return new Dimension(DEFAULT_WIN_WIDTH, DEFAULT_WIN_HEIGHT);
-    }
-
-    /**
-     * Reseta as cores das barras para a cor padrão.
-     */
-    public void resetColours() {
-        for (int i = 0; i < NUM_BARS; i++) {
-            barColours[i] = 0;
-        }
-        repaint();
-    }
-
-    /**
-     * Desenha o array no painel.
-     *
-     * @param g O objeto Graphics utilizado para desenhar.
-     */
-    @Override
-    public void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D panelGraphics = (Graphics2D) g.create();
-
-        try {
-            Map<RenderingHints.Key, Object> renderingHints = new HashMap<>();
-            renderingHints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            panelGraphics.addRenderingHints(renderingHints);
-            panelGraphics.setColor(Color.WHITE);
-            panelGraphics.setFont(new Font("Monospaced", Font.BOLD, 20));
-            panelGraphics.drawString(" Current algorithm: " + algorithmName, 10, 30);
-            panelGraphics.drawString("Current step delay: " + algorithmDelay + "ms", 10, 55);
-            panelGraphics.drawString("     Array Changes: " + arrayChanges, 10, 80);
-
-            drawBars(panelGraphics);
-        } finally {
-            panelGraphics.dispose();
-        }
-    }
-
-    /**
-     * Desenha as barras representando os valores do array.
-     *
-     * @param panelGraphics O objeto Graphics2D utilizado para desenhar as barras.
-     */
-    private void drawBars(Graphics2D panelGraphics) {
-        int barWidth = getWidth() / NUM_BARS;
-        int bufferedImageWidth = barWidth * NUM_BARS;
-        int bufferedImageHeight = getHeight();
-
-        if (bufferedImageHeight > 0 && bufferedImageWidth > 0) {
-            if (bufferedImageWidth < 256) {
-                bufferedImageWidth = 256;
-            }
-
-            double maxValue = getMaxValue();
-
-            BufferedImage bufferedImage = new BufferedImage(bufferedImageWidth, bufferedImageHeight, BufferedImage.TYPE_INT_ARGB);
-            makeBufferedImageTransparent(bufferedImage);
-            Graphics2D bufferedGraphics = null;
-            try {
-                bufferedGraphics = bufferedImage.createGraphics();
-
-                for (int x = 0; x < NUM_BARS; x++) {
-                    double currentValue = getValue(x);
-                    double percentOfMax = currentValue / maxValue;
-                    double heightPercentOfPanel = percentOfMax * BAR_HEIGHT_PERCENT;
-                    int height = (int) (bufferedImageHeight * heightPercentOfPanel);
-                    int y = bufferedImageHeight - height;
-
-                    int barColor = barColours[x];
-                    Color barFillColor;
-                    if (barColor == 0) {
-                        barFillColor = new Color(255, 255, 255);
-                    } else if (barColor == 100) {
-                        barFillColor = new Color(255, 0, 0);
-                    } else {
-                        barFillColor = new Color(0, 255, 0);
-                    }
-
-                    bufferedGraphics.setColor(barFillColor);
-                    bufferedGraphics.fillRect(x * barWidth, y, barWidth, height);
-                }
-
-                panelGraphics.drawImage(bufferedImage, 0, 0, null);
-            } finally {
-                if (bufferedGraphics != null) {
-                    bufferedGraphics.dispose();
-                }
-            }
-        }
-    }
-
-    /**
-     * Torna a imagem do buffer transparente.
-     *
-     * @param bufferedImage A imagem a ser tornada transparente.
-     */
-    private void makeBufferedImageTransparent(BufferedImage bufferedImage) {
-        Graphics2D g2d = bufferedImage.createGraphics();
-        g2d.setComposite(AlphaComposite.Clear);
-        g2d.fillRect(0, 0, bufferedImage.getWidth(), bufferedImage.getHeight());
-        g2d.setComposite(AlphaComposite.Src);
-        g2d.dispose();
-    }
-
-    /**
-     * Define o algoritmo de ordenação a ser utilizado e o seu nome.
-     *
-     * @param algorithm O algoritmo de ordenação a ser definido.
-     */
-    public void setAlgorithm(UiSortAlgoritimo algorithm) {
-        this.algorithm = algorithm;
-        this.algorithmName = getName();
-        resetColours();
-    }
-}
+package src.main.java.sortvisualiser;
+
+import java.util.Arrays;
+
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.input.InputGenerator;
+import src.main.java.sortvisualiser.keys.ElementType;
+import src.main.java.sortvisualiser.keys.SortKeys;
+import src.main.java.sortvisualiser.render.ArrayView;
+
+/**
+ * A classe SortArray é o modelo de dados ordenado pelos algoritmos. Ela guarda os valores,
+ * as cores das barras e o número de mudanças, e notifica os observadores registrados a cada
+ * alteração. Não depende de AWT/Swing: sem observadores, os algoritmos rodam na velocidade
+ * máxima, sem atrasos e sem repaint.
+ *
+ * <p>Para ordenar chaves long, double ou objetos, os valores do array são handles de um
+ * SortKeys (veja setKeys()): os algoritmos movem os handles e as comparações leem as chaves.</p>
+ */
+public class SortArray implements ArrayView {
+    public static final int DEFAULT_SIZE = 1280 / 5; // Número padrão de barras (largura da janela / largura da barra)
+
+    public static final int MAX_SIZE = 10_000_000; // Maior tamanho de array suportado pela visualização
+
+    public static final byte COLOUR_DEFAULT = 0; // Cor padrão das barras
+    public static final byte COLOUR_CHANGED = 1; // Cor das barras alteradas
+    public static final byte COLOUR_HIGHLIGHT = -1; // Cor das faixas destacadas pelo algoritmo, como runs detectadas
+
+    private static final SortArrayListener[] NO_LISTENERS = new SortArrayListener[0];
+    private static final AuxArray[] NO_AUX_ARRAYS = new AuxArray[0];
+
+    private final int[] array; // Array que contém os valores a serem ordenados
+    private final byte[] barColours; // Array que contém as cores das barras, um byte por barra
+    public String algorithmName = ""; // Nome do algoritmo atual
+    private UiSortAlgoritimo algorithm; // Instância do algoritmo de ordenação
+    private int arrayChanges = 0; // Número de mudanças no array
+    private int maxValue; // Maior valor do array, mantido a cada escrita
+    private boolean maxValueStale = true; // Indica se o maior valor precisa ser recalculado
+    private SortKeys keys; // Chaves dos elementos, ou null quando os valores são as próprias chaves
+    private volatile boolean cancelled = false; // Indica se a execução foi cancelada
+
+    private final SortMetrics metrics = createMetrics(); // Contadores de custo da execução atual
+
+    private SortArrayListener[] listeners = NO_LISTENERS; // Observadores das alterações no array
+    private volatile AuxArray[] auxArrays = NO_AUX_ARRAYS; // Buffers auxiliares em uso pelo algoritmo
+
+    /**
+     * Construtor da classe SortArray.
+     * Cria um array com o tamanho padrão, preenchido com os valores de 0 a DEFAULT_SIZE - 1.
+     */
+    public SortArray() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Cria um array com o tamanho informado, preenchido com os valores de 0 a size - 1.
+     *
+     * @param size O número de elementos do array.
+     */
+    public SortArray(int size) {
+        array = new int[size];
+        barColours = new byte[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = i;
+        }
+    }
+
+    /**
+     * Cria um array com uma cópia dos valores informados.
+     *
+     * @param values Os valores iniciais do array.
+     */
+    public SortArray(int[] values) {
+        array = values.clone();
+        barColours = new byte[values.length];
+    }
+
+    /**
+     * Registra um observador das alterações do array.
+     *
+     * @param listener O observador a ser registrado.
+     */
+    public void addListener(SortArrayListener listener) {
+        SortArrayListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Remove um observador previamente registrado.
+     *
+     * @param listener O observador a ser removido.
+     */
+    public void removeListener(SortArrayListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                SortArrayListener[] updated = new SortArrayListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                listeners = updated.length == 0 ? NO_LISTENERS : updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retorna o tamanho do array.
+     *
+     * @return O tamanho do array.
+     */
+    @Override
+    public int arraySize() {
+        return array.length;
+    }
+
+    /**
+     * Retorna o valor no índice especificado do array.
+     *
+     * @param index O índice do valor a ser retornado.
+     * @return O valor no índice especificado.
+     */
+    public int getValue(int index) {
+        checkCancelled();
+        metrics.countRead();
+        if (listeners.length != 0) {
+            long start = System.nanoTime();
+            for (SortArrayListener listener : listeners) {
+                listener.onRead(index);
+            }
+            metrics.addListenerNanos(System.nanoTime() - start);
+        }
+        return array[index];
+    }
+
+    /**
+     * Retorna o valor exibido no índice especificado sem notificar os observadores. Usado pela
+     * visualização e pelas ferramentas, para que suas leituras não sejam contadas como do algoritmo.
+     *
+     * @param index O índice do valor a ser retornado.
+     * @return O valor no índice especificado, ou o posto da chave quando o array tem chaves (veja displayValue()).
+     */
+    @Override
+    public int peekValue(int index) {
+        return displayValue(array[index]);
+    }
+
+    /**
+     * Converte um valor do array no valor exibido: o próprio valor, ou, quando o array tem
+     * chaves, o posto da chave do handle, para que a altura das barras siga a ordem das chaves.
+     *
+     * @param value Um valor do array ou de um buffer auxiliar.
+     * @return O valor exibido.
+     */
+    public int displayValue(int value) {
+        SortKeys elementKeys = keys;
+        return elementKeys == null ? value : elementKeys.rank(value);
+    }
+
+    /**
+     * Compara os valores de dois índices do array.
+     *
+     * @param firstIndex  O primeiro índice.
+     * @param secondIndex O segundo índice.
+     * @return Um valor negativo, zero ou positivo se o primeiro valor for menor, igual ou maior que o segundo.
+     */
+    public int compare(int firstIndex, int secondIndex) {
+        checkCancelled();
+        metrics.countCompare();
+        int result = compareElements(array[firstIndex], array[secondIndex]);
+        if (listeners.length != 0) {
+            long start = System.nanoTime();
+            for (SortArrayListener listener : listeners) {
+                listener.onCompare(firstIndex, secondIndex, result);
+            }
+            metrics.addListenerNanos(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Compara dois valores que já estão fora do array, por exemplo em um buffer auxiliar,
+     * contando a comparação como uma comparação do algoritmo.
+     *
+     * @param firstValue  O primeiro valor.
+     * @param secondValue O segundo valor.
+     * @return Um valor negativo, zero ou positivo se o primeiro valor for menor, igual ou maior que o segundo.
+     */
+    public int compareValues(int firstValue, int secondValue) {
+        checkCancelled();
+        metrics.countCompare();
+        int result = compareElements(firstValue, secondValue);
+        if (listeners.length != 0) {
+            long start = System.nanoTime();
+            for (SortArrayListener listener : listeners) {
+                listener.onValueCompare(firstValue, secondValue, result);
+            }
+            metrics.addListenerNanos(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Cancela a execução sobre o array: a próxima leitura, comparação ou escrita do algoritmo,
+     * em qualquer thread, lança SortCancelledException. O cancelamento é definitivo; as
+     * leituras da visualização (peekValue()) continuam funcionando.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Indica se a execução sobre o array foi cancelada.
+     *
+     * @return true se cancel() foi chamado.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Interrompe o algoritmo se a execução tiver sido cancelada. Chamado no início de cada
+     * operação, para que o algoritmo pare em no máximo uma operação.
+     *
+     * @throws SortCancelledException se a execução foi cancelada.
+     */
+    void checkCancelled() {
+        if (cancelled) {
+            throw new SortCancelledException("Sort cancelled: " + algorithmName);
+        }
+    }
+
+    /**
+     * Compara dois valores do array pela ordem dos elementos: os próprios valores, ou as chaves
+     * dos handles quando o array tem chaves.
+     *
+     * @param firstValue  O primeiro valor.
+     * @param secondValue O segundo valor.
+     * @return Um valor negativo, zero ou positivo se o primeiro elemento for menor, igual ou maior que o segundo.
+     */
+    private int compareElements(int firstValue, int secondValue) {
+        SortKeys elementKeys = keys;
+        if (elementKeys == null) {
+            return Integer.compare(firstValue, secondValue);
+        }
+        return elementKeys.compare(firstValue, secondValue);
+    }
+
+    /**
+     * Retorna as chaves dos elementos.
+     *
+     * @return As chaves, ou null se os valores do array são as próprias chaves.
+     */
+    public SortKeys getKeys() {
+        return keys;
+    }
+
+    /**
+     * Define as chaves dos elementos. Os valores atuais do array devem ser handles dessas
+     * chaves (veja SortKeys.handles()); com null, o array volta a comparar os próprios valores.
+     *
+     * @param keys As chaves, com o mesmo tamanho do array, ou null.
+     * @throws IllegalArgumentException se o número de chaves for diferente do tamanho do array.
+     */
+    public void setKeys(SortKeys keys) {
+        if (keys != null && keys.size() != array.length) {
+            throw new IllegalArgumentException("Expected " + array.length + " keys, got " + keys.size());
+        }
+        this.keys = keys;
+    }
+
+    /**
+     * Registra que o algoritmo alocou memória auxiliar, para o pico reportado nas métricas.
+     *
+     * @param bytes O número de bytes alocados.
+     */
+    public void allocateAux(long bytes) {
+        metrics.allocateAux(bytes);
+    }
+
+    /**
+     * Registra que o algoritmo liberou memória auxiliar.
+     *
+     * @param bytes O número de bytes liberados.
+     */
+    public void releaseAux(long bytes) {
+        metrics.releaseAux(bytes);
+    }
+
+    /**
+     * Cria um buffer auxiliar zerado para o algoritmo. O tamanho do buffer é contado na memória
+     * auxiliar das métricas até que ele seja liberado com AuxArray.close(), e o buffer é exibido
+     * pela visualização enquanto estiver em uso.
+     *
+     * @param name O nome do buffer, exibido na visualização.
+     * @param size O número de elementos.
+     * @return O buffer criado.
+     */
+    public synchronized AuxArray createAuxArray(String name, int size) {
+        AuxArray aux = new AuxArray(this, name, size);
+        metrics.allocateAux(aux.sizeInBytes());
+        AuxArray[] updated = Arrays.copyOf(auxArrays, auxArrays.length + 1);
+        updated[auxArrays.length] = aux;
+        auxArrays = updated;
+        notifyAuxArraysChanged();
+        return aux;
+    }
+
+    /**
+     * Remove um buffer auxiliar da lista de buffers em uso. Chamado por AuxArray.close().
+     *
+     * @param aux O buffer liberado.
+     */
+    synchronized void releaseAuxArray(AuxArray aux) {
+        for (int i = 0; i < auxArrays.length; i++) {
+            if (auxArrays[i] == aux) {
+                AuxArray[] updated = new AuxArray[auxArrays.length - 1];
+                System.arraycopy(auxArrays, 0, updated, 0, i);
+                System.arraycopy(auxArrays, i + 1, updated, i, auxArrays.length - i - 1);
+                auxArrays = updated.length == 0 ? NO_AUX_ARRAYS : updated;
+                metrics.releaseAux(aux.sizeInBytes());
+                notifyAuxArraysChanged();
+                return;
+            }
+        }
+    }
+
+    private void notifyAuxArraysChanged() {
+        for (SortArrayListener listener : listeners) {
+            listener.onAuxArraysChanged();
+        }
+    }
+
+    /**
+     * Retorna os buffers auxiliares em uso. O array retornado não deve ser modificado.
+     *
+     * @return Os buffers auxiliares, na ordem em que foram criados.
+     */
+    public AuxArray[] getAuxArrays() {
+        return auxArrays;
+    }
+
+    /**
+     * Conta a leitura de um buffer auxiliar e notifica os observadores. Chamado por AuxArray.get().
+     *
+     * @param aux   O buffer lido.
+     * @param index O índice lido.
+     */
+    void auxRead(AuxArray aux, int index) {
+        checkCancelled();
+        metrics.countRead();
+        if (listeners.length != 0) {
+            long start = System.nanoTime();
+            for (SortArrayListener listener : listeners) {
+                listener.onAuxRead(aux, index);
+            }
+            metrics.addListenerNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Conta a escrita em um buffer auxiliar e notifica os observadores. Chamado por AuxArray.set().
+     *
+     * @param aux              O buffer alterado.
+     * @param index            O índice alterado.
+     * @param value            O novo valor.
+     * @param millisecondDelay O atraso em milissegundos.
+     */
+    void auxUpdated(AuxArray aux, int index, int value, long millisecondDelay) {
+        checkCancelled();
+        metrics.countWrite();
+        if (listeners.length == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (SortArrayListener listener : listeners) {
+            listener.onAuxUpdate(aux, index, value, millisecondDelay);
+        }
+        metrics.addListenerNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Retorna os contadores de custo da execução atual.
+     *
+     * @return As métricas do array.
+     */
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Cria os contadores de custo do array. Chamado durante a construção.
+     *
+     * @return As métricas do array.
+     */
+    protected SortMetrics createMetrics() {
+        return new SortMetrics();
+    }
+
+    /**
+     * Retorna a cor da barra no índice especificado.
+     *
+     * @param index O índice da barra.
+     * @return A cor da barra (COLOUR_DEFAULT, COLOUR_CHANGED ou outra cor de destaque).
+     */
+    @Override
+    public byte getBarColour(int index) {
+        return barColours[index];
+    }
+
+    /**
+     * Retorna o valor exibido máximo do array, usado como escala das alturas: com chaves, o
+     * maior posto (veja displayValue()).
+     *
+     * @return O valor máximo do array ou Integer.MIN_VALUE se o array estiver vazio.
+     */
+    @Override
+    public int getMaxValue() {
+        SortKeys elementKeys = keys;
+        if (elementKeys != null) {
+            return elementKeys.size() == 0 ? Integer.MIN_VALUE : elementKeys.maxRank();
+        }
+        return maxStoredValue();
+    }
+
+    /**
+     * Retorna o maior valor guardado no array. O valor é mantido a cada escrita e só é
+     * recalculado quando o próprio máximo é sobrescrito por um valor menor.
+     *
+     * @return O valor máximo do array ou Integer.MIN_VALUE se o array estiver vazio.
+     */
+    protected int maxStoredValue() {
+        if (maxValueStale) {
+            maxValue = scanMaxValue();
+            maxValueStale = false;
+        }
+        return maxValue;
+    }
+
+    /**
+     * Percorre o array inteiro procurando o maior valor.
+     *
+     * @return O maior valor do array ou Integer.MIN_VALUE se o array estiver vazio.
+     */
+    protected int scanMaxValue() {
+        int max = Integer.MIN_VALUE;
+        for (int value : array) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Atualiza o maior valor conhecido após a escrita de um valor.
+     *
+     * @param previousValue O valor que estava no índice.
+     * @param value         O novo valor escrito.
+     */
+    protected void trackMaxValue(int previousValue, int value) {
+        if (value > maxValue) {
+            maxValue = value;
+        } else if (previousValue == maxValue && value < previousValue) {
+            maxValueStale = true;
+        }
+    }
+
+    /**
+     * Marca o maior valor como desatualizado, para que seja recalculado na próxima consulta.
+     */
+    protected void invalidateMaxValue() {
+        maxValueStale = true;
+    }
+
+    /**
+     * Retorna o número de mudanças feitas no array pelo algoritmo atual.
+     *
+     * @return O número de mudanças no array.
+     */
+    public int getArrayChanges() {
+        return arrayChanges;
+    }
+
+    /**
+     * Redefine o número de mudanças no array. Usado ao reproduzir uma execução gravada de trás para frente.
+     *
+     * @param arrayChanges O novo número de mudanças.
+     */
+    public void setArrayChanges(int arrayChanges) {
+        this.arrayChanges = arrayChanges;
+    }
+
+    /**
+     * Retorna uma cópia dos valores atuais do array.
+     *
+     * @return Uma cópia do array.
+     */
+    public int[] toArray() {
+        return array.clone();
+    }
+
+    /**
+     * Copia um intervalo dos valores exibidos e das cores das barras, sem notificar os
+     * observadores. Usado pelo ArraySnapshot para publicar apenas os trechos alterados.
+     *
+     * @param from    O primeiro índice copiado.
+     * @param length  O número de elementos copiados.
+     * @param values  O destino dos valores exibidos (veja displayValue()), nas mesmas posições.
+     * @param colours O destino das cores, nas mesmas posições.
+     */
+    public void copyRange(int from, int length, int[] values, byte[] colours) {
+        SortKeys elementKeys = keys;
+        if (elementKeys == null) {
+            System.arraycopy(array, from, values, from, length);
+        } else {
+            for (int i = from; i < from + length; i++) {
+                values[i] = elementKeys.rank(array[i]);
+            }
+        }
+        System.arraycopy(barColours, from, colours, from, length);
+    }
+
+    /**
+     * Substitui todos os valores do array de uma só vez, sem atrasos, e reseta as cores
+     * e o número de mudanças.
+     *
+     * @param values Os novos valores, com o mesmo tamanho do array.
+     * @throws IllegalArgumentException se o tamanho for diferente do tamanho do array.
+     */
+    public void setValues(int[] values) {
+        if (values.length != array.length) {
+            throw new IllegalArgumentException("Expected " + array.length + " values, got " + values.length);
+        }
+        System.arraycopy(values, 0, array, 0, values.length);
+        setArrayChanges(0);
+        metrics.start();
+        invalidateMaxValue();
+        resetColours();
+    }
+
+    /**
+     * Verifica se o array está em ordem crescente.
+     *
+     * @return true se o array estiver ordenado, false caso contrário.
+     */
+    public boolean isSorted() {
+        for (int i = 1; i < array.length; i++) {
+            if (compareElements(array[i - 1], array[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finaliza a atualização do array, contando o passo e notificando os observadores. O tempo
+     * gasto nos observadores, onde fica o atraso da animação, é descontado do tempo do algoritmo.
+     *
+     * @param firstIndex       O primeiro índice alterado.
+     * @param secondIndex      O segundo índice alterado, ou -1 se apenas um índice foi alterado.
+     * @param previousValue    O valor anterior do índice, quando apenas um índice foi alterado.
+     * @param value            O valor a ser usado na atualização.
+     * @param millisecondDelay O atraso em milissegundos.
+     * @param isStep           Indica se a atualização é um passo no algoritmo.
+     */
+    private void finaliseUpdate(int firstIndex, int secondIndex, int previousValue, int value, long millisecondDelay, boolean isStep) {
+        if (isStep) {
+            countChange();
+        }
+        if (listeners.length == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (SortArrayListener listener : listeners) {
+            if (secondIndex < 0) {
+                listener.onUpdate(firstIndex, previousValue, value, millisecondDelay, isStep);
+            } else {
+                listener.onSwap(firstIndex, secondIndex, value, millisecondDelay, isStep);
+            }
+        }
+        metrics.addListenerNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Conta uma mudança feita pelo algoritmo.
+     */
+    protected void countChange() {
+        arrayChanges++;
+    }
+
+    /**
+     * Retorna a cor usada para marcar as barras alteradas pela thread atual.
+     *
+     * @return A cor das barras alteradas.
+     */
+    protected byte changedColour() {
+        return COLOUR_CHANGED;
+    }
+
+    /**
+     * Troca os valores em dois índices no array e atualiza as cores das barras trocadas,
+     * usando finaliseUpdate para notificar os observadores.
+     *
+     * @param firstIndex       O primeiro índice a ser trocado.
+     * @param secondIndex      O segundo índice a ser trocado.
+     * @param millisecondDelay O atraso em milissegundos.
+     * @param isStep           Indica se a troca é um passo no algoritmo.
+     */
+    public void swap(int firstIndex, int secondIndex, long millisecondDelay, boolean isStep) {
+        checkCancelled();
+        int temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+
+        byte colour = changedColour();
+        barColours[firstIndex] = colour;
+        barColours[secondIndex] = colour;
+        metrics.countSwap();
+
+        finaliseUpdate(firstIndex, secondIndex, 0, (array[firstIndex] + array[secondIndex]) / 2, millisecondDelay, isStep);
+    }
+
+    /**
+     * Atualiza um valor em um índice específico do array e atualiza a cor da barra correspondente.
+     *
+     * @param index            O índice a ser atualizado.
+     * @param value            O novo valor.
+     * @param millisecondDelay O atraso em milissegundos.
+     * @param isStep           Indica se a atualização é um passo no algoritmo.
+     */
+    public void updateSingle(int index, int value, long millisecondDelay, boolean isStep) {
+        checkCancelled();
+        int previousValue = array[index];
+        array[index] = value;
+        trackMaxValue(previousValue, value);
+        barColours[index] = changedColour();
+        metrics.countWrite();
+
+        finaliseUpdate(index, -1, previousValue, value, millisecondDelay, isStep);
+    }
+
+    /**
+     * Preenche o array de uma só vez com uma entrada gerada, sem atrasos. A entrada vem do
+     * cache compartilhado, então a mesma distribuição, tamanho e semente não são gerados de novo.
+     *
+     * @param generator O gerador da entrada.
+     * @param seed      A semente do gerador de números aleatórios.
+     */
+    public void fill(InputGenerator generator, long seed) {
+        fill(generator, seed, ElementType.INT);
+    }
+
+    /**
+     * Preenche o array de uma só vez com uma entrada gerada e convertida para o tipo de elemento informado.
+     *
+     * @param generator O gerador da entrada.
+     * @param seed      A semente do gerador de números aleatórios.
+     * @param type      O tipo dos elementos.
+     */
+    public void fill(InputGenerator generator, long seed, ElementType type) {
+        int[] values = InputCache.shared().get(generator, arraySize(), seed);
+        SortKeys elementKeys = type.createKeys(values);
+        keys = elementKeys;
+        setValues(elementKeys == null ? values : elementKeys.handles());
+    }
+
+    /**
+     * Preenche o array com uma entrada gerada, escrevendo um valor por passo para que os
+     * observadores animem o preenchimento. Ao final, o número de mudanças e as métricas são zerados.
+     *
+     * @param generator        O gerador da entrada.
+     * @param seed             A semente do gerador de números aleatórios.
+     * @param millisecondDelay O atraso em milissegundos de cada escrita.
+     */
+    public void fillAnimated(InputGenerator generator, long seed, long millisecondDelay) {
+        fillAnimated(generator, seed, ElementType.INT, millisecondDelay);
+    }
+
+    /**
+     * Preenche o array com uma entrada gerada e convertida para o tipo de elemento informado,
+     * escrevendo um valor por passo.
+     *
+     * @param generator        O gerador da entrada.
+     * @param seed             A semente do gerador de números aleatórios.
+     * @param type             O tipo dos elementos.
+     * @param millisecondDelay O atraso em milissegundos de cada escrita.
+     */
+    public void fillAnimated(InputGenerator generator, long seed, ElementType type, long millisecondDelay) {
+        int[] values = InputCache.shared().get(generator, arraySize(), seed);
+        SortKeys elementKeys = type.createKeys(values);
+        keys = elementKeys;
+        if (elementKeys != null) {
+            values = elementKeys.handles();
+        }
+        for (int i = 0; i < values.length; i++) {
+            updateSingle(i, values[i], millisecondDelay, false);
+        }
+        setArrayChanges(0);
+        metrics.start();
+        notifyIdle();
+    }
+
+    /**
+     * Destaca todos os valores do array atualizando suas cores.
+     */
+    public void highlightArray() {
+        for (int i = 0; i < arraySize(); i++) {
+            updateSingle(i, array[i], 5, false);
+        }
+        notifyIdle();
+    }
+
+    /**
+     * Destaca uma faixa do array com COLOUR_HIGHLIGHT, sem alterar os valores. Usado pelos
+     * algoritmos adaptativos para mostrar as runs e padrões que detectam; as barras voltam a
+     * ficar vermelhas quando são alteradas.
+     *
+     * @param from O primeiro índice da faixa.
+     * @param to   O índice logo após o fim da faixa.
+     */
+    public void highlightRange(int from, int to) {
+        Arrays.fill(barColours, from, to, COLOUR_HIGHLIGHT);
+        for (SortArrayListener listener : listeners) {
+            listener.onHighlight(from, to);
+        }
+    }
+
+    /**
+     * Avisa os observadores que o array não será alterado por um tempo, como no fim de uma
+     * execução ou antes de uma pausa, para que entreguem as alterações que ainda acumulam.
+     */
+    public void notifyIdle() {
+        for (SortArrayListener listener : listeners) {
+            listener.onIdle();
+        }
+    }
+
+    /**
+     * Reseta as cores das barras para a cor padrão.
+     */
+    public void resetColours() {
+        Arrays.fill(barColours, COLOUR_DEFAULT);
+        for (SortArrayListener listener : listeners) {
+            listener.onColoursReset();
+        }
+    }
+
+    /**
+     * Retorna o algoritmo de ordenação atual.
+     *
+     * @return O algoritmo de ordenação, ou null se nenhum foi definido.
+     */
+    public UiSortAlgoritimo getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Define o algoritmo de ordenação a ser utilizado e o seu nome.
+     *
+     * @param algorithm O algoritmo de ordenação a ser definido.
+     */
+    public void setAlgorithm(UiSortAlgoritimo algorithm) {
+        this.algorithm = algorithm;
+        this.algorithmName = algorithm.getName();
+        setArrayChanges(0);
+        metrics.start();
+        resetColours();
+    }
+}
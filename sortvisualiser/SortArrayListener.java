@@ -0,0 +1,107 @@
+package src.main.java.sortvisualiser;
+
+/**
+ * A interface SortArrayListener define um observador das alterações feitas em um SortArray.
+ * A tela de visualização é apenas um dos observadores possíveis; quando nenhum observador
+ * está registrado o array é ordenado na velocidade máxima, sem atrasos nem repaint.
+ */
+public interface SortArrayListener {
+
+    /**
+     * Chamado após a troca de dois valores no array.
+     *
+     * @param firstIndex       O primeiro índice trocado.
+     * @param secondIndex      O segundo índice trocado.
+     * @param value            O valor associado à troca (média dos dois valores).
+     * @param millisecondDelay O atraso em milissegundos solicitado pelo algoritmo.
+     * @param isStep           Indica se a troca é um passo no algoritmo.
+     */
+    public void onSwap(int firstIndex, int secondIndex, int value, long millisecondDelay, boolean isStep);
+
+    /**
+     * Chamado após a atualização de um único valor no array.
+     *
+     * @param index            O índice atualizado.
+     * @param previousValue    O valor anterior no índice.
+     * @param value            O novo valor.
+     * @param millisecondDelay O atraso em milissegundos solicitado pelo algoritmo.
+     * @param isStep           Indica se a atualização é um passo no algoritmo.
+     */
+    public void onUpdate(int index, int previousValue, int value, long millisecondDelay, boolean isStep);
+
+    /**
+     * Chamado quando um valor do array é lido pelo algoritmo.
+     *
+     * @param index O índice lido.
+     */
+    public default void onRead(int index) {
+    }
+
+    /**
+     * Chamado quando o algoritmo compara os valores de dois índices.
+     *
+     * @param firstIndex  O primeiro índice comparado.
+     * @param secondIndex O segundo índice comparado.
+     * @param result      O resultado da comparação (negativo, zero ou positivo).
+     */
+    public default void onCompare(int firstIndex, int secondIndex, int result) {
+    }
+
+    /**
+     * Chamado quando o algoritmo compara dois valores que já estão fora do array, com compareValues().
+     *
+     * @param firstValue  O primeiro valor comparado.
+     * @param secondValue O segundo valor comparado.
+     * @param result      O resultado da comparação (negativo, zero ou positivo).
+     */
+    public default void onValueCompare(int firstValue, int secondValue, int result) {
+    }
+
+    /**
+     * Chamado quando um valor de um buffer auxiliar é lido pelo algoritmo.
+     *
+     * @param aux   O buffer lido.
+     * @param index O índice lido.
+     */
+    public default void onAuxRead(AuxArray aux, int index) {
+    }
+
+    /**
+     * Chamado após a escrita de um valor em um buffer auxiliar do algoritmo.
+     *
+     * @param aux              O buffer alterado.
+     * @param index            O índice alterado.
+     * @param value            O novo valor.
+     * @param millisecondDelay O atraso em milissegundos solicitado pelo algoritmo.
+     */
+    public default void onAuxUpdate(AuxArray aux, int index, int value, long millisecondDelay) {
+    }
+
+    /**
+     * Chamado quando um buffer auxiliar é criado ou liberado.
+     */
+    public default void onAuxArraysChanged() {
+    }
+
+    /**
+     * Chamado quando as cores das barras são resetadas para a cor padrão.
+     */
+    public default void onColoursReset() {
+    }
+
+    /**
+     * Chamado quando o algoritmo destaca uma faixa do array com SortArray.highlightRange().
+     *
+     * @param from O primeiro índice destacado.
+     * @param to   O índice logo após o fim da faixa.
+     */
+    public default void onHighlight(int from, int to) {
+    }
+
+    /**
+     * Chamado quando o array não será alterado por um tempo, como no fim de uma execução ou
+     * antes de uma pausa.
+     */
+    public default void onIdle() {
+    }
+}
@@ -0,0 +1,541 @@
+package src.main.java.sortvisualiser;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingUtilities;
+
+import src.main.java.sortvisualiser.engine.FramePacer;
+import src.main.java.sortvisualiser.engine.RunProgress;
+import src.main.java.sortvisualiser.keys.SortKeys;
+import src.main.java.sortvisualiser.profile.HardwareProfiler;
+import src.main.java.sortvisualiser.render.ActiveRenderCanvas;
+import src.main.java.sortvisualiser.render.ArraySnapshot;
+import src.main.java.sortvisualiser.render.BarRenderer;
+import src.main.java.sortvisualiser.render.FrameStats;
+import src.main.java.sortvisualiser.render.Renderer;
+import src.main.java.sortvisualiser.render.RendererType;
+
+/**
+ * A classe SortArrayPanel é um painel que visualiza um SortArray, por padrão como um conjunto de
+ * barras. Ela é um observador do array: a cada alteração marca os elementos alterados e conta a
+ * operação no FramePacer, que dá o ritmo da animação em operações por quadro. O array é desenhado
+ * por um Renderer escolhido em RendererType; as barras usam o BarRenderer, o mesmo da exportação
+ * de quadros. Os buffers auxiliares em uso
+ * pelo algoritmo são desenhados em faixas menores acima das barras. Durante uma execução com
+ * progresso (setProgress()), uma barra no topo mostra a fração concluída e o tempo restante.
+ * Com um HardwareProfiler (setProfiler()), uma faixa na base das barras mostra o mapa de calor
+ * dos acessos recentes e o texto mostra as faltas de cache e previsões erradas por elemento.
+ *
+ * <p>No modo passivo, os quadros são desenhados por paintComponent(), disparado pelo
+ * RenderScheduler na Event Dispatch Thread. No modo ativo, o painel contém um
+ * ActiveRenderCanvas que desenha os mesmos quadros na sua própria thread, com um
+ * BufferStrategy. Nos dois modos o tempo de cada quadro é medido em getFrameStats().</p>
+ *
+ * <p>O renderer não lê o array enquanto o algoritmo escreve: a thread do algoritmo publica
+ * cópias consistentes em um ArraySnapshot, depois de cada operação completa, quando o quadro
+ * anterior já adquiriu a última cópia e sempre antes de o pacer estacionar a thread. Com um
+ * ConcurrentSortArray, em que vários workers escrevem ao mesmo tempo, o renderer lê o array
+ * diretamente.</p>
+ */
+public class SortArrayPanel extends JPanel implements SortArrayListener {
+    public static final int DEFAULT_WIN_WIDTH = 1280; // Largura padrão da janela
+    public static final int DEFAULT_WIN_HEIGHT = 720; // Altura padrão da janela
+
+    private static final double MIN_OPS_PER_FRAME = 0.01; // Menor velocidade (câmera lenta)
+    private static final double MAX_OPS_PER_FRAME = 1_000_000.0; // Maior velocidade
+
+    private static final Font OVERLAY_FONT = new Font("Monospaced", Font.BOLD, 20); // Fonte do texto sobreposto
+    private static final Color AUX_BACKGROUND_COLOUR = new Color(48, 48, 48); // Fundo dos buffers auxiliares
+    private static final Color AUX_VALUE_COLOUR = new Color(0, 200, 255); // Cor dos valores dos buffers auxiliares
+    private static final Color PROGRESS_COLOUR = new Color(0, 200, 80); // Cor da barra de progresso
+    private static final int PROGRESS_BAR_HEIGHT = 4; // Altura da barra de progresso
+    private static final int HEATMAP_HEIGHT = 10; // Altura da faixa do mapa de calor
+    private static final Color[] HEAT_COLOURS = createHeatColours(32); // Do frio (acesso antigo) ao quente (acesso recente)
+
+    private final SortArray sortArray; // Array visualizado pelo painel
+    private final Renderer renderer; // Desenha o array em cada quadro
+    private final ArraySnapshot snapshot; // Cópias consistentes lidas pelo renderer, ou null com vários workers
+    private final Runnable publishSnapshot; // Publica o snapshot antes de o pacer estacionar a thread, ou null
+    private final ActiveRenderCanvas canvas; // Canvas do modo ativo, ou null no modo passivo
+    private final FrameStats frameStats = new FrameStats(); // Medidas dos quadros desenhados
+    private final FramePacer pacer; // Ritmo da animação, em operações por quadro
+    private final JSpinner spinner; // Componente spinner para ajustar as operações por quadro
+    private volatile RunProgress progress; // Progresso da execução atual, ou null fora de uma execução
+    private volatile HardwareProfiler profiler; // Profiler exibido, ou null
+
+    private final StringBuilder overlayText = new StringBuilder(64); // Texto sobreposto, reaproveitado
+    private char[] overlayChars = new char[64]; // Caracteres do texto sobreposto
+
+    /**
+     * Construtor da classe SortArrayPanel, com barras desenhadas no modo passivo.
+     * Registra o painel como observador do array e configura o spinner para as operações por quadro.
+     * O painel não se redesenha a cada operação: os quadros são disparados por um RenderScheduler.
+     *
+     * @param sortArray O array a ser visualizado.
+     * @param pacer     O ritmo da animação.
+     */
+    public SortArrayPanel(SortArray sortArray, FramePacer pacer) {
+        this(sortArray, pacer, RendererType.BARS, false);
+    }
+
+    /**
+     * Construtor da classe SortArrayPanel.
+     * Registra o painel como observador do array e configura o spinner para as operações por quadro.
+     * No modo passivo, os quadros são disparados por um RenderScheduler; no modo ativo, por um
+     * ActiveRenderCanvas com três buffers, na taxa de quadros do pacer, e o painel não precisa
+     * ser registrado no RenderScheduler.
+     *
+     * @param sortArray       O array a ser visualizado.
+     * @param pacer           O ritmo da animação.
+     * @param rendererType    A visualização do array.
+     * @param activeRendering true para desenhar com o ActiveRenderCanvas.
+     */
+    public SortArrayPanel(SortArray sortArray, FramePacer pacer, RendererType rendererType, boolean activeRendering) {
+        this.sortArray = sortArray;
+        this.pacer = pacer;
+        // Com vários workers não há um instante consistente para copiar: o renderer lê o array diretamente
+        this.snapshot = sortArray instanceof ConcurrentSortArray ? null : new ArraySnapshot(sortArray);
+        this.publishSnapshot = snapshot == null ? null : snapshot::publish;
+        this.renderer = rendererType.create(snapshot == null ? sortArray : snapshot);
+        setBackground(BarRenderer.BACKGROUND_COLOUR);
+        spinner = new JSpinner(new SpinnerNumberModel(pacer.getOpsPerFrame(), MIN_OPS_PER_FRAME, MAX_OPS_PER_FRAME, 1.0));
+        spinner.setEditor(new JSpinner.NumberEditor(spinner, "0.00"));
+        spinner.addChangeListener((event) -> pacer.setOpsPerFrame(((Number) spinner.getValue()).doubleValue()));
+        if (activeRendering) {
+            // O canvas é um componente pesado: o spinner fica em uma faixa própria, fora da área do canvas
+            canvas = new ActiveRenderCanvas(this::paintFrame, 3, pacer.getFramesPerSecond(), frameStats);
+            setLayout(new BorderLayout());
+            JPanel toolbar = new JPanel();
+            toolbar.setBackground(BarRenderer.BACKGROUND_COLOUR);
+            toolbar.add(spinner);
+            add(toolbar, BorderLayout.PAGE_START);
+            add(canvas, BorderLayout.CENTER);
+        } else {
+            canvas = null;
+            add(spinner, BorderLayout.LINE_START);
+        }
+        sortArray.addListener(this);
+    }
+
+    /**
+     * Define o ritmo da animação a partir de um atraso em milissegundos por passo, como o
+     * atraso padrão de cada algoritmo, convertido para operações por quadro.
+     *
+     * @param millisecondDelay O atraso por passo.
+     */
+    public void setStepDelay(long millisecondDelay) {
+        setOpsPerFrame(FramePacer.opsPerFrameForDelay(millisecondDelay, pacer.getFramesPerSecond()));
+    }
+
+    /**
+     * Define o ritmo da animação em operações por quadro, limitado à faixa do spinner.
+     *
+     * @param opsPerFrame As operações por quadro.
+     */
+    public void setOpsPerFrame(double opsPerFrame) {
+        double clamped = Math.max(MIN_OPS_PER_FRAME, Math.min(MAX_OPS_PER_FRAME, opsPerFrame));
+        pacer.setOpsPerFrame(clamped);
+        SwingUtilities.invokeLater(() -> spinner.setValue(clamped));
+    }
+
+    /**
+     * Retorna o array visualizado pelo painel.
+     *
+     * @return O array visualizado.
+     */
+    public SortArray getSortArray() {
+        return sortArray;
+    }
+
+    /**
+     * Retorna as medidas dos quadros desenhados pelo painel.
+     *
+     * @return As medidas dos quadros.
+     */
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+
+    /**
+     * Define o progresso contado e exibido pelo painel. Cada troca e escrita passa a contar como
+     * uma operação do progresso.
+     *
+     * @param progress O progresso da execução atual, ou null para ocultar a barra de progresso.
+     */
+    public void setProgress(RunProgress progress) {
+        this.progress = progress;
+    }
+
+    /**
+     * Define o profiler cujo mapa de calor e custos simulados são exibidos pelo painel.
+     *
+     * @param profiler O profiler, ou null para ocultar o mapa de calor.
+     */
+    public void setProfiler(HardwareProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    private void countProgress() {
+        RunProgress current = progress;
+        if (current != null) {
+            current.countOperation();
+        }
+    }
+
+    private void markChanged(int index) {
+        if (snapshot != null) {
+            snapshot.markChanged(index);
+        } else {
+            renderer.markChanged(index);
+        }
+    }
+
+    /**
+     * Conta uma operação completa e dá o ritmo da animação, publicando o snapshot quando o
+     * quadro anterior já o adquiriu ou quando a thread vai ser estacionada.
+     */
+    private void step() {
+        countProgress();
+        if (snapshot != null) {
+            snapshot.publishIfConsumed();
+        }
+        pacer.step(publishSnapshot);
+    }
+
+    @Override
+    public void onSwap(int firstIndex, int secondIndex, int value, long millisecondDelay, boolean isStep) {
+        markChanged(firstIndex);
+        markChanged(secondIndex);
+        step();
+    }
+
+    @Override
+    public void onUpdate(int index, int previousValue, int value, long millisecondDelay, boolean isStep) {
+        markChanged(index);
+        step();
+    }
+
+    @Override
+    public void onAuxUpdate(AuxArray aux, int index, int value, long millisecondDelay) {
+        step();
+    }
+
+    @Override
+    public void onColoursReset() {
+        if (snapshot != null) {
+            snapshot.markAll();
+            snapshot.publish();
+        } else {
+            renderer.markAll();
+        }
+    }
+
+    @Override
+    public void onHighlight(int from, int to) {
+        if (snapshot != null) {
+            snapshot.markRange(from, to);
+        } else {
+            renderer.markRange(from, to);
+        }
+    }
+
+    @Override
+    public void onIdle() {
+        if (snapshot != null) {
+            snapshot.publish();
+        }
+    }
+
+    /**
+     * Define o tamanho preferido do painel.
+     *
+     * @return O tamanho preferido do painel.
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(DEFAULT_WIN_WIDTH, DEFAULT_WIN_HEIGHT);
+    }
+
+    /**
+     * Desenha o array no painel. As barras são desenhadas em um buffer reaproveitado entre os
+     * quadros, e apenas as barras alteradas desde o último quadro são redesenhadas, de forma
+     * que um quadro típico não aloca memória. No modo ativo, o painel só desenha o fundo: os
+     * quadros são desenhados pelo canvas.
+     *
+     * @param g O objeto Graphics utilizado para desenhar.
+     */
+    @Override
+    public void paintComponent(Graphics g) {
+        if (canvas != null) {
+            super.paintComponent(g);
+            return;
+        }
+        long start = System.nanoTime();
+        if (!paintFrame((Graphics2D) g, getWidth(), getHeight())) {
+            super.paintComponent(g);
+            return;
+        }
+        frameStats.record(start, System.nanoTime() - start);
+    }
+
+    /**
+     * Desenha um quadro: o array, os buffers auxiliares e o texto sobreposto. Chamado por
+     * paintComponent() no modo passivo e pela thread do canvas no modo ativo.
+     *
+     * @param panelGraphics O objeto Graphics2D utilizado para desenhar.
+     * @param width         A largura da área desenhada.
+     * @param height        A altura da área desenhada.
+     * @return false se não havia nada a desenhar.
+     */
+    private boolean paintFrame(Graphics2D panelGraphics, int width, int height) {
+        if (snapshot != null) {
+            snapshot.acquire(renderer); // A cópia adquirida não muda durante o quadro
+        }
+        if (!renderer.render(panelGraphics, width, height)) {
+            panelGraphics.setColor(getBackground());
+            panelGraphics.fillRect(0, 0, width, height);
+            return false;
+        }
+        drawAuxArrays(panelGraphics, width, height);
+
+        panelGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        panelGraphics.setColor(Color.WHITE);
+        panelGraphics.setFont(OVERLAY_FONT);
+        overlayText.setLength(0);
+        overlayText.append(" Current algorithm: ").append(sortArray.algorithmName);
+        SortKeys keys = sortArray.getKeys();
+        if (keys != null) {
+            overlayText.append(" [").append(keys.getTypeName()).append(']');
+        }
+        drawOverlayLine(panelGraphics, 30);
+        overlayText.setLength(0);
+        overlayText.append("     Current speed: ");
+        appendFixed(overlayText, pacer.getOpsPerFrame());
+        overlayText.append(" ops/frame @ ").append(Math.round(pacer.getFramesPerSecond())).append(" fps");
+        drawOverlayLine(panelGraphics, 55);
+        overlayText.setLength(0);
+        overlayText.append("     Array Changes: ").append(sortArray.getArrayChanges());
+        drawOverlayLine(panelGraphics, 80);
+
+        SortMetrics metrics = sortArray.getMetrics();
+        overlayText.setLength(0);
+        overlayText.append("    Reads/Compares: ").append(metrics.getReads()).append(" / ").append(metrics.getCompares());
+        drawOverlayLine(panelGraphics, 105);
+        overlayText.setLength(0);
+        overlayText.append("      Writes/Swaps: ").append(metrics.getWrites()).append(" / ").append(metrics.getSwaps());
+        drawOverlayLine(panelGraphics, 130);
+        overlayText.setLength(0);
+        overlayText.append("      Aux peak (B): ").append(metrics.getPeakAuxBytes());
+        drawOverlayLine(panelGraphics, 155);
+        overlayText.setLength(0);
+        overlayText.append("    Algorithm time: ");
+        appendFixed(overlayText, metrics.getAlgorithmNanos() / 1e6);
+        overlayText.append(" ms");
+        drawOverlayLine(panelGraphics, 180);
+        overlayText.setLength(0);
+        overlayText.append("        Frame time: ");
+        appendFixed(overlayText, frameStats.getAverageMillis());
+        overlayText.append(" ms (max ");
+        appendFixed(overlayText, frameStats.getMaxMillis());
+        overlayText.append(") @ ");
+        appendFixed(overlayText, frameStats.getFramesPerSecond());
+        overlayText.append(canvas != null ? " fps, active" : " fps, passive");
+        drawOverlayLine(panelGraphics, 205);
+
+        RunProgress current = progress;
+        if (current != null) {
+            drawProgress(panelGraphics, current, width);
+        }
+        HardwareProfiler currentProfiler = profiler;
+        if (currentProfiler != null) {
+            drawProfile(panelGraphics, currentProfiler, width, height);
+        }
+        return true;
+    }
+
+    /**
+     * Desenha o mapa de calor dos acessos na base das barras, com as colunas alinhadas às
+     * barras, e as linhas com as faltas de cache e as previsões erradas por elemento.
+     *
+     * @param panelGraphics   O objeto Graphics2D utilizado para desenhar.
+     * @param currentProfiler O profiler da execução.
+     * @param width           A largura da área desenhada.
+     * @param height          A altura da área desenhada.
+     */
+    private void drawProfile(Graphics2D panelGraphics, HardwareProfiler currentProfiler, int width, int height) {
+        int buckets = currentProfiler.getHeatBuckets();
+        int columns = Math.min(buckets, width);
+        if (columns > 0) {
+            int columnWidth = width / columns;
+            int y = height - HEATMAP_HEIGHT;
+            for (int c = 0; c < columns; c++) {
+                double recency = currentProfiler.getRecency((int) ((long) c * buckets / columns));
+                panelGraphics.setColor(HEAT_COLOURS[(int) (recency * (HEAT_COLOURS.length - 1))]);
+                panelGraphics.fillRect(c * columnWidth, y, columnWidth, HEATMAP_HEIGHT);
+            }
+        }
+
+        panelGraphics.setColor(Color.WHITE);
+        overlayText.setLength(0);
+        overlayText.append("  L1/L2 miss/elem: ");
+        appendFixed(overlayText, currentProfiler.getL1MissesPerElement());
+        overlayText.append(" / ");
+        appendFixed(overlayText, currentProfiler.getL2MissesPerElement());
+        drawOverlayLine(panelGraphics, 255);
+        overlayText.setLength(0);
+        overlayText.append("  Mispredict/elem: ");
+        appendFixed(overlayText, currentProfiler.getMispredictionsPerElement());
+        overlayText.append(" (");
+        appendFixed(overlayText, currentProfiler.getMispredictionRate() * 100);
+        overlayText.append(" %)");
+        drawOverlayLine(panelGraphics, 280);
+    }
+
+    /**
+     * Cria a escala de cores do mapa de calor, do fundo do painel ao vermelho, passando pelo amarelo.
+     *
+     * @param levels O número de cores.
+     * @return As cores, da mais fria à mais quente.
+     */
+    private static Color[] createHeatColours(int levels) {
+        Color[] colours = new Color[levels];
+        Color cold = BarRenderer.BACKGROUND_COLOUR;
+        for (int i = 0; i < levels; i++) {
+            double heat = (double) i / (levels - 1);
+            int red = (int) (cold.getRed() + (255 - cold.getRed()) * Math.min(1, heat * 2));
+            int green = (int) (heat < 0.5 ? cold.getGreen() + (220 - cold.getGreen()) * heat * 2 : 220 * (1 - heat) * 2);
+            int blue = (int) (cold.getBlue() * (1 - heat));
+            colours[i] = new Color(red, green, blue);
+        }
+        return colours;
+    }
+
+    /**
+     * Desenha a barra de progresso no topo do painel e a linha com a porcentagem e o tempo restante.
+     *
+     * @param panelGraphics O objeto Graphics2D utilizado para desenhar.
+     * @param current       O progresso da execução.
+     * @param width         A largura da área desenhada.
+     */
+    private void drawProgress(Graphics2D panelGraphics, RunProgress current, int width) {
+        current.sample();
+        overlayText.setLength(0);
+        overlayText.append("          Progress: ");
+        if (current.isTotalKnown()) {
+            double fraction = current.getFraction();
+            panelGraphics.setColor(PROGRESS_COLOUR);
+            panelGraphics.fillRect(0, 0, (int) (width * fraction), PROGRESS_BAR_HEIGHT);
+            appendFixed(overlayText, fraction * 100);
+            overlayText.append(" %   ETA ");
+            double remaining = current.getRemainingSeconds();
+            if (Double.isNaN(remaining)) {
+                overlayText.append("--");
+            } else {
+                appendFixed(overlayText, remaining);
+                overlayText.append(" s");
+            }
+        } else {
+            overlayText.append("counting operations...");
+        }
+        panelGraphics.setColor(Color.WHITE);
+        drawOverlayLine(panelGraphics, 230);
+    }
+
+    /**
+     * Desenha os buffers auxiliares em uso, um abaixo do outro, na metade direita do espaço
+     * livre acima das barras. Cada buffer é amostrado em no máximo uma posição por pixel.
+     *
+     * @param panelGraphics O objeto Graphics2D utilizado para desenhar.
+     * @param width         A largura da área desenhada.
+     * @param height        A altura da área desenhada.
+     */
+    private void drawAuxArrays(Graphics2D panelGraphics, int width, int height) {
+        AuxArray[] auxArrays = sortArray.getAuxArrays();
+        if (auxArrays.length == 0) {
+            return;
+        }
+        int areaX = width / 2;
+        int areaWidth = width - areaX - 10;
+        int areaHeight = (int) (height * (1.0 - BarRenderer.BAR_HEIGHT_PERCENT)) - 20;
+        int slotHeight = areaHeight / auxArrays.length;
+        if (areaWidth <= 0 || slotHeight < 4) {
+            return;
+        }
+        for (int i = 0; i < auxArrays.length; i++) {
+            drawAuxArray(panelGraphics, auxArrays[i], areaX, 10 + i * slotHeight, areaWidth, slotHeight - 4);
+        }
+    }
+
+    /**
+     * Desenha um buffer auxiliar como barras na área informada.
+     *
+     * @param panelGraphics O objeto Graphics2D utilizado para desenhar.
+     * @param aux           O buffer auxiliar.
+     * @param x             A posição horizontal da área.
+     * @param y             A posição vertical da área.
+     * @param width         A largura da área.
+     * @param height        A altura da área.
+     */
+    private void drawAuxArray(Graphics2D panelGraphics, AuxArray aux, int x, int y, int width, int height) {
+        panelGraphics.setColor(AUX_BACKGROUND_COLOUR);
+        panelGraphics.fillRect(x, y, width, height);
+        int size = aux.size();
+        if (size == 0) {
+            return;
+        }
+        int columns = Math.min(size, width);
+        int columnWidth = width / columns;
+        int max = 1;
+        for (int c = 0; c < columns; c++) {
+            max = Math.max(max, sortArray.displayValue(aux.peek((int) ((long) c * size / columns))));
+        }
+        panelGraphics.setColor(AUX_VALUE_COLOUR);
+        for (int c = 0; c < columns; c++) {
+            int value = sortArray.displayValue(aux.peek((int) ((long) c * size / columns)));
+            if (value > 0) {
+                int barHeight = (int) ((long) value * height / max);
+                panelGraphics.fillRect(x + c * columnWidth, y + height - barHeight, columnWidth, barHeight);
+            }
+        }
+    }
+
+    /**
+     * Acrescenta um número com duas casas decimais, sem a alocação de StringBuilder.append(double).
+     *
+     * @param text  O texto onde o número será acrescentado.
+     * @param value O número, não negativo.
+     */
+    private static void appendFixed(StringBuilder text, double value) {
+        long hundredths = Math.round(value * 100);
+        long fraction = hundredths % 100;
+        text.append(hundredths / 100).append('.');
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+
+    /**
+     * Desenha o conteúdo atual de overlayText sem criar uma String.
+     *
+     * @param panelGraphics O objeto Graphics2D utilizado para desenhar.
+     * @param y             A posição vertical da linha.
+     */
+    private void drawOverlayLine(Graphics2D panelGraphics, int y) {
+        int length = overlayText.length();
+        if (overlayChars.length < length) {
+            overlayChars = new char[length * 2];
+        }
+        overlayText.getChars(0, length, overlayChars, 0);
+        panelGraphics.drawChars(overlayChars, 0, length, 10, y);
+    }
+}
@@ -0,0 +1,26 @@
+package src.main.java.sortvisualiser;
+
+/**
+ * A exceção SortCancelledException interrompe um algoritmo cuja execução foi cancelada
+ * (SortArray.cancel()). É lançada pela próxima operação do algoritmo sobre o array e sobe
+ * pela pilha do algoritmo até quem iniciou a execução, que deve tratá-la como um fim normal.
+ */
+public class SortCancelledException extends RuntimeException {
+    /**
+     * Construtor da classe SortCancelledException.
+     *
+     * @param message A descrição da execução interrompida.
+     */
+    public SortCancelledException(String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor usado pelo ForkJoinPool ao repassar a exceção de um worker para a thread que aguarda a tarefa.
+     *
+     * @param cause A exceção lançada no worker.
+     */
+    public SortCancelledException(Throwable cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,184 @@
+package src.main.java.sortvisualiser;
+
+/**
+ * A classe SortMetrics guarda os contadores de custo de uma execução sobre um SortArray:
+ * leituras, comparações, escritas, trocas, memória auxiliar e o tempo gasto nos observadores
+ * (atrasos da animação, repaint e gravação). Os contadores são campos simples, sem custo de
+ * sincronização; o ConcurrentSortArray usa uma variante segura para vários workers.
+ *
+ * <p>O tempo do algoritmo é o tempo de parede da execução menos o tempo gasto nos observadores,
+ * o que permite comparar algoritmos pelo custo real e não pelo tempo da animação.</p>
+ */
+public class SortMetrics {
+    private long reads; // Leituras feitas com getValue
+    private long compares; // Comparações feitas com compare e compareValues
+    private long writes; // Escritas feitas com updateSingle
+    private long swaps; // Trocas feitas com swap
+    private long auxBytes; // Memória auxiliar em uso, em bytes
+    private long peakAuxBytes; // Maior memória auxiliar em uso durante a execução
+    private long listenerNanos; // Tempo gasto notificando os observadores das leituras, comparações e escritas
+    private volatile long startNanos = System.nanoTime(); // Início da execução
+    private volatile long finishNanos = -1; // Fim da execução, ou -1 enquanto ela está em andamento
+
+    /**
+     * Zera os contadores e marca o início de uma nova execução.
+     */
+    public void start() {
+        reads = 0;
+        compares = 0;
+        writes = 0;
+        swaps = 0;
+        auxBytes = 0;
+        peakAuxBytes = 0;
+        listenerNanos = 0;
+        finishNanos = -1;
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Marca o fim da execução, congelando o tempo de parede.
+     */
+    public void finish() {
+        finishNanos = System.nanoTime();
+    }
+
+    /**
+     * Conta uma leitura.
+     */
+    public void countRead() {
+        reads++;
+    }
+
+    /**
+     * Conta uma comparação.
+     */
+    public void countCompare() {
+        compares++;
+    }
+
+    /**
+     * Conta uma escrita.
+     */
+    public void countWrite() {
+        writes++;
+    }
+
+    /**
+     * Conta uma troca.
+     */
+    public void countSwap() {
+        swaps++;
+    }
+
+    /**
+     * Soma o tempo gasto notificando os observadores.
+     *
+     * @param nanos O tempo em nanossegundos.
+     */
+    public void addListenerNanos(long nanos) {
+        listenerNanos += nanos;
+    }
+
+    /**
+     * Registra a alocação de memória auxiliar pelo algoritmo.
+     *
+     * @param bytes O número de bytes alocados.
+     */
+    public void allocateAux(long bytes) {
+        auxBytes += bytes;
+        peakAuxBytes = Math.max(peakAuxBytes, auxBytes);
+    }
+
+    /**
+     * Registra a liberação de memória auxiliar pelo algoritmo.
+     *
+     * @param bytes O número de bytes liberados.
+     */
+    public void releaseAux(long bytes) {
+        auxBytes -= bytes;
+    }
+
+    /**
+     * Retorna o número de leituras.
+     *
+     * @return As leituras feitas com getValue.
+     */
+    public long getReads() {
+        return reads;
+    }
+
+    /**
+     * Retorna o número de comparações.
+     *
+     * @return As comparações feitas com compare e compareValues.
+     */
+    public long getCompares() {
+        return compares;
+    }
+
+    /**
+     * Retorna o número de escritas.
+     *
+     * @return As escritas feitas com updateSingle.
+     */
+    public long getWrites() {
+        return writes;
+    }
+
+    /**
+     * Retorna o número de trocas.
+     *
+     * @return As trocas feitas com swap.
+     */
+    public long getSwaps() {
+        return swaps;
+    }
+
+    /**
+     * Retorna a memória auxiliar em uso.
+     *
+     * @return Os bytes auxiliares em uso.
+     */
+    public long getAuxBytes() {
+        return auxBytes;
+    }
+
+    /**
+     * Retorna a maior memória auxiliar usada durante a execução.
+     *
+     * @return O pico de bytes auxiliares.
+     */
+    public long getPeakAuxBytes() {
+        return peakAuxBytes;
+    }
+
+    /**
+     * Retorna o tempo gasto notificando os observadores das leituras, comparações e escritas.
+     *
+     * @return O tempo em nanossegundos.
+     */
+    public long getListenerNanos() {
+        return listenerNanos;
+    }
+
+    /**
+     * Retorna o tempo de parede da execução, até agora ou até a chamada de finish().
+     *
+     * @return O tempo em nanossegundos.
+     */
+    public long getElapsedNanos() {
+        long finish = finishNanos;
+        return (finish < 0 ? System.nanoTime() : finish) - startNanos;
+    }
+
+    /**
+     * Retorna o tempo do algoritmo: o tempo de parede menos o tempo gasto nos observadores.
+     * Em algoritmos paralelos o tempo dos observadores é somado entre os workers, então o
+     * resultado é limitado a zero.
+     *
+     * @return O tempo em nanossegundos.
+     */
+    public long getAlgorithmNanos() {
+        return Math.max(0, getElapsedNanos() - getListenerNanos());
+    }
+}
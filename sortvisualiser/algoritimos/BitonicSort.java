@@ -0,0 +1,89 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe BitonicSort implementa a rede de ordenação bitônica de Batcher. A rede é uma
+ * sequência fixa de camadas de compara-e-troca, independente dos valores: os pares de uma
+ * camada não se sobrepõem e poderiam ser feitos ao mesmo tempo, o que torna a rede adequada
+ * a SIMD e GPUs (veja VectorSortingNetworks no pacote simd). Faz O(n log² n) comparações.
+ *
+ * <p>Usa a forma em que todas as comparações deixam o menor valor no menor índice: a primeira
+ * camada de cada bloco compara elementos espelhados e as seguintes, elementos a uma distância
+ * fixa. Assim a rede de uma potência de dois funciona para qualquer tamanho, como se o array
+ * terminasse com valores infinitos: os pares com um índice além do fim são simplesmente pulados.</p>
+ *
+ * <p>As cores são resetadas no início de cada camada, de forma que as barras destacadas são
+ * as trocadas pela camada atual.</p>
+ */
+public class BitonicSort implements UiSortAlgoritimo {
+
+    private long stepDelay = 2;
+
+    /**
+     * Ordena o array com as camadas da rede bitônica.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        int padded = Integer.highestOneBit(Math.max(1, size - 1)) << 1; // Potência de dois que cobre o array
+        for (int block = 2; block <= padded; block <<= 1) {
+            array.resetColours(); // Camada espelhada: une duas metades ordenadas em uma sequência bitônica
+            for (int i = 0; i < size; i++) {
+                int partner = i ^ (block - 1);
+                if (partner > i && partner < size) {
+                    compareExchange(array, i, partner);
+                }
+            }
+            for (int distance = block >> 2; distance > 0; distance >>= 1) {
+                array.resetColours(); // Camada de meio-limpador
+                for (int i = 0; i < size; i++) {
+                    int partner = i ^ distance;
+                    if (partner > i && partner < size) {
+                        compareExchange(array, i, partner);
+                    }
+                }
+            }
+        }
+    }
+
+    private void compareExchange(SortArray array, int lowIndex, int highIndex) {
+        if (array.compare(lowIndex, highIndex) > 0) {
+            array.swap(lowIndex, highIndex, getDelay(), true);
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Bitonic Sort".
+     */
+    @Override
+    public String getName() {
+        return "Bitonic Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
@@ -0,0 +1,65 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe BottomUpMergeSort implementa o Merge Sort de baixo para cima: sem recursão,
+ * intercala faixas de largura 1, 2, 4, ... até cobrir o array inteiro, usando o mesmo
+ * buffer auxiliar rastreado do MergeSort.
+ */
+public class BottomUpMergeSort implements UiSortAlgoritimo {
+
+    private long stepDelay = 10;
+
+    /**
+     * Ordena o array intercalando faixas de largura crescente.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        try (AuxArray buffer = array.createAuxArray("merge buffer", size)) {
+            for (int width = 1; width < size; width *= 2) {
+                for (int lowIndex = 0; lowIndex < size - width; lowIndex += 2 * width) {
+                    int middleIndex = lowIndex + width;
+                    int highIndex = Math.min(lowIndex + 2 * width, size);
+                    MergeSort.merge(array, buffer, lowIndex, middleIndex, highIndex, getDelay());
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Bottom-Up Merge Sort".
+     */
+    @Override
+    public String getName() {
+        return "Bottom-Up Merge Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
@@ -0,0 +1,91 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe CountingSort implementa o Counting Sort: conta quantas vezes cada valor aparece
+ * em um buffer auxiliar do tamanho da faixa de valores e reescreve o array em ordem. Não faz
+ * comparações e roda em O(n + k), onde k é a diferença entre o maior e o menor valor.
+ */
+public class CountingSort implements UiSortAlgoritimo {
+
+    private static final long MAX_RANGE = 1L << 28; // Maior faixa de valores aceita (1 GiB de contadores)
+
+    private long stepDelay = 10;
+
+    /**
+     * Ordena o array contando as ocorrências de cada valor.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @throws IllegalArgumentException se a faixa de valores for maior que MAX_RANGE.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        if (size < 2) {
+            return;
+        }
+        int min = array.getValue(0);
+        int max = min;
+        for (int i = 1; i < size; i++) {
+            int value = array.getValue(i);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        long range = (long) max - min + 1;
+        if (range > MAX_RANGE) {
+            throw new IllegalArgumentException("Value range too large for counting sort: " + range);
+        }
+        try (AuxArray counts = array.createAuxArray("counts", (int) range)) {
+            for (int i = 0; i < size; i++) {
+                int slot = array.getValue(i) - min;
+                counts.set(slot, counts.get(slot) + 1, getDelay());
+            }
+            int k = 0;
+            for (int slot = 0; slot < range; slot++) {
+                int count = counts.get(slot);
+                for (int c = 0; c < count; c++) {
+                    array.updateSingle(k++, slot + min, getDelay(), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Counting Sort".
+     */
+    @Override
+    public String getName() {
+        return "Counting Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+
+    @Override
+    public boolean isComparisonSort() {
+        return false; // Usa os valores como índices de contagem
+    }
+}
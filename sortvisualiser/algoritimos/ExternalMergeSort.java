@@ -0,0 +1,115 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.external.ExternalSortStats;
+import src.main.java.sortvisualiser.external.ExternalSorter;
+import src.main.java.sortvisualiser.external.MappedIntArray;
+import src.main.java.sortvisualiser.external.MappedWindow;
+
+/**
+ * A classe ExternalMergeSort mostra o merge sort externo na visualização. Os valores do array
+ * são gravados em um arquivo temporário mapeado em memória, que é ordenado por um
+ * ExternalSorter com memória para apenas uma fração do array; as escritas no arquivo aparecem
+ * nas barras por um MappedWindow que cobre o array inteiro.
+ *
+ * <p>Na animação aparecem a geração das runs, cada uma ordenada de uma vez, e as passadas de
+ * intercalação de fanIn runs. As comparações passam por compareValues, então o algoritmo conta
+ * as comparações nas métricas e também ordena arrays com chaves. Os bytes lidos e escritos e o
+ * número de passadas da última execução ficam em getLastStats().</p>
+ */
+public class ExternalMergeSort implements UiSortAlgoritimo {
+    private static final int MEMORY_DIVISOR = 8; // Fração do array que cabe na memória
+    private static final int BLOCKS_IN_MEMORY = 4; // Blocos que cabem na memória: fan-in de 3
+
+    private long stepDelay = 10;
+    private volatile ExternalSortStats lastStats; // Custo da última execução
+
+    /**
+     * Ordena o array como um arquivo, com memória para um oitavo dos valores.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        if (size < 2) {
+            return;
+        }
+        int memoryInts = Math.max(BLOCKS_IN_MEMORY, size / MEMORY_DIVISOR);
+        int blockInts = memoryInts / BLOCKS_IN_MEMORY;
+        long memoryBytes = (long) memoryInts * Integer.BYTES;
+        array.allocateAux(memoryBytes);
+        Path file = null;
+        try {
+            file = Files.createTempFile("external-merge-sort-", ".bin");
+            try (MappedIntArray data = MappedIntArray.create(file, size)) {
+                data.write(0, array.toArray(), 0, size);
+                data.resetCounters(); // A cópia da entrada não faz parte do custo da ordenação
+                ExternalSorter sorter = new ExternalSorter(memoryInts, blockInts, file.getParent());
+                lastStats = sorter.sort(data, array::compareValues, new MappedWindow(array, 0, getDelay()));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            array.releaseAux(memoryBytes);
+            deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Retorna o custo de E/S da última execução.
+     *
+     * @return Os bytes lidos e escritos, as passadas e as runs, ou null se o algoritmo ainda não rodou.
+     */
+    public ExternalSortStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "External Merge Sort".
+     */
+    @Override
+    public String getName() {
+        return "External Merge Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
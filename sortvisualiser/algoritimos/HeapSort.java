@@ -0,0 +1,104 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe HeapSort implementa o Heap Sort: monta um max-heap no próprio array e depois
+ * move o maior elemento para o fim, um de cada vez. Ordena sem memória auxiliar e em
+ * O(n log n) no pior caso.
+ */
+public class HeapSort implements UiSortAlgoritimo {
+
+    private long stepDelay = 10;
+
+    /**
+     * Desce o elemento do índice informado até restaurar a propriedade de heap. Os índices
+     * do heap são relativos ao início da faixa.
+     *
+     * @param array    O objeto SortArray a ser ordenado.
+     * @param offset   O índice do array onde o heap começa.
+     * @param index    O índice do elemento a descer, relativo ao início do heap.
+     * @param heapSize O número de elementos do heap.
+     * @param delay    O atraso de cada passo.
+     */
+    private static void siftDown(SortArray array, int offset, int index, int heapSize, long delay) {
+        while (true) {
+            int largest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && array.compare(offset + left, offset + largest) > 0) {
+                largest = left;
+            }
+            if (right < heapSize && array.compare(offset + right, offset + largest) > 0) {
+                largest = right;
+            }
+            if (largest == index) {
+                return;
+            }
+            array.swap(offset + index, offset + largest, delay, true);
+            index = largest;
+        }
+    }
+
+    /**
+     * Ordena a faixa [lowIndex, highIndex) com um heap montado sobre ela. Também é usado
+     * como alternativa do Introsort quando a recursão do Quick Sort fica profunda demais.
+     *
+     * @param array     O objeto SortArray a ser ordenado.
+     * @param lowIndex  O primeiro índice da faixa.
+     * @param highIndex O índice logo após o fim da faixa.
+     * @param delay     O atraso de cada passo.
+     */
+    static void sortRange(SortArray array, int lowIndex, int highIndex, long delay) {
+        int size = highIndex - lowIndex;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(array, lowIndex, i, size, delay);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            array.swap(lowIndex, lowIndex + end, delay, true);
+            siftDown(array, lowIndex, 0, end, delay);
+        }
+    }
+
+    /**
+     * Ordena o array montando um heap e extraindo o maior elemento repetidamente.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        sortRange(array, 0, array.arraySize(), getDelay());
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Heap Sort".
+     */
+    @Override
+    public String getName() {
+        return "Heap Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
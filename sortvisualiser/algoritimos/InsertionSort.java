@@ -0,0 +1,81 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe InsertionSort implementa o Insertion Sort, deslocando os elementos maiores uma
+ * posição para a direita até encontrar o lugar de cada valor. É quadrático, mas é o mais
+ * rápido em faixas pequenas, por isso também é usado como corte pelos algoritmos recursivos.
+ */
+public class InsertionSort implements UiSortAlgoritimo {
+
+    private long stepDelay = 10;
+
+    /**
+     * Ordena a faixa [lowIndex, highIndex) por inserção.
+     *
+     * @param array     O objeto SortArray a ser ordenado.
+     * @param lowIndex  O primeiro índice da faixa.
+     * @param highIndex O índice logo após o fim da faixa.
+     * @param delay     O atraso de cada passo.
+     */
+    static void sortRange(SortArray array, int lowIndex, int highIndex, long delay) {
+        for (int i = lowIndex + 1; i < highIndex; i++) {
+            int value = array.getValue(i);
+            int j = i;
+            while (j > lowIndex) {
+                int previous = array.getValue(j - 1);
+                if (array.compareValues(previous, value) <= 0) {
+                    break;
+                }
+                array.updateSingle(j, previous, delay, true);
+                j--;
+            }
+            if (j != i) {
+                array.updateSingle(j, value, delay, true);
+            }
+        }
+    }
+
+    /**
+     * Ordena o array inteiro por inserção.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        sortRange(array, 0, array.arraySize(), getDelay());
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Insertion Sort".
+     */
+    @Override
+    public String getName() {
+        return "Insertion Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
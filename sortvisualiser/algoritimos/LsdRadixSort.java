@@ -0,0 +1,106 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe LsdRadixSort implementa o Radix Sort pelo dígito menos significativo, com
+ * dígitos de 8 bits. Cada passagem distribui os elementos de forma estável em um buffer
+ * auxiliar do tamanho do array e os copia de volta. As chaves são os valores menos o menor
+ * valor, então valores negativos são aceitos e o número de passagens depende apenas da
+ * faixa de valores.
+ */
+public class LsdRadixSort implements UiSortAlgoritimo {
+
+    private static final int RADIX_BITS = 8; // Bits por dígito
+    private static final int RADIX = 1 << RADIX_BITS; // Número de baldes por passagem
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    private long stepDelay = 10;
+
+    /**
+     * Ordena o array distribuindo os elementos por dígito, do menos para o mais significativo.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        if (size < 2) {
+            return;
+        }
+        int min = array.getValue(0);
+        int max = min;
+        for (int i = 1; i < size; i++) {
+            int value = array.getValue(i);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        int range = max - min; // Interpretado sem sinal: a diferença sempre cabe em 32 bits
+        try (AuxArray counts = array.createAuxArray("digit counts", RADIX);
+             AuxArray output = array.createAuxArray("output", size)) {
+            for (int shift = 0; shift < Integer.SIZE && (range >>> shift) != 0; shift += RADIX_BITS) {
+                for (int digit = 0; digit < RADIX; digit++) {
+                    counts.set(digit, 0, getDelay());
+                }
+                for (int i = 0; i < size; i++) {
+                    int digit = ((array.getValue(i) - min) >>> shift) & DIGIT_MASK;
+                    counts.set(digit, counts.get(digit) + 1, getDelay());
+                }
+                int position = 0;
+                for (int digit = 0; digit < RADIX; digit++) {
+                    int count = counts.get(digit);
+                    counts.set(digit, position, getDelay());
+                    position += count;
+                }
+                for (int i = 0; i < size; i++) {
+                    int value = array.getValue(i);
+                    int digit = ((value - min) >>> shift) & DIGIT_MASK;
+                    int target = counts.get(digit);
+                    output.set(target, value, getDelay());
+                    counts.set(digit, target + 1, getDelay());
+                }
+                for (int i = 0; i < size; i++) {
+                    array.updateSingle(i, output.get(i), getDelay(), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "LSD Radix Sort".
+     */
+    @Override
+    public String getName() {
+        return "LSD Radix Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+
+    @Override
+    public boolean isComparisonSort() {
+        return false; // Distribui os valores pelos seus dígitos
+    }
+}
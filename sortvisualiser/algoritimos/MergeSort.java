@@ -0,0 +1,117 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe MergeSort implementa o Merge Sort de cima para baixo: divide o array ao meio
+ * recursivamente e intercala as metades ordenadas usando um buffer auxiliar do tamanho do
+ * array, criado pelo SortArray para que a memória extra seja medida e exibida.
+ */
+public class MergeSort implements UiSortAlgoritimo {
+
+    private long stepDelay = 10;
+
+    /**
+     * Ordena a faixa [lowIndex, highIndex) do array.
+     *
+     * @param array     O objeto SortArray a ser ordenado.
+     * @param buffer    O buffer auxiliar.
+     * @param lowIndex  O primeiro índice da faixa.
+     * @param highIndex O índice logo após o fim da faixa.
+     */
+    private void mergeSort(SortArray array, AuxArray buffer, int lowIndex, int highIndex) {
+        if (highIndex - lowIndex < 2) {
+            return;
+        }
+        int middleIndex = (lowIndex + highIndex) >>> 1;
+        mergeSort(array, buffer, lowIndex, middleIndex);
+        mergeSort(array, buffer, middleIndex, highIndex);
+        merge(array, buffer, lowIndex, middleIndex, highIndex, getDelay());
+    }
+
+    /**
+     * Intercala as faixas ordenadas [lowIndex, middleIndex) e [middleIndex, highIndex),
+     * copiando-as para o buffer e escrevendo o resultado de volta no array.
+     *
+     * @param array       O objeto SortArray a ser ordenado.
+     * @param buffer      O buffer auxiliar, com pelo menos highIndex elementos.
+     * @param lowIndex    O primeiro índice da primeira faixa.
+     * @param middleIndex O primeiro índice da segunda faixa.
+     * @param highIndex   O índice logo após o fim da segunda faixa.
+     * @param delay       O atraso de cada passo.
+     */
+    static void merge(SortArray array, AuxArray buffer, int lowIndex, int middleIndex, int highIndex, long delay) {
+        if (array.compare(middleIndex - 1, middleIndex) <= 0) {
+            return; // As faixas já estão em ordem
+        }
+        for (int k = lowIndex; k < highIndex; k++) {
+            buffer.set(k, array.getValue(k), delay);
+        }
+        int left = lowIndex;
+        int right = middleIndex;
+        for (int k = lowIndex; k < highIndex; k++) {
+            int value;
+            if (right >= highIndex) {
+                value = buffer.get(left++);
+            } else if (left >= middleIndex) {
+                value = buffer.get(right++);
+            } else {
+                int leftValue = buffer.get(left);
+                int rightValue = buffer.get(right);
+                if (array.compareValues(leftValue, rightValue) <= 0) {
+                    value = leftValue;
+                    left++;
+                } else {
+                    value = rightValue;
+                    right++;
+                }
+            }
+            array.updateSingle(k, value, delay, true);
+        }
+    }
+
+    /**
+     * Ordena o array com um buffer auxiliar do mesmo tamanho.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        try (AuxArray buffer = array.createAuxArray("merge buffer", array.arraySize())) {
+            mergeSort(array, buffer, 0, array.arraySize());
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Merge Sort".
+     */
+    @Override
+    public String getName() {
+        return "Merge Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
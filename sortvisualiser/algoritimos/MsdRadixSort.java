@@ -0,0 +1,167 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe MsdRadixSort implementa o Radix Sort pelo dígito mais significativo, no próprio
+ * array (American flag sort), com dígitos de 8 bits. Cada nível conta os dígitos, permuta os
+ * elementos para os seus baldes com trocas e ordena cada balde pelo próximo dígito; baldes
+ * pequenos são ordenados por inserção. A memória auxiliar é um buffer de 2 * 256 posições
+ * por nível, independente do tamanho do array.
+ */
+public class MsdRadixSort implements UiSortAlgoritimo {
+
+    private static final int RADIX_BITS = 8; // Bits por dígito
+    private static final int RADIX = 1 << RADIX_BITS; // Número de baldes por nível
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int INSERTION_THRESHOLD = 16; // Baldes deste tamanho ou menores são ordenados por inserção
+
+    private long stepDelay = 10;
+
+    /**
+     * Retorna o dígito de um valor na posição informada.
+     *
+     * @param value O valor.
+     * @param min   O menor valor do array, subtraído para obter a chave sem sinal.
+     * @param shift O deslocamento do dígito, em bits.
+     * @return O dígito, entre 0 e RADIX - 1.
+     */
+    private static int digit(int value, int min, int shift) {
+        return ((value - min) >>> shift) & DIGIT_MASK;
+    }
+
+    /**
+     * Ordena a faixa [lowIndex, highIndex) pelo dígito do deslocamento informado e depois
+     * cada balde pelo próximo dígito.
+     *
+     * @param array     O objeto SortArray a ser ordenado.
+     * @param buckets   Um buffer por nível: as posições [0, RADIX) guardam a próxima posição
+     *                  livre de cada balde e [RADIX, 2 * RADIX) o fim de cada balde.
+     * @param lowIndex  O primeiro índice da faixa.
+     * @param highIndex O índice logo após o fim da faixa.
+     * @param min       O menor valor do array.
+     * @param shift     O deslocamento do dígito atual, em bits.
+     * @param level     O nível da recursão.
+     */
+    private void sort(SortArray array, AuxArray[] buckets, int lowIndex, int highIndex, int min, int shift, int level) {
+        if (highIndex - lowIndex <= INSERTION_THRESHOLD) {
+            InsertionSort.sortRange(array, lowIndex, highIndex, getDelay());
+            return;
+        }
+        AuxArray bucket = buckets[level];
+        for (int d = 0; d < RADIX; d++) {
+            bucket.set(d, 0, getDelay());
+        }
+        for (int i = lowIndex; i < highIndex; i++) {
+            int d = digit(array.getValue(i), min, shift);
+            bucket.set(d, bucket.get(d) + 1, getDelay());
+        }
+        int position = lowIndex;
+        for (int d = 0; d < RADIX; d++) {
+            int count = bucket.get(d);
+            bucket.set(d, position, getDelay());
+            position += count;
+            bucket.set(RADIX + d, position, getDelay());
+        }
+        for (int d = 0; d < RADIX; d++) {
+            int next;
+            while ((next = bucket.get(d)) < bucket.get(RADIX + d)) {
+                int target = digit(array.getValue(next), min, shift);
+                if (target == d) {
+                    bucket.set(d, next + 1, getDelay());
+                } else {
+                    int slot = bucket.get(target);
+                    array.swap(next, slot, getDelay(), true);
+                    bucket.set(target, slot + 1, getDelay());
+                }
+            }
+        }
+        if (shift == 0) {
+            return;
+        }
+        int start = lowIndex;
+        for (int d = 0; d < RADIX; d++) {
+            int end = bucket.get(RADIX + d);
+            if (end - start > 1) {
+                sort(array, buckets, start, end, min, shift - RADIX_BITS, level + 1);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Ordena o array começando pelo dígito mais significativo da faixa de valores.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        if (size < 2) {
+            return;
+        }
+        int min = array.getValue(0);
+        int max = min;
+        for (int i = 1; i < size; i++) {
+            int value = array.getValue(i);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        int range = max - min; // Interpretado sem sinal: a diferença sempre cabe em 32 bits
+        if (range == 0) {
+            return;
+        }
+        int topShift = (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(range)) / RADIX_BITS * RADIX_BITS;
+        AuxArray[] buckets = new AuxArray[topShift / RADIX_BITS + 1];
+        try {
+            for (int level = 0; level < buckets.length; level++) {
+                buckets[level] = array.createAuxArray("buckets " + level, 2 * RADIX);
+            }
+            sort(array, buckets, 0, size, min, topShift, 0);
+        } finally {
+            for (AuxArray bucket : buckets) {
+                if (bucket != null) {
+                    bucket.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "MSD Radix Sort".
+     */
+    @Override
+    public String getName() {
+        return "MSD Radix Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+
+    @Override
+    public boolean isComparisonSort() {
+        return false; // Distribui os valores pelos seus dígitos
+    }
+}
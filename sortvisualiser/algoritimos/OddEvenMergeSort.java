@@ -0,0 +1,83 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe OddEvenMergeSort implementa a rede de ordenação por intercalação par-ímpar de
+ * Batcher. Como a rede bitônica, é uma sequência fixa de camadas de compara-e-troca sem
+ * sobreposição, com O(n log² n) comparações, mas usa menos comparações: cada camada de uma
+ * intercalação compara apenas os pares que ainda podem estar fora de ordem.
+ *
+ * <p>Usa a forma iterativa que funciona para qualquer tamanho (Knuth, TAOCP 5.3.4): com p o
+ * tamanho das sequências intercaladas e k a distância da camada, o elemento i + j é comparado
+ * com i + j + k quando os dois estão no mesmo bloco de 2p elementos. Todas as comparações
+ * deixam o menor valor no menor índice.</p>
+ *
+ * <p>As cores são resetadas no início de cada camada, de forma que as barras destacadas são
+ * as trocadas pela camada atual.</p>
+ */
+public class OddEvenMergeSort implements UiSortAlgoritimo {
+
+    private long stepDelay = 2;
+
+    /**
+     * Ordena o array com as camadas da rede de intercalação par-ímpar.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        for (int p = 1; p < size; p <<= 1) {
+            long block = 2L * p; // Bloco formado pelas duas sequências intercaladas
+            for (int k = p; k > 0; k >>= 1) {
+                array.resetColours(); // Uma camada: pares a distância k
+                for (int j = k % p; j + k < size; j += 2 * k) {
+                    for (int i = 0; i < k && i + j + k < size; i++) {
+                        if ((i + j) / block == (i + j + k) / block) {
+                            compareExchange(array, i + j, i + j + k);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void compareExchange(SortArray array, int lowIndex, int highIndex) {
+        if (array.compare(lowIndex, highIndex) > 0) {
+            array.swap(lowIndex, highIndex, getDelay(), true);
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Odd-Even Merge Sort".
+     */
+    @Override
+    public String getName() {
+        return "Odd-Even Merge Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
@@ -0,0 +1,178 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe ParallelMergeSort implementa o Merge Sort sobre um ForkJoinPool. As duas metades
+ * de cada faixa são ordenadas em paralelo e depois intercaladas pelo worker que as dividiu.
+ * Um único buffer auxiliar é compartilhado: cada intercalação usa apenas a sua própria faixa dele.
+ */
+public class ParallelMergeSort implements ParallelSortAlgoritimo {
+
+    private static final int MIN_SEQUENTIAL_SIZE = 16; // Menor faixa que ainda é dividida entre workers
+
+    private long stepDelay = 10;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Tarefa que ordena a faixa [lowIndex, highIndex) do array.
+     */
+    private final class SortTask extends RecursiveAction {
+        private final SortArray array;
+        private final AuxArray buffer;
+        private final int lowIndex;
+        private final int highIndex;
+        private final int sequentialSize; // Faixas deste tamanho ou menores não são divididas
+
+        SortTask(SortArray array, AuxArray buffer, int lowIndex, int highIndex, int sequentialSize) {
+            this.array = array;
+            this.buffer = buffer;
+            this.lowIndex = lowIndex;
+            this.highIndex = highIndex;
+            this.sequentialSize = sequentialSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (highIndex - lowIndex <= sequentialSize) {
+                mergeSort(array, buffer, lowIndex, highIndex);
+                return;
+            }
+            int middleIndex = (lowIndex + highIndex) >>> 1;
+            invokeAll(new SortTask(array, buffer, lowIndex, middleIndex, sequentialSize),
+                    new SortTask(array, buffer, middleIndex, highIndex, sequentialSize));
+            merge(array, buffer, lowIndex, middleIndex, highIndex);
+        }
+    }
+
+    /**
+     * Ordena uma faixa no worker atual.
+     *
+     * @param array     O objeto SortArray a ser ordenado.
+     * @param buffer    O buffer auxiliar compartilhado.
+     * @param lowIndex  O primeiro índice da faixa.
+     * @param highIndex O índice logo após o fim da faixa.
+     */
+    private void mergeSort(SortArray array, AuxArray buffer, int lowIndex, int highIndex) {
+        if (highIndex - lowIndex < 2) {
+            return;
+        }
+        int middleIndex = (lowIndex + highIndex) >>> 1;
+        mergeSort(array, buffer, lowIndex, middleIndex);
+        mergeSort(array, buffer, middleIndex, highIndex);
+        merge(array, buffer, lowIndex, middleIndex, highIndex);
+    }
+
+    /**
+     * Intercala as faixas ordenadas [lowIndex, middleIndex) e [middleIndex, highIndex).
+     *
+     * @param array       O objeto SortArray a ser ordenado.
+     * @param buffer      O buffer auxiliar compartilhado.
+     * @param lowIndex    O primeiro índice da primeira faixa.
+     * @param middleIndex O primeiro índice da segunda faixa.
+     * @param highIndex   O índice logo após o fim da segunda faixa.
+     */
+    private void merge(SortArray array, AuxArray buffer, int lowIndex, int middleIndex, int highIndex) {
+        for (int k = lowIndex; k < highIndex; k++) {
+            buffer.set(k, array.getValue(k), getDelay());
+        }
+        int left = lowIndex;
+        int right = middleIndex;
+        for (int k = lowIndex; k < highIndex; k++) {
+            int value;
+            if (right >= highIndex) {
+                value = buffer.get(left++);
+            } else if (left >= middleIndex) {
+                value = buffer.get(right++);
+            } else {
+                int leftValue = buffer.get(left);
+                int rightValue = buffer.get(right);
+                if (array.compareValues(leftValue, rightValue) <= 0) {
+                    value = leftValue;
+                    left++;
+                } else {
+                    value = rightValue;
+                    right++;
+                }
+            }
+            array.updateSingle(k, value, getDelay(), true);
+        }
+    }
+
+    /**
+     * Ordena o array em um ForkJoinPool com o paralelismo configurado. O limite sequencial
+     * é escolhido para que cada worker receba algumas faixas.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        int sequentialSize = Math.max(MIN_SEQUENTIAL_SIZE, size / (parallelism * 8));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (AuxArray buffer = array.createAuxArray("merge buffer", size)) {
+            pool.invoke(new SortTask(array, buffer, 0, size, sequentialSize));
+        } finally {
+            pool.shutdownNow(); // Após um cancelamento, interrompe as tarefas que ainda estão estacionadas pelo pacer
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Parallel Merge Sort".
+     */
+    @Override
+    public String getName() {
+        return "Parallel Merge Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+
+    /**
+     * Retorna o número de workers usados pelo algoritmo.
+     *
+     * @return O nível de paralelismo.
+     */
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Define o número de workers usados pelo algoritmo.
+     *
+     * @param parallelism O nível de paralelismo, maior que zero.
+     */
+    @Override
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+}
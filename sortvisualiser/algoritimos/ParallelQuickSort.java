@@ -0,0 +1,216 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe ParallelQuickSort implementa o Quick Sort sobre um ForkJoinPool. Depois de cada
+ * partição as duas metades são disjuntas, então o lado menor é entregue a outro worker e o
+ * próprio worker continua, em laço, no lado maior; partições menores que o limite sequencial
+ * são ordenadas pelo próprio worker.
+ *
+ * <p>A partição separa menores, iguais e maiores que o pivô (mediana de três), de forma que
+ * valores repetidos não desequilibram as metades. Como só o lado menor vira uma nova tarefa,
+ * o aninhamento de tarefas na pilha de um worker é O(log n), e, como no Introsort, uma faixa
+ * que passa de 2 log2(n) partições é ordenada pelo Heap Sort.</p>
+ */
+public class ParallelQuickSort implements ParallelSortAlgoritimo {
+
+    private static final int MIN_SEQUENTIAL_SIZE = 16; // Menor partição que ainda é dividida entre workers
+
+    private long stepDelay = 30;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Tarefa que ordena a faixa [lowIndex, highIndex] do array.
+     */
+    private final class SortTask extends RecursiveAction {
+        private final SortArray array;
+        private final int lowIndex;
+        private final int highIndex;
+        private final int sequentialSize; // Partições deste tamanho ou menores não são divididas
+        private final int depthLimit; // Partições restantes antes da troca para o Heap Sort
+
+        SortTask(SortArray array, int lowIndex, int highIndex, int sequentialSize, int depthLimit) {
+            this.array = array;
+            this.lowIndex = lowIndex;
+            this.highIndex = highIndex;
+            this.sequentialSize = sequentialSize;
+            this.depthLimit = depthLimit;
+        }
+
+        @Override
+        protected void compute() {
+            int low = lowIndex;
+            int high = highIndex;
+            int depth = depthLimit;
+            List<SortTask> forked = new ArrayList<>();
+            while (high - low + 1 > sequentialSize && depth > 0) {
+                depth--;
+                long equalRange = partition(array, low, high);
+                int leftHigh = (int) (equalRange >>> 32) - 1;
+                int rightLow = (int) equalRange + 1;
+                SortTask smaller;
+                if (leftHigh - low < high - rightLow) {
+                    smaller = new SortTask(array, low, leftHigh, sequentialSize, depth);
+                    low = rightLow;
+                } else {
+                    smaller = new SortTask(array, rightLow, high, sequentialSize, depth);
+                    high = leftHigh;
+                }
+                if (smaller.highIndex > smaller.lowIndex) {
+                    smaller.fork();
+                    forked.add(smaller);
+                }
+            }
+            quickSort(array, low, high, depth);
+            for (int i = forked.size() - 1; i >= 0; i--) {
+                forked.get(i).join(); // Na ordem inversa, as tarefas não roubadas são executadas aqui mesmo
+            }
+        }
+    }
+
+    /**
+     * Particiona a faixa em menores, iguais e maiores que o pivô, escolhido pela mediana de
+     * três para que arrays já ordenados também sejam divididos ao meio entre os workers.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @param lowIndex O índice mais à esquerda da partição.
+     * @param highIndex O índice mais à direita da partição.
+     * @return O início e o fim da faixa de iguais ao pivô, empacotados em um long (início nos 32 bits superiores).
+     */
+    private long partition(SortArray array, int lowIndex, int highIndex) {
+        int middleIndex = (lowIndex + highIndex) >>> 1;
+        if (array.compare(middleIndex, lowIndex) < 0) {
+            array.swap(middleIndex, lowIndex, getDelay(), true);
+        }
+        if (array.compare(highIndex, middleIndex) < 0) {
+            array.swap(highIndex, middleIndex, getDelay(), true);
+            if (array.compare(middleIndex, lowIndex) < 0) {
+                array.swap(middleIndex, lowIndex, getDelay(), true);
+            }
+        }
+        array.swap(lowIndex, middleIndex, getDelay(), true); // A mediana vai para lowIndex
+
+        int pivot = array.getValue(lowIndex);
+        int lessThan = lowIndex;
+        int greaterThan = highIndex;
+        int i = lowIndex + 1;
+        while (i <= greaterThan) {
+            int comparison = array.compareValues(array.getValue(i), pivot);
+            if (comparison < 0) {
+                array.swap(lessThan++, i++, getDelay(), true);
+            } else if (comparison > 0) {
+                array.swap(i, greaterThan--, getDelay(), true);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lessThan << 32) | (greaterThan & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Ordena uma partição no worker atual, recursando na parte menor para limitar a pilha.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @param lowIndex O índice mais à esquerda da partição.
+     * @param highIndex O índice mais à direita da partição.
+     * @param depthLimit O número de partições restantes antes da troca para o Heap Sort.
+     */
+    private void quickSort(SortArray array, int lowIndex, int highIndex, int depthLimit) {
+        while (lowIndex < highIndex) {
+            if (depthLimit-- == 0) {
+                HeapSort.sortRange(array, lowIndex, highIndex + 1, getDelay());
+                return;
+            }
+            long equalRange = partition(array, lowIndex, highIndex);
+            int leftHigh = (int) (equalRange >>> 32) - 1;
+            int rightLow = (int) equalRange + 1;
+            if (leftHigh - lowIndex < highIndex - rightLow) {
+                quickSort(array, lowIndex, leftHigh, depthLimit);
+                lowIndex = rightLow;
+            } else {
+                quickSort(array, rightLow, highIndex, depthLimit);
+                highIndex = leftHigh;
+            }
+        }
+    }
+
+    /**
+     * Ordena o array em um ForkJoinPool com o paralelismo configurado. O limite sequencial
+     * é escolhido para que cada worker receba algumas partições.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        int sequentialSize = Math.max(MIN_SEQUENTIAL_SIZE, size / (parallelism * 8));
+        int depthLimit = 2 * (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(Math.max(1, size)));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new SortTask(array, 0, size - 1, sequentialSize, depthLimit));
+        } finally {
+            pool.shutdownNow(); // Após um cancelamento, interrompe as tarefas que ainda estão estacionadas pelo pacer
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Parallel Quick Sort".
+     */
+    @Override
+    public String getName() {
+        return "Parallel Quick Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+
+    /**
+     * Retorna o número de workers usados pelo algoritmo.
+     *
+     * @return O nível de paralelismo.
+     */
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Define o número de workers usados pelo algoritmo.
+     *
+     * @param parallelism O nível de paralelismo, maior que zero.
+     */
+    @Override
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+}
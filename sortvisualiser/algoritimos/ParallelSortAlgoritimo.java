@@ -0,0 +1,24 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+/**
+ * A interface ParallelSortAlgoritimo define os algoritmos de ordenação que dividem o trabalho
+ * entre vários workers de um ForkJoinPool. Eles devem ser executados sobre um
+ * ConcurrentSortArray, cujos contadores são seguros sob escritas concorrentes.
+ */
+public interface ParallelSortAlgoritimo extends UiSortAlgoritimo {
+
+    /**
+     * Retorna o número de workers usados pelo algoritmo.
+     *
+     * @return O nível de paralelismo.
+     */
+    public int getParallelism();
+
+    /**
+     * Define o número de workers usados pelo algoritmo.
+     *
+     * @param parallelism O nível de paralelismo, maior que zero.
+     * @throws IllegalArgumentException se o paralelismo for menor que 1.
+     */
+    public void setParallelism(int parallelism);
+}
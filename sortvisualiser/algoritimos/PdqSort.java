@@ -0,0 +1,388 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe PdqSort implementa o pattern-defeating quicksort de Orson Peters, o Quick Sort
+ * adaptativo usado por Rust e pelo Go: um Introsort que reconhece padrões da entrada em vez
+ * de apenas sobreviver a eles.
+ *
+ * <ul>
+ * <li>Quando a partição não precisa trocar nada, a faixa provavelmente já está ordenada: as
+ * duas metades passam por um Insertion Sort limitado a poucos deslocamentos e, se ele terminar,
+ * a faixa está pronta. Uma entrada ordenada ou quase ordenada é ordenada em tempo linear.</li>
+ * <li>Quando o pivô é igual ao elemento logo antes da faixa (o último pivô), a faixa tem
+ * muitas repetições: os elementos iguais ao pivô são separados de uma vez e não são
+ * particionados de novo.</li>
+ * <li>Uma partição muito desequilibrada embaralha alguns elementos para quebrar o padrão
+ * e, depois de log n partições ruins, a faixa é ordenada pelo Heap Sort.</li>
+ * </ul>
+ *
+ * <p>A partição é feita em blocos (BlockQuicksort): os índices de um bloco de cada lado que
+ * estão do lado errado são anotados primeiro, sem desvios que dependam das comparações, e
+ * trocados depois. A escolha do pivô é a mediana de três, ou a pseudomediana de nove em faixas
+ * grandes.</p>
+ *
+ * <p>As faixas reconhecidas como ordenadas, as faixas de elementos iguais ao pivô e as faixas
+ * entregues ao Heap Sort são destacadas com SortArray.highlightRange().</p>
+ */
+public class PdqSort implements UiSortAlgoritimo {
+
+    private static final int INSERTION_SORT_THRESHOLD = 24; // Faixas menores vão para o Insertion Sort
+    private static final int NINTHER_THRESHOLD = 128; // Faixas maiores usam a pseudomediana de nove
+    private static final int PARTIAL_INSERTION_SORT_LIMIT = 8; // Deslocamentos antes de desistir da inserção parcial
+    private static final int BLOCK_SIZE = 64; // Elementos de cada bloco da partição
+
+    private long stepDelay = 10;
+
+    /**
+     * Ordena o array com o pattern-defeating quicksort.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        if (size < 2) {
+            return;
+        }
+        int badAllowed = 31 - Integer.numberOfLeadingZeros(size); // log2(n) partições ruins antes do Heap Sort
+        int[] offsetsLeft = new int[BLOCK_SIZE]; // Posições no bloco esquerdo que devem ir para a direita
+        int[] offsetsRight = new int[BLOCK_SIZE]; // Posições no bloco direito que devem ir para a esquerda
+        sortLoop(array, 0, size, badAllowed, true, offsetsLeft, offsetsRight);
+    }
+
+    /**
+     * Ordena [begin, end), recursivamente na faixa à esquerda do pivô e em laço na faixa à direita.
+     *
+     * @param leftmost     Indica se a faixa começa no índice 0; caso contrário, o elemento
+     *                     begin - 1 é menor ou igual a todos da faixa e serve de sentinela.
+     * @param offsetsLeft  Buffer da partição em blocos para as posições do bloco esquerdo,
+     *                     alocado a cada ordenação para que a instância possa ser usada por
+     *                     várias threads.
+     * @param offsetsRight Buffer da partição em blocos para as posições do bloco direito.
+     */
+    private void sortLoop(SortArray array, int begin, int end, int badAllowed, boolean leftmost,
+            int[] offsetsLeft, int[] offsetsRight) {
+        while (true) {
+            int size = end - begin;
+            if (size < INSERTION_SORT_THRESHOLD) {
+                insertionSort(array, begin, end, leftmost);
+                return;
+            }
+
+            int half = size / 2;
+            if (size > NINTHER_THRESHOLD) {
+                sort3(array, begin, begin + half, end - 1);
+                sort3(array, begin + 1, begin + (half - 1), end - 2);
+                sort3(array, begin + 2, begin + (half + 1), end - 3);
+                sort3(array, begin + (half - 1), begin + half, begin + (half + 1));
+                array.swap(begin, begin + half, getDelay(), true);
+            } else {
+                sort3(array, begin + half, begin, end - 1);
+            }
+
+            // Pivô igual ao anterior: os iguais ficam à esquerda e não são particionados de novo
+            if (!leftmost && array.compare(begin - 1, begin) >= 0) {
+                int pivotIndex = partitionLeft(array, begin, end);
+                array.highlightRange(begin, pivotIndex + 1);
+                begin = pivotIndex + 1;
+                continue;
+            }
+
+            int partition = partitionRight(array, begin, end, offsetsLeft, offsetsRight);
+            boolean alreadyPartitioned = partition < 0;
+            int pivotIndex = alreadyPartitioned ? ~partition : partition;
+            int leftSize = pivotIndex - begin;
+            int rightSize = end - (pivotIndex + 1);
+
+            if (leftSize < size / 8 || rightSize < size / 8) {
+                if (--badAllowed == 0) {
+                    array.highlightRange(begin, end);
+                    HeapSort.sortRange(array, begin, end, getDelay());
+                    return;
+                }
+                breakPatterns(array, begin, pivotIndex, end, leftSize, rightSize);
+            } else if (alreadyPartitioned
+                    && partialInsertionSort(array, begin, pivotIndex)
+                    && partialInsertionSort(array, pivotIndex + 1, end)) {
+                array.highlightRange(begin, end);
+                return; // A faixa já estava (quase) ordenada
+            }
+
+            sortLoop(array, begin, pivotIndex, badAllowed, leftmost, offsetsLeft, offsetsRight);
+            begin = pivotIndex + 1;
+            leftmost = false;
+        }
+    }
+
+    /**
+     * Troca alguns elementos de cada lado de uma partição desequilibrada por elementos a um
+     * quarto da faixa, para que o próximo pivô não repita o padrão.
+     */
+    private void breakPatterns(SortArray array, int begin, int pivotIndex, int end, int leftSize, int rightSize) {
+        long delay = getDelay();
+        if (leftSize >= INSERTION_SORT_THRESHOLD) {
+            array.swap(begin, begin + leftSize / 4, delay, true);
+            array.swap(pivotIndex - 1, pivotIndex - leftSize / 4, delay, true);
+            if (leftSize > NINTHER_THRESHOLD) {
+                array.swap(begin + 1, begin + (leftSize / 4 + 1), delay, true);
+                array.swap(begin + 2, begin + (leftSize / 4 + 2), delay, true);
+                array.swap(pivotIndex - 2, pivotIndex - (leftSize / 4 + 1), delay, true);
+                array.swap(pivotIndex - 3, pivotIndex - (leftSize / 4 + 2), delay, true);
+            }
+        }
+        if (rightSize >= INSERTION_SORT_THRESHOLD) {
+            array.swap(pivotIndex + 1, pivotIndex + (1 + rightSize / 4), delay, true);
+            array.swap(end - 1, end - rightSize / 4, delay, true);
+            if (rightSize > NINTHER_THRESHOLD) {
+                array.swap(pivotIndex + 2, pivotIndex + (2 + rightSize / 4), delay, true);
+                array.swap(pivotIndex + 3, pivotIndex + (3 + rightSize / 4), delay, true);
+                array.swap(end - 2, end - (1 + rightSize / 4), delay, true);
+                array.swap(end - 3, end - (2 + rightSize / 4), delay, true);
+            }
+        }
+    }
+
+    /**
+     * Particiona [begin, end) em torno do pivô em begin: menores à esquerda, maiores ou iguais
+     * à direita, usando a partição em blocos.
+     *
+     * @return A posição final do pivô, ou o seu complemento (~posição) se nenhum elemento
+     *         estava do lado errado.
+     */
+    private int partitionRight(SortArray array, int begin, int end, int[] offsetsLeft, int[] offsetsRight) {
+        long delay = getDelay();
+        int pivot = array.getValue(begin);
+        int first = begin;
+        int last = end;
+
+        // Os primeiros elementos de cada lado que estão do lado errado; a mediana garante sentinelas
+        while (array.compareValues(array.getValue(++first), pivot) < 0) {
+        }
+        if (first - 1 == begin) {
+            while (first < last && array.compareValues(array.getValue(--last), pivot) >= 0) {
+            }
+        } else {
+            while (array.compareValues(array.getValue(--last), pivot) >= 0) {
+            }
+        }
+
+        boolean alreadyPartitioned = first >= last;
+        if (!alreadyPartitioned) {
+            array.swap(first, last, delay, true);
+            first++;
+
+            int leftBase = first; // Início do bloco esquerdo
+            int rightBase = last; // Fim (exclusivo) do bloco direito
+            int countLeft = 0;
+            int countRight = 0;
+            int startLeft = 0;
+            int startRight = 0;
+            while (first < last) {
+                // Com um dos lados ainda com posições anotadas, só o outro lado recebe um novo bloco
+                int unknown = last - first;
+                int leftSplit = countLeft == 0 ? (countRight == 0 ? unknown / 2 : unknown) : 0;
+                int rightSplit = countRight == 0 ? unknown - leftSplit : 0;
+                leftSplit = Math.min(leftSplit, BLOCK_SIZE);
+                rightSplit = Math.min(rightSplit, BLOCK_SIZE);
+
+                for (int i = 0; i < leftSplit; i++) {
+                    offsetsLeft[countLeft] = i; // Sempre gravado; só conta se estiver do lado errado
+                    countLeft += array.compareValues(array.getValue(first++), pivot) >= 0 ? 1 : 0;
+                }
+                for (int i = 0; i < rightSplit; ) {
+                    offsetsRight[countRight] = ++i;
+                    countRight += array.compareValues(array.getValue(--last), pivot) < 0 ? 1 : 0;
+                }
+
+                int count = Math.min(countLeft, countRight);
+                swapOffsets(array, offsetsLeft, offsetsRight, leftBase, rightBase, startLeft, startRight, count,
+                        countLeft == countRight);
+                countLeft -= count;
+                countRight -= count;
+                startLeft += count;
+                startRight += count;
+                if (countLeft == 0) {
+                    startLeft = 0;
+                    leftBase = first;
+                }
+                if (countRight == 0) {
+                    startRight = 0;
+                    rightBase = last;
+                }
+            }
+
+            // Posições anotadas que sobraram de um dos lados vão para o meio
+            if (countLeft > 0) {
+                while (countLeft-- > 0) {
+                    array.swap(leftBase + offsetsLeft[startLeft + countLeft], --last, delay, true);
+                }
+                first = last;
+            }
+            if (countRight > 0) {
+                while (countRight-- > 0) {
+                    array.swap(rightBase - offsetsRight[startRight + countRight], first++, delay, true);
+                }
+            }
+        }
+
+        int pivotIndex = first - 1;
+        if (pivotIndex != begin) {
+            array.swap(begin, pivotIndex, delay, true);
+        }
+        return alreadyPartitioned ? ~pivotIndex : pivotIndex;
+    }
+
+    /**
+     * Troca count posições anotadas do bloco esquerdo com as do bloco direito. Com contagens
+     * diferentes, faz uma permutação cíclica, que escreve cada elemento uma vez em vez de duas.
+     */
+    private void swapOffsets(SortArray array, int[] offsetsLeft, int[] offsetsRight, int leftBase, int rightBase,
+            int startLeft, int startRight, int count, boolean useSwaps) {
+        long delay = getDelay();
+        if (useSwaps) {
+            for (int i = 0; i < count; i++) {
+                array.swap(leftBase + offsetsLeft[startLeft + i], rightBase - offsetsRight[startRight + i], delay, true);
+            }
+        } else if (count > 0) {
+            int left = leftBase + offsetsLeft[startLeft];
+            int right = rightBase - offsetsRight[startRight];
+            int saved = array.getValue(left);
+            array.updateSingle(left, array.getValue(right), delay, true);
+            for (int i = 1; i < count; i++) {
+                left = leftBase + offsetsLeft[startLeft + i];
+                array.updateSingle(right, array.getValue(left), delay, true);
+                right = rightBase - offsetsRight[startRight + i];
+                array.updateSingle(left, array.getValue(right), delay, true);
+            }
+            array.updateSingle(right, saved, delay, true);
+        }
+    }
+
+    /**
+     * Particiona [begin, end) em torno do pivô em begin com os iguais ao pivô à esquerda.
+     * Usado quando o pivô é igual ao elemento antes da faixa: como nenhum elemento é menor,
+     * a faixa à esquerda contém apenas iguais ao pivô.
+     *
+     * @return A posição final do pivô.
+     */
+    private int partitionLeft(SortArray array, int begin, int end) {
+        long delay = getDelay();
+        int pivot = array.getValue(begin);
+        int first = begin;
+        int last = end;
+        while (array.compareValues(pivot, array.getValue(--last)) < 0) {
+        }
+        if (last + 1 == end) {
+            while (first < last && array.compareValues(pivot, array.getValue(++first)) >= 0) {
+            }
+        } else {
+            while (array.compareValues(pivot, array.getValue(++first)) >= 0) {
+            }
+        }
+        while (first < last) {
+            array.swap(first, last, delay, true);
+            while (array.compareValues(pivot, array.getValue(--last)) < 0) {
+            }
+            while (array.compareValues(pivot, array.getValue(++first)) >= 0) {
+            }
+        }
+        if (last != begin) {
+            array.swap(begin, last, delay, true);
+        }
+        return last;
+    }
+
+    /**
+     * Ordena [begin, end) por inserção, mas desiste depois de PARTIAL_INSERTION_SORT_LIMIT
+     * deslocamentos.
+     *
+     * @return true se a faixa foi ordenada.
+     */
+    private boolean partialInsertionSort(SortArray array, int begin, int end) {
+        int moved = 0;
+        for (int current = begin + 1; current < end; current++) {
+            if (array.compare(current, current - 1) < 0) {
+                int value = array.getValue(current);
+                int sift = current;
+                do {
+                    array.updateSingle(sift, array.getValue(sift - 1), getDelay(), true);
+                    sift--;
+                } while (sift != begin && array.compareValues(value, array.getValue(sift - 1)) < 0);
+                array.updateSingle(sift, value, getDelay(), true);
+                moved += current - sift;
+            }
+            if (moved > PARTIAL_INSERTION_SORT_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ordena [begin, end) por inserção. Fora da faixa mais à esquerda, o elemento begin - 1
+     * serve de sentinela e o laço interno não precisa testar o início da faixa.
+     */
+    private void insertionSort(SortArray array, int begin, int end, boolean leftmost) {
+        if (leftmost) {
+            InsertionSort.sortRange(array, begin, end, getDelay());
+            return;
+        }
+        for (int current = begin + 1; current < end; current++) {
+            if (array.compare(current, current - 1) < 0) {
+                int value = array.getValue(current);
+                int sift = current;
+                do {
+                    array.updateSingle(sift, array.getValue(sift - 1), getDelay(), true);
+                    sift--;
+                } while (array.compareValues(value, array.getValue(sift - 1)) < 0);
+                array.updateSingle(sift, value, getDelay(), true);
+            }
+        }
+    }
+
+    private void sort2(SortArray array, int first, int second) {
+        if (array.compare(second, first) < 0) {
+            array.swap(first, second, getDelay(), true);
+        }
+    }
+
+    private void sort3(SortArray array, int first, int second, int third) {
+        sort2(array, first, second);
+        sort2(array, second, third);
+        sort2(array, first, second);
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Pattern-Defeating Quick Sort".
+     */
+    @Override
+    public String getName() {
+        return "Pattern-Defeating Quick Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
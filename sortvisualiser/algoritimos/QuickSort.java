@@ -1,93 +1,321 @@
-package src.main.java.sortvisualiser.algoritimos;
-
-import src.main.java.sortvisualiser.SortArray;
-
-/**
- * A classe QuickSort implementa o algoritmo de ordenação Quick Sort
- * e a interface UiSortAlgoritimo. Este algoritmo organiza os elementos
- * de um array em ordem crescente utilizando a técnica de divisão e conquista.
- */
-public class QuickSort implements UiSortAlgoritimo {
-
-    private long stepDelay = 30;
-
-    /**
-     * Encontra o ponto de pivô para a partição do array.
-     *
-     * @param array O objeto SortArray a ser ordenado.
-     * @param lowIndex O índice mais à esquerda da partição.
-     * @param highIndex O índice mais à direita da partição.
-     * @return O índice do pivô após a partição.
-     */
-    private int findPivotPoint(SortArray array, int lowIndex, int highIndex) {
-        int pivotValue = array.getValue(highIndex);
-        int i = lowIndex - 1;
-        for (int j = lowIndex; j <= highIndex - 1; j++) {
-            if (array.getValue(j) <= pivotValue) {
-                i++;
-                array.swap(i, j, getDelay(), true);
-            }
-        }
-        array.swap(i + 1, highIndex, getDelay(), true);
-        return i + 1;
-    }
-
-    /**
-     * Executa o algoritmo Quick Sort recursivamente.
-     *
-     * @param array O objeto SortArray a ser ordenado.
-     * @param lowIndex O índice mais à esquerda da partição.
-     * @param highIndex O índice mais à direita da partição.
-     */
-    private void quickSort(SortArray array, int lowIndex, int highIndex) {
-        if (lowIndex < highIndex) {
-            int pivotPoint = findPivotPoint(array, lowIndex, highIndex);
-            quickSort(array, lowIndex, pivotPoint - 1);
-            quickSort(array, pivotPoint + 1, highIndex);
-        }
-    }
-
-    /**
-     * Este método organiza os elementos de um objeto SortArray de acordo com a teoria
-     * de "menos que". Para mais informações, consulte
-     * <a href="https://en.wikipedia.org/wiki/Order_theory">teoria de ordem</a>.
-     *
-     * @param array O objeto SortArray a ser ordenado.
-     */
-    @Override
-    public void runSort(SortArray array) {
-        quickSort(array, 0, array.arraySize() - 1);
-    }
-
-    /**
-     * Retorna o nome do algoritmo de ordenação.
-     *
-     * @return O nome do algoritmo como "Quick Sort".
-     */
-    @Override
-    public String getName() {
-        return "Quick Sort";
-    }
-
-    /**
-     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
-     * ordenação.
-     *
-     * @return O atraso em milissegundos.
-     */
-    @Override
-    public long getDelay() {
-        return stepDelay;
-    }
-
-    /**
-     * Define o atraso em milissegundos entre as etapas do algoritmo de
-     * ordenação.
-     *
-     * @param delay O atraso em milissegundos a ser definido.
-     */
-    @Override
-    public void setDelay(long delay) {
-        this.stepDelay = delay;
-    }
-}
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe QuickSort implementa o algoritmo de ordenação Quick Sort
+ * e a interface UiSortAlgoritimo. Este algoritmo organiza os elementos
+ * de um array em ordem crescente utilizando a técnica de divisão e conquista.
+ *
+ * <p>O construtor padrão é o Quick Sort clássico (pivô no último elemento, partição de Lomuto),
+ * que degrada para O(n²) em entradas ordenadas, invertidas ou com valores repetidos; ele recursa
+ * apenas no lado menor e segue em laço no maior, para que essas entradas não estourem a pilha
+ * com uma recursão de profundidade O(n). As variantes registradas em SortAlgorithms combinam a escolha do
+ * pivô, o esquema de partição, o corte para Insertion Sort em faixas pequenas, a recursão
+ * apenas no lado menor (pilha O(log n)) e a alternativa para Heap Sort do Introsort.</p>
+ *
+ * <p>Sem a recursão apenas no lado menor, a variante recursa nos dois lados, como o Quick Sort
+ * dos livros, e a pilha chega a O(n) em entradas ordenadas. Para que essas entradas não
+ * estourem a pilha, a partir de MAX_BOTH_SIDES_DEPTH chamadas aninhadas a faixa passa a
+ * recursar apenas no lado menor.</p>
+ */
+public class QuickSort implements UiSortAlgoritimo {
+
+    /**
+     * Estratégia de escolha do pivô.
+     */
+    public enum PivotStrategy {
+        /** O último elemento da faixa. */
+        LAST,
+        /** A mediana do primeiro, do elemento do meio e do último. */
+        MEDIAN_OF_THREE,
+        /** A mediana de três medianas de três (Tukey), em faixas com pelo menos NINTHER_THRESHOLD elementos. */
+        NINTHER
+    }
+
+    /**
+     * Esquema de partição da faixa em torno do pivô.
+     */
+    public enum PartitionScheme {
+        /** Um índice percorre a faixa e acumula os menores à esquerda (Lomuto). */
+        LOMUTO,
+        /** Dois índices se aproximam pelas pontas e trocam os pares fora de lugar (Hoare). */
+        HOARE,
+        /** Separa menores, iguais e maiores que o pivô (bandeira holandesa de Dijkstra). */
+        THREE_WAY
+    }
+
+    private static final int NINTHER_THRESHOLD = 40; // Menor faixa em que o pivô é escolhido pela ninther
+    private static final int MAX_BOTH_SIDES_DEPTH = 1024; // Profundidade a partir da qual a recursão nos dois lados passa para o lado menor
+
+    private final String name; // Nome da variante exibido no menu
+    private final PivotStrategy pivotStrategy; // Escolha do pivô
+    private final PartitionScheme partitionScheme; // Esquema de partição
+    private final int insertionCutoff; // Faixas deste tamanho ou menores vão para o Insertion Sort (0 = nunca)
+    private final boolean smallerSideRecursion; // Recursão apenas no lado menor, com laço no maior; senão, nos dois lados
+    private final boolean introsort; // Troca para o Heap Sort quando a recursão passa de 2 log2(n)
+
+    private long stepDelay = 30;
+
+    /**
+     * Cria o Quick Sort clássico: pivô no último elemento e partição de Lomuto, com recursão
+     * apenas no lado menor.
+     */
+    public QuickSort() {
+        this("Quick Sort", PivotStrategy.LAST, PartitionScheme.LOMUTO, 0, true, false);
+    }
+
+    /**
+     * Cria uma variante do Quick Sort.
+     *
+     * @param name                 O nome da variante, exibido no menu.
+     * @param pivotStrategy        A escolha do pivô.
+     * @param partitionScheme      O esquema de partição.
+     * @param insertionCutoff      O tamanho até o qual as faixas são ordenadas por inserção, ou 0 para nunca.
+     * @param smallerSideRecursion Indica se a recursão é feita apenas no lado menor da partição, ou nos dois
+     *                             lados até MAX_BOTH_SIDES_DEPTH chamadas aninhadas.
+     * @param introsort            Indica se a faixa passa para o Heap Sort quando a recursão fica profunda demais.
+     */
+    public QuickSort(String name, PivotStrategy pivotStrategy, PartitionScheme partitionScheme,
+                     int insertionCutoff, boolean smallerSideRecursion, boolean introsort) {
+        this.name = name;
+        this.pivotStrategy = pivotStrategy;
+        this.partitionScheme = partitionScheme;
+        this.insertionCutoff = insertionCutoff;
+        this.smallerSideRecursion = smallerSideRecursion;
+        this.introsort = introsort;
+    }
+
+    /**
+     * Retorna o índice do valor mediano entre três índices.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @param a     O primeiro índice.
+     * @param b     O segundo índice.
+     * @param c     O terceiro índice.
+     * @return O índice cujo valor é a mediana dos três.
+     */
+    private static int medianOfThree(SortArray array, int a, int b, int c) {
+        if (array.compare(a, b) < 0) {
+            if (array.compare(b, c) < 0) {
+                return b;
+            }
+            return array.compare(a, c) < 0 ? c : a;
+        }
+        if (array.compare(a, c) < 0) {
+            return a;
+        }
+        return array.compare(b, c) < 0 ? c : b;
+    }
+
+    /**
+     * Escolhe o índice do pivô da faixa conforme a estratégia configurada.
+     *
+     * @param array     O objeto SortArray a ser ordenado.
+     * @param lowIndex  O índice mais à esquerda da partição.
+     * @param highIndex O índice mais à direita da partição.
+     * @return O índice do pivô.
+     */
+    private int choosePivot(SortArray array, int lowIndex, int highIndex) {
+        int middleIndex = (lowIndex + highIndex) >>> 1;
+        switch (pivotStrategy) {
+            case MEDIAN_OF_THREE:
+                return medianOfThree(array, lowIndex, middleIndex, highIndex);
+            case NINTHER:
+                if (highIndex - lowIndex + 1 < NINTHER_THRESHOLD) {
+                    return medianOfThree(array, lowIndex, middleIndex, highIndex);
+                }
+                int step = (highIndex - lowIndex + 1) / 8;
+                return medianOfThree(array,
+                        medianOfThree(array, lowIndex, lowIndex + step, lowIndex + 2 * step),
+                        medianOfThree(array, middleIndex - step, middleIndex, middleIndex + step),
+                        medianOfThree(array, highIndex - 2 * step, highIndex - step, highIndex));
+            case LAST:
+            default:
+                return highIndex;
+        }
+    }
+
+    /**
+     * Encontra o ponto de pivô para a partição do array (Lomuto).
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @param lowIndex O índice mais à esquerda da partição.
+     * @param highIndex O índice mais à direita da partição.
+     * @return O índice do pivô após a partição.
+     */
+    private int findPivotPoint(SortArray array, int lowIndex, int highIndex) {
+        int i = lowIndex - 1;
+        for (int j = lowIndex; j <= highIndex - 1; j++) {
+            if (array.compare(j, highIndex) <= 0) { // O pivô permanece em highIndex até o fim da partição
+                i++;
+                array.swap(i, j, getDelay(), true);
+            }
+        }
+        array.swap(i + 1, highIndex, getDelay(), true);
+        return i + 1;
+    }
+
+    /**
+     * Particiona a faixa com o pivô em lowIndex, com dois índices que se aproximam pelas pontas
+     * (Hoare). Os dois índices param em valores iguais ao pivô, o que divide ao meio faixas
+     * com muitos valores repetidos.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @param lowIndex O índice mais à esquerda da partição, onde está o pivô.
+     * @param highIndex O índice mais à direita da partição.
+     * @return O índice do pivô após a partição.
+     */
+    private int hoarePartition(SortArray array, int lowIndex, int highIndex) {
+        int i = lowIndex;
+        int j = highIndex + 1;
+        while (true) {
+            while (array.compare(++i, lowIndex) < 0) { // O pivô permanece em lowIndex até o fim da partição
+                if (i == highIndex) {
+                    break;
+                }
+            }
+            while (array.compare(lowIndex, --j) < 0) {
+                // O próprio pivô interrompe o laço em lowIndex
+            }
+            if (i >= j) {
+                break;
+            }
+            array.swap(i, j, getDelay(), true);
+        }
+        array.swap(lowIndex, j, getDelay(), true);
+        return j;
+    }
+
+    /**
+     * Particiona a faixa em menores, iguais e maiores que o pivô em lowIndex.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @param lowIndex O índice mais à esquerda da partição, onde está o pivô.
+     * @param highIndex O índice mais à direita da partição.
+     * @return O início e o fim da faixa de iguais ao pivô, empacotados em um long (início nos 32 bits superiores).
+     */
+    private long threeWayPartition(SortArray array, int lowIndex, int highIndex) {
+        int pivot = array.getValue(lowIndex);
+        int lessThan = lowIndex;
+        int greaterThan = highIndex;
+        int i = lowIndex + 1;
+        while (i <= greaterThan) {
+            int comparison = array.compareValues(array.getValue(i), pivot);
+            if (comparison < 0) {
+                array.swap(lessThan++, i++, getDelay(), true);
+            } else if (comparison > 0) {
+                array.swap(i, greaterThan--, getDelay(), true);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lessThan << 32) | (greaterThan & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Executa o algoritmo Quick Sort na faixa, conforme a variante configurada.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     * @param lowIndex O índice mais à esquerda da partição.
+     * @param highIndex O índice mais à direita da partição.
+     * @param depthLimit O número de partições restantes antes da troca para o Heap Sort.
+     * @param recursionDepth O número de chamadas aninhadas até esta.
+     */
+    private void quickSort(SortArray array, int lowIndex, int highIndex, int depthLimit, int recursionDepth) {
+        while (lowIndex < highIndex) {
+            if (highIndex - lowIndex + 1 <= insertionCutoff) {
+                InsertionSort.sortRange(array, lowIndex, highIndex + 1, getDelay());
+                return;
+            }
+            if (introsort && depthLimit-- == 0) {
+                HeapSort.sortRange(array, lowIndex, highIndex + 1, getDelay());
+                return;
+            }
+
+            int pivotIndex = choosePivot(array, lowIndex, highIndex);
+            int leftHigh;
+            int rightLow;
+            if (partitionScheme == PartitionScheme.LOMUTO) {
+                if (pivotIndex != highIndex) {
+                    array.swap(pivotIndex, highIndex, getDelay(), true);
+                }
+                int pivotPoint = findPivotPoint(array, lowIndex, highIndex);
+                leftHigh = pivotPoint - 1;
+                rightLow = pivotPoint + 1;
+            } else {
+                if (pivotIndex != lowIndex) {
+                    array.swap(pivotIndex, lowIndex, getDelay(), true);
+                }
+                if (partitionScheme == PartitionScheme.HOARE) {
+                    int pivotPoint = hoarePartition(array, lowIndex, highIndex);
+                    leftHigh = pivotPoint - 1;
+                    rightLow = pivotPoint + 1;
+                } else {
+                    long equalRange = threeWayPartition(array, lowIndex, highIndex);
+                    leftHigh = (int) (equalRange >>> 32) - 1;
+                    rightLow = (int) equalRange + 1;
+                }
+            }
+
+            if (!smallerSideRecursion && recursionDepth < MAX_BOTH_SIDES_DEPTH) {
+                quickSort(array, lowIndex, leftHigh, depthLimit, recursionDepth + 1);
+                quickSort(array, rightLow, highIndex, depthLimit, recursionDepth + 1);
+                return;
+            }
+            if (leftHigh - lowIndex < highIndex - rightLow) {
+                quickSort(array, lowIndex, leftHigh, depthLimit, recursionDepth + 1);
+                lowIndex = rightLow;
+            } else {
+                quickSort(array, rightLow, highIndex, depthLimit, recursionDepth + 1);
+                highIndex = leftHigh;
+            }
+        }
+    }
+
+    /**
+     * Este método organiza os elementos de um objeto SortArray de acordo com a teoria
+     * de "menos que". Para mais informações, consulte
+     * <a href="https://en.wikipedia.org/wiki/Order_theory">teoria de ordem</a>.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        int depthLimit = 2 * (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(Math.max(1, size)));
+        quickSort(array, 0, size - 1, depthLimit, 0);
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome da variante, como "Quick Sort".
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
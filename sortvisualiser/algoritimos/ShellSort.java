@@ -0,0 +1,101 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe ShellSort implementa o Shell Sort com a sequência de intervalos de Ciura,
+ * estendida multiplicando por 2,25 para arrays grandes. Cada intervalo faz uma ordenação
+ * por inserção deslocando os elementos, sem memória auxiliar.
+ */
+public class ShellSort implements UiSortAlgoritimo {
+
+    private static final int[] CIURA_GAPS = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+
+    private long stepDelay = 10;
+
+    /**
+     * Calcula os intervalos usados para um array do tamanho informado, do maior para o menor.
+     *
+     * @param size O tamanho do array.
+     * @return Os intervalos, em ordem decrescente.
+     */
+    private static int[] gapsFor(int size) {
+        int[] gaps = new int[64];
+        int count = 0;
+        for (int gap : CIURA_GAPS) {
+            if (gap < size || count == 0) {
+                gaps[count++] = gap;
+            }
+        }
+        if (count == CIURA_GAPS.length) {
+            long gap = CIURA_GAPS[count - 1];
+            while ((gap = (long) (gap * 2.25)) < size) {
+                gaps[count++] = (int) gap;
+            }
+        }
+        int[] descending = new int[count];
+        for (int i = 0; i < count; i++) {
+            descending[i] = gaps[count - 1 - i];
+        }
+        return descending;
+    }
+
+    /**
+     * Ordena o array com ordenações por inserção de intervalo decrescente.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        for (int gap : gapsFor(size)) {
+            for (int i = gap; i < size; i++) {
+                int value = array.getValue(i);
+                int j = i;
+                while (j >= gap) {
+                    int previous = array.getValue(j - gap);
+                    if (array.compareValues(previous, value) <= 0) {
+                        break;
+                    }
+                    array.updateSingle(j, previous, getDelay(), true);
+                    j -= gap;
+                }
+                if (j != i) {
+                    array.updateSingle(j, value, getDelay(), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Shell Sort".
+     */
+    @Override
+    public String getName() {
+        return "Shell Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
@@ -0,0 +1,69 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A classe SortAlgorithms registra todos os algoritmos de ordenação disponíveis.
+ * É usada pelo menu principal e pelas ferramentas de linha de comando, de forma que um
+ * novo algoritmo precisa ser registrado apenas aqui.
+ */
+public final class SortAlgorithms {
+
+    private SortAlgorithms() {
+    }
+
+    /**
+     * Cria uma nova instância de cada algoritmo registrado.
+     *
+     * @return A lista de algoritmos, na ordem em que aparecem no menu.
+     */
+    public static List<UiSortAlgoritimo> createAll() {
+        List<UiSortAlgoritimo> algorithms = new ArrayList<>();
+        algorithms.add(new BubbleSort());
+        algorithms.add(new SelectionSort());
+        algorithms.add(new InsertionSort());
+        algorithms.add(new QuickSort());
+        algorithms.add(new QuickSort("Quick Sort (both sides)", QuickSort.PivotStrategy.LAST,
+                QuickSort.PartitionScheme.LOMUTO, 0, false, false));
+        algorithms.add(new QuickSort("Quick Sort (median-of-3)", QuickSort.PivotStrategy.MEDIAN_OF_THREE,
+                QuickSort.PartitionScheme.LOMUTO, 0, true, false));
+        algorithms.add(new QuickSort("Quick Sort (Hoare, ninther)", QuickSort.PivotStrategy.NINTHER,
+                QuickSort.PartitionScheme.HOARE, 16, true, false));
+        algorithms.add(new QuickSort("Quick Sort (3-way)", QuickSort.PivotStrategy.NINTHER,
+                QuickSort.PartitionScheme.THREE_WAY, 16, true, false));
+        algorithms.add(new QuickSort("Introsort", QuickSort.PivotStrategy.NINTHER,
+                QuickSort.PartitionScheme.HOARE, 16, true, true));
+        algorithms.add(new PdqSort());
+        algorithms.add(new MergeSort());
+        algorithms.add(new BottomUpMergeSort());
+        algorithms.add(new TimSort());
+        algorithms.add(new ExternalMergeSort());
+        algorithms.add(new HeapSort());
+        algorithms.add(new ShellSort());
+        algorithms.add(new BitonicSort());
+        algorithms.add(new OddEvenMergeSort());
+        algorithms.add(new CountingSort());
+        algorithms.add(new LsdRadixSort());
+        algorithms.add(new MsdRadixSort());
+        algorithms.add(new ParallelQuickSort());
+        algorithms.add(new ParallelMergeSort());
+        return algorithms;
+    }
+
+    /**
+     * Cria uma nova instância do algoritmo com o nome informado.
+     *
+     * @param name O nome do algoritmo (ignorando maiúsculas e minúsculas).
+     * @return O algoritmo encontrado.
+     * @throws IllegalArgumentException se nenhum algoritmo tiver o nome informado.
+     */
+    public static UiSortAlgoritimo create(String name) {
+        for (UiSortAlgoritimo algorithm : createAll()) {
+            if (algorithm.getName().equalsIgnoreCase(name.trim())) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown algorithm: " + name);
+    }
+}
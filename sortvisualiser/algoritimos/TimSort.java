@@ -0,0 +1,575 @@
+package src.main.java.sortvisualiser.algoritimos;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe TimSort implementa o TimSort, o Merge Sort adaptativo usado por Python e por
+ * Arrays.sort de objetos: o array é percorrido em runs já ordenadas (as decrescentes são
+ * invertidas), as runs curtas são estendidas até minrun por inserção binária e as runs são
+ * empilhadas e intercaladas mantendo os invariantes de tamanho da pilha. Em uma entrada quase
+ * ordenada, poucas runs longas cobrem o array e a ordenação é quase linear.
+ *
+ * <p>As intercalações começam pulando, por busca exponencial (galope), o início da primeira
+ * run e o fim da segunda que já estão no lugar. Durante a intercalação, quando uma das runs
+ * vence muitas comparações seguidas, o algoritmo entra no modo galope, copiando blocos
+ * inteiros; o limiar de entrada (minGallop) se adapta aos dados.</p>
+ *
+ * <p>Cada run detectada é destacada com SortArray.highlightRange(); as escritas das
+ * inserções e intercalações aparecem em vermelho. O buffer auxiliar tem metade do tamanho do
+ * array e é criado apenas na primeira intercalação.</p>
+ */
+public class TimSort implements UiSortAlgoritimo {
+
+    private static final int MIN_MERGE = 32; // Arrays menores são ordenados por inserção binária
+    private static final int MIN_GALLOP = 7; // Valor inicial do limiar do modo galope
+    private static final int MAX_RUNS = 49; // Runs pendentes possíveis para qualquer tamanho int
+
+    private long stepDelay = 10;
+
+    /**
+     * Fonte de valores lida pelo galope: o array ou o buffer auxiliar.
+     */
+    @FunctionalInterface
+    private interface Values {
+        int get(int index);
+    }
+
+    /**
+     * Estado de uma ordenação: a pilha de runs pendentes, o limiar de galope e o buffer.
+     */
+    private final class Merger {
+        private final SortArray array; // Array ordenado
+        private final Values arrayValues; // Leituras do array, para o galope
+        private final int[] runBase = new int[MAX_RUNS]; // Início de cada run pendente
+        private final int[] runLen = new int[MAX_RUNS]; // Tamanho de cada run pendente
+        private int stackSize = 0; // Número de runs pendentes
+        private int minGallop = MIN_GALLOP; // Vitórias seguidas para entrar no modo galope
+        private AuxArray buffer; // Buffer das intercalações, criado na primeira
+        private Values bufferValues; // Leituras do buffer, para o galope
+
+        Merger(SortArray array) {
+            this.array = array;
+            this.arrayValues = array::getValue;
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLen[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Intercala runs do topo da pilha até que, para as três do topo, cada run seja maior
+         * que a soma das duas seguintes e maior que a seguinte.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                        || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                    if (runLen[n - 1] < runLen[n + 1]) {
+                        n--;
+                    }
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Intercala todas as runs pendentes, no fim da ordenação.
+         */
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Intercala as runs i e i + 1 da pilha.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int len1 = runLen[i];
+            int base2 = runBase[i + 1];
+            int len2 = runLen[i + 1];
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+
+            // Elementos da primeira run menores ou iguais ao início da segunda já estão no lugar
+            int skipped = gallopRight(array.getValue(base2), arrayValues, base1, len1, 0);
+            base1 += skipped;
+            len1 -= skipped;
+            if (len1 == 0) {
+                return;
+            }
+            // Elementos da segunda run maiores que o fim da primeira também
+            len2 = gallopLeft(array.getValue(base1 + len1 - 1), arrayValues, base2, len2, len2 - 1);
+            if (len2 == 0) {
+                return;
+            }
+            if (len1 <= len2) {
+                mergeLo(base1, len1, base2, len2);
+            } else {
+                mergeHi(base1, len1, base2, len2);
+            }
+        }
+
+        /**
+         * Intercala da esquerda para a direita, com a primeira run (a menor) no buffer.
+         */
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            ensureBuffer(len1);
+            for (int i = 0; i < len1; i++) {
+                buffer.set(i, array.getValue(base1 + i), getDelay());
+            }
+            int cursor1 = 0; // No buffer
+            int cursor2 = base2; // No array
+            int dest = base1;
+            write(dest++, array.getValue(cursor2++));
+            if (--len2 == 0) {
+                copyFromBuffer(cursor1, dest, len1);
+                return;
+            }
+            if (len1 == 1) {
+                moveRange(cursor2, dest, len2);
+                write(dest + len2, buffer.get(cursor1));
+                return;
+            }
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0; // Vitórias seguidas da primeira run
+                int count2 = 0; // Vitórias seguidas da segunda run
+                do {
+                    int value2 = array.getValue(cursor2);
+                    int value1 = buffer.get(cursor1);
+                    if (array.compareValues(value2, value1) < 0) {
+                        write(dest++, value2);
+                        cursor2++;
+                        count2++;
+                        count1 = 0;
+                        if (--len2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        write(dest++, value1);
+                        cursor1++;
+                        count1++;
+                        count2 = 0;
+                        if (--len1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do { // Modo galope: copia blocos enquanto uma das runs continuar vencendo
+                    count1 = gallopRight(array.getValue(cursor2), bufferValues, cursor1, len1, 0);
+                    if (count1 != 0) {
+                        copyFromBuffer(cursor1, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        len1 -= count1;
+                        if (len1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    write(dest++, array.getValue(cursor2++));
+                    if (--len2 == 0) {
+                        break outer;
+                    }
+                    count2 = gallopLeft(buffer.get(cursor1), arrayValues, cursor2, len2, 0);
+                    if (count2 != 0) {
+                        moveRange(cursor2, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        len2 -= count2;
+                        if (len2 == 0) {
+                            break outer;
+                        }
+                    }
+                    write(dest++, buffer.get(cursor1++));
+                    if (--len1 == 1) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                gallop = Math.max(gallop, 0) + 2; // Penaliza a saída do modo galope
+            }
+            minGallop = Math.max(gallop, 1);
+            if (len1 == 1) {
+                moveRange(cursor2, dest, len2);
+                write(dest + len2, buffer.get(cursor1));
+            } else {
+                copyFromBuffer(cursor1, dest, len1);
+            }
+        }
+
+        /**
+         * Intercala da direita para a esquerda, com a segunda run (a menor) no buffer.
+         */
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            ensureBuffer(len2);
+            for (int i = 0; i < len2; i++) {
+                buffer.set(i, array.getValue(base2 + i), getDelay());
+            }
+            int cursor1 = base1 + len1 - 1; // No array
+            int cursor2 = len2 - 1; // No buffer
+            int dest = base2 + len2 - 1;
+            write(dest--, array.getValue(cursor1--));
+            if (--len1 == 0) {
+                copyFromBuffer(0, dest - (len2 - 1), len2);
+                return;
+            }
+            if (len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                moveRange(cursor1 + 1, dest + 1, len1);
+                write(dest, buffer.get(cursor2));
+                return;
+            }
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0; // Vitórias seguidas da primeira run
+                int count2 = 0; // Vitórias seguidas da segunda run
+                do {
+                    int value2 = buffer.get(cursor2);
+                    int value1 = array.getValue(cursor1);
+                    if (array.compareValues(value2, value1) < 0) {
+                        write(dest--, value1);
+                        cursor1--;
+                        count1++;
+                        count2 = 0;
+                        if (--len1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        write(dest--, value2);
+                        cursor2--;
+                        count2++;
+                        count1 = 0;
+                        if (--len2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do { // Modo galope: copia blocos enquanto uma das runs continuar vencendo
+                    count1 = len1 - gallopRight(buffer.get(cursor2), arrayValues, base1, len1, len1 - 1);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        len1 -= count1;
+                        moveRange(cursor1 + 1, dest + 1, count1);
+                        if (len1 == 0) {
+                            break outer;
+                        }
+                    }
+                    write(dest--, buffer.get(cursor2--));
+                    if (--len2 == 1) {
+                        break outer;
+                    }
+                    count2 = len2 - gallopLeft(array.getValue(cursor1), bufferValues, 0, len2, len2 - 1);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        len2 -= count2;
+                        copyFromBuffer(cursor2 + 1, dest + 1, count2);
+                        if (len2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    write(dest--, array.getValue(cursor1--));
+                    if (--len1 == 0) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+                gallop = Math.max(gallop, 0) + 2; // Penaliza a saída do modo galope
+            }
+            minGallop = Math.max(gallop, 1);
+            if (len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                moveRange(cursor1 + 1, dest + 1, len1);
+                write(dest, buffer.get(cursor2));
+            } else {
+                copyFromBuffer(0, dest - (len2 - 1), len2);
+            }
+        }
+
+        /**
+         * Retorna a posição em [base, base + length) onde key seria inserida antes dos valores
+         * iguais, relativa a base. A busca galopa a partir de hint, dobrando o passo, e termina
+         * com uma busca binária entre os dois últimos passos.
+         */
+        private int gallopLeft(int key, Values values, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (array.compareValues(key, values.get(base + hint)) > 0) {
+                int maxOffset = length - hint; // Galopa para a direita
+                while (offset < maxOffset && array.compareValues(key, values.get(base + hint + offset)) > 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset; // Estouro do int
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                int maxOffset = hint + 1; // Galopa para a esquerda
+                while (offset < maxOffset && array.compareValues(key, values.get(base + hint - offset)) <= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                int previous = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - previous;
+            }
+            lastOffset++;
+            while (lastOffset < offset) {
+                int middle = lastOffset + ((offset - lastOffset) >>> 1);
+                if (array.compareValues(key, values.get(base + middle)) > 0) {
+                    lastOffset = middle + 1;
+                } else {
+                    offset = middle;
+                }
+            }
+            return offset;
+        }
+
+        /**
+         * Retorna a posição em [base, base + length) onde key seria inserida depois dos valores
+         * iguais, relativa a base, com a mesma busca de gallopLeft().
+         */
+        private int gallopRight(int key, Values values, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+            if (array.compareValues(key, values.get(base + hint)) < 0) {
+                int maxOffset = hint + 1; // Galopa para a esquerda
+                while (offset < maxOffset && array.compareValues(key, values.get(base + hint - offset)) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset; // Estouro do int
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                int previous = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - previous;
+            } else {
+                int maxOffset = length - hint; // Galopa para a direita
+                while (offset < maxOffset && array.compareValues(key, values.get(base + hint + offset)) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                offset = Math.min(offset, maxOffset);
+                lastOffset += hint;
+                offset += hint;
+            }
+            lastOffset++;
+            while (lastOffset < offset) {
+                int middle = lastOffset + ((offset - lastOffset) >>> 1);
+                if (array.compareValues(key, values.get(base + middle)) < 0) {
+                    offset = middle;
+                } else {
+                    lastOffset = middle + 1;
+                }
+            }
+            return offset;
+        }
+
+        private void ensureBuffer(int length) {
+            if (buffer == null) {
+                buffer = array.createAuxArray("merge buffer", Math.max(length, array.arraySize() / 2));
+                bufferValues = buffer::get;
+            }
+        }
+
+        private void write(int index, int value) {
+            array.updateSingle(index, value, getDelay(), true);
+        }
+
+        private void copyFromBuffer(int from, int dest, int length) {
+            for (int i = 0; i < length; i++) {
+                write(dest + i, buffer.get(from + i));
+            }
+        }
+
+        /**
+         * Move uma faixa do array, na direção que não sobrescreve valores ainda não movidos.
+         */
+        private void moveRange(int from, int dest, int length) {
+            if (dest < from) {
+                for (int i = 0; i < length; i++) {
+                    write(dest + i, array.getValue(from + i));
+                }
+            } else {
+                for (int i = length - 1; i >= 0; i--) {
+                    write(dest + i, array.getValue(from + i));
+                }
+            }
+        }
+
+        void release() {
+            if (buffer != null) {
+                buffer.close();
+            }
+        }
+    }
+
+    /**
+     * Ordena o array por runs.
+     *
+     * @param array O objeto SortArray a ser ordenado.
+     */
+    @Override
+    public void runSort(SortArray array) {
+        int size = array.arraySize();
+        if (size < 2) {
+            return;
+        }
+        if (size < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(array, 0, size);
+            binaryInsertionSort(array, 0, size, runLength);
+            return;
+        }
+        Merger merger = new Merger(array);
+        try {
+            int minRun = minRunLength(size);
+            int low = 0;
+            int remaining = size;
+            do {
+                int runLength = countRunAndMakeAscending(array, low, low + remaining);
+                if (runLength < minRun) {
+                    int forced = Math.min(remaining, minRun);
+                    binaryInsertionSort(array, low, low + forced, low + runLength);
+                    runLength = forced;
+                }
+                merger.pushRun(low, runLength);
+                merger.mergeCollapse();
+                low += runLength;
+                remaining -= runLength;
+            } while (remaining != 0);
+            merger.mergeForceCollapse();
+        } finally {
+            merger.release();
+        }
+    }
+
+    /**
+     * Retorna o tamanho mínimo das runs: um valor entre MIN_MERGE / 2 e MIN_MERGE tal que
+     * size / minRun seja uma potência de dois ou um pouco menor, para intercalações equilibradas.
+     */
+    static int minRunLength(int size) {
+        int remainder = 0;
+        while (size >= MIN_MERGE) {
+            remainder |= size & 1;
+            size >>= 1;
+        }
+        return size + remainder;
+    }
+
+    /**
+     * Encontra a run que começa em low, invertendo-a se for estritamente decrescente, e a destaca.
+     *
+     * @return O tamanho da run.
+     */
+    private int countRunAndMakeAscending(SortArray array, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh < high) {
+            if (array.compare(runHigh++, low) < 0) {
+                while (runHigh < high && array.compare(runHigh, runHigh - 1) < 0) {
+                    runHigh++;
+                }
+                for (int i = low, j = runHigh - 1; i < j; i++, j--) {
+                    array.swap(i, j, getDelay(), true);
+                }
+            } else {
+                while (runHigh < high && array.compare(runHigh, runHigh - 1) >= 0) {
+                    runHigh++;
+                }
+            }
+        }
+        array.highlightRange(low, runHigh);
+        return runHigh - low;
+    }
+
+    /**
+     * Ordena [low, high) por inserção binária, sabendo que [low, start) já está ordenada.
+     */
+    private void binaryInsertionSort(SortArray array, int low, int high, int start) {
+        for (int i = start; i < high; i++) {
+            int pivot = array.getValue(i);
+            int left = low;
+            int right = i;
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (array.compareValues(pivot, array.getValue(middle)) < 0) {
+                    right = middle;
+                } else {
+                    left = middle + 1;
+                }
+            }
+            for (int j = i; j > left; j--) {
+                array.updateSingle(j, array.getValue(j - 1), getDelay(), true);
+            }
+            if (left != i) {
+                array.updateSingle(left, pivot, getDelay(), true);
+            }
+        }
+    }
+
+    /**
+     * Retorna o nome do algoritmo de ordenação.
+     *
+     * @return O nome do algoritmo como "Tim Sort".
+     */
+    @Override
+    public String getName() {
+        return "Tim Sort";
+    }
+
+    /**
+     * Retorna o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @return O atraso em milissegundos.
+     */
+    @Override
+    public long getDelay() {
+        return stepDelay;
+    }
+
+    /**
+     * Define o atraso em milissegundos entre as etapas do algoritmo de
+     * ordenação.
+     *
+     * @param delay O atraso em milissegundos a ser definido.
+     */
+    @Override
+    public void setDelay(long delay) {
+        this.stepDelay = delay;
+    }
+}
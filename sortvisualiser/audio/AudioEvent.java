@@ -0,0 +1,51 @@
+package src.main.java.sortvisualiser.audio;
+
+/**
+ * A classe AudioEvent codifica um evento sonoro em um único long, para que os eventos passem
+ * da thread do algoritmo para a thread de síntese sem criar um objeto por evento.
+ *
+ * <p>Os 16 bits mais baixos guardam a altura do tom, de 0 (o menor valor do array) a
+ * MAX_PITCH (o maior), e os 8 bits seguintes o tipo do acesso.</p>
+ */
+public final class AudioEvent {
+    public static final int READ = 0; // Leitura de um valor
+    public static final int COMPARE = 1; // Comparação entre dois índices
+    public static final int WRITE = 2; // Escrita de um valor, no array ou em um buffer auxiliar
+    public static final int SWAP = 3; // Troca de dois valores
+
+    public static final int MAX_PITCH = 0xFFFF; // Altura do tom do maior valor
+
+    private AudioEvent() {
+    }
+
+    /**
+     * Codifica um evento.
+     *
+     * @param kind  O tipo do acesso (READ, COMPARE, WRITE ou SWAP).
+     * @param pitch A altura do tom, entre 0 e MAX_PITCH.
+     * @return O evento codificado.
+     */
+    public static long encode(int kind, int pitch) {
+        return ((long) kind << 16) | (pitch & MAX_PITCH);
+    }
+
+    /**
+     * Retorna o tipo do acesso de um evento.
+     *
+     * @param event O evento codificado.
+     * @return O tipo do acesso.
+     */
+    public static int kind(long event) {
+        return (int) (event >>> 16) & 0xFF;
+    }
+
+    /**
+     * Retorna a altura do tom de um evento.
+     *
+     * @param event O evento codificado.
+     * @return A altura, entre 0 e MAX_PITCH.
+     */
+    public static int pitch(long event) {
+        return (int) event & MAX_PITCH;
+    }
+}
@@ -0,0 +1,83 @@
+package src.main.java.sortvisualiser.audio;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A classe AudioEventRing é um buffer circular sem travas de um produtor e um consumidor
+ * (SPSC) para eventos sonoros codificados em long (veja AudioEvent). O array é alocado uma
+ * única vez, então offer() e drain() não alocam nada, mesmo com milhões de eventos.
+ *
+ * <p>Cada lado só escreve o seu próprio contador, publicado com lazySet, e guarda uma cópia do
+ * contador do outro lado, relida apenas quando o buffer parece cheio (no produtor) ou vazio
+ * (no consumidor).</p>
+ */
+public final class AudioEventRing {
+    private final long[] events; // Eventos, com capacidade potência de dois
+    private final int mask; // Máscara do índice no array
+    private final AtomicLong head = new AtomicLong(); // Próximo evento a consumir, escrito pelo consumidor
+    private final AtomicLong tail = new AtomicLong(); // Próxima posição livre, escrita pelo produtor
+    private long producerHeadCache; // Cópia de head vista pelo produtor
+    private long consumerTailCache; // Cópia de tail vista pelo consumidor
+
+    /**
+     * Construtor da classe AudioEventRing.
+     *
+     * @param capacity O número de eventos; arredondado para a próxima potência de dois.
+     */
+    public AudioEventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        events = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Acrescenta um evento, se houver espaço; o produtor nunca espera. Deve ser chamado sempre
+     * pela mesma thread, ou sob a mesma trava.
+     *
+     * @param event O evento codificado.
+     * @return false se o buffer estava cheio e o evento não foi acrescentado.
+     */
+    public boolean offer(long event) {
+        long position = tail.get();
+        if (position - producerHeadCache >= events.length) {
+            producerHeadCache = head.get();
+            if (position - producerHeadCache >= events.length) {
+                return false;
+            }
+        }
+        events[(int) position & mask] = event;
+        tail.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * Retira os eventos disponíveis, até o tamanho do destino. Deve ser chamado sempre pela mesma thread.
+     *
+     * @param target O array de destino.
+     * @return O número de eventos retirados.
+     */
+    public int drain(long[] target) {
+        long position = head.get();
+        if (position >= consumerTailCache) {
+            consumerTailCache = tail.get();
+            if (position >= consumerTailCache) {
+                return 0;
+            }
+        }
+        int count = (int) Math.min(target.length, consumerTailCache - position);
+        for (int i = 0; i < count; i++) {
+            target[i] = events[(int) (position + i) & mask];
+        }
+        head.lazySet(position + count);
+        return count;
+    }
+
+    /**
+     * Indica se não há eventos a consumir.
+     *
+     * @return true se o buffer estiver vazio.
+     */
+    public boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+}
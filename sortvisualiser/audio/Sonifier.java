@@ -0,0 +1,217 @@
+package src.main.java.sortvisualiser.audio;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.ConcurrentSortArray;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortArrayListener;
+
+/**
+ * A classe Sonifier transforma os acessos de um algoritmo em som. Registrada como observador
+ * de um SortArray, ela converte cada leitura, comparação, escrita e troca em um evento com a
+ * altura do valor acessado (veja AudioEvent) e o coloca em um AudioEventRing; um
+ * ToneSynthesizer, em uma thread própria, sintetiza os tons em um arquivo WAV e, se houver
+ * uma linha de saída, os toca ao vivo por javax.sound.sampled.
+ *
+ * <p>Os observadores rodam na thread do algoritmo, então o caminho de cada evento não aloca
+ * nada nem espera: ao vivo, com o buffer cheio, o evento é descartado e contado em
+ * getDroppedEvents(). Na síntese offline nenhum evento pode ser perdido, e o algoritmo espera
+ * a síntese quando o buffer enche.</p>
+ *
+ * <p>Nos algoritmos paralelos, os workers notificam os observadores ao mesmo tempo; como o
+ * buffer tem um único produtor, os eventos de um ConcurrentSortArray passam por uma trava.</p>
+ */
+public final class Sonifier implements SortArrayListener, AutoCloseable {
+    private static final int RING_CAPACITY = 1 << 16; // Eventos pendentes entre o algoritmo e a síntese
+    private static final int LIVE_TONE_MILLIS = 40; // Duração de cada tom ao vivo
+    private static final int OFFLINE_TONE_MILLIS = 30; // Duração de cada tom na síntese offline
+    private static final int LINE_BUFFER_MILLIS = 60; // Buffer da linha de áudio: a latência ao vivo
+
+    private final SortArray array; // Array observado, para ler os valores comparados
+    private final long maxValue; // Valor com o tom mais agudo
+    private final boolean lossless; // Espera a síntese em vez de descartar eventos
+    private final boolean multiProducer; // Serializa os eventos de vários workers
+    private final AudioEventRing ring = new AudioEventRing(RING_CAPACITY);
+    private final WavWriter wav; // Arquivo de saída, ou null
+    private final SourceDataLine line; // Linha de reprodução ao vivo, ou null
+    private final ToneSynthesizer synthesizer;
+    private final Thread synthesisThread;
+    private volatile long droppedEvents; // Eventos descartados ao vivo, escrito apenas pelo produtor
+    private boolean closed = false;
+
+    private Sonifier(SortArray array, Path wavFile, boolean playLive, double samplesPerEvent, int toneMillis)
+            throws IOException {
+        this.array = array;
+        this.maxValue = Math.max(1, array.getMaxValue());
+        this.lossless = samplesPerEvent > 0;
+        this.multiProducer = array instanceof ConcurrentSortArray;
+        this.wav = wavFile == null ? null : new WavWriter(wavFile, ToneSynthesizer.SAMPLE_RATE);
+        this.line = playLive ? openLine() : null;
+        synthesizer = new ToneSynthesizer(ring, wav, line, samplesPerEvent, toneMillis);
+        synthesisThread = new Thread(synthesizer, "sonifier");
+        synthesisThread.setDaemon(true);
+        synthesisThread.start();
+    }
+
+    /**
+     * Cria um sonificador de tempo real, que acompanha a animação: o som é tocado ao vivo, se
+     * houver uma linha de saída, e gravado no arquivo com os mesmos tempos.
+     *
+     * @param array   O array a observar, já preenchido (o maior valor define a escala dos tons).
+     * @param wavFile O arquivo WAV de saída, ou null para apenas tocar.
+     * @return O sonificador, que deve ser registrado como observador do array e fechado ao fim.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    public static Sonifier live(SortArray array, Path wavFile) throws IOException {
+        return new Sonifier(array, wavFile, true, 0, LIVE_TONE_MILLIS);
+    }
+
+    /**
+     * Cria um sonificador offline, em que cada evento ocupa um número fixo de amostras do
+     * arquivo, independentemente da velocidade do algoritmo.
+     *
+     * @param array           O array a observar, já preenchido.
+     * @param wavFile         O arquivo WAV de saída.
+     * @param samplesPerEvent As amostras de áudio por evento (pode ser fracionário).
+     * @param playLive        true para também tocar ao vivo, se houver uma linha de saída.
+     * @return O sonificador, que deve ser registrado como observador do array e fechado ao fim.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    public static Sonifier offline(SortArray array, Path wavFile, double samplesPerEvent, boolean playLive)
+            throws IOException {
+        if (!(samplesPerEvent > 0)) {
+            throw new IllegalArgumentException("Samples per event must be positive");
+        }
+        return new Sonifier(array, wavFile, playLive, samplesPerEvent, OFFLINE_TONE_MILLIS);
+    }
+
+    /**
+     * Abre a linha de saída padrão para PCM de 16 bits mono.
+     *
+     * @return A linha iniciada, ou null se não houver dispositivo de áudio.
+     */
+    private static SourceDataLine openLine() {
+        AudioFormat format = new AudioFormat(ToneSynthesizer.SAMPLE_RATE, 16, 1, true, false);
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(format);
+            line.open(format, ToneSynthesizer.SAMPLE_RATE * 2 * LINE_BUFFER_MILLIS / 1_000);
+            line.start();
+            return line;
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException ex) {
+            return null; // Sem dispositivo de áudio: apenas o arquivo é gravado
+        }
+    }
+
+    /**
+     * Indica se o som está sendo tocado ao vivo.
+     *
+     * @return true se uma linha de saída foi aberta.
+     */
+    public boolean isPlayingLive() {
+        return line != null;
+    }
+
+    /**
+     * Retorna o número de eventos descartados porque a síntese não acompanhou o algoritmo.
+     *
+     * @return Os eventos descartados.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    private void emit(int kind, int value) {
+        long scaled = (long) value * AudioEvent.MAX_PITCH / maxValue;
+        long event = AudioEvent.encode(kind, (int) Math.max(0, Math.min(AudioEvent.MAX_PITCH, scaled)));
+        if (multiProducer) {
+            synchronized (ring) {
+                publish(event);
+            }
+        } else {
+            publish(event);
+        }
+    }
+
+    private void publish(long event) {
+        if (ring.offer(event)) {
+            return;
+        }
+        if (!lossless) {
+            droppedEvents++; // Único escritor: o produtor, ou quem tem a trava
+            return;
+        }
+        do {
+            if (!synthesisThread.isAlive()) {
+                throw new IllegalStateException("Audio synthesis stopped");
+            }
+            LockSupport.parkNanos(10_000); // Offline: espera a síntese liberar espaço
+        } while (!ring.offer(event));
+    }
+
+    @Override
+    public void onSwap(int firstIndex, int secondIndex, int value, long millisecondDelay, boolean isStep) {
+        emit(AudioEvent.SWAP, array.displayValue(value));
+    }
+
+    @Override
+    public void onUpdate(int index, int previousValue, int value, long millisecondDelay, boolean isStep) {
+        emit(AudioEvent.WRITE, array.displayValue(value));
+    }
+
+    @Override
+    public void onRead(int index) {
+        emit(AudioEvent.READ, array.peekValue(index));
+    }
+
+    @Override
+    public void onCompare(int firstIndex, int secondIndex, int result) {
+        emit(AudioEvent.COMPARE, array.peekValue(firstIndex));
+    }
+
+    @Override
+    public void onAuxUpdate(AuxArray aux, int index, int value, long millisecondDelay) {
+        emit(AudioEvent.WRITE, array.displayValue(value));
+    }
+
+    /**
+     * Espera a síntese dos eventos pendentes e fecha a linha e o arquivo. Deve ser chamado
+     * depois de remover o sonificador dos observadores do array. Se a thread que chamou for
+     * interrompida, a espera continua e a interrupção é restaurada ao final.
+     *
+     * @throws IOException se o arquivo não puder ser finalizado.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        synthesizer.finish();
+        boolean interrupted = false;
+        while (synthesisThread.isAlive()) {
+            try {
+                synthesisThread.join();
+            } catch (InterruptedException ex) {
+                interrupted = true; // O cancelamento interrompe a thread da fila, mas o arquivo precisa ser fechado
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (line != null) {
+            line.drain();
+            line.close();
+        }
+        if (wav != null) {
+            wav.close();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package src.main.java.sortvisualiser.audio;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortArrayListener;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.SortAlgorithms;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.engine.SortEngine;
+import src.main.java.sortvisualiser.engine.SortResult;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.input.InputGenerator;
+import src.main.java.sortvisualiser.keys.ElementType;
+import src.main.java.sortvisualiser.keys.SortKeys;
+
+/**
+ * A classe SortSonify grava o som da execução de um algoritmo em um arquivo WAV, sem janela.
+ *
+ * <p>Uma primeira execução sem observadores conta os eventos sonoros (leituras, comparações
+ * entre índices, escritas e trocas), para distribuí-los pela duração pedida. Na segunda, um
+ * Sonifier offline sintetiza um tom por evento, com o mesmo número de amostras para cada um.</p>
+ *
+ * <pre>
+ * java -cp bin src.main.java.sortvisualiser.audio.SortSonify \
+ *     --algorithm="Quick Sort" --size=256 --duration=20 --output=quick-sort.wav
+ * </pre>
+ */
+public final class SortSonify {
+    private String algorithmName = null; // Nome do algoritmo a sonificar
+    private int size = 256; // Tamanho do array
+    private InputGenerator distribution = InputDistribution.RANDOM; // Distribuição da entrada
+    private long seed = 42; // Semente da entrada
+    private ElementType elementType = ElementType.INT; // Tipo dos elementos
+    private Path output = null; // Arquivo WAV
+    private double durationSeconds = 20; // Duração do áudio, sem contar o decaimento do último tom
+    private boolean play = false; // Também toca o som, se houver uma linha de saída
+    private int parallelism = Runtime.getRuntime().availableProcessors(); // Workers dos algoritmos paralelos
+
+    /**
+     * Executa a sonificação.
+     *
+     * @param args Opções no formato --nome=valor; --algorithm é obrigatória.
+     * @throws IOException se o arquivo não puder ser gravado.
+     */
+    public static void main(String... args) throws IOException {
+        SortSonify sonify = new SortSonify();
+        sonify.parseArguments(args);
+        sonify.run();
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "algorithm":
+                    algorithmName = value;
+                    break;
+                case "size":
+                    size = Integer.parseInt(value);
+                    break;
+                case "distribution":
+                    distribution = InputDistribution.parse(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "type":
+                    elementType = ElementType.parse(value);
+                    break;
+                case "output":
+                    output = Paths.get(value);
+                    break;
+                case "duration":
+                    durationSeconds = Double.parseDouble(value);
+                    break;
+                case "play":
+                    play = Boolean.parseBoolean(value);
+                    break;
+                case "parallelism":
+                    parallelism = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (algorithmName == null) {
+            throw new IllegalArgumentException("Missing --algorithm");
+        }
+        if (!(durationSeconds > 0)) {
+            throw new IllegalArgumentException("--duration must be positive");
+        }
+        if (output == null) {
+            output = Paths.get(algorithmName.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-") + ".wav");
+        }
+    }
+
+    private UiSortAlgoritimo createAlgorithm() {
+        UiSortAlgoritimo algorithm = SortAlgorithms.create(algorithmName);
+        algorithm.setDelay(0);
+        if (algorithm instanceof ParallelSortAlgoritimo) {
+            ((ParallelSortAlgoritimo) algorithm).setParallelism(parallelism);
+        }
+        return algorithm;
+    }
+
+    private void run() throws IOException {
+        int[] input = InputCache.shared().get(distribution, size, seed);
+        SortKeys keys = elementType.createKeys(input);
+        if (keys != null) {
+            input = keys.handles();
+        }
+        SortEngine engine = new SortEngine();
+
+        // Execução de contagem, com um observador que conta os mesmos eventos que o Sonifier recebe
+        SortArray counted = SortEngine.newArray(createAlgorithm(), input, keys);
+        EventCounter counter = new EventCounter();
+        counted.addListener(counter);
+        engine.run(createAlgorithm(), counted);
+        long events = Math.max(1, counter.events.sum());
+        double samplesPerEvent = durationSeconds * ToneSynthesizer.SAMPLE_RATE / events;
+
+        long start = System.nanoTime();
+        SortArray array = SortEngine.newArray(createAlgorithm(), input, keys);
+        SortResult result;
+        Sonifier sonifier = Sonifier.offline(array, output, samplesPerEvent, play);
+        try {
+            array.addListener(sonifier);
+            result = engine.run(createAlgorithm(), array);
+            array.removeListener(sonifier);
+        } finally {
+            sonifier.close();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%s: %d events (%.2f samples/event) to %s in %.2f s, live=%b, sorted=%b%n",
+                result.getAlgorithmName(), events, samplesPerEvent, output, seconds, sonifier.isPlayingLive(),
+                result.isSorted());
+    }
+
+    /**
+     * Observador que conta os eventos sonoros da execução de contagem.
+     */
+    private static final class EventCounter implements SortArrayListener {
+        private final LongAdder events = new LongAdder(); // Eventos, contados por vários workers nos algoritmos paralelos
+
+        @Override
+        public void onSwap(int firstIndex, int secondIndex, int value, long millisecondDelay, boolean isStep) {
+            events.increment();
+        }
+
+        @Override
+        public void onUpdate(int index, int previousValue, int value, long millisecondDelay, boolean isStep) {
+            events.increment();
+        }
+
+        @Override
+        public void onRead(int index) {
+            events.increment();
+        }
+
+        @Override
+        public void onCompare(int firstIndex, int secondIndex, int result) {
+            events.increment();
+        }
+
+        @Override
+        public void onAuxUpdate(AuxArray aux, int index, int value, long millisecondDelay) {
+            events.increment();
+        }
+    }
+}
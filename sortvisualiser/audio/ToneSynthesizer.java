@@ -0,0 +1,223 @@
+package src.main.java.sortvisualiser.audio;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * A classe ToneSynthesizer consome os eventos de um AudioEventRing na sua própria thread e
+ * transforma cada um em um tom curto: uma onda triangular com a altura do valor acessado e um
+ * envelope de ataque e decaimento. Os tons se sobrepõem em até MAX_VOICES vozes; com todas
+ * ocupadas, a voz mais antiga é reaproveitada.
+ *
+ * <p>No modo de tempo real, o áudio acompanha o relógio: a cada bloco são consumidos os eventos
+ * que chegaram, e o ritmo vem da linha de áudio (cuja escrita bloqueia) ou, sem linha, do
+ * relógio do sistema. No modo offline, cada evento avança o áudio em um número fixo de
+ * amostras, independentemente de quanto o algoritmo demorou.</p>
+ *
+ * <p>Todos os buffers são alocados na construção: o laço de síntese não aloca nada.</p>
+ */
+final class ToneSynthesizer implements Runnable {
+    static final int SAMPLE_RATE = 44_100; // Amostras por segundo
+    private static final int BLOCK_SAMPLES = 512; // Amostras de cada bloco entregue à saída (11,6 ms)
+    private static final int MAX_BATCHES_PER_BLOCK = 16; // Lotes de eventos consumidos antes de cada bloco ao vivo
+    private static final int MAX_VOICES = 48; // Tons soando ao mesmo tempo
+    private static final double MIN_FREQUENCY = 120.0; // Tom do menor valor, em Hz
+    private static final double MAX_FREQUENCY = 1_200.0; // Tom do maior valor, em Hz
+    private static final int ATTACK_SAMPLES = SAMPLE_RATE / 1_000; // Ataque de 1 ms, para evitar estalos
+    private static final double GAIN = 0.35; // Volume da mistura, antes da normalização pelas vozes ativas
+    private static final double[] KIND_AMPLITUDE = {0.35, 0.5, 0.9, 1.0}; // Volume por tipo de acesso (AudioEvent)
+
+    private final AudioEventRing ring; // Eventos vindos do algoritmo
+    private final WavWriter wav; // Arquivo de saída, ou null
+    private final SourceDataLine line; // Linha de reprodução ao vivo, ou null
+    private final double samplesPerEvent; // Amostras por evento no modo offline, ou 0 no modo de tempo real
+    private final int toneSamples; // Duração de cada tom
+    private volatile boolean closing = false; // Indica que não chegarão novos eventos
+
+    private final long[] batch = new long[4_096]; // Eventos retirados do buffer de uma vez
+    private final byte[] block = new byte[BLOCK_SAMPLES * 2]; // Bloco de amostras PCM de 16 bits
+    private final ByteBuffer blockBuffer = ByteBuffer.wrap(block).order(ByteOrder.LITTLE_ENDIAN); // Visão do bloco para o WAV
+    private int blockSamples; // Amostras já escritas no bloco
+
+    private final double[] phase = new double[MAX_VOICES]; // Fase de cada voz, entre 0 e 1
+    private final double[] increment = new double[MAX_VOICES]; // Avanço da fase por amostra
+    private final double[] amplitude = new double[MAX_VOICES]; // Volume de cada voz
+    private final int[] age = new int[MAX_VOICES]; // Amostras desde o início do tom
+    private int activeVoices; // Vozes soando
+
+    /**
+     * Construtor da classe ToneSynthesizer.
+     *
+     * @param ring            Os eventos a sintetizar.
+     * @param wav             O arquivo de saída, ou null.
+     * @param line            A linha de reprodução ao vivo, já aberta e iniciada, ou null.
+     * @param samplesPerEvent As amostras por evento no modo offline, ou 0 para o modo de tempo real.
+     * @param toneMillis      A duração de cada tom em milissegundos.
+     */
+    ToneSynthesizer(AudioEventRing ring, WavWriter wav, SourceDataLine line, double samplesPerEvent, int toneMillis) {
+        this.ring = ring;
+        this.wav = wav;
+        this.line = line;
+        this.samplesPerEvent = samplesPerEvent;
+        this.toneSamples = Math.max(ATTACK_SAMPLES + 1, SAMPLE_RATE * toneMillis / 1_000);
+        for (int i = 0; i < MAX_VOICES; i++) {
+            age[i] = toneSamples; // Todas as vozes livres
+        }
+    }
+
+    /**
+     * Avisa que não chegarão novos eventos: a síntese termina depois de consumir os restantes.
+     */
+    void finish() {
+        closing = true;
+    }
+
+    @Override
+    public void run() {
+        if (samplesPerEvent > 0) {
+            runOffline();
+        } else {
+            runRealTime();
+        }
+        while (activeVoices > 0) {
+            renderSample(); // Deixa os últimos tons decaírem
+        }
+        flushBlock();
+    }
+
+    private void runRealTime() {
+        long blockNanos = BLOCK_SAMPLES * 1_000_000_000L / SAMPLE_RATE;
+        long deadline = System.nanoTime();
+        while (true) {
+            int count;
+            boolean drained = false;
+            int batches = 0;
+            // Um número limitado de lotes por bloco: se o algoritmo produz mais rápido do que a
+            // síntese consome, o bloco sai mesmo assim e o excesso é descartado pelo produtor
+            while (batches++ < MAX_BATCHES_PER_BLOCK && (count = ring.drain(batch)) > 0) {
+                for (int i = 0; i < count; i++) {
+                    trigger(batch[i]);
+                }
+                drained = true;
+            }
+            if (closing && !drained && ring.isEmpty()) {
+                return;
+            }
+            for (int i = 0; i < BLOCK_SAMPLES; i++) {
+                renderSample();
+            }
+            if (line == null) {
+                deadline += blockNanos; // Sem linha, o relógio do sistema dá o ritmo
+                long wait = deadline - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (wait < -10 * blockNanos) {
+                    deadline = System.nanoTime(); // Atrasou demais: não tenta recuperar o tempo perdido
+                }
+            }
+        }
+    }
+
+    private void runOffline() {
+        double pending = 0;
+        while (true) {
+            int count = ring.drain(batch);
+            if (count == 0) {
+                if (closing && ring.isEmpty()) {
+                    return;
+                }
+                LockSupport.parkNanos(50_000);
+                continue;
+            }
+            for (int i = 0; i < count; i++) {
+                trigger(batch[i]);
+                pending += samplesPerEvent;
+                while (pending >= 1) {
+                    renderSample();
+                    pending -= 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Inicia um tom em uma voz livre ou, sem vozes livres, na voz mais antiga.
+     */
+    private void trigger(long event) {
+        int voice = 0;
+        for (int i = 0; i < MAX_VOICES; i++) {
+            if (age[i] > age[voice]) {
+                voice = i;
+            }
+        }
+        if (age[voice] >= toneSamples) {
+            activeVoices++;
+        }
+        double fraction = AudioEvent.pitch(event) / (double) AudioEvent.MAX_PITCH;
+        double frequency = MIN_FREQUENCY * Math.pow(MAX_FREQUENCY / MIN_FREQUENCY, fraction); // Escala exponencial, como a das notas
+        phase[voice] = 0;
+        increment[voice] = frequency / SAMPLE_RATE;
+        amplitude[voice] = KIND_AMPLITUDE[AudioEvent.kind(event) & 3];
+        age[voice] = 0;
+    }
+
+    /**
+     * Mistura as vozes ativas em uma amostra e a acrescenta ao bloco.
+     */
+    private void renderSample() {
+        double mix = 0;
+        int sounding = activeVoices;
+        if (sounding > 0) {
+            for (int i = 0; i < MAX_VOICES; i++) {
+                int voiceAge = age[i];
+                if (voiceAge >= toneSamples) {
+                    continue;
+                }
+                double p = phase[i];
+                double triangle = 4 * Math.abs(p - 0.5) - 1;
+                double envelope = voiceAge < ATTACK_SAMPLES ? (double) voiceAge / ATTACK_SAMPLES
+                        : 1 - (double) (voiceAge - ATTACK_SAMPLES) / (toneSamples - ATTACK_SAMPLES);
+                mix += triangle * envelope * envelope * amplitude[i];
+                p += increment[i];
+                phase[i] = p >= 1 ? p - 1 : p;
+                if (++age[i] >= toneSamples) {
+                    activeVoices--;
+                }
+            }
+            mix *= GAIN / Math.sqrt(sounding);
+        }
+        int sample = (int) Math.round(Math.max(-1, Math.min(1, mix)) * Short.MAX_VALUE);
+        block[blockSamples * 2] = (byte) sample;
+        block[blockSamples * 2 + 1] = (byte) (sample >> 8);
+        if (++blockSamples == BLOCK_SAMPLES) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Entrega o bloco à linha de áudio e ao arquivo.
+     */
+    private void flushBlock() {
+        if (blockSamples == 0) {
+            return;
+        }
+        int bytes = blockSamples * 2;
+        if (line != null) {
+            line.write(block, 0, bytes); // Bloqueia até haver espaço: é o que dá o ritmo ao vivo
+        }
+        if (wav != null) {
+            blockBuffer.clear().limit(bytes);
+            try {
+                wav.write(blockBuffer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        blockSamples = 0;
+    }
+}
@@ -0,0 +1,89 @@
+package src.main.java.sortvisualiser.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A classe WavWriter grava áudio PCM de 16 bits, mono, em um arquivo WAV à medida que ele é
+ * sintetizado. O cabeçalho é escrito com tamanhos zerados e corrigido em close(), quando o
+ * tamanho final é conhecido.
+ */
+public final class WavWriter implements AutoCloseable {
+    private static final int HEADER_BYTES = 44; // Tamanho do cabeçalho RIFF/WAVE de um PCM simples
+
+    private final FileChannel channel; // Arquivo de saída
+    private final int sampleRate; // Amostras por segundo
+    private long dataBytes; // Bytes de áudio gravados
+
+    /**
+     * Cria o arquivo, substituindo-o se existir, e escreve o cabeçalho provisório.
+     *
+     * @param path       O arquivo de saída.
+     * @param sampleRate As amostras por segundo.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    public WavWriter(Path path, int sampleRate) throws IOException {
+        this.sampleRate = sampleRate;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        writeHeader();
+        channel.position(HEADER_BYTES);
+    }
+
+    /**
+     * Grava amostras já convertidas em bytes little-endian.
+     *
+     * @param samples O buffer com as amostras, entre a posição e o limite; é consumido.
+     * @throws IOException se o arquivo não puder ser escrito.
+     */
+    public void write(ByteBuffer samples) throws IOException {
+        while (samples.hasRemaining()) {
+            dataBytes += channel.write(samples);
+        }
+    }
+
+    /**
+     * Retorna a duração gravada.
+     *
+     * @return A duração em segundos.
+     */
+    public double getSeconds() {
+        return dataBytes / 2.0 / sampleRate;
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(new byte[] {'R', 'I', 'F', 'F'}).putInt((int) Math.min(0xFFFF_FFFFL, 36 + dataBytes));
+        header.put(new byte[] {'W', 'A', 'V', 'E'});
+        header.put(new byte[] {'f', 'm', 't', ' '}).putInt(16)
+                .putShort((short) 1) // PCM
+                .putShort((short) 1) // Mono
+                .putInt(sampleRate)
+                .putInt(sampleRate * 2) // Bytes por segundo
+                .putShort((short) 2) // Bytes por amostra
+                .putShort((short) 16); // Bits por amostra
+        header.put(new byte[] {'d', 'a', 't', 'a'}).putInt((int) Math.min(0xFFFF_FFFFL, dataBytes));
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position()); // Escrita posicional: não move a posição dos dados
+        }
+    }
+
+    /**
+     * Corrige os tamanhos no cabeçalho e fecha o arquivo.
+     *
+     * @throws IOException se o arquivo não puder ser escrito.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeHeader();
+        } finally {
+            channel.close();
+        }
+    }
+}
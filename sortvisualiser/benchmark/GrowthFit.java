@@ -0,0 +1,105 @@
+package src.main.java.sortvisualiser.benchmark;
+
+/**
+ * A classe GrowthFit ajusta uma lei de potência custo = c * n^k aos pontos medidos, por
+ * regressão linear de mínimos quadrados em escala log-log (log custo = log c + k log n).
+ *
+ * <p>O expoente k é a ordem de crescimento empírica: perto de 1 para algoritmos lineares, um
+ * pouco acima de 1 para n log n (cerca de 1,1 entre 2^8 e 2^20) e perto de 2 para os
+ * quadráticos. O coeficiente de determinação R² indica o quanto os pontos seguem a reta.</p>
+ */
+public final class GrowthFit {
+    private final double exponent; // Expoente k da lei de potência
+    private final double coefficient; // Coeficiente c da lei de potência
+    private final double rSquared; // Coeficiente de determinação do ajuste em log-log
+    private final int points; // Número de pontos usados no ajuste
+
+    private GrowthFit(double exponent, double coefficient, double rSquared, int points) {
+        this.exponent = exponent;
+        this.coefficient = coefficient;
+        this.rSquared = rSquared;
+        this.points = points;
+    }
+
+    /**
+     * Ajusta a lei de potência aos pontos informados. Pontos com tamanho ou custo não positivo
+     * são ignorados, já que não têm logaritmo.
+     *
+     * @param sizes  Os tamanhos das entradas.
+     * @param costs  O custo medido em cada tamanho (tempo ou operações).
+     * @param count  O número de pontos a considerar, a partir do início dos arrays.
+     * @return O ajuste; com menos de dois pontos válidos, o expoente e o R² são NaN.
+     */
+    public static GrowthFit fit(int[] sizes, double[] costs, int count) {
+        int valid = 0;
+        double sumX = 0;
+        double sumY = 0;
+        for (int i = 0; i < count; i++) {
+            if (sizes[i] > 0 && costs[i] > 0) {
+                sumX += Math.log(sizes[i]);
+                sumY += Math.log(costs[i]);
+                valid++;
+            }
+        }
+        if (valid < 2) {
+            return new GrowthFit(Double.NaN, Double.NaN, Double.NaN, valid);
+        }
+        double meanX = sumX / valid;
+        double meanY = sumY / valid;
+        double sxx = 0;
+        double sxy = 0;
+        double syy = 0;
+        for (int i = 0; i < count; i++) {
+            if (sizes[i] > 0 && costs[i] > 0) {
+                double dx = Math.log(sizes[i]) - meanX;
+                double dy = Math.log(costs[i]) - meanY;
+                sxx += dx * dx;
+                sxy += dx * dy;
+                syy += dy * dy;
+            }
+        }
+        if (sxx == 0) {
+            return new GrowthFit(Double.NaN, Double.NaN, Double.NaN, valid); // Todos os pontos com o mesmo tamanho
+        }
+        double slope = sxy / sxx;
+        double intercept = meanY - slope * meanX;
+        double rSquared = syy == 0 ? 1.0 : (sxy * sxy) / (sxx * syy);
+        return new GrowthFit(slope, Math.exp(intercept), rSquared, valid);
+    }
+
+    /**
+     * Retorna o expoente k da lei de potência ajustada.
+     *
+     * @return O expoente, ou NaN se não houve pontos suficientes.
+     */
+    public double getExponent() {
+        return exponent;
+    }
+
+    /**
+     * Retorna o coeficiente c da lei de potência ajustada.
+     *
+     * @return O coeficiente, ou NaN se não houve pontos suficientes.
+     */
+    public double getCoefficient() {
+        return coefficient;
+    }
+
+    /**
+     * Retorna o coeficiente de determinação do ajuste em escala log-log.
+     *
+     * @return O R², entre 0 e 1, ou NaN se não houve pontos suficientes.
+     */
+    public double getRSquared() {
+        return rSquared;
+    }
+
+    /**
+     * Retorna o número de pontos usados no ajuste.
+     *
+     * @return Os pontos válidos.
+     */
+    public int getPoints() {
+        return points;
+    }
+}
@@ -0,0 +1,153 @@
+package src.main.java.sortvisualiser.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A classe RawIntSorts contém versões dos algoritmos que operam diretamente sobre um int[],
+ * sem passar pelo SortArray. Cada versão faz exatamente as mesmas comparações e trocas que
+ * o algoritmo correspondente, servindo de linha de base para medir o custo da indireção
+ * (getValue/swap) do SortArray.
+ *
+ * <p>As redes de ordenação (bitônica e par-ímpar) fazem os mesmos pares de compara-e-troca,
+ * mas sem desvio: cada par grava o mínimo e o máximo, como a versão vetorial do pacote simd.</p>
+ */
+public final class RawIntSorts {
+
+    /**
+     * Ordena um int[] diretamente.
+     */
+    @FunctionalInterface
+    public interface IntArraySorter {
+        /**
+         * Ordena o array informado.
+         *
+         * @param values O array a ser ordenado.
+         */
+        void sort(int[] values);
+    }
+
+    private static final Map<String, IntArraySorter> BASELINES = new HashMap<>();
+
+    static {
+        BASELINES.put("Bubble Sort", RawIntSorts::bubbleSort);
+        BASELINES.put("Selection Sort", RawIntSorts::selectionSort);
+        BASELINES.put("Quick Sort", values -> quickSort(values, 0, values.length - 1));
+        BASELINES.put("Bitonic Sort", RawIntSorts::bitonicSort);
+        BASELINES.put("Odd-Even Merge Sort", RawIntSorts::oddEvenMergeSort);
+    }
+
+    private RawIntSorts() {
+    }
+
+    /**
+     * Retorna a linha de base correspondente ao algoritmo com o nome informado.
+     *
+     * @param algorithmName O nome do algoritmo.
+     * @return A linha de base, ou null se o algoritmo não tiver uma.
+     */
+    public static IntArraySorter baselineFor(String algorithmName) {
+        return BASELINES.get(algorithmName);
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+
+    private static void bubbleSort(int[] values) {
+        int len = values.length;
+        for (int i = 0; i < len - 1; i++) {
+            for (int j = 0; j < len - i - 1; j++) {
+                if (values[j] > values[j + 1]) {
+                    swap(values, j, j + 1);
+                }
+            }
+        }
+    }
+
+    private static void selectionSort(int[] values) {
+        int len = values.length;
+        for (int i = 0; i < len - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < len; j++) {
+                if (values[j] < values[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            swap(values, i, minIndex);
+        }
+    }
+
+    private static void compareExchange(int[] values, int lowIndex, int highIndex) {
+        // Sem desvio: o menor valor fica no primeiro índice
+        int low = values[lowIndex];
+        int high = values[highIndex];
+        values[lowIndex] = Math.min(low, high);
+        values[highIndex] = Math.max(low, high);
+    }
+
+    private static void bitonicSort(int[] values) {
+        int size = values.length;
+        int padded = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        for (int block = 2; block <= padded; block <<= 1) {
+            int half = block >> 1;
+            for (int start = 0; start < size; start += block) {
+                for (int i = start; i < start + half; i++) {
+                    int partner = i ^ (block - 1);
+                    if (partner < size) {
+                        compareExchange(values, i, partner);
+                    }
+                }
+            }
+            for (int distance = block >> 2; distance > 0; distance >>= 1) {
+                for (int start = 0; start < size; start += 2 * distance) {
+                    int end = Math.min(start + distance, size - distance);
+                    for (int i = start; i < end; i++) {
+                        compareExchange(values, i, i + distance);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void oddEvenMergeSort(int[] values) {
+        int size = values.length;
+        for (int p = 1; p < size; p <<= 1) {
+            long block = 2L * p;
+            for (int k = p; k > 0; k >>= 1) {
+                for (int j = k % p; j + k < size; j += 2 * k) {
+                    if (j / block != (j + k) / block) {
+                        continue; // O grupo inteiro cruza o fim de um bloco
+                    }
+                    int end = Math.min(k, size - j - k);
+                    for (int i = 0; i < end; i++) {
+                        compareExchange(values, i + j, i + j + k);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void quickSort(int[] values, int lowIndex, int highIndex) {
+        while (lowIndex < highIndex) {
+            int pivotValue = values[highIndex];
+            int i = lowIndex - 1;
+            for (int j = lowIndex; j <= highIndex - 1; j++) {
+                if (values[j] <= pivotValue) {
+                    i++;
+                    swap(values, i, j);
+                }
+            }
+            swap(values, i + 1, highIndex);
+            if (i - lowIndex < highIndex - (i + 2)) { // Recursão no lado menor, como o QuickSort padrão
+                quickSort(values, lowIndex, i);
+                lowIndex = i + 2;
+            } else {
+                quickSort(values, i + 2, highIndex);
+                highIndex = i;
+            }
+        }
+    }
+}
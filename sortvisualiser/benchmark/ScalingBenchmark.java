@@ -0,0 +1,509 @@
+package src.main.java.sortvisualiser.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.SortAlgorithms;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.engine.MetricsExporter;
+import src.main.java.sortvisualiser.engine.SortEngine;
+import src.main.java.sortvisualiser.engine.SortResult;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.input.InputGenerator;
+import src.main.java.sortvisualiser.keys.ElementType;
+import src.main.java.sortvisualiser.keys.SortKeys;
+
+/**
+ * A classe ScalingBenchmark mede como o custo de cada algoritmo cresce com o tamanho da entrada.
+ * Para cada algoritmo, tipo de elemento e distribuição, os tamanhos seguem uma série geométrica;
+ * em cada tamanho são feitas execuções de aquecimento e repetições medidas, registrando as
+ * operações contadas pelo SortArray (leituras, comparações, escritas e trocas) e o tempo do
+ * algoritmo.
+ *
+ * <p>Ao fim de cada série, a ordem de crescimento empírica do tempo e das operações é ajustada
+ * por regressão log-log (veja GrowthFit). Os pontos e os ajustes são gravados em CSV e JSON no
+ * diretório de saída; cada ponto é acrescentado ao CSV assim que é medido, para que uma varredura
+ * interrompida não perca os pontos já medidos.</p>
+ *
+ * <p>Se um tamanho falhar (por exemplo, com StackOverflowError ou uma exceção do algoritmo), o
+ * ponto é gravado com a falha, os tamanhos maiores da série são pulados e o ajuste usa os
+ * pontos medidos até ali.</p>
+ *
+ * <p>Um tamanho só é medido se o tempo previsto pelo ajuste até ali couber em --budget-ms, para
+ * que os algoritmos quadráticos parem antes de tamanhos que levariam minutos. O runner usa apenas
+ * o SortEngine e os algoritmos, sem carregar classes AWT ou Swing.</p>
+ *
+ * <pre>
+ * java -cp bin src.main.java.sortvisualiser.benchmark.ScalingBenchmark \
+ *     --min-size=1024 --max-size=1048576 --factor=2 --distributions=RANDOM,SORTED --output=scaling-results
+ * </pre>
+ */
+public final class ScalingBenchmark {
+    public static final String POINTS_CSV = "scaling.csv"; // Um ponto por linha
+    public static final String FITS_CSV = "scaling-fits.csv"; // Um ajuste por linha
+    public static final String JSON_FILE = "scaling.json"; // Pontos e ajustes em um único documento
+
+    public static final String POINTS_HEADER = "algorithm,type,distribution,size,reps,median_ns,min_ns,"
+            + "reads,compares,writes,swaps,operations,sorted,error";
+    public static final String FITS_HEADER = "algorithm,type,distribution,points,min_size,max_size,"
+            + "time_exponent,time_r2,operations_exponent,operations_r2,failed_size";
+
+    private static final double UNKNOWN_EXPONENT = 2.0; // Expoente suposto para prever o segundo tamanho
+
+    private int minSize = 256; // Menor tamanho da série
+    private int maxSize = 1 << 20; // Maior tamanho da série
+    private double factor = 2.0; // Razão da série geométrica de tamanhos
+    private int warmupRuns = 2; // Execuções de aquecimento em cada tamanho
+    private long warmupMillis = 500; // Aquecimento de cada algoritmo e tipo, antes do primeiro tamanho
+    private int repetitions = 5; // Execuções medidas em cada tamanho
+    private long budgetMillis = 2_000; // Tempo máximo previsto de uma execução
+    private long seed = 42; // Semente das entradas
+    private int parallelism = Runtime.getRuntime().availableProcessors(); // Workers dos algoritmos paralelos
+    private List<InputGenerator> distributions = List.of(InputDistribution.values()); // Distribuições de entrada
+    private List<ElementType> elementTypes = List.of(ElementType.INT); // Tipos dos elementos
+    private List<String> algorithmFilter = List.of(); // Nomes dos algoritmos a medir (vazio = todos)
+    private Path outputDirectory = Path.of("scaling-results"); // Diretório dos arquivos CSV e JSON
+
+    private final SortEngine engine = new SortEngine();
+    private final List<Point> points = new ArrayList<>(); // Pontos medidos, na ordem de execução
+    private final List<Series> series = new ArrayList<>(); // Séries ajustadas, na ordem de execução
+    private Writer pointsWriter; // CSV dos pontos, gravado durante a varredura
+
+    /**
+     * O resultado de um tamanho: medianas das repetições medidas.
+     */
+    private static final class Point {
+        String algorithm; // Nome do algoritmo
+        ElementType type; // Tipo dos elementos
+        String distribution; // Nome da distribuição
+        int size; // Tamanho da entrada
+        long medianNanos; // Mediana do tempo do algoritmo
+        long minNanos; // Menor tempo do algoritmo
+        long reads; // Mediana das leituras
+        long compares; // Mediana das comparações
+        long writes; // Mediana das escritas
+        long swaps; // Mediana das trocas
+        long operations; // Mediana da soma das quatro operações
+        boolean sorted = true; // Indica se todas as execuções ordenaram a entrada
+        String error; // Exceção que interrompeu a medição, ou null
+    }
+
+    /**
+     * Os ajustes de uma combinação de algoritmo, tipo e distribuição.
+     */
+    private static final class Series {
+        String algorithm; // Nome do algoritmo
+        ElementType type; // Tipo dos elementos
+        String distribution; // Nome da distribuição
+        int minSize; // Menor tamanho medido
+        int maxSize; // Maior tamanho medido
+        GrowthFit time; // Ajuste do tempo
+        GrowthFit operations; // Ajuste das operações
+        int failedSize; // Tamanho em que a série falhou, ou 0
+    }
+
+    /**
+     * Executa a varredura, imprime os resultados e grava os arquivos.
+     *
+     * @param args Opções no formato --nome=valor.
+     * @throws IOException se os arquivos de saída não puderem ser gravados.
+     */
+    public static void main(String... args) throws IOException {
+        ScalingBenchmark benchmark = new ScalingBenchmark();
+        benchmark.parseArguments(args);
+        Files.createDirectories(benchmark.outputDirectory);
+        try (Writer writer = Files.newBufferedWriter(benchmark.outputDirectory.resolve(POINTS_CSV),
+                StandardCharsets.UTF_8)) {
+            writer.write(POINTS_HEADER);
+            writer.write('\n');
+            writer.flush();
+            benchmark.pointsWriter = writer;
+            benchmark.run();
+        }
+        benchmark.write();
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "min-size":
+                    minSize = Integer.parseInt(value);
+                    break;
+                case "max-size":
+                    maxSize = Integer.parseInt(value);
+                    break;
+                case "factor":
+                    factor = Double.parseDouble(value);
+                    break;
+                case "warmup":
+                    warmupRuns = Integer.parseInt(value);
+                    break;
+                case "warmup-ms":
+                    warmupMillis = Long.parseLong(value);
+                    break;
+                case "reps":
+                    repetitions = Integer.parseInt(value);
+                    break;
+                case "budget-ms":
+                    budgetMillis = Long.parseLong(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "parallelism":
+                    parallelism = Integer.parseInt(value);
+                    break;
+                case "distributions":
+                    List<InputGenerator> selected = new ArrayList<>();
+                    for (String part : value.split(",")) {
+                        selected.add(InputDistribution.parse(part));
+                    }
+                    distributions = selected;
+                    break;
+                case "types":
+                    List<ElementType> types = new ArrayList<>();
+                    for (String part : value.split(",")) {
+                        types.add(ElementType.parse(part));
+                    }
+                    elementTypes = types;
+                    break;
+                case "algorithms":
+                    algorithmFilter = List.of(value.split(",(?![^(]*\\))")); // Vírgulas entre parênteses fazem parte do nome
+                    break;
+                case "output":
+                    outputDirectory = Path.of(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException("Expected 1 <= --min-size <= --max-size");
+        }
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("--factor must be greater than 1");
+        }
+        if (repetitions < 1 || warmupRuns < 0) {
+            throw new IllegalArgumentException("--reps must be positive and --warmup non-negative");
+        }
+    }
+
+    /**
+     * Retorna a série geométrica de tamanhos entre --min-size e --max-size.
+     *
+     * @return Os tamanhos, crescentes e sem repetição.
+     */
+    private int[] sizes() {
+        List<Integer> sizes = new ArrayList<>();
+        for (long size = minSize; size <= maxSize; size = Math.max(size + 1, Math.round(size * factor))) {
+            sizes.add((int) size);
+        }
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private List<UiSortAlgoritimo> selectedAlgorithms() {
+        if (algorithmFilter.isEmpty()) {
+            return SortAlgorithms.createAll();
+        }
+        List<UiSortAlgoritimo> algorithms = new ArrayList<>();
+        for (String name : algorithmFilter) {
+            algorithms.add(SortAlgorithms.create(name));
+        }
+        return algorithms;
+    }
+
+    private void run() throws IOException {
+        int[] sizes = sizes();
+        System.out.printf(Locale.ROOT, "%-34s %-14s %9s %14s %14s %16s %7s%n",
+                "Algorithm", "Distribution", "n", "median ns", "min ns", "operations", "sorted");
+        for (UiSortAlgoritimo algorithm : selectedAlgorithms()) {
+            algorithm.setDelay(0);
+            if (algorithm instanceof ParallelSortAlgoritimo) {
+                ((ParallelSortAlgoritimo) algorithm).setParallelism(parallelism);
+            }
+            for (ElementType type : elementTypes) {
+                if (type != ElementType.INT && !algorithm.isComparisonSort()) {
+                    continue; // Contagem e radix só ordenam valores int
+                }
+                warmUp(algorithm, type);
+                for (InputGenerator distribution : distributions) {
+                    runSeries(algorithm, type, distribution, sizes);
+                }
+            }
+        }
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-34s %-14s %6s %11s %8s %11s %8s%n",
+                "Algorithm", "Distribution", "points", "time k", "R2", "ops k", "R2");
+        for (Series fitted : series) {
+            System.out.printf(Locale.ROOT, "%-34s %-14s %6d %11.3f %8.4f %11.3f %8.4f%n",
+                    label(fitted.algorithm, fitted.type), fitted.distribution, fitted.time.getPoints(),
+                    fitted.time.getExponent(), fitted.time.getRSquared(),
+                    fitted.operations.getExponent(), fitted.operations.getRSquared());
+        }
+    }
+
+    /**
+     * Executa o algoritmo repetidamente no menor tamanho, até completar --warmup-ms, para que o
+     * JIT já tenha compilado o algoritmo quando os menores tamanhos forem medidos; sem isso, o
+     * início da série roda interpretado e o expoente do tempo sai menor do que o real. Uma falha
+     * no aquecimento só é avisada: as medições de cada tamanho registram as suas próprias falhas.
+     */
+    private void warmUp(UiSortAlgoritimo algorithm, ElementType type) {
+        int[] values = InputCache.shared().get(InputDistribution.RANDOM, minSize, seed);
+        SortKeys keys = type.createKeys(values);
+        int[] input = keys == null ? values : keys.handles();
+        SortArray array = SortEngine.newArray(algorithm, input, keys);
+        long deadline = System.nanoTime() + warmupMillis * 1_000_000L;
+        try {
+            do {
+                array.setValues(input);
+                engine.run(algorithm, array);
+            } while (System.nanoTime() < deadline);
+        } catch (RuntimeException | StackOverflowError ex) {
+            System.out.printf(Locale.ROOT, "%-34s warm-up failed: %s%n", label(algorithm.getName(), type), describe(ex));
+        }
+    }
+
+    /**
+     * Mede um algoritmo em todos os tamanhos da série que couberem no orçamento de tempo e
+     * ajusta o crescimento do tempo e das operações. Se um tamanho falhar, os maiores são pulados.
+     */
+    private void runSeries(UiSortAlgoritimo algorithm, ElementType type, InputGenerator distribution, int[] sizes)
+            throws IOException {
+        int[] measuredSizes = new int[sizes.length];
+        double[] nanos = new double[sizes.length];
+        double[] operations = new double[sizes.length];
+        int count = 0;
+        int failedSize = 0;
+        long budgetNanos = budgetMillis * 1_000_000L;
+        for (int size : sizes) {
+            if (count > 0) {
+                GrowthFit soFar = GrowthFit.fit(measuredSizes, nanos, count);
+                double exponent = count > 1 && soFar.getExponent() > 1 ? soFar.getExponent() : UNKNOWN_EXPONENT;
+                double predicted = nanos[count - 1] * Math.pow((double) size / measuredSizes[count - 1], exponent);
+                if (predicted > budgetNanos) {
+                    break; // O tamanho excederia o orçamento de tempo, e os seguintes também
+                }
+            }
+            Point point;
+            try {
+                point = measure(algorithm, type, distribution, size);
+            } catch (RuntimeException | StackOverflowError ex) {
+                point = new Point();
+                point.algorithm = algorithm.getName();
+                point.type = type;
+                point.distribution = distribution.getName();
+                point.size = size;
+                point.sorted = false;
+                point.error = describe(ex);
+            }
+            points.add(point);
+            writePoint(point);
+            if (point.error != null) {
+                System.out.printf(Locale.ROOT, "%-34s %-14s %9d %s%n", label(point.algorithm, type),
+                        point.distribution, size, "failed: " + point.error);
+                failedSize = size;
+                break; // Os tamanhos maiores falhariam do mesmo jeito, ou levariam ainda mais tempo
+            }
+            System.out.printf(Locale.ROOT, "%-34s %-14s %9d %14d %14d %16d %7s%n", label(point.algorithm, type),
+                    point.distribution, size, point.medianNanos, point.minNanos, point.operations, point.sorted);
+            measuredSizes[count] = size;
+            nanos[count] = point.medianNanos;
+            operations[count] = point.operations;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        Series fitted = new Series();
+        fitted.algorithm = algorithm.getName();
+        fitted.type = type;
+        fitted.distribution = distribution.getName();
+        fitted.minSize = measuredSizes[0];
+        fitted.maxSize = measuredSizes[count - 1];
+        fitted.time = GrowthFit.fit(measuredSizes, nanos, count);
+        fitted.operations = GrowthFit.fit(measuredSizes, operations, count);
+        fitted.failedSize = failedSize;
+        series.add(fitted);
+    }
+
+    /**
+     * Executa as rodadas de aquecimento e as repetições de um tamanho, sempre sobre a mesma entrada.
+     */
+    private Point measure(UiSortAlgoritimo algorithm, ElementType type, InputGenerator distribution, int size) {
+        int[] values = InputCache.shared().get(distribution, size, seed);
+        SortKeys keys = type.createKeys(values);
+        int[] input = keys == null ? values : keys.handles();
+        SortArray array = SortEngine.newArray(algorithm, input, keys);
+        for (int i = 0; i < warmupRuns; i++) {
+            array.setValues(input);
+            engine.run(algorithm, array);
+        }
+        long[] nanos = new long[repetitions];
+        long[] reads = new long[repetitions];
+        long[] compares = new long[repetitions];
+        long[] writes = new long[repetitions];
+        long[] swaps = new long[repetitions];
+        long[] operations = new long[repetitions];
+        Point point = new Point();
+        for (int i = 0; i < repetitions; i++) {
+            array.setValues(input);
+            SortResult result = engine.run(algorithm, array);
+            nanos[i] = result.getAlgorithmNanos();
+            reads[i] = result.getReads();
+            compares[i] = result.getCompares();
+            writes[i] = result.getWrites();
+            swaps[i] = result.getSwaps();
+            operations[i] = reads[i] + compares[i] + writes[i] + swaps[i];
+            point.sorted &= result.isSorted();
+        }
+        point.algorithm = algorithm.getName();
+        point.type = type;
+        point.distribution = distribution.getName();
+        point.size = size;
+        point.medianNanos = median(nanos);
+        point.minNanos = nanos[0]; // median() ordena o array
+        point.reads = median(reads);
+        point.compares = median(compares);
+        point.writes = median(writes);
+        point.swaps = median(swaps);
+        point.operations = median(operations);
+        return point;
+    }
+
+    /**
+     * Ordena os valores e retorna a mediana (o menor dos dois valores centrais, com número par
+     * de valores, para que a mediana seja sempre uma medição real).
+     */
+    private static long median(long[] values) {
+        Arrays.sort(values);
+        return values[(values.length - 1) / 2];
+    }
+
+    /**
+     * Descreve a falha de uma medição em uma linha, com o tipo e a mensagem da exceção.
+     */
+    private static String describe(Throwable failure) {
+        String message = failure.getMessage();
+        return message == null ? failure.getClass().getSimpleName()
+                : failure.getClass().getSimpleName() + ": " + message.replace('\n', ' ');
+    }
+
+    private static String label(String algorithm, ElementType type) {
+        return type == ElementType.INT ? algorithm : algorithm + " [" + type + "]";
+    }
+
+    /**
+     * Acrescenta um ponto ao CSV de pontos e o descarrega no arquivo.
+     */
+    private void writePoint(Point point) throws IOException {
+        pointsWriter.write(csvField(point.algorithm) + ',' + point.type + ',' + csvField(point.distribution)
+                + ',' + point.size + ',' + repetitions + ',' + point.medianNanos + ',' + point.minNanos
+                + ',' + point.reads + ',' + point.compares + ',' + point.writes + ',' + point.swaps
+                + ',' + point.operations + ',' + point.sorted + ',' + (point.error == null ? "" : csvField(point.error)));
+        pointsWriter.write('\n');
+        pointsWriter.flush();
+    }
+
+    /**
+     * Grava os ajustes em CSV e os pontos e os ajustes em JSON no diretório de saída; o CSV dos
+     * pontos já foi gravado durante a varredura.
+     */
+    private void write() throws IOException {
+        try (Writer writer = Files.newBufferedWriter(outputDirectory.resolve(FITS_CSV), StandardCharsets.UTF_8)) {
+            writer.write(FITS_HEADER);
+            writer.write('\n');
+            for (Series fitted : series) {
+                writer.write(csvField(fitted.algorithm) + ',' + fitted.type + ',' + csvField(fitted.distribution)
+                        + ',' + fitted.time.getPoints() + ',' + fitted.minSize + ',' + fitted.maxSize
+                        + ',' + csvNumber(fitted.time.getExponent()) + ',' + csvNumber(fitted.time.getRSquared())
+                        + ',' + csvNumber(fitted.operations.getExponent())
+                        + ',' + csvNumber(fitted.operations.getRSquared())
+                        + ',' + (fitted.failedSize == 0 ? "" : String.valueOf(fitted.failedSize)));
+                writer.write('\n');
+            }
+        }
+        try (Writer writer = Files.newBufferedWriter(outputDirectory.resolve(JSON_FILE), StandardCharsets.UTF_8)) {
+            writer.write(toJson());
+        }
+        System.out.println();
+        System.out.println("Results written to " + outputDirectory.toAbsolutePath());
+    }
+
+    private String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"seed\":").append(seed)
+                .append(",\"warmup\":").append(warmupRuns)
+                .append(",\"reps\":").append(repetitions)
+                .append(",\"factor\":").append(jsonNumber(factor))
+                .append(",\"parallelism\":").append(parallelism)
+                .append(",\"points\":[");
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("{\"algorithm\":").append(MetricsExporter.jsonString(point.algorithm))
+                    .append(",\"type\":").append(MetricsExporter.jsonString(point.type.toString()))
+                    .append(",\"distribution\":").append(MetricsExporter.jsonString(point.distribution))
+                    .append(",\"size\":").append(point.size)
+                    .append(",\"medianNs\":").append(point.medianNanos)
+                    .append(",\"minNs\":").append(point.minNanos)
+                    .append(",\"reads\":").append(point.reads)
+                    .append(",\"compares\":").append(point.compares)
+                    .append(",\"writes\":").append(point.writes)
+                    .append(",\"swaps\":").append(point.swaps)
+                    .append(",\"operations\":").append(point.operations)
+                    .append(",\"sorted\":").append(point.sorted)
+                    .append(",\"error\":").append(point.error == null ? "null" : MetricsExporter.jsonString(point.error))
+                    .append('}');
+        }
+        json.append("],\"fits\":[");
+        for (int i = 0; i < series.size(); i++) {
+            Series fitted = series.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("{\"algorithm\":").append(MetricsExporter.jsonString(fitted.algorithm))
+                    .append(",\"type\":").append(MetricsExporter.jsonString(fitted.type.toString()))
+                    .append(",\"distribution\":").append(MetricsExporter.jsonString(fitted.distribution))
+                    .append(",\"points\":").append(fitted.time.getPoints())
+                    .append(",\"minSize\":").append(fitted.minSize)
+                    .append(",\"maxSize\":").append(fitted.maxSize)
+                    .append(",\"timeExponent\":").append(jsonNumber(fitted.time.getExponent()))
+                    .append(",\"timeR2\":").append(jsonNumber(fitted.time.getRSquared()))
+                    .append(",\"operationsExponent\":").append(jsonNumber(fitted.operations.getExponent()))
+                    .append(",\"operationsR2\":").append(jsonNumber(fitted.operations.getRSquared()))
+                    .append(",\"failedSize\":").append(fitted.failedSize == 0 ? "null" : String.valueOf(fitted.failedSize))
+                    .append('}');
+        }
+        return json.append("]}\n").toString();
+    }
+
+    private static String csvField(String text) {
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static String csvNumber(double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    private static String jsonNumber(double value) {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.4f", value) : "null"; // JSON não tem NaN
+    }
+}
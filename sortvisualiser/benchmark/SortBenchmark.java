@@ -0,0 +1,372 @@
+package src.main.java.sortvisualiser.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.SortAlgorithms;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.engine.SortEngine;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.input.InputGenerator;
+import src.main.java.sortvisualiser.keys.ElementType;
+import src.main.java.sortvisualiser.keys.SortKeys;
+
+/**
+ * A classe SortBenchmark é um harness de microbenchmark no estilo do JMH para todos os
+ * algoritmos registrados em SortAlgorithms. Cada algoritmo roda sobre um SortArray sem
+ * observadores (sem atraso de passo e sem repaint) e, quando existe, sobre a linha de base
+ * em int[] de RawIntSorts, para medir o custo da indireção do SortArray.
+ *
+ * <p>Para cada combinação de algoritmo, distribuição e tamanho são executadas iterações de
+ * aquecimento e de medição, reportando ops/s, tempo por operação, tempo por elemento e a
+ * taxa de alocação da thread (equivalente ao profiler "gc" do JMH).</p>
+ *
+ * <p>Algoritmos paralelos são medidos uma vez para cada nível de --parallelism, com o speedup
+ * em relação ao primeiro nível. A alocação reportada conta apenas a thread do harness, não os workers.</p>
+ *
+ * <p>Com --types, os algoritmos de comparação também são medidos com chaves long, double e
+ * registros (veja ElementType), reportados com o tipo entre colchetes. A linha de base em
+ * int[] só é medida para o tipo int.</p>
+ *
+ * <p>Uma ordenação que passe de --budget-ms encerra o aquecimento e as iterações seguintes e
+ * interrompe a série de tamanhos. Uma carga que falhar (por exemplo, com StackOverflowError ou
+ * uma exceção do algoritmo) é reportada como uma linha "failed", e os tamanhos maiores daquele
+ * algoritmo e distribuição são pulados.</p>
+ *
+ * <pre>
+ * java -cp bin src.main.java.sortvisualiser.benchmark.SortBenchmark \
+ *     --sizes=256,4096,65536 --distributions=RANDOM,SORTED --algorithms="Quick Sort"
+ * </pre>
+ */
+public final class SortBenchmark {
+    private static final int[] DEFAULT_SIZES = {256, 1_024, 4_096, 16_384, 65_536, 262_144, 1_048_576, 4_194_304};
+
+    private static volatile int sink; // Evita que o JIT elimine o trabalho medido
+
+    private int[] sizes = DEFAULT_SIZES; // Tamanhos dos arrays
+    private List<InputGenerator> distributions = List.of(InputDistribution.values()); // Distribuições de entrada
+    private List<ElementType> elementTypes = List.of(ElementType.INT); // Tipos dos elementos
+    private List<String> algorithmFilter = List.of(); // Nomes dos algoritmos a medir (vazio = todos)
+    private int warmupIterations = 3; // Iterações de aquecimento
+    private int measurementIterations = 5; // Iterações medidas
+    private long iterationMillis = 500; // Duração mínima de cada iteração
+    private long operationBudgetMillis = 5_000; // Tempo máximo de uma operação antes de parar de crescer o tamanho
+    private long seed = 42; // Semente das entradas
+    private boolean includeBaseline = true; // Mede também a linha de base em int[]
+    private int[] parallelismLevels = defaultParallelismLevels(); // Números de workers dos algoritmos paralelos
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Uma carga de trabalho medida pelo harness.
+     */
+    private interface Workload {
+        /**
+         * Restaura a entrada e executa uma ordenação.
+         *
+         * @return O tempo da ordenação em nanossegundos, sem contar a restauração da entrada.
+         */
+        long runOnce();
+    }
+
+    /**
+     * Resultado agregado das iterações medidas de uma carga de trabalho.
+     */
+    private static final class Measurement {
+        long operations; // Número de ordenações executadas
+        long nanos; // Tempo total das ordenações
+        long allocatedBytes; // Bytes alocados pela thread durante as iterações
+        long wallNanos; // Tempo total das iterações, incluindo a restauração da entrada
+        long maxOperationNanos; // Maior tempo de uma única ordenação
+    }
+
+    /**
+     * Executa os benchmarks e imprime os resultados.
+     *
+     * @param args Opções no formato --nome=valor.
+     */
+    public static void main(String... args) {
+        SortBenchmark benchmark = new SortBenchmark();
+        benchmark.parseArguments(args);
+        benchmark.run();
+    }
+
+    /**
+     * Retorna as potências de dois até o número de processadores, e o próprio número de processadores.
+     *
+     * @return Os níveis de paralelismo padrão.
+     */
+    private static int[] defaultParallelismLevels() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> levels = new ArrayList<>();
+        for (int level = 1; level < processors; level *= 2) {
+            levels.add(level);
+        }
+        levels.add(processors);
+        return levels.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] parseInts(String value) {
+        String[] parts = value.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "sizes":
+                    sizes = parseInts(value);
+                    break;
+                case "parallelism":
+                    parallelismLevels = parseInts(value);
+                    break;
+                case "distributions":
+                    List<InputGenerator> selected = new ArrayList<>();
+                    for (String part : value.split(",")) {
+                        selected.add(InputDistribution.parse(part));
+                    }
+                    distributions = selected;
+                    break;
+                case "types":
+                    List<ElementType> types = new ArrayList<>();
+                    for (String part : value.split(",")) {
+                        types.add(ElementType.parse(part));
+                    }
+                    elementTypes = types;
+                    break;
+                case "algorithms":
+                    algorithmFilter = List.of(value.split(",(?![^(]*\\))")); // Vírgulas entre parênteses fazem parte do nome
+                    break;
+                case "warmup":
+                    warmupIterations = Integer.parseInt(value);
+                    break;
+                case "iterations":
+                    measurementIterations = Integer.parseInt(value);
+                    break;
+                case "iteration-ms":
+                    iterationMillis = Long.parseLong(value);
+                    break;
+                case "budget-ms":
+                    operationBudgetMillis = Long.parseLong(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "baseline":
+                    includeBaseline = Boolean.parseBoolean(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+    }
+
+    private List<UiSortAlgoritimo> selectedAlgorithms() {
+        if (algorithmFilter.isEmpty()) {
+            return SortAlgorithms.createAll();
+        }
+        List<UiSortAlgoritimo> algorithms = new ArrayList<>();
+        for (String name : algorithmFilter) {
+            algorithms.add(SortAlgorithms.create(name));
+        }
+        return algorithms;
+    }
+
+    private void run() {
+        System.out.printf(Locale.ROOT, "%-28s %-14s %9s %14s %14s %10s %12s %10s %8s%n",
+                "Benchmark", "Distribution", "n", "ops/s", "ns/op", "ns/elem", "alloc B/op", "alloc MB/s", "speedup");
+        for (UiSortAlgoritimo algorithm : selectedAlgorithms()) {
+            algorithm.setDelay(0);
+            RawIntSorts.IntArraySorter baseline = RawIntSorts.baselineFor(algorithm.getName());
+            for (ElementType type : elementTypes) {
+                if (type != ElementType.INT && !algorithm.isComparisonSort()) {
+                    continue; // Contagem e radix só ordenam valores int
+                }
+                String name = type == ElementType.INT ? algorithm.getName() : algorithm.getName() + " [" + type + "]";
+                for (InputGenerator distribution : distributions) {
+                    for (int size : sizes) {
+                        int[] values = InputCache.shared().get(distribution, size, seed);
+                        SortKeys keys = type.createKeys(values);
+                        int[] input = keys == null ? values : keys.handles();
+                        Measurement measured;
+                        if (algorithm instanceof ParallelSortAlgoritimo) {
+                            measured = measureParallel((ParallelSortAlgoritimo) algorithm, name, distribution, input, keys);
+                        } else {
+                            measured = measureAndReport(name, distribution, size,
+                                    () -> sortArrayWorkload(algorithm, input, keys), "");
+                        }
+                        if (includeBaseline && baseline != null && keys == null) {
+                            measureAndReport(name + " [int[]]", distribution, size, () -> rawWorkload(baseline, input), "");
+                        }
+                        if (measured == null || measured.maxOperationNanos > operationBudgetNanos()) {
+                            break; // Tamanhos maiores falhariam também, ou excederiam o orçamento de tempo
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Mede um algoritmo paralelo em cada nível de paralelismo, reportando o speedup em relação ao primeiro nível.
+     *
+     * @return A medição do nível mais lento, usada para o orçamento de tempo, ou null se algum nível falhar.
+     */
+    private Measurement measureParallel(ParallelSortAlgoritimo algorithm, String name, InputGenerator distribution,
+            int[] input, SortKeys keys) {
+        Measurement slowest = null;
+        double firstNanosPerOp = 0;
+        boolean failed = false;
+        for (int parallelism : parallelismLevels) {
+            algorithm.setParallelism(parallelism);
+            String levelName = name + " [p=" + parallelism + "]";
+            Measurement measured;
+            try {
+                measured = measure(sortArrayWorkload(algorithm, input, keys));
+            } catch (RuntimeException | StackOverflowError ex) {
+                reportFailure(levelName, distribution, input.length, ex);
+                failed = true;
+                continue;
+            }
+            double nanosPerOp = (double) measured.nanos / measured.operations;
+            if (firstNanosPerOp == 0) {
+                firstNanosPerOp = nanosPerOp;
+            }
+            if (slowest == null || measured.maxOperationNanos > slowest.maxOperationNanos) {
+                slowest = measured;
+            }
+            String speedup = String.format(Locale.ROOT, "%.2fx", firstNanosPerOp / nanosPerOp);
+            report(levelName, distribution, input.length, measured, speedup);
+        }
+        return failed ? null : slowest;
+    }
+
+    /**
+     * Cria, mede e reporta uma carga de trabalho; uma falha é reportada como uma linha "failed".
+     *
+     * @return A medição, ou null se a carga falhar.
+     */
+    private Measurement measureAndReport(String name, InputGenerator distribution, int size,
+            Supplier<Workload> workload, String speedup) {
+        Measurement measured;
+        try {
+            measured = measure(workload.get());
+        } catch (RuntimeException | StackOverflowError ex) {
+            reportFailure(name, distribution, size, ex);
+            return null;
+        }
+        report(name, distribution, size, measured, speedup);
+        return measured;
+    }
+
+    private Workload sortArrayWorkload(UiSortAlgoritimo algorithm, int[] input, SortKeys keys) {
+        SortArray array = SortEngine.newArray(algorithm, input, keys);
+        array.setAlgorithm(algorithm);
+        return () -> {
+            array.setValues(input);
+            long start = System.nanoTime();
+            algorithm.runSort(array);
+            long elapsed = System.nanoTime() - start;
+            sink ^= array.getValue(input.length / 2);
+            return elapsed;
+        };
+    }
+
+    private Workload rawWorkload(RawIntSorts.IntArraySorter sorter, int[] input) {
+        int[] values = new int[input.length];
+        return () -> {
+            System.arraycopy(input, 0, values, 0, input.length);
+            long start = System.nanoTime();
+            sorter.sort(values);
+            long elapsed = System.nanoTime() - start;
+            sink ^= values[input.length / 2];
+            return elapsed;
+        };
+    }
+
+    /**
+     * Executa as iterações de aquecimento e de medição. Uma ordenação que passe do orçamento de
+     * tempo encerra o aquecimento e deixa a medição com uma única iteração, para não repetir
+     * uma ordenação que já se sabe ser cara.
+     */
+    private Measurement measure(Workload workload) {
+        long budgetNanos = operationBudgetNanos();
+        for (int i = 0; i < warmupIterations; i++) {
+            Measurement warmup = new Measurement();
+            iterate(workload, warmup);
+            if (warmup.maxOperationNanos > budgetNanos) {
+                break;
+            }
+        }
+        Measurement measurement = new Measurement();
+        for (int i = 0; i < measurementIterations; i++) {
+            iterate(workload, measurement);
+            if (measurement.maxOperationNanos > budgetNanos) {
+                break;
+            }
+        }
+        return measurement;
+    }
+
+    private long operationBudgetNanos() {
+        return operationBudgetMillis * 1_000_000L;
+    }
+
+    private void iterate(Workload workload, Measurement measurement) {
+        long iterationNanos = iterationMillis * 1_000_000L;
+        long allocatedBefore = allocatedBytes();
+        long wallStart = System.nanoTime();
+        long elapsed = 0;
+        do {
+            long operationNanos = workload.runOnce();
+            elapsed += operationNanos;
+            measurement.operations++;
+            measurement.maxOperationNanos = Math.max(measurement.maxOperationNanos, operationNanos);
+        } while (elapsed < iterationNanos);
+        measurement.wallNanos += System.nanoTime() - wallStart;
+        measurement.nanos += elapsed;
+        measurement.allocatedBytes += allocatedBytes() - allocatedBefore;
+    }
+
+    private long allocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private void report(String name, InputGenerator distribution, int size, Measurement m, String speedup) {
+        double nanosPerOp = (double) m.nanos / m.operations;
+        double opsPerSecond = 1e9 / nanosPerOp;
+        double nanosPerElement = nanosPerOp / size;
+        double bytesPerOp = (double) m.allocatedBytes / m.operations;
+        double allocationRate = m.allocatedBytes / (1024.0 * 1024.0) / (m.wallNanos / 1e9);
+        System.out.printf(Locale.ROOT, "%-28s %-14s %9d %14.3f %14.1f %10.3f %12.1f %10.3f %8s%n",
+                name, distribution.getName(), size, opsPerSecond, nanosPerOp, nanosPerElement, bytesPerOp, allocationRate, speedup);
+    }
+
+    private void reportFailure(String name, InputGenerator distribution, int size, Throwable failure) {
+        String message = failure.getMessage();
+        String description = message == null ? failure.getClass().getSimpleName()
+                : failure.getClass().getSimpleName() + ": " + message.replace('\n', ' ');
+        System.out.printf(Locale.ROOT, "%-28s %-14s %9d %14s %s%n",
+                name, distribution.getName(), size, "failed", description);
+    }
+}
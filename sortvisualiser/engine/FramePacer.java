@@ -0,0 +1,198 @@
+package src.main.java.sortvisualiser.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A classe FramePacer dá o ritmo de uma animação em operações por quadro, em vez de um
+ * atraso fixo em milissegundos por passo. A thread do algoritmo chama step() após cada
+ * operação animada: as operações de um mesmo quadro rodam sem pausa, e a thread só é
+ * estacionada (LockSupport.parkNanos) quando a cota do quadro atual acaba.
+ *
+ * <p>Valores fracionários dão câmera lenta: com 0.25 operações por quadro, cada operação
+ * fica visível por quatro quadros. Pode ser usado por várias threads ao mesmo tempo.</p>
+ *
+ * <p>O pacer também pausa a execução ao vivo: com setPaused(true), as threads que chamam step()
+ * ficam estacionadas até a retomada, e cada chamada a stepOnce() libera uma operação.</p>
+ */
+public final class FramePacer {
+    public static final double DEFAULT_FRAMES_PER_SECOND = 60.0; // Taxa de quadros usada quando a do monitor é desconhecida
+    private static final long MAX_LAG_FRAMES = 2; // Atraso máximo antes de reiniciar a contagem, evitando rajadas
+
+    private final AtomicLong issued = new AtomicLong(); // Operações emitidas desde a última reinicialização
+    private volatile long originNanos; // Início da contagem de quadros
+    private volatile long frameNanos; // Duração de um quadro
+    private volatile double opsPerFrame; // Operações por quadro
+    private volatile boolean paused = false; // Indica se a animação está pausada
+    private final AtomicInteger stepPermits = new AtomicInteger(); // Operações liberadas por stepOnce() durante a pausa
+
+    /**
+     * Construtor da classe FramePacer.
+     *
+     * @param framesPerSecond A taxa de quadros da animação.
+     * @param opsPerFrame     O número de operações por quadro.
+     */
+    public FramePacer(double framesPerSecond, double opsPerFrame) {
+        this.frameNanos = frameNanosFor(framesPerSecond);
+        this.opsPerFrame = checkOpsPerFrame(opsPerFrame);
+        rebase();
+    }
+
+    /**
+     * Converte um atraso em milissegundos por passo para o número equivalente de operações por quadro.
+     *
+     * @param millisecondDelay O atraso por passo.
+     * @param framesPerSecond  A taxa de quadros.
+     * @return O número de operações por quadro.
+     */
+    public static double opsPerFrameForDelay(long millisecondDelay, double framesPerSecond) {
+        double frameMillis = 1000.0 / framesPerSecond;
+        return frameMillis / Math.max(1, millisecondDelay);
+    }
+
+    private static long frameNanosFor(double framesPerSecond) {
+        if (!(framesPerSecond > 0)) {
+            throw new IllegalArgumentException("Frames per second must be positive: " + framesPerSecond);
+        }
+        return (long) (1_000_000_000L / framesPerSecond);
+    }
+
+    private static double checkOpsPerFrame(double opsPerFrame) {
+        if (!(opsPerFrame > 0)) {
+            throw new IllegalArgumentException("Operations per frame must be positive: " + opsPerFrame);
+        }
+        return opsPerFrame;
+    }
+
+    private void rebase() {
+        originNanos = System.nanoTime();
+        issued.set(0);
+    }
+
+    /**
+     * Retorna o número de operações por quadro.
+     *
+     * @return As operações por quadro.
+     */
+    public double getOpsPerFrame() {
+        return opsPerFrame;
+    }
+
+    /**
+     * Define o número de operações por quadro. A contagem de quadros recomeça a partir de agora.
+     *
+     * @param opsPerFrame As operações por quadro; valores menores que 1 dão câmera lenta.
+     */
+    public void setOpsPerFrame(double opsPerFrame) {
+        this.opsPerFrame = checkOpsPerFrame(opsPerFrame);
+        rebase();
+    }
+
+    /**
+     * Retorna a taxa de quadros da animação.
+     *
+     * @return Os quadros por segundo.
+     */
+    public double getFramesPerSecond() {
+        return 1_000_000_000.0 / frameNanos;
+    }
+
+    /**
+     * Define a taxa de quadros da animação. A contagem de quadros recomeça a partir de agora.
+     *
+     * @param framesPerSecond Os quadros por segundo.
+     */
+    public void setFramesPerSecond(double framesPerSecond) {
+        this.frameNanos = frameNanosFor(framesPerSecond);
+        rebase();
+    }
+
+    /**
+     * Pausa ou retoma a animação. Ao retomar, a contagem de quadros recomeça a partir de agora.
+     *
+     * @param paused true para pausar.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused) {
+            stepPermits.set(0);
+            rebase();
+        }
+    }
+
+    /**
+     * Indica se a animação está pausada.
+     *
+     * @return true se a animação estiver pausada.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Libera uma única operação animada enquanto a animação está pausada.
+     */
+    public void stepOnce() {
+        if (paused) {
+            stepPermits.incrementAndGet();
+        }
+    }
+
+    /**
+     * Estaciona a thread enquanto a animação estiver pausada, até a retomada ou até uma
+     * operação ser liberada por stepOnce().
+     */
+    private void awaitResume() {
+        while (paused && !Thread.currentThread().isInterrupted()) {
+            int permits = stepPermits.get();
+            if (permits > 0 && stepPermits.compareAndSet(permits, permits - 1)) {
+                return;
+            }
+            LockSupport.parkNanos(this, frameNanos);
+        }
+    }
+
+    /**
+     * Conta uma operação animada e, se a cota do quadro atual tiver acabado, estaciona a thread
+     * até o quadro em que a operação deve aparecer. Enquanto a animação estiver pausada, espera
+     * a retomada ou um stepOnce(). Retorna imediatamente se a thread for interrompida.
+     */
+    public void step() {
+        step(null);
+    }
+
+    /**
+     * Conta uma operação animada como step(), executando beforeWait antes de a thread ser
+     * estacionada, seja pela cota do quadro ou pela pausa. Usado para publicar o estado do
+     * array que ficará na tela durante a espera.
+     *
+     * @param beforeWait A ação executada antes da espera, ou null.
+     */
+    public void step(Runnable beforeWait) {
+        if (paused) {
+            if (beforeWait != null) {
+                beforeWait.run();
+            }
+            awaitResume();
+            rebase(); // Sem rajada para compensar o tempo pausado
+            return;
+        }
+        long operation = issued.getAndIncrement();
+        long frame = (long) (operation / opsPerFrame);
+        long deadline = originNanos + frame * frameNanos;
+        long now = System.nanoTime();
+        if (now - deadline > MAX_LAG_FRAMES * frameNanos) {
+            rebase(); // O algoritmo ficou para trás: recomeça em vez de compensar com uma rajada
+            return;
+        }
+        long remaining = deadline - now;
+        if (remaining > 0 && beforeWait != null) {
+            beforeWait.run();
+        }
+        while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
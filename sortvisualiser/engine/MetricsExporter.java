@@ -0,0 +1,117 @@
+package src.main.java.sortvisualiser.engine;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A classe MetricsExporter grava o resultado de cada execução em um diretório, acrescentando
+ * uma linha em metrics.csv e um objeto por linha em metrics.jsonl. Os dois arquivos crescem
+ * entre as execuções, para que algoritmos possam ser comparados depois pelo custo e não pelo
+ * tempo da animação.
+ */
+public final class MetricsExporter {
+    public static final String CSV_FILE = "metrics.csv"; // Arquivo CSV, com cabeçalho
+    public static final String JSON_FILE = "metrics.jsonl"; // Arquivo JSON, um objeto por linha
+
+    public static final String CSV_HEADER = "algorithm,size,array_changes,reads,compares,writes,swaps,"
+            + "peak_aux_bytes,elapsed_ns,algorithm_ns,sorted";
+
+    private final Path directory; // Diretório onde os arquivos são gravados
+
+    /**
+     * Construtor da classe MetricsExporter.
+     *
+     * @param directory O diretório onde os arquivos serão gravados; é criado se não existir.
+     */
+    public MetricsExporter(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Acrescenta o resultado de uma execução aos arquivos CSV e JSON.
+     *
+     * @param result O resultado da execução.
+     * @throws IOException se os arquivos não puderem ser gravados.
+     */
+    public synchronized void export(SortResult result) throws IOException {
+        Files.createDirectories(directory);
+        Path csv = directory.resolve(CSV_FILE);
+        boolean newFile = !Files.exists(csv) || Files.size(csv) == 0;
+        try (Writer writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (newFile) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            writer.write(toCsvRow(result));
+            writer.write('\n');
+        }
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(JSON_FILE), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(toJson(result));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Formata o resultado como uma linha CSV, na ordem de CSV_HEADER.
+     *
+     * @param result O resultado da execução.
+     * @return A linha, sem a quebra de linha.
+     */
+    public static String toCsvRow(SortResult result) {
+        String name = result.getAlgorithmName();
+        if (name.indexOf(',') >= 0 || name.indexOf('"') >= 0) {
+            name = '"' + name.replace("\"", "\"\"") + '"';
+        }
+        return name + ',' + result.getSize() + ',' + result.getArrayChanges() + ',' + result.getReads()
+                + ',' + result.getCompares() + ',' + result.getWrites() + ',' + result.getSwaps()
+                + ',' + result.getPeakAuxBytes() + ',' + result.getElapsedNanos() + ',' + result.getAlgorithmNanos()
+                + ',' + result.isSorted();
+    }
+
+    /**
+     * Formata o resultado como um objeto JSON em uma única linha.
+     *
+     * @param result O resultado da execução.
+     * @return O objeto JSON.
+     */
+    public static String toJson(SortResult result) {
+        return "{\"algorithm\":" + jsonString(result.getAlgorithmName())
+                + ",\"size\":" + result.getSize()
+                + ",\"arrayChanges\":" + result.getArrayChanges()
+                + ",\"reads\":" + result.getReads()
+                + ",\"compares\":" + result.getCompares()
+                + ",\"writes\":" + result.getWrites()
+                + ",\"swaps\":" + result.getSwaps()
+                + ",\"peakAuxBytes\":" + result.getPeakAuxBytes()
+                + ",\"elapsedNs\":" + result.getElapsedNanos()
+                + ",\"algorithmNs\":" + result.getAlgorithmNanos()
+                + ",\"sorted\":" + result.isSorted() + "}";
+    }
+
+    /**
+     * Escreve um texto como uma string JSON, escapando aspas, barras e caracteres de controle.
+     *
+     * @param text O texto.
+     * @return A string JSON, entre aspas.
+     */
+    public static String jsonString(String text) {
+        StringBuilder json = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -0,0 +1,574 @@
+package src.main.java.sortvisualiser.engine;
+
+import java.util.Arrays;
+
+/**
+ * A classe OperationCheckpoints guarda o estado do array a cada K operações de um
+ * OperationLog, para que a reprodução possa saltar para qualquer operação sem percorrer o log
+ * desde o início. As cópias são calculadas sobre um int[] simples, sem SortArray e sem
+ * observadores, e ficam dentro do limite de memória informado.
+ *
+ * <p>O estado guardado inclui os buffers auxiliares: depois dos valores do array, cada slot de
+ * buffer (veja OperationLog) tem uma região do tamanho do maior buffer criado nele, com os
+ * valores do buffer que ocupa o slot, ou zeros quando o slot está livre. Assim, um salto
+ * reconstrói os buffers com o mesmo custo que o array. A liberação de um buffer zera a sua
+ * região e não pode ser desfeita operação a operação; um salto para trás que atravessa uma
+ * liberação parte de uma cópia, de um delta ou do estado inicial.</p>
+ *
+ * <p>Quando o limite comporta pelo menos MIN_FULL_SNAPSHOTS cópias completas, o estado é
+ * guardado como cópias completas: o intervalo K nunca é menor que o tamanho do array (restaurar
+ * uma cópia já custa O(n)) e cresce o suficiente para que todas as cópias caibam no limite, e
+ * um salto custa no máximo n + K operações.</p>
+ *
+ * <p>Com arrays grandes, em que só caberiam poucas cópias, cada trecho de K operações é
+ * guardado como um delta esparso: os índices alterados no trecho, com o valor antes e depois
+ * dele. Um salto parte do estado atual da reprodução, aplica no máximo K operações até a
+ * fronteira de um trecho, atravessa os trechos inteiros pelos deltas (para frente ou para
+ * trás) e aplica no máximo K operações até o destino. Os deltas começam finos e, durante o
+ * cálculo, são juntados dois a dois sempre que passam do limite, de forma que a memória usada
+ * também fica limitada enquanto eles são calculados; se nem um único delta do log inteiro
+ * couber, nenhum é guardado e um salto aplica todas as operações entre a posição atual e o
+ * destino.</p>
+ */
+public final class OperationCheckpoints {
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024; // Memória máxima das cópias, em bytes
+    public static final int MIN_FULL_SNAPSHOTS = 16; // Menos cópias completas que isso passam a ser deltas
+    private static final int MIN_INTERVAL = 1024; // Menor intervalo entre cópias, em operações
+    private static final int SPARSE_SEGMENTS = 4096; // Número inicial de trechos dos deltas, antes de juntá-los
+    private static final int DELTA_ENTRY_BYTES = 3 * Integer.BYTES; // Índice, valor antes e valor depois
+
+    private final OperationLog log; // Log a partir do qual as cópias são calculadas
+    private final int stateSize; // Tamanho do estado: valores do array e regiões dos slots de buffers
+    private final int[] auxOffsets = new int[OperationLog.MAX_AUX_SLOTS + 1]; // Início da região de cada slot no estado, e o fim do estado
+    private final long[] auxEvents; // Posições das criações e liberações de buffers auxiliares, em ordem
+    private int[] initialState; // Estado inicial, guardado apenas sem cópias nem deltas e com buffers no log
+    private long interval; // Número de operações entre duas cópias ou por trecho de delta
+    private int[][] snapshots; // Cópias completas: estado antes da operação i * interval, ou null
+    private int[][] deltaIndices; // Deltas: índices alterados em cada trecho, em ordem crescente, ou null
+    private int[][] deltaBefore; // Deltas: valores desses índices no início de cada trecho
+    private int[][] deltaAfter; // Deltas: valores desses índices no fim de cada trecho
+    private final long stepInterval; // Número de operações entre duas contagens de passos
+    private final int[] stepCounts; // Número de passos aplicados antes da operação i * stepInterval
+
+    /**
+     * Calcula as cópias do array e dos buffers auxiliares ao longo do log.
+     *
+     * @param log           O log da execução.
+     * @param initialValues Os valores do array antes da primeira operação; não são alterados.
+     * @param memoryBudget  O número máximo de bytes ocupados pelas cópias ou pelos deltas.
+     */
+    public OperationCheckpoints(OperationLog log, int[] initialValues, long memoryBudget) {
+        this.log = log;
+        this.auxEvents = findAuxEvents(initialValues.length);
+        this.stateSize = auxOffsets[OperationLog.MAX_AUX_SLOTS];
+        int[] initial = Arrays.copyOf(initialValues, stateSize); // As regiões dos slots começam zeradas
+        long snapshotBytes = Math.max(1, (long) stateSize * Integer.BYTES);
+        long maxSnapshots = memoryBudget / snapshotBytes;
+        if (maxSnapshots >= MIN_FULL_SNAPSHOTS) {
+            long spread = (log.size() + maxSnapshots - 2) / (maxSnapshots - 1); // A cópia inicial também conta
+            interval = Math.max(Math.max(MIN_INTERVAL, stateSize), spread);
+            stepInterval = interval;
+            stepCounts = new int[(int) (log.size() / interval) + 1];
+            buildSnapshots(initial);
+        } else {
+            interval = Math.max(MIN_INTERVAL, (log.size() + SPARSE_SEGMENTS - 1) / SPARSE_SEGMENTS);
+            stepInterval = interval;
+            stepCounts = new int[(int) (log.size() / interval) + 1];
+            buildDeltas(initial.clone(), memoryBudget);
+            if (deltaIndices == null && auxEvents.length > 0) {
+                initialState = initial;
+            }
+        }
+    }
+
+    /**
+     * Encontra as criações e liberações de buffers auxiliares e calcula a região de cada slot.
+     *
+     * @param arraySize O tamanho do array, onde começa a região do primeiro slot.
+     * @return As posições das criações e liberações.
+     */
+    private long[] findAuxEvents(int arraySize) {
+        int[] maxSizes = new int[OperationLog.MAX_AUX_SLOTS];
+        long[] events = new long[0];
+        int count = 0;
+        for (long operation = 0; operation < log.size(); operation++) {
+            int opcode = log.opcode(operation);
+            if (opcode == OperationLog.OP_AUX_CREATE || opcode == OperationLog.OP_AUX_RELEASE) {
+                if (count == events.length) {
+                    events = Arrays.copyOf(events, Math.max(8, count * 2));
+                }
+                events[count++] = operation;
+                int slot = log.first(operation);
+                maxSizes[slot] = Math.max(maxSizes[slot], log.second(operation));
+            }
+        }
+        auxOffsets[0] = arraySize;
+        for (int slot = 0; slot < maxSizes.length; slot++) {
+            auxOffsets[slot + 1] = Math.addExact(auxOffsets[slot], maxSizes[slot]);
+        }
+        return Arrays.copyOf(events, count);
+    }
+
+    private void buildSnapshots(int[] initialValues) {
+        snapshots = new int[stepCounts.length][];
+        int[] values = initialValues.clone();
+        int steps = 0;
+        snapshots[0] = values.clone();
+        for (int i = 1; i < snapshots.length; i++) {
+            long end = i * interval;
+            for (long operation = end - interval; operation < end; operation++) {
+                steps += apply(operation, values);
+            }
+            snapshots[i] = values.clone();
+            stepCounts[i] = steps;
+        }
+    }
+
+    /**
+     * Calcula um delta para cada trecho de interval operações. Sempre que os deltas já
+     * calculados passam do limite de memória, os vizinhos são juntados dois a dois e os trechos
+     * seguintes passam a ter o dobro de operações, de forma que a memória usada durante o
+     * cálculo fica perto do limite (acima dele, no máximo, o delta do trecho em cálculo e o de
+     * um trecho ainda sem par). Se um único delta desde o início do log já passar do limite,
+     * o delta do log inteiro também passaria, e os deltas são descartados.
+     */
+    private void buildDeltas(int[] initialValues, long memoryBudget) {
+        int capacity = (int) ((log.size() + interval - 1) / interval);
+        deltaIndices = new int[capacity][];
+        deltaBefore = new int[capacity][];
+        deltaAfter = new int[capacity][];
+        int deltas = 0; // Número de deltas calculados
+        int[] values = initialValues.clone();
+        Touches touches = new Touches(values.length);
+        long entries = 0; // Entradas dos deltas calculados
+        int steps = 0;
+        for (long operation = 0; operation < log.size(); operation++) {
+            if (operation % stepInterval == 0) {
+                stepCounts[(int) (operation / stepInterval)] = steps;
+            }
+            if (touches != null) {
+                touchChanges(operation, values, touches);
+            }
+            steps += apply(operation, values);
+            if (touches == null || ((operation + 1) % interval != 0 && operation + 1 != log.size())) {
+                continue;
+            }
+            addDelta(deltas++, touches, values);
+            entries += touches.count;
+            touches.nextSegment();
+            while (entries * DELTA_ENTRY_BYTES > memoryBudget && deltas % 2 == 0) {
+                entries = mergePairs(deltas);
+                deltas /= 2;
+                interval *= 2;
+            }
+            if (entries * DELTA_ENTRY_BYTES > memoryBudget && deltas == 1) {
+                deltaIndices = null; // Nem o delta desde o início cabe: os saltos aplicam as operações
+                deltaBefore = null;
+                deltaAfter = null;
+                touches = null;
+            }
+        }
+        if (log.size() % stepInterval == 0) {
+            stepCounts[(int) (log.size() / stepInterval)] = steps;
+        }
+        while (deltaIndices != null && entries * DELTA_ENTRY_BYTES > memoryBudget && deltas > 1) {
+            entries = mergePairs(deltas); // O último trecho pode ter ficado sem par
+            deltas = (deltas + 1) / 2;
+            interval *= 2;
+        }
+        if (deltaIndices == null || entries * DELTA_ENTRY_BYTES > memoryBudget) {
+            deltaIndices = null;
+            deltaBefore = null;
+            deltaAfter = null;
+        } else {
+            deltaIndices = Arrays.copyOf(deltaIndices, deltas);
+            deltaBefore = Arrays.copyOf(deltaBefore, deltas);
+            deltaAfter = Arrays.copyOf(deltaAfter, deltas);
+        }
+    }
+
+    /**
+     * Marca os índices do estado que uma operação vai alterar, antes de ela ser aplicada.
+     */
+    private void touchChanges(long operation, int[] values, Touches touches) {
+        switch (log.opcode(operation)) {
+            case OperationLog.OP_SWAP:
+                touches.touch(log.first(operation), values);
+                touches.touch(log.second(operation), values);
+                break;
+            case OperationLog.OP_WRITE:
+                touches.touch(log.first(operation), values);
+                break;
+            case OperationLog.OP_AUX_WRITE:
+                touches.touch(auxOffsets[log.auxSlot(operation)] + log.auxIndex(operation), values);
+                break;
+            case OperationLog.OP_AUX_RELEASE:
+                int start = auxOffsets[log.first(operation)];
+                for (int index = start; index < start + log.second(operation); index++) {
+                    if (values[index] != 0) {
+                        touches.touch(index, values);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Guarda o delta de um trecho a partir dos índices alterados e dos valores no fim do trecho.
+     *
+     * @param delta   A posição do delta.
+     * @param touches Os índices alterados no trecho.
+     * @param values  Os valores no fim do trecho.
+     */
+    private void addDelta(int delta, Touches touches, int[] values) {
+        int count = touches.count;
+        long[] touched = touches.touched;
+        Arrays.sort(touched, 0, count);
+        int[] indices = new int[count];
+        int[] before = new int[count];
+        int[] after = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = (int) (touched[i] >>> 32);
+            before[i] = (int) touched[i];
+            after[i] = values[indices[i]];
+        }
+        deltaIndices[delta] = indices;
+        deltaBefore[delta] = before;
+        deltaAfter[delta] = after;
+    }
+
+    /**
+     * Junta cada par de deltas vizinhos em um delta do trecho duplo, guardado no lugar do
+     * primeiro delta do par. Os deltas de cada par são liberados assim que são juntados, de
+     * forma que a memória usada não chega ao dobro da dos deltas.
+     *
+     * @param deltas O número de deltas calculados.
+     * @return O número de entradas dos deltas juntados.
+     */
+    private long mergePairs(int deltas) {
+        long entries = 0;
+        for (int segment = 0; 2 * segment < deltas; segment++) {
+            int first = 2 * segment;
+            int second = first + 1;
+            int[] firstIndices = deltaIndices[first];
+            int[] firstBefore = deltaBefore[first];
+            int[] firstAfter = deltaAfter[first];
+            deltaIndices[first] = null;
+            deltaBefore[first] = null;
+            deltaAfter[first] = null;
+            if (second == deltas) {
+                deltaIndices[segment] = firstIndices;
+                deltaBefore[segment] = firstBefore;
+                deltaAfter[segment] = firstAfter;
+                entries += firstIndices.length;
+                break;
+            }
+            int[] secondIndices = deltaIndices[second];
+            int[] secondBefore = deltaBefore[second];
+            int[] secondAfter = deltaAfter[second];
+            deltaIndices[second] = null;
+            deltaBefore[second] = null;
+            deltaAfter[second] = null;
+            int[] mergedIndices = new int[firstIndices.length + secondIndices.length];
+            int[] mergedBefore = new int[mergedIndices.length];
+            int[] mergedAfter = new int[mergedIndices.length];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < firstIndices.length || j < secondIndices.length) {
+                int index = j == secondIndices.length || (i < firstIndices.length && firstIndices[i] <= secondIndices[j])
+                        ? firstIndices[i] : secondIndices[j];
+                boolean inFirst = i < firstIndices.length && firstIndices[i] == index;
+                boolean inSecond = j < secondIndices.length && secondIndices[j] == index;
+                mergedIndices[count] = index;
+                mergedBefore[count] = inFirst ? firstBefore[i] : secondBefore[j];
+                mergedAfter[count] = inSecond ? secondAfter[j] : firstAfter[i];
+                count++;
+                i += inFirst ? 1 : 0;
+                j += inSecond ? 1 : 0;
+            }
+            deltaIndices[segment] = Arrays.copyOf(mergedIndices, count);
+            deltaBefore[segment] = Arrays.copyOf(mergedBefore, count);
+            deltaAfter[segment] = Arrays.copyOf(mergedAfter, count);
+            entries += count;
+        }
+        return entries;
+    }
+
+    /**
+     * Aplica uma operação do log ao estado, para frente.
+     *
+     * @param operation O índice da operação.
+     * @param values    O estado a ser alterado.
+     * @return 1 se a operação for um passo do algoritmo, 0 caso contrário.
+     */
+    private int apply(long operation, int[] values) {
+        switch (log.opcode(operation)) {
+            case OperationLog.OP_SWAP:
+                swap(values, log.first(operation), log.second(operation));
+                break;
+            case OperationLog.OP_WRITE:
+                values[log.first(operation)] = log.third(operation);
+                break;
+            case OperationLog.OP_AUX_WRITE:
+                values[auxOffsets[log.auxSlot(operation)] + log.auxIndex(operation)] = log.third(operation);
+                break;
+            case OperationLog.OP_AUX_RELEASE:
+                int start = auxOffsets[log.first(operation)];
+                Arrays.fill(values, start, start + log.second(operation), 0);
+                break;
+            default:
+                break; // Leituras, comparações e criações de buffers (já zerados) não alteram o estado
+        }
+        return log.isStep(operation) ? 1 : 0;
+    }
+
+    /**
+     * Desfaz uma operação do log no estado: trocas são trocadas de novo e escritas restauram o
+     * valor anterior gravado no log. Liberações de buffers não podem ser desfeitas (veja
+     * releasedBetween()).
+     */
+    private void undo(long operation, int[] values) {
+        switch (log.opcode(operation)) {
+            case OperationLog.OP_SWAP:
+                swap(values, log.first(operation), log.second(operation));
+                break;
+            case OperationLog.OP_WRITE:
+                values[log.first(operation)] = log.second(operation);
+                break;
+            case OperationLog.OP_AUX_WRITE:
+                values[auxOffsets[log.auxSlot(operation)] + log.auxIndex(operation)] = log.second(operation);
+                break;
+            case OperationLog.OP_AUX_RELEASE:
+                throw new IllegalStateException("Aux buffer release cannot be undone at operation " + operation);
+            default:
+                break;
+        }
+    }
+
+    private static void swap(int[] values, int first, int second) {
+        int temp = values[first];
+        values[first] = values[second];
+        values[second] = temp;
+    }
+
+    /**
+     * Aplica ou desfaz as operações entre duas posições.
+     */
+    private void move(long from, long to, int[] values) {
+        for (long operation = from; operation < to; operation++) {
+            apply(operation, values);
+        }
+        for (long operation = from - 1; operation >= to; operation--) {
+            undo(operation, values);
+        }
+    }
+
+    /**
+     * Leva o estado (os valores do array e as regiões dos buffers auxiliares) da posição atual
+     * da reprodução até a posição informada, pelo caminho mais curto: operações aplicadas ou
+     * desfeitas a partir do estado atual, a cópia completa anterior ou os deltas dos trechos
+     * entre as duas posições.
+     *
+     * @param from     A posição atual, entre 0 e o tamanho do log.
+     * @param state    O estado na posição atual, com stateSize() valores (veja auxOffset());
+     *                 recebe o estado na posição desejada.
+     * @param position A posição desejada, entre 0 e o tamanho do log.
+     * @return O número de passos do algoritmo aplicados antes da posição desejada.
+     */
+    public int restore(long from, int[] state, long position) {
+        long current = Math.max(0, Math.min(from, log.size()));
+        long clamped = Math.max(0, Math.min(position, log.size()));
+        boolean undoable = clamped >= current || !releasedBetween(clamped, current);
+        if (snapshots != null) {
+            int checkpoint = (int) Math.min(clamped / interval, snapshots.length - 1);
+            long start = checkpoint * interval;
+            if (!undoable || Math.abs(clamped - current) > state.length + (clamped - start)) {
+                System.arraycopy(snapshots[checkpoint], 0, state, 0, state.length);
+                current = start;
+            }
+        } else if (deltaIndices != null && (!undoable || Math.abs(clamped - current) > interval)) {
+            if (clamped > current) {
+                int segment = (int) ((current + interval - 1) / interval);
+                move(current, segment * interval, state);
+                for (; (segment + 1) * interval <= clamped; segment++) {
+                    int[] indices = deltaIndices[segment];
+                    int[] after = deltaAfter[segment];
+                    for (int i = 0; i < indices.length; i++) {
+                        state[indices[i]] = after[i];
+                    }
+                }
+                current = segment * interval;
+            } else {
+                // Avança até o fim do trecho atual e volta pelos deltas até o início do trecho
+                // do destino, para não desfazer liberações de buffers
+                int segment = (int) ((current + interval - 1) / interval);
+                move(current, Math.min(segment * interval, log.size()), state);
+                for (; segment > 0 && segment * interval > clamped; segment--) {
+                    int[] indices = deltaIndices[segment - 1];
+                    int[] before = deltaBefore[segment - 1];
+                    for (int i = 0; i < indices.length; i++) {
+                        state[indices[i]] = before[i];
+                    }
+                }
+                current = segment * interval;
+            }
+        } else if (!undoable) {
+            System.arraycopy(initialState, 0, state, 0, state.length);
+            current = 0;
+        }
+        move(current, clamped, state);
+        return stepsBefore(clamped);
+    }
+
+    /**
+     * Indica se algum buffer auxiliar é liberado entre duas posições.
+     *
+     * @param from O início do trecho, incluído.
+     * @param to   O fim do trecho, excluído.
+     * @return true se houver uma liberação no trecho.
+     */
+    private boolean releasedBetween(long from, long to) {
+        int event = Arrays.binarySearch(auxEvents, from);
+        for (event = event < 0 ? -event - 1 : event; event < auxEvents.length && auxEvents[event] < to; event++) {
+            if (log.opcode(auxEvents[event]) == OperationLog.OP_AUX_RELEASE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retorna a posição da criação do buffer auxiliar que ocupa o slot na posição informada.
+     *
+     * @param slot     O slot do buffer.
+     * @param position A posição da reprodução.
+     * @return A posição da operação que criou o buffer, ou -1 se o slot estiver livre.
+     */
+    public long auxCreation(int slot, long position) {
+        long createdAt = -1;
+        for (long event : auxEvents) {
+            if (event >= position) {
+                break;
+            }
+            if (log.first(event) == slot) {
+                createdAt = log.opcode(event) == OperationLog.OP_AUX_CREATE ? event : -1;
+            }
+        }
+        return createdAt;
+    }
+
+    /**
+     * Retorna o tamanho do estado usado por restore(): os valores do array seguidos das
+     * regiões dos slots de buffers auxiliares.
+     *
+     * @return O número de valores do estado.
+     */
+    public int stateSize() {
+        return stateSize;
+    }
+
+    /**
+     * Retorna o início da região de um slot de buffer auxiliar no estado.
+     *
+     * @param slot O slot do buffer.
+     * @return O índice no estado do primeiro valor do buffer que ocupa o slot.
+     */
+    public int auxOffset(int slot) {
+        return auxOffsets[slot];
+    }
+
+    /**
+     * Conta os passos do algoritmo antes de uma posição, a partir da contagem anterior.
+     */
+    private int stepsBefore(long position) {
+        int checkpoint = (int) Math.min(position / stepInterval, stepCounts.length - 1);
+        int steps = stepCounts[checkpoint];
+        for (long operation = checkpoint * stepInterval; operation < position; operation++) {
+            steps += log.isStep(operation) ? 1 : 0;
+        }
+        return steps;
+    }
+
+    /**
+     * Retorna o número de operações entre duas cópias completas, ou de cada trecho de delta.
+     *
+     * @return O intervalo K.
+     */
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Indica se o estado é guardado como deltas esparsos em vez de cópias completas.
+     *
+     * @return true se os saltos usam deltas (ou, sem nenhum delta, apenas as operações do log).
+     */
+    public boolean isSparse() {
+        return snapshots == null;
+    }
+
+    /**
+     * Retorna o número de cópias completas guardadas, incluindo a inicial, ou de deltas.
+     *
+     * @return O número de cópias ou de deltas.
+     */
+    public int getCheckpointCount() {
+        if (snapshots != null) {
+            return snapshots.length;
+        }
+        return deltaIndices == null ? 0 : deltaIndices.length;
+    }
+
+    /**
+     * Retorna a memória ocupada pelas cópias, pelos deltas ou pelo estado inicial, em bytes.
+     *
+     * @return Os bytes das cópias, dos deltas ou do estado inicial.
+     */
+    public long memoryBytes() {
+        if (snapshots != null) {
+            return (long) snapshots.length * snapshots[0].length * Integer.BYTES;
+        }
+        if (initialState != null) {
+            return (long) initialState.length * Integer.BYTES;
+        }
+        long entries = 0;
+        if (deltaIndices != null) {
+            for (int[] indices : deltaIndices) {
+                entries += indices.length;
+            }
+        }
+        return entries * DELTA_ENTRY_BYTES;
+    }
+
+    /**
+     * Índices do estado alterados no trecho em cálculo, com o valor de cada um no início do trecho.
+     */
+    private static final class Touches {
+        private final int[] touchedIn; // Último trecho em que cada índice foi alterado
+        private long[] touched = new long[16]; // Índice e valor antes do trecho, empacotados para ordenar pelo índice
+        private int count = 0; // Número de índices alterados no trecho
+        private int segment = 1; // Número do trecho em cálculo, sempre crescente
+
+        Touches(int size) {
+            touchedIn = new int[size];
+        }
+
+        void touch(int index, int[] values) {
+            if (touchedIn[index] != segment) {
+                touchedIn[index] = segment;
+                if (count == touched.length) {
+                    touched = Arrays.copyOf(touched, count * 2);
+                }
+                touched[count++] = ((long) index << 32) | (values[index] & 0xFFFFFFFFL);
+            }
+        }
+
+        void nextSegment() {
+            count = 0;
+            segment++;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package src.main.java.sortvisualiser.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A classe OperationLog guarda as operações feitas por um algoritmo sobre um SortArray
+ * (leituras, comparações, trocas e escritas) em um buffer de inteiros dividido em blocos,
+ * sem criar nenhum objeto por operação. Cada operação ocupa três inteiros:
+ *
+ * <ul>
+ *     <li>palavra 0: o código da operação nos 3 bits superiores, o bit de passo e o primeiro operando;</li>
+ *     <li>palavras 1 e 2: o segundo e o terceiro operandos (veja os códigos OP_*).</li>
+ * </ul>
+ *
+ * <p>O tamanho fixo de cada registro permite acessar qualquer operação diretamente pelo seu
+ * índice, o que torna possível reproduzir o log para frente e para trás.</p>
+ *
+ * <p>Os buffers auxiliares (AuxArray) são identificados por um slot entre 0 e MAX_AUX_SLOTS - 1,
+ * livre enquanto o buffer existe; o nome de cada buffer fica em uma tabela do log, referenciada
+ * pelas operações de criação e liberação.</p>
+ */
+public final class OperationLog {
+    public static final int OP_READ = 0; // Leitura: índice
+    public static final int OP_COMPARE = 1; // Comparação: primeiro índice, segundo índice, resultado
+    public static final int OP_SWAP = 2; // Troca: primeiro índice, segundo índice
+    public static final int OP_WRITE = 3; // Escrita: índice, valor anterior, novo valor
+    public static final int OP_AUX_CREATE = 4; // Criação de buffer auxiliar: slot, tamanho, nome (auxName)
+    public static final int OP_AUX_RELEASE = 5; // Liberação de buffer auxiliar: slot, tamanho, nome (auxName)
+    public static final int OP_AUX_WRITE = 6; // Escrita em buffer auxiliar: slot e índice (auxOperand), valor anterior, novo valor
+
+    public static final int MAX_INDEX = (1 << 28) - 1; // Maior índice que cabe na palavra 0
+    public static final int MAX_AUX_SLOTS = 16; // Número de buffers auxiliares que podem existir ao mesmo tempo
+    public static final int MAX_AUX_INDEX = (1 << 24) - 1; // Maior índice de buffer auxiliar que cabe com o slot
+
+    private static final int OPCODE_SHIFT = 29;
+    private static final int STEP_FLAG = 1 << 28; // Marca operações contadas como passo do algoritmo
+    private static final int INDEX_MASK = MAX_INDEX;
+    private static final int AUX_SLOT_SHIFT = 24;
+
+    private static final int INTS_PER_OP = 3;
+    private static final int CHUNK_SHIFT = 16;
+    private static final int OPS_PER_CHUNK = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = OPS_PER_CHUNK - 1;
+
+    private int[][] chunks = new int[4][]; // Blocos de OPS_PER_CHUNK operações
+    private long size = 0; // Número de operações gravadas
+    private final List<String> auxNames = new ArrayList<>(); // Nomes dos buffers auxiliares
+    private final Map<String, Integer> auxNameIds = new HashMap<>(); // Índice de cada nome em auxNames
+
+    /**
+     * Adiciona uma operação ao log.
+     *
+     * @param opcode  O código da operação (OP_*).
+     * @param isStep  Indica se a operação é um passo do algoritmo.
+     * @param first   O primeiro operando (um índice entre 0 e MAX_INDEX).
+     * @param second  O segundo operando.
+     * @param third   O terceiro operando.
+     */
+    public void append(int opcode, boolean isStep, int first, int second, int third) {
+        int chunkIndex = (int) (size >>> CHUNK_SHIFT);
+        if (chunkIndex == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        int[] chunk = chunks[chunkIndex];
+        if (chunk == null) {
+            chunk = new int[OPS_PER_CHUNK * INTS_PER_OP];
+            chunks[chunkIndex] = chunk;
+        }
+        int offset = ((int) size & CHUNK_MASK) * INTS_PER_OP;
+        chunk[offset] = (opcode << OPCODE_SHIFT) | (isStep ? STEP_FLAG : 0) | first;
+        chunk[offset + 1] = second;
+        chunk[offset + 2] = third;
+        size++;
+    }
+
+    /**
+     * Retorna o índice de um nome de buffer auxiliar na tabela do log, adicionando-o se necessário.
+     *
+     * @param name O nome do buffer.
+     * @return O índice do nome, usado como terceiro operando de OP_AUX_CREATE e OP_AUX_RELEASE.
+     */
+    public int auxNameId(String name) {
+        return auxNameIds.computeIfAbsent(name, key -> {
+            auxNames.add(key);
+            return auxNames.size() - 1;
+        });
+    }
+
+    /**
+     * Retorna o nome de buffer auxiliar com o índice informado.
+     *
+     * @param nameId O índice do nome, retornado por auxNameId().
+     * @return O nome do buffer.
+     */
+    public String auxName(int nameId) {
+        return auxNames.get(nameId);
+    }
+
+    /**
+     * Junta o slot e o índice de uma escrita em buffer auxiliar no primeiro operando de OP_AUX_WRITE.
+     *
+     * @param slot  O slot do buffer, entre 0 e MAX_AUX_SLOTS - 1.
+     * @param index O índice no buffer, entre 0 e MAX_AUX_INDEX.
+     * @return O primeiro operando.
+     */
+    public static int auxOperand(int slot, int index) {
+        return (slot << AUX_SLOT_SHIFT) | index;
+    }
+
+    /**
+     * Retorna o slot do buffer de uma operação OP_AUX_WRITE.
+     *
+     * @param operation O índice da operação.
+     * @return O slot do buffer.
+     */
+    public int auxSlot(long operation) {
+        return first(operation) >>> AUX_SLOT_SHIFT;
+    }
+
+    /**
+     * Retorna o índice no buffer de uma operação OP_AUX_WRITE.
+     *
+     * @param operation O índice da operação.
+     * @return O índice no buffer.
+     */
+    public int auxIndex(long operation) {
+        return first(operation) & MAX_AUX_INDEX;
+    }
+
+    /**
+     * Retorna o número de operações gravadas.
+     *
+     * @return O número de operações.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Retorna a quantidade aproximada de memória usada pelo log, em bytes.
+     *
+     * @return Os bytes alocados pelos blocos do log.
+     */
+    public long memoryBytes() {
+        long allocatedChunks = (size + OPS_PER_CHUNK - 1) >>> CHUNK_SHIFT;
+        return allocatedChunks * OPS_PER_CHUNK * INTS_PER_OP * (long) Integer.BYTES;
+    }
+
+    private int word(long operation, int word) {
+        if (operation < 0 || operation >= size) {
+            throw new IndexOutOfBoundsException("Operation " + operation + " of " + size);
+        }
+        return chunks[(int) (operation >>> CHUNK_SHIFT)][((int) operation & CHUNK_MASK) * INTS_PER_OP + word];
+    }
+
+    /**
+     * Retorna o código da operação.
+     *
+     * @param operation O índice da operação.
+     * @return O código da operação (OP_*).
+     */
+    public int opcode(long operation) {
+        return word(operation, 0) >>> OPCODE_SHIFT;
+    }
+
+    /**
+     * Indica se a operação foi contada como passo do algoritmo.
+     *
+     * @param operation O índice da operação.
+     * @return true se a operação for um passo.
+     */
+    public boolean isStep(long operation) {
+        return (word(operation, 0) & STEP_FLAG) != 0;
+    }
+
+    /**
+     * Retorna o primeiro operando da operação.
+     *
+     * @param operation O índice da operação.
+     * @return O primeiro operando.
+     */
+    public int first(long operation) {
+        return word(operation, 0) & INDEX_MASK;
+    }
+
+    /**
+     * Retorna o segundo operando da operação.
+     *
+     * @param operation O índice da operação.
+     * @return O segundo operando.
+     */
+    public int second(long operation) {
+        return word(operation, 1);
+    }
+
+    /**
+     * Retorna o terceiro operando da operação.
+     *
+     * @param operation O índice da operação.
+     * @return O terceiro operando.
+     */
+    public int third(long operation) {
+        return word(operation, 2);
+    }
+
+    /**
+     * Descarta todas as operações gravadas, liberando os blocos.
+     */
+    public void clear() {
+        chunks = new int[4][];
+        size = 0;
+        auxNames.clear();
+        auxNameIds.clear();
+    }
+}
@@ -0,0 +1,408 @@
+package src.main.java.sortvisualiser.engine;
+
+import java.util.Arrays;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+
+/**
+ * A classe OperationLogPlayer reproduz um OperationLog sobre um SortArray que contém os
+ * valores iniciais da execução gravada. A reprodução pode andar para frente ou para trás
+ * sem executar o algoritmo novamente: trocas são desfeitas trocando de novo, e escritas
+ * restauram o valor anterior gravado no log.
+ *
+ * <p>As operações são aplicadas com o atraso de passo do algoritmo definido no array, de forma
+ * que os observadores (a tela de visualização) animam a reprodução como animariam a execução.</p>
+ *
+ * <p>Durante play(), outras threads (a interface) podem pausar a reprodução, pedir passos
+ * isolados para frente ou para trás e saltar para qualquer operação. Os saltos usam as cópias
+ * periódicas ou os deltas de OperationCheckpoints, aplicados sobre um int[] com o estado atual,
+ * e uma única substituição dos valores do array, sem animação.</p>
+ *
+ * <p>Os buffers auxiliares gravados são criados, escritos e liberados no array de destino como
+ * na execução, de forma que aparecem na reprodução. Nos saltos, os valores dos buffers que
+ * existem na posição pedida são reconstruídos por OperationCheckpoints junto com os do array.</p>
+ */
+public final class OperationLogPlayer {
+    private final OperationLog log; // Log a ser reproduzido
+    private final SortArray target; // Array onde as operações são aplicadas
+    private final OperationCheckpoints checkpoints; // Cópias periódicas do array, usadas nos saltos
+    private final AuxArray[] auxSlots = new AuxArray[OperationLog.MAX_AUX_SLOTS]; // Buffers criados no destino, por slot
+    private final long[] auxCreatedAt = new long[OperationLog.MAX_AUX_SLOTS]; // Posição da criação de cada buffer do destino
+    private final Object control = new Object(); // Guarda os pedidos da interface e acorda a reprodução pausada
+    private volatile long position = 0; // Índice da próxima operação a ser aplicada
+    private volatile boolean reverse = false; // Indica se a reprodução anda para trás
+    private volatile boolean paused = false; // Indica se a reprodução está pausada
+    private long pendingSeek = -1; // Posição pedida por requestSeek, ou -1 (guardado por control)
+    private int pendingSteps = 0; // Passos pedidos por requestStep; negativos andam para trás (guardado por control)
+
+    /**
+     * Construtor da classe OperationLogPlayer. Calcula as cópias periódicas do array com o
+     * limite de memória padrão.
+     *
+     * @param log    O log a ser reproduzido.
+     * @param target O array onde as operações serão aplicadas, com os valores iniciais da execução.
+     */
+    public OperationLogPlayer(OperationLog log, SortArray target) {
+        this(log, target, OperationCheckpoints.DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Construtor da classe OperationLogPlayer.
+     *
+     * @param log          O log a ser reproduzido.
+     * @param target       O array onde as operações serão aplicadas, com os valores iniciais da execução.
+     * @param memoryBudget O número máximo de bytes ocupados pelas cópias periódicas ou pelos deltas do array.
+     */
+    public OperationLogPlayer(OperationLog log, SortArray target, long memoryBudget) {
+        this.log = log;
+        this.target = target;
+        this.checkpoints = new OperationCheckpoints(log, target.toArray(), memoryBudget);
+    }
+
+    /**
+     * Retorna o índice da próxima operação a ser aplicada. Pode ser chamado de outra thread durante play().
+     *
+     * @return A posição atual da reprodução.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Retorna as cópias periódicas do array usadas nos saltos.
+     *
+     * @return As cópias do array.
+     */
+    public OperationCheckpoints getCheckpoints() {
+        return checkpoints;
+    }
+
+    /**
+     * Retorna o número de operações do log.
+     *
+     * @return O número de operações.
+     */
+    public long size() {
+        return log.size();
+    }
+
+    /**
+     * Define se a reprodução anda para trás. Pode ser chamado de outra thread durante play().
+     *
+     * @param reverse true para reproduzir de trás para frente.
+     */
+    public void setReverse(boolean reverse) {
+        this.reverse = reverse;
+    }
+
+    /**
+     * Indica se a reprodução anda para trás.
+     *
+     * @return true se a reprodução estiver invertida.
+     */
+    public boolean isReverse() {
+        return reverse;
+    }
+
+    /**
+     * Pausa ou retoma a reprodução. Pode ser chamado de outra thread durante play().
+     *
+     * @param paused true para pausar.
+     */
+    public void setPaused(boolean paused) {
+        synchronized (control) {
+            this.paused = paused;
+            control.notifyAll();
+        }
+    }
+
+    /**
+     * Indica se a reprodução está pausada.
+     *
+     * @return true se a reprodução estiver pausada.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Pede que play() aplique ou desfaça uma alteração do array, pulando leituras e comparações.
+     * Usado com a reprodução pausada. Pode ser chamado de outra thread.
+     *
+     * @param forward true para andar para frente, false para voltar.
+     */
+    public void requestStep(boolean forward) {
+        synchronized (control) {
+            pendingSteps += forward ? 1 : -1;
+            control.notifyAll();
+        }
+    }
+
+    /**
+     * Pede que play() salte para a operação informada. Pedidos feitos antes de o salto
+     * anterior ser atendido o substituem. Pode ser chamado de outra thread.
+     *
+     * @param targetPosition A posição desejada, entre 0 e size().
+     */
+    public void requestSeek(long targetPosition) {
+        synchronized (control) {
+            pendingSeek = Math.max(0, Math.min(targetPosition, log.size()));
+            pendingSteps = 0;
+            control.notifyAll();
+        }
+    }
+
+    private long stepDelay() {
+        UiSortAlgoritimo algorithm = target.getAlgorithm();
+        return algorithm != null ? algorithm.getDelay() : 0;
+    }
+
+    /**
+     * Aplica a próxima operação do log.
+     *
+     * @return true se uma operação foi aplicada, false se a reprodução já estava no fim.
+     */
+    public boolean stepForward() {
+        if (position >= log.size()) {
+            return false;
+        }
+        long operation = position++;
+        boolean isStep = log.isStep(operation);
+        switch (log.opcode(operation)) {
+            case OperationLog.OP_READ:
+                target.getValue(log.first(operation));
+                break;
+            case OperationLog.OP_COMPARE:
+                target.compare(log.first(operation), log.second(operation));
+                break;
+            case OperationLog.OP_SWAP:
+                target.swap(log.first(operation), log.second(operation), stepDelay(), isStep);
+                break;
+            case OperationLog.OP_WRITE:
+                target.updateSingle(log.first(operation), log.third(operation), stepDelay(), isStep);
+                break;
+            case OperationLog.OP_AUX_CREATE:
+                createAux(operation);
+                break;
+            case OperationLog.OP_AUX_RELEASE:
+                releaseAux(log.first(operation));
+                break;
+            case OperationLog.OP_AUX_WRITE:
+                auxSlots[log.auxSlot(operation)].set(log.auxIndex(operation), log.third(operation), stepDelay());
+                break;
+            default:
+                throw new IllegalStateException("Unknown opcode at operation " + operation);
+        }
+        return true;
+    }
+
+    /**
+     * Desfaz a última operação aplicada.
+     *
+     * @return true se uma operação foi desfeita, false se a reprodução já estava no início.
+     */
+    public boolean stepBackward() {
+        if (position <= 0) {
+            return false;
+        }
+        long operation = --position;
+        boolean isStep = log.isStep(operation);
+        switch (log.opcode(operation)) {
+            case OperationLog.OP_READ:
+            case OperationLog.OP_COMPARE:
+                return true; // Leituras e comparações não alteram o array
+            case OperationLog.OP_SWAP:
+                target.swap(log.first(operation), log.second(operation), stepDelay(), false);
+                break;
+            case OperationLog.OP_WRITE:
+                target.updateSingle(log.first(operation), log.second(operation), stepDelay(), false);
+                break;
+            case OperationLog.OP_AUX_CREATE:
+                releaseAux(log.first(operation));
+                break;
+            case OperationLog.OP_AUX_RELEASE:
+                restoreAux(log.first(operation), operation);
+                break;
+            case OperationLog.OP_AUX_WRITE:
+                auxSlots[log.auxSlot(operation)].set(log.auxIndex(operation), log.second(operation), stepDelay());
+                break;
+            default:
+                throw new IllegalStateException("Unknown opcode at operation " + operation);
+        }
+        if (isStep) {
+            target.setArrayChanges(target.getArrayChanges() - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Aplica ou desfaz operações até alterar o array ou um buffer auxiliar uma vez, pulando
+     * leituras, comparações, criações e liberações de buffers.
+     *
+     * @param forward true para andar para frente, false para voltar.
+     * @return true se o array foi alterado, false se a reprodução chegou a uma das pontas.
+     */
+    public boolean stepChange(boolean forward) {
+        while (forward ? position < log.size() : position > 0) {
+            long operation = forward ? position : position - 1;
+            int opcode = log.opcode(operation);
+            if (forward) {
+                stepForward();
+            } else {
+                stepBackward();
+            }
+            if (opcode == OperationLog.OP_SWAP || opcode == OperationLog.OP_WRITE || opcode == OperationLog.OP_AUX_WRITE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Salta até a operação informada sem animar as operações intermediárias: os valores são
+     * reconstruídos a partir do estado atual e das cópias periódicas (veja
+     * OperationCheckpoints.restore()) e substituídos de uma só vez no array. Os buffers
+     * auxiliares passam a ser os que existem na posição pedida (veja syncAux()).
+     * Deve ser chamado pela thread de play(), ou quando a reprodução não estiver rodando; de
+     * outras threads use requestSeek().
+     *
+     * @param targetPosition A posição desejada, entre 0 e size().
+     */
+    public void seek(long targetPosition) {
+        long clamped = Math.max(0, Math.min(targetPosition, log.size()));
+        int[] state = currentState();
+        int arrayChanges = checkpoints.restore(position, state, clamped);
+        target.setValues(Arrays.copyOf(state, target.arraySize()));
+        target.setArrayChanges(arrayChanges);
+        syncAux(clamped, state);
+        position = clamped;
+    }
+
+    /**
+     * Reproduz o log na direção atual até o fim, atendendo os pedidos de pausa, passo e salto.
+     * Se a reprodução invertida chegar ao início, ela volta a andar para frente. Termina ao
+     * chegar ao fim do log sem estar pausada, ou se a thread for interrompida.
+     */
+    public void play() {
+        while (!Thread.currentThread().isInterrupted()) {
+            long seekTo;
+            int steps;
+            synchronized (control) {
+                if (paused && pendingSeek < 0 && pendingSteps == 0) {
+                    target.notifyIdle(); // O painel publica o estado atual antes da espera
+                }
+                while (paused && pendingSeek < 0 && pendingSteps == 0) {
+                    try {
+                        control.wait();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                seekTo = pendingSeek;
+                steps = pendingSteps;
+                pendingSeek = -1;
+                pendingSteps = 0;
+            }
+            if (seekTo >= 0) {
+                seek(seekTo);
+            }
+            for (; steps > 0; steps--) {
+                stepChange(true);
+            }
+            for (; steps < 0; steps++) {
+                stepChange(false);
+            }
+            if (paused || seekTo >= 0) {
+                continue;
+            }
+            if (reverse) {
+                if (!stepBackward()) {
+                    reverse = false;
+                }
+            } else if (!stepForward()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Libera os buffers auxiliares criados pela reprodução no array de destino. Deve ser chamado
+     * quando a reprodução for interrompida antes do fim, pela thread de play() ou depois que ela
+     * terminar.
+     */
+    public void closeAuxArrays() {
+        for (int slot = 0; slot < auxSlots.length; slot++) {
+            releaseAux(slot);
+        }
+    }
+
+    private void createAux(long operation) {
+        int slot = log.first(operation);
+        releaseAux(slot); // Não acontece em um log consistente
+        auxSlots[slot] = target.createAuxArray(log.auxName(log.third(operation)), log.second(operation));
+        auxCreatedAt[slot] = operation;
+    }
+
+    private void releaseAux(int slot) {
+        if (auxSlots[slot] != null) {
+            auxSlots[slot].close();
+            auxSlots[slot] = null;
+        }
+    }
+
+    /**
+     * Recria um buffer ao desfazer a sua liberação, com os valores que ele tinha ao ser liberado.
+     *
+     * @param slot      O slot do buffer.
+     * @param operation A posição da liberação.
+     */
+    private void restoreAux(int slot, long operation) {
+        int[] state = currentState();
+        checkpoints.restore(operation + 1, state, operation);
+        createAux(checkpoints.auxCreation(slot, operation));
+        auxSlots[slot].load(state, checkpoints.auxOffset(slot));
+    }
+
+    /**
+     * Retorna o estado atual no formato de OperationCheckpoints.restore(): os valores do array
+     * seguidos das regiões dos slots, com os valores dos buffers criados no destino.
+     */
+    private int[] currentState() {
+        int[] state = Arrays.copyOf(target.toArray(), checkpoints.stateSize());
+        for (int slot = 0; slot < auxSlots.length; slot++) {
+            AuxArray aux = auxSlots[slot];
+            if (aux != null) {
+                int offset = checkpoints.auxOffset(slot);
+                for (int i = 0; i < aux.size(); i++) {
+                    state[offset + i] = aux.peek(i);
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Deixa no array de destino os buffers que existem na posição informada, com os valores
+     * do estado restaurado. Os buffers que continuam existindo são mantidos; os outros são
+     * liberados ou recriados.
+     *
+     * @param newPosition A nova posição da reprodução.
+     * @param state       O estado na nova posição.
+     */
+    private void syncAux(long newPosition, int[] state) {
+        for (int slot = 0; slot < auxSlots.length; slot++) {
+            long createdAt = checkpoints.auxCreation(slot, newPosition);
+            if (auxSlots[slot] == null || createdAt != auxCreatedAt[slot]) {
+                releaseAux(slot);
+                if (createdAt < 0) {
+                    continue;
+                }
+                createAux(createdAt);
+            }
+            auxSlots[slot].load(state, checkpoints.auxOffset(slot));
+        }
+    }
+}
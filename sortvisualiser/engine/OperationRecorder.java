@@ -0,0 +1,118 @@
+package src.main.java.sortvisualiser.engine;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArrayListener;
+
+/**
+ * A classe OperationRecorder é um observador de SortArray que grava cada leitura,
+ * comparação, troca e escrita em um OperationLog. Registrada em um array sem outros
+ * observadores, permite executar o algoritmo na velocidade máxima e animar a execução
+ * depois com um OperationLogPlayer.
+ *
+ * <p>Os métodos são sincronizados para que os workers de um algoritmo paralelo possam gravar
+ * no mesmo log; como cada worker altera uma faixa disjunta do array, a ordem em que as operações
+ * entram no log é uma ordem válida para a reprodução.</p>
+ *
+ * <p>As escritas em buffers auxiliares também são gravadas. Um buffer entra no log na sua
+ * primeira escrita, ocupando um slot livre, e sai dele quando é liberado. Para gravar o valor
+ * anterior de cada escrita, o gravador mantém uma cópia de cada buffer. Escritas em buffers
+ * além de OperationLog.MAX_AUX_SLOTS simultâneos, ou em índices acima de
+ * OperationLog.MAX_AUX_INDEX, não são gravadas.</p>
+ */
+public final class OperationRecorder implements SortArrayListener {
+    private final OperationLog log; // Log onde as operações são gravadas
+    private final boolean recordReads; // Indica se as leituras também são gravadas
+    private final AuxArray[] auxSlots = new AuxArray[OperationLog.MAX_AUX_SLOTS]; // Buffers gravados, por slot
+    private final int[][] auxCopies = new int[OperationLog.MAX_AUX_SLOTS][]; // Cópia dos valores de cada buffer gravado
+
+    /**
+     * Construtor da classe OperationRecorder.
+     *
+     * @param log         O log onde as operações serão gravadas.
+     * @param recordReads Indica se as leituras também devem ser gravadas.
+     */
+    public OperationRecorder(OperationLog log, boolean recordReads) {
+        this.log = log;
+        this.recordReads = recordReads;
+    }
+
+    /**
+     * Retorna o log onde as operações são gravadas.
+     *
+     * @return O log de operações.
+     */
+    public OperationLog getLog() {
+        return log;
+    }
+
+    @Override
+    public synchronized void onSwap(int firstIndex, int secondIndex, int value, long millisecondDelay, boolean isStep) {
+        log.append(OperationLog.OP_SWAP, isStep, firstIndex, secondIndex, 0);
+    }
+
+    @Override
+    public synchronized void onUpdate(int index, int previousValue, int value, long millisecondDelay, boolean isStep) {
+        log.append(OperationLog.OP_WRITE, isStep, index, previousValue, value);
+    }
+
+    @Override
+    public synchronized void onRead(int index) {
+        if (recordReads) {
+            log.append(OperationLog.OP_READ, false, index, 0, 0);
+        }
+    }
+
+    @Override
+    public synchronized void onCompare(int firstIndex, int secondIndex, int result) {
+        log.append(OperationLog.OP_COMPARE, false, firstIndex, secondIndex, result);
+    }
+
+    @Override
+    public synchronized void onAuxUpdate(AuxArray aux, int index, int value, long millisecondDelay) {
+        if (index > OperationLog.MAX_AUX_INDEX) {
+            return;
+        }
+        int slot = auxSlot(aux);
+        if (slot < 0) {
+            return;
+        }
+        int[] copy = auxCopies[slot];
+        log.append(OperationLog.OP_AUX_WRITE, false, OperationLog.auxOperand(slot, index), copy[index], value);
+        copy[index] = value;
+    }
+
+    @Override
+    public synchronized void onAuxArraysChanged() {
+        for (int slot = 0; slot < auxSlots.length; slot++) {
+            AuxArray aux = auxSlots[slot];
+            if (aux != null && aux.isReleased()) {
+                log.append(OperationLog.OP_AUX_RELEASE, false, slot, aux.size(), log.auxNameId(aux.getName()));
+                auxSlots[slot] = null;
+                auxCopies[slot] = null;
+            }
+        }
+    }
+
+    /**
+     * Retorna o slot do buffer, gravando a sua criação se ele ainda não estiver no log.
+     *
+     * @return O slot do buffer, ou -1 se não houver slot livre.
+     */
+    private int auxSlot(AuxArray aux) {
+        int free = -1;
+        for (int slot = 0; slot < auxSlots.length; slot++) {
+            if (auxSlots[slot] == aux) {
+                return slot;
+            }
+            if (free < 0 && auxSlots[slot] == null) {
+                free = slot;
+            }
+        }
+        if (free >= 0) {
+            auxSlots[free] = aux;
+            auxCopies[free] = new int[aux.size()]; // Os buffers são criados zerados
+            log.append(OperationLog.OP_AUX_CREATE, false, free, aux.size(), log.auxNameId(aux.getName()));
+        }
+        return free;
+    }
+}
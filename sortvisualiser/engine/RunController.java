@@ -0,0 +1,132 @@
+package src.main.java.sortvisualiser.engine;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortCancelledException;
+
+/**
+ * A classe RunController controla o ciclo de vida de uma execução da tela de visualização ou
+ * da corrida, permitindo interrompê-la a qualquer momento pelo botão de parada.
+ *
+ * <p>cancel() cancela os arrays registrados, de modo que cada algoritmo, inclusive os workers
+ * dos algoritmos paralelos, para na sua próxima operação com SortCancelledException; interrompe
+ * as threads registradas, acordando quem estiver em sleep(), estacionado pelo FramePacer ou
+ * esperando a reprodução pausada; e executa os ganchos registrados, que liberam o que ainda
+ * estiver preso, como um pacer pausado.</p>
+ */
+public final class RunController {
+    private final List<SortArray> arrays = new CopyOnWriteArrayList<>(); // Arrays cancelados junto com a execução
+    private final List<Thread> threads = new CopyOnWriteArrayList<>(); // Threads interrompidas no cancelamento
+    private final List<Runnable> cancelHooks = new CopyOnWriteArrayList<>(); // Ações executadas no cancelamento
+    private volatile boolean cancelled = false; // Indica se a execução foi cancelada
+
+    /**
+     * Registra um array a ser cancelado junto com a execução. Se a execução já tiver sido
+     * cancelada, o array é cancelado imediatamente.
+     *
+     * @param array O array.
+     */
+    public void register(SortArray array) {
+        arrays.add(array);
+        if (cancelled) {
+            array.cancel();
+        }
+    }
+
+    /**
+     * Remove um array registrado, quando ele deixa de ser usado, para que não seja mantido em memória.
+     *
+     * @param array O array.
+     */
+    public void unregister(SortArray array) {
+        arrays.remove(array);
+    }
+
+    /**
+     * Registra uma thread a ser interrompida no cancelamento. Se a execução já tiver sido
+     * cancelada, a thread é interrompida imediatamente.
+     *
+     * @param thread A thread.
+     */
+    public void register(Thread thread) {
+        threads.add(thread);
+        if (cancelled) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Registra uma ação a ser executada no cancelamento, na thread que chamou cancel().
+     *
+     * @param hook A ação.
+     */
+    public void onCancel(Runnable hook) {
+        cancelHooks.add(hook);
+    }
+
+    /**
+     * Cancela a execução. Chamadas repetidas não têm efeito.
+     */
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        for (SortArray array : arrays) {
+            array.cancel();
+        }
+        for (Runnable hook : cancelHooks) {
+            hook.run();
+        }
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Indica se a execução foi cancelada.
+     *
+     * @return true se cancel() foi chamado.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Interrompe quem chamou se a execução tiver sido cancelada.
+     *
+     * @throws SortCancelledException se a execução foi cancelada.
+     */
+    public void checkCancelled() {
+        if (cancelled) {
+            throw new SortCancelledException("Run cancelled");
+        }
+    }
+
+    /**
+     * Espera o tempo informado, terminando antes se a execução for cancelada.
+     *
+     * @param millis O tempo de espera em milissegundos.
+     * @throws SortCancelledException se a execução foi cancelada antes ou durante a espera.
+     */
+    public void sleep(long millis) {
+        checkCancelled();
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        checkCancelled();
+    }
+
+    /**
+     * Libera as referências aos arrays, threads e ações registrados, ao fim da execução.
+     */
+    public void release() {
+        arrays.clear();
+        threads.clear();
+        cancelHooks.clear();
+    }
+}
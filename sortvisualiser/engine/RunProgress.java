@@ -0,0 +1,145 @@
+package src.main.java.sortvisualiser.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A classe RunProgress acompanha o progresso da animação de uma execução, em operações
+ * animadas (trocas e escritas, inclusive nos buffers auxiliares: as operações que passam pelo
+ * FramePacer).
+ *
+ * <p>O total vem de uma execução prévia do algoritmo sobre uma cópia da entrada, na velocidade
+ * máxima e em segundo plano (ou da execução gravada, no modo de reprodução), e pode chegar
+ * depois do início da animação. Com o total conhecido, a classe calcula a fração concluída,
+ * uma estimativa do tempo restante e o ritmo que faz a animação terminar em uma duração alvo.</p>
+ *
+ * <p>As operações podem ser contadas por várias threads ao mesmo tempo; sample() e a
+ * estimativa do tempo restante são usados pela thread que desenha os quadros.</p>
+ */
+public final class RunProgress {
+    private static final double RATE_SMOOTHING = 0.1; // Peso de cada nova amostra na média móvel do ritmo
+    private static final long MIN_SAMPLE_NANOS = 50_000_000L; // Intervalo mínimo entre duas amostras do ritmo
+
+    private final LongAdder completed = new LongAdder(); // Operações animadas até agora
+    private final long startNanos = System.nanoTime(); // Início da animação
+    private volatile long total = -1; // Total de operações animadas, ou -1 enquanto desconhecido
+    private long lastSampleNanos = startNanos; // Instante da última amostra do ritmo
+    private long lastSampleCompleted = 0; // Operações concluídas na última amostra
+    private double opsPerSecond = Double.NaN; // Média móvel do ritmo medido
+
+    /**
+     * Conta uma operação animada.
+     */
+    public void countOperation() {
+        completed.increment();
+    }
+
+    /**
+     * Retorna o número de operações animadas até agora.
+     *
+     * @return As operações concluídas.
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Define o total de operações animadas da execução, calculado pela execução prévia.
+     *
+     * @param total O total de operações.
+     */
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Retorna o total de operações animadas da execução.
+     *
+     * @return O total, ou -1 se ainda não for conhecido.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Indica se o total de operações já é conhecido.
+     *
+     * @return true se a execução prévia terminou.
+     */
+    public boolean isTotalKnown() {
+        return total >= 0;
+    }
+
+    /**
+     * Retorna a fração concluída da animação. Nos algoritmos paralelos o total é uma estimativa,
+     * então a fração é limitada a 1.
+     *
+     * @return A fração entre 0 e 1, ou 0 se o total ainda não for conhecido.
+     */
+    public double getFraction() {
+        long knownTotal = total;
+        if (knownTotal <= 0) {
+            return knownTotal == 0 ? 1.0 : 0.0;
+        }
+        return Math.min(1.0, (double) getCompleted() / knownTotal);
+    }
+
+    /**
+     * Retorna o tempo desde o início da animação.
+     *
+     * @return O tempo decorrido em nanossegundos.
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Amostra o ritmo da animação, atualizando a média móvel usada na estimativa do tempo
+     * restante. Deve ser chamado a cada quadro; amostras muito próximas são ignoradas.
+     */
+    public void sample() {
+        long now = System.nanoTime();
+        long interval = now - lastSampleNanos;
+        if (interval < MIN_SAMPLE_NANOS) {
+            return;
+        }
+        long done = getCompleted();
+        double rate = (done - lastSampleCompleted) * 1e9 / interval;
+        opsPerSecond = Double.isNaN(opsPerSecond) ? rate : opsPerSecond + RATE_SMOOTHING * (rate - opsPerSecond);
+        lastSampleNanos = now;
+        lastSampleCompleted = done;
+    }
+
+    /**
+     * Estima o tempo restante da animação pelo ritmo medido.
+     *
+     * @return O tempo restante em segundos, ou NaN se o total ou o ritmo ainda não forem
+     *         conhecidos ou se a animação estiver parada.
+     */
+    public double getRemainingSeconds() {
+        long knownTotal = total;
+        double rate = opsPerSecond;
+        if (knownTotal < 0 || !(rate > 0)) {
+            return Double.NaN;
+        }
+        return Math.max(0, knownTotal - getCompleted()) / rate;
+    }
+
+    /**
+     * Calcula o ritmo que faz a animação terminar quando a duração alvo, contada desde o
+     * início da animação, se completar. Se o alvo já tiver passado, o restante é animado em
+     * um segundo.
+     *
+     * @param targetSeconds   A duração alvo da animação inteira.
+     * @param framesPerSecond A taxa de quadros da animação.
+     * @return As operações por quadro, ou NaN se o total ainda não for conhecido.
+     */
+    public double opsPerFrameForTarget(double targetSeconds, double framesPerSecond) {
+        long knownTotal = total;
+        if (knownTotal < 0) {
+            return Double.NaN;
+        }
+        double remainingSeconds = Math.max(1.0, targetSeconds - getElapsedNanos() / 1e9);
+        long remainingOps = Math.max(1, knownTotal - getCompleted());
+        return remainingOps / (remainingSeconds * framesPerSecond);
+    }
+}
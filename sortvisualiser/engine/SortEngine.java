@@ -0,0 +1,90 @@
+package src.main.java.sortvisualiser.engine;
+
+import src.main.java.sortvisualiser.ConcurrentSortArray;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortMetrics;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.keys.SortKeys;
+
+/**
+ * A classe SortEngine executa algoritmos de ordenação sobre um SortArray sem depender de
+ * AWT/Swing. Os atrasos e o repaint são responsabilidade dos observadores do array; sem
+ * observadores registrados o algoritmo roda na velocidade máxima da máquina, o que permite
+ * executar ordenações em servidores sem display.
+ */
+public final class SortEngine {
+
+    /**
+     * Executa o algoritmo sobre uma cópia dos valores informados, sem observadores.
+     *
+     * @param algorithm O algoritmo de ordenação a ser executado.
+     * @param input     Os valores a serem ordenados (não são modificados).
+     * @return O resultado da execução.
+     */
+    public SortResult run(UiSortAlgoritimo algorithm, int[] input) {
+        return run(algorithm, newArray(algorithm, input));
+    }
+
+    /**
+     * Executa o algoritmo sobre as chaves informadas, sem observadores.
+     *
+     * @param algorithm O algoritmo de ordenação a ser executado; deve ser uma ordenação por comparação.
+     * @param keys      As chaves a serem ordenadas.
+     * @return O resultado da execução.
+     */
+    public SortResult run(UiSortAlgoritimo algorithm, SortKeys keys) {
+        return run(algorithm, newArray(algorithm, keys.handles(), keys));
+    }
+
+    /**
+     * Cria o array adequado para o algoritmo: algoritmos paralelos recebem um
+     * ConcurrentSortArray, os demais um SortArray comum.
+     *
+     * @param algorithm O algoritmo que vai ordenar o array.
+     * @param values    Os valores iniciais do array (são copiados).
+     * @return O novo array.
+     */
+    public static SortArray newArray(UiSortAlgoritimo algorithm, int[] values) {
+        if (algorithm instanceof ParallelSortAlgoritimo) {
+            return new ConcurrentSortArray(values);
+        }
+        return new SortArray(values);
+    }
+
+    /**
+     * Cria o array adequado para o algoritmo, com chaves.
+     *
+     * @param algorithm O algoritmo que vai ordenar o array.
+     * @param values    Os valores iniciais do array, handles das chaves (são copiados).
+     * @param keys      As chaves dos elementos, ou null se os valores são as próprias chaves.
+     * @return O novo array.
+     */
+    public static SortArray newArray(UiSortAlgoritimo algorithm, int[] values, SortKeys keys) {
+        SortArray array = newArray(algorithm, values);
+        array.setKeys(keys);
+        return array;
+    }
+
+    /**
+     * Executa o algoritmo sobre o array informado, notificando os observadores já registrados nele.
+     *
+     * @param algorithm O algoritmo de ordenação a ser executado.
+     * @param array     O array a ser ordenado.
+     * @return O resultado da execução.
+     * @throws IllegalArgumentException se o array tem chaves e o algoritmo não é uma ordenação por comparação.
+     */
+    public SortResult run(UiSortAlgoritimo algorithm, SortArray array) {
+        if (array.getKeys() != null && !algorithm.isComparisonSort()) {
+            throw new IllegalArgumentException(algorithm.getName() + " sorts int values directly and cannot sort "
+                    + array.getKeys().getTypeName() + " keys");
+        }
+        array.setAlgorithm(algorithm); // Zera as métricas e marca o início da execução
+        algorithm.runSort(array);
+        array.notifyIdle(); // Os observadores entregam o estado final antes de o array ficar parado
+        SortMetrics metrics = array.getMetrics();
+        metrics.finish();
+        return new SortResult(algorithm.getName(), array.arraySize(), array.getArrayChanges(),
+                metrics.getElapsedNanos(), array.isSorted(), metrics);
+    }
+}
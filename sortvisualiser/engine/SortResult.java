@@ -0,0 +1,153 @@
+package src.main.java.sortvisualiser.engine;
+
+import src.main.java.sortvisualiser.SortMetrics;
+
+/**
+ * A classe SortResult guarda o resultado de uma execução de um algoritmo de ordenação
+ * feita pelo SortEngine.
+ */
+public final class SortResult {
+    private final String algorithmName; // Nome do algoritmo executado
+    private final int size; // Número de elementos ordenados
+    private final int arrayChanges; // Número de mudanças feitas no array
+    private final long elapsedNanos; // Tempo de execução em nanossegundos
+    private final boolean sorted; // Indica se o array terminou ordenado
+    private final long reads; // Leituras feitas pelo algoritmo
+    private final long compares; // Comparações feitas pelo algoritmo
+    private final long writes; // Escritas feitas pelo algoritmo
+    private final long swaps; // Trocas feitas pelo algoritmo
+    private final long peakAuxBytes; // Pico de memória auxiliar, em bytes
+    private final long algorithmNanos; // Tempo de execução sem o tempo gasto nos observadores
+
+    /**
+     * Construtor da classe SortResult.
+     *
+     * @param algorithmName O nome do algoritmo executado.
+     * @param size          O número de elementos ordenados.
+     * @param arrayChanges  O número de mudanças feitas no array.
+     * @param elapsedNanos  O tempo de execução em nanossegundos.
+     * @param sorted        Indica se o array terminou ordenado.
+     * @param metrics       Os contadores de custo da execução, já finalizada.
+     */
+    public SortResult(String algorithmName, int size, int arrayChanges, long elapsedNanos, boolean sorted, SortMetrics metrics) {
+        this.algorithmName = algorithmName;
+        this.size = size;
+        this.arrayChanges = arrayChanges;
+        this.elapsedNanos = elapsedNanos;
+        this.sorted = sorted;
+        this.reads = metrics.getReads();
+        this.compares = metrics.getCompares();
+        this.writes = metrics.getWrites();
+        this.swaps = metrics.getSwaps();
+        this.peakAuxBytes = metrics.getPeakAuxBytes();
+        this.algorithmNanos = metrics.getAlgorithmNanos();
+    }
+
+    /**
+     * Retorna o nome do algoritmo executado.
+     *
+     * @return O nome do algoritmo.
+     */
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    /**
+     * Retorna o número de elementos ordenados.
+     *
+     * @return O número de elementos.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Retorna o número de mudanças feitas no array.
+     *
+     * @return O número de mudanças.
+     */
+    public int getArrayChanges() {
+        return arrayChanges;
+    }
+
+    /**
+     * Retorna o tempo de execução em nanossegundos.
+     *
+     * @return O tempo de execução.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Indica se o array terminou ordenado.
+     *
+     * @return true se o array estiver ordenado, false caso contrário.
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Retorna o número de leituras feitas pelo algoritmo.
+     *
+     * @return As leituras.
+     */
+    public long getReads() {
+        return reads;
+    }
+
+    /**
+     * Retorna o número de comparações feitas pelo algoritmo.
+     *
+     * @return As comparações.
+     */
+    public long getCompares() {
+        return compares;
+    }
+
+    /**
+     * Retorna o número de escritas feitas pelo algoritmo.
+     *
+     * @return As escritas.
+     */
+    public long getWrites() {
+        return writes;
+    }
+
+    /**
+     * Retorna o número de trocas feitas pelo algoritmo.
+     *
+     * @return As trocas.
+     */
+    public long getSwaps() {
+        return swaps;
+    }
+
+    /**
+     * Retorna o pico de memória auxiliar usada pelo algoritmo.
+     *
+     * @return O pico em bytes.
+     */
+    public long getPeakAuxBytes() {
+        return peakAuxBytes;
+    }
+
+    /**
+     * Retorna o tempo de execução sem o tempo gasto nos observadores (atrasos da animação,
+     * repaint e gravação).
+     *
+     * @return O tempo do algoritmo em nanossegundos.
+     */
+    public long getAlgorithmNanos() {
+        return algorithmNanos;
+    }
+
+    @Override
+    public String toString() {
+        return algorithmName + " [n=" + size + ", changes=" + arrayChanges
+                + ", reads=" + reads + ", compares=" + compares + ", writes=" + writes + ", swaps=" + swaps
+                + ", aux=" + peakAuxBytes + "B, " + (elapsedNanos / 1_000) + "us (" + (algorithmNanos / 1_000)
+                + "us algorithm), sorted=" + sorted + "]";
+    }
+}
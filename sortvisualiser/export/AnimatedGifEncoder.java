@@ -0,0 +1,285 @@
+package src.main.java.sortvisualiser.export;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A classe AnimatedGifEncoder grava os quadros em um único GIF animado, repetido sem fim.
+ * Os quadros usam uma paleta fixa com as cores das barras e do fundo, então não há
+ * quantização: cada pixel é convertido para o índice da cor mais próxima da paleta.
+ *
+ * <p>Cada quadro de um GIF é comprimido com LZW de forma independente dos demais. Por isso
+ * a conversão para índices e a compressão rodam inteiras nos workers do FramePipeline, e a
+ * thread de escrita apenas concatena os blocos prontos, na ordem.</p>
+ */
+public final class AnimatedGifEncoder implements FrameEncoder<byte[]> {
+    private static final int MAX_CODES = 4096; // Maior número de códigos LZW do GIF (12 bits)
+    private static final int MAX_SUB_BLOCK = 255; // Maior tamanho de um sub-bloco de dados
+
+    private final int width; // Largura dos quadros
+    private final int height; // Altura dos quadros
+    private final int delayCentiseconds; // Duração de cada quadro, em centésimos de segundo
+    private final int[] palette; // Cores da paleta, em RGB
+    private final int colourTableBits; // Bits por índice da paleta (a paleta tem 2^bits cores)
+    private final OutputStream output; // Arquivo GIF
+
+    /**
+     * Construtor da classe AnimatedGifEncoder. Grava o cabeçalho, a paleta e a extensão de repetição.
+     *
+     * @param file              O arquivo GIF.
+     * @param width             A largura dos quadros.
+     * @param height            A altura dos quadros.
+     * @param delayCentiseconds A duração de cada quadro, em centésimos de segundo.
+     * @param colours           As cores da paleta, no máximo 256.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    public AnimatedGifEncoder(Path file, int width, int height, int delayCentiseconds, Color[] colours)
+            throws IOException {
+        if (colours.length == 0 || colours.length > 256) {
+            throw new IllegalArgumentException("A GIF palette needs between 1 and 256 colours");
+        }
+        this.width = width;
+        this.height = height;
+        this.delayCentiseconds = delayCentiseconds;
+        int bits = 1;
+        while ((1 << bits) < colours.length) {
+            bits++;
+        }
+        this.colourTableBits = bits;
+        this.palette = new int[1 << bits];
+        for (int i = 0; i < colours.length; i++) {
+            palette[i] = colours[i].getRGB() & 0xFFFFFF;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.output = new BufferedOutputStream(Files.newOutputStream(file));
+        writeHeader();
+    }
+
+    private void writeHeader() throws IOException {
+        output.write("GIF89a".getBytes(StandardCharsets.US_ASCII));
+        writeShort(output, width);
+        writeShort(output, height);
+        output.write(0x80 | 0x70 | (colourTableBits - 1)); // Paleta global, 8 bits por canal
+        output.write(0); // Cor de fundo
+        output.write(0); // Proporção dos pixels
+        for (int rgb : palette) {
+            output.write(rgb >> 16);
+            output.write(rgb >> 8);
+            output.write(rgb);
+        }
+        output.write(0x21); // Extensão de aplicação NETSCAPE2.0: repete a animação sem fim
+        output.write(0xFF);
+        output.write(11);
+        output.write("NETSCAPE2.0".getBytes(StandardCharsets.US_ASCII));
+        output.write(3);
+        output.write(1);
+        writeShort(output, 0);
+        output.write(0);
+    }
+
+    private static void writeShort(OutputStream out, int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >> 8) & 0xFF);
+    }
+
+    /**
+     * Converte o quadro para índices da paleta e o comprime, gerando o bloco completo do quadro
+     * (controle gráfico, descritor da imagem e dados LZW).
+     *
+     * @param frameIndex O índice do quadro.
+     * @param frame      A imagem do quadro, com o tamanho do GIF.
+     * @return O bloco do quadro.
+     */
+    @Override
+    public byte[] encode(int frameIndex, BufferedImage frame) {
+        if (frame.getWidth() != width || frame.getHeight() != height) {
+            throw new IllegalArgumentException("Frame " + frameIndex + " is " + frame.getWidth() + "x"
+                    + frame.getHeight() + ", expected " + width + "x" + height);
+        }
+        byte[] indices = toIndices(frame.getRGB(0, 0, width, height, null, 0, width));
+        ByteArrayOutputStream block = new ByteArrayOutputStream(indices.length / 8 + 64);
+        block.write(0x21); // Extensão de controle gráfico
+        block.write(0xF9);
+        block.write(4);
+        block.write(1 << 2); // Descarte: mantém o quadro anterior
+        block.write(delayCentiseconds & 0xFF);
+        block.write((delayCentiseconds >> 8) & 0xFF);
+        block.write(0); // Sem cor transparente
+        block.write(0);
+        block.write(0x2C); // Descritor da imagem: o quadro inteiro, sem paleta local
+        block.write(0);
+        block.write(0);
+        block.write(0);
+        block.write(0);
+        block.write(width & 0xFF);
+        block.write((width >> 8) & 0xFF);
+        block.write(height & 0xFF);
+        block.write((height >> 8) & 0xFF);
+        block.write(0);
+        compress(indices, block);
+        return block.toByteArray();
+    }
+
+    /**
+     * Converte pixels RGB para índices da paleta. Pixels fora da paleta (como as bordas
+     * suavizadas do texto) recebem a cor mais próxima; a última conversão é lembrada, o que
+     * torna as longas sequências de pixels iguais das barras baratas.
+     *
+     * @param pixels Os pixels RGB.
+     * @return Os índices da paleta.
+     */
+    private byte[] toIndices(int[] pixels) {
+        byte[] indices = new byte[pixels.length];
+        int lastRgb = -1;
+        byte lastIndex = 0;
+        for (int i = 0; i < pixels.length; i++) {
+            int rgb = pixels[i] & 0xFFFFFF;
+            if (rgb != lastRgb) {
+                lastRgb = rgb;
+                lastIndex = (byte) nearestColour(rgb);
+            }
+            indices[i] = lastIndex;
+        }
+        return indices;
+    }
+
+    private int nearestColour(int rgb) {
+        int best = 0;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < palette.length; i++) {
+            int dr = ((palette[i] >> 16) & 0xFF) - ((rgb >> 16) & 0xFF);
+            int dg = ((palette[i] >> 8) & 0xFF) - ((rgb >> 8) & 0xFF);
+            int db = (palette[i] & 0xFF) - (rgb & 0xFF);
+            int distance = dr * dr + dg * dg + db * db;
+            if (distance < bestDistance) {
+                best = i;
+                bestDistance = distance;
+                if (distance == 0) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Comprime os índices com o LZW de tamanho de código variável do GIF e grava o tamanho
+     * mínimo do código seguido dos dados em sub-blocos.
+     *
+     * @param indices Os índices da paleta.
+     * @param block   O bloco do quadro.
+     */
+    private void compress(byte[] indices, ByteArrayOutputStream block) {
+        int minCodeSize = Math.max(2, colourTableBits);
+        int clearCode = 1 << minCodeSize;
+        int endCode = clearCode + 1;
+        int alphabet = palette.length;
+        int[] table = new int[MAX_CODES * alphabet]; // Código da sequência (prefixo, índice), ou -1
+        Arrays.fill(table, -1);
+
+        block.write(minCodeSize);
+        SubBlockWriter bits = new SubBlockWriter(block);
+        int codeSize = minCodeSize + 1;
+        int nextCode = clearCode + 2;
+        bits.write(clearCode, codeSize);
+        int prefix = indices.length > 0 ? indices[0] & 0xFF : 0;
+        for (int i = 1; i < indices.length; i++) {
+            int index = indices[i] & 0xFF;
+            int key = prefix * alphabet + index;
+            int code = table[key];
+            if (code >= 0) {
+                prefix = code;
+                continue;
+            }
+            bits.write(prefix, codeSize);
+            if (nextCode < MAX_CODES) {
+                if (nextCode == (1 << codeSize)) {
+                    codeSize++;
+                }
+                table[key] = nextCode++;
+            } else {
+                bits.write(clearCode, codeSize); // Dicionário cheio: recomeça
+                Arrays.fill(table, -1);
+                codeSize = minCodeSize + 1;
+                nextCode = clearCode + 2;
+            }
+            prefix = index;
+        }
+        bits.write(prefix, codeSize);
+        bits.write(endCode, codeSize);
+        bits.finish();
+    }
+
+    @Override
+    public void write(int frameIndex, byte[] encoded) throws IOException {
+        output.write(encoded);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        output.write(0x3B); // Fim do arquivo
+        output.close();
+    }
+
+    /**
+     * Agrupa os códigos LZW em bytes, do bit menos significativo para o mais significativo,
+     * e os grava em sub-blocos de até 255 bytes.
+     */
+    private static final class SubBlockWriter {
+        private final ByteArrayOutputStream block; // Bloco do quadro
+        private final byte[] subBlock = new byte[MAX_SUB_BLOCK]; // Sub-bloco em montagem
+        private int subBlockLength = 0; // Bytes no sub-bloco em montagem
+        private int pendingBits = 0; // Bits ainda não gravados
+        private int pendingBitCount = 0; // Número de bits em pendingBits
+
+        SubBlockWriter(ByteArrayOutputStream block) {
+            this.block = block;
+        }
+
+        void write(int code, int codeSize) {
+            pendingBits |= code << pendingBitCount;
+            pendingBitCount += codeSize;
+            while (pendingBitCount >= 8) {
+                writeByte(pendingBits & 0xFF);
+                pendingBits >>>= 8;
+                pendingBitCount -= 8;
+            }
+        }
+
+        private void writeByte(int value) {
+            subBlock[subBlockLength++] = (byte) value;
+            if (subBlockLength == MAX_SUB_BLOCK) {
+                flushSubBlock();
+            }
+        }
+
+        private void flushSubBlock() {
+            if (subBlockLength > 0) {
+                block.write(subBlockLength);
+                block.write(subBlock, 0, subBlockLength);
+                subBlockLength = 0;
+            }
+        }
+
+        void finish() {
+            if (pendingBitCount > 0) {
+                writeByte(pendingBits & 0xFF);
+                pendingBits = 0;
+                pendingBitCount = 0;
+            }
+            flushSubBlock();
+            block.write(0); // Fim dos dados da imagem
+        }
+    }
+}
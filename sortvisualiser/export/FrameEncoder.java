@@ -0,0 +1,44 @@
+package src.main.java.sortvisualiser.export;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * A interface FrameEncoder define um formato de saída da exportação de quadros. A codificação
+ * é dividida em duas etapas para que a parte cara rode em paralelo:
+ *
+ * <ul>
+ *     <li>encode() é chamado pelos workers do FramePipeline, em qualquer ordem e ao mesmo tempo;</li>
+ *     <li>write() é chamado por uma única thread, na ordem dos quadros.</li>
+ * </ul>
+ *
+ * @param <T> O resultado da codificação de um quadro, passado de encode() para write().
+ */
+public interface FrameEncoder<T> {
+
+    /**
+     * Codifica um quadro. Não deve guardar a imagem: ela é reaproveitada depois que o método retorna.
+     *
+     * @param frameIndex O índice do quadro, a partir de 0.
+     * @param frame      A imagem do quadro.
+     * @return O quadro codificado.
+     * @throws IOException se o quadro não puder ser codificado ou gravado.
+     */
+    T encode(int frameIndex, BufferedImage frame) throws IOException;
+
+    /**
+     * Grava um quadro codificado. Os quadros chegam na ordem dos índices.
+     *
+     * @param frameIndex O índice do quadro.
+     * @param encoded    O resultado de encode() para o quadro.
+     * @throws IOException se o quadro não puder ser gravado.
+     */
+    void write(int frameIndex, T encoded) throws IOException;
+
+    /**
+     * Termina a saída depois do último quadro.
+     *
+     * @throws IOException se a saída não puder ser finalizada.
+     */
+    void finish() throws IOException;
+}
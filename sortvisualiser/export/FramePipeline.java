@@ -0,0 +1,190 @@
+package src.main.java.sortvisualiser.export;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A classe FramePipeline liga a thread que desenha os quadros a um pool de workers que os
+ * codifica. O desenho fica em uma única thread (a do algoritmo), os quadros são codificados
+ * em paralelo e uma thread de escrita grava os resultados na ordem original.
+ *
+ * <p>O pipeline é limitado: no máximo capacity quadros ficam pendentes entre o desenho e a
+ * escrita. Quando o limite é atingido, submit() bloqueia a thread do desenho até a escrita
+ * alcançá-la, e as imagens dos quadros já codificados são reaproveitadas por acquireFrame(),
+ * de modo que a memória usada não cresce com o número de quadros.</p>
+ *
+ * @param <T> O resultado da codificação de um quadro.
+ */
+public final class FramePipeline<T> implements AutoCloseable {
+    private static final Future<Object> END = CompletableFuture.completedFuture(null); // Marca o fim dos quadros
+
+    private final FrameEncoder<T> encoder; // Formato de saída
+    private final ExecutorService workers; // Workers que codificam os quadros
+    private final BlockingQueue<Future<?>> pending; // Quadros submetidos, na ordem, aguardando a escrita
+    private final BlockingQueue<BufferedImage> freeFrames; // Imagens de quadros já codificados, para reaproveitar
+    private final Thread writer; // Thread que grava os quadros na ordem
+    private volatile Throwable failure; // Primeiro erro da codificação ou da escrita
+    private int submitted = 0; // Número de quadros submetidos
+    private boolean closed = false; // Indica se close() já foi chamado
+
+    /**
+     * Construtor da classe FramePipeline. Inicia os workers e a thread de escrita.
+     *
+     * @param encoder  O formato de saída.
+     * @param threads  O número de workers de codificação.
+     * @param capacity O número máximo de quadros pendentes.
+     */
+    public FramePipeline(FrameEncoder<T> encoder, int threads, int capacity) {
+        if (threads < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Threads and capacity must be at least 1");
+        }
+        this.encoder = encoder;
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, (task) -> {
+            Thread thread = new Thread(task, "frame-encoder-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pending = new ArrayBlockingQueue<>(capacity + 1); // + 1 para a marca de fim
+        this.freeFrames = new ArrayBlockingQueue<>(capacity + 1);
+        this.writer = new Thread(this::writeFrames, "frame-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Retorna uma imagem para o próximo quadro, reaproveitando a de um quadro já codificado quando possível.
+     *
+     * @param width  A largura do quadro.
+     * @param height A altura do quadro.
+     * @return Uma imagem RGB com o tamanho informado e conteúdo indefinido.
+     */
+    public BufferedImage acquireFrame(int width, int height) {
+        BufferedImage frame;
+        while ((frame = freeFrames.poll()) != null) {
+            if (frame.getWidth() == width && frame.getHeight() == height) {
+                return frame;
+            }
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Submete um quadro para codificação. A imagem passa a pertencer ao pipeline e não deve mais
+     * ser alterada. Bloqueia enquanto houver capacity quadros pendentes.
+     *
+     * @param frame A imagem do quadro, obtida de preferência com acquireFrame().
+     * @throws IOException se um quadro anterior falhou ou se a thread foi interrompida.
+     */
+    public void submit(BufferedImage frame) throws IOException {
+        checkFailure();
+        if (closed) {
+            throw new IllegalStateException("Pipeline is closed");
+        }
+        int frameIndex = submitted++;
+        Future<T> encoded = workers.submit(() -> {
+            try {
+                return encoder.encode(frameIndex, frame);
+            } finally {
+                freeFrames.offer(frame);
+            }
+        });
+        try {
+            pending.put(encoded);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the encoders");
+        }
+    }
+
+    /**
+     * Retorna o número de quadros submetidos.
+     *
+     * @return Os quadros submetidos.
+     */
+    public int getSubmittedFrames() {
+        return submitted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeFrames() {
+        int frameIndex = 0;
+        try {
+            while (true) {
+                Future<?> next = pending.take();
+                if (next == END) {
+                    return;
+                }
+                T encoded = (T) next.get();
+                if (failure == null) {
+                    encoder.write(frameIndex, encoded);
+                }
+                frameIndex++;
+            }
+        } catch (ExecutionException ex) {
+            fail(ex.getCause());
+        } catch (InterruptedException ex) {
+            fail(ex);
+        } catch (IOException | RuntimeException ex) {
+            fail(ex);
+        }
+        // Depois de um erro, continua retirando os quadros para que submit() não fique bloqueado
+        while (true) {
+            try {
+                if (pending.take() == END) {
+                    return;
+                }
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+
+    private void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable cause = failure;
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        } else if (cause != null) {
+            throw new IOException("Frame encoding failed", cause);
+        }
+    }
+
+    /**
+     * Espera todos os quadros submetidos serem gravados, finaliza a saída e encerra os workers.
+     *
+     * @throws IOException se algum quadro ou a finalização falharem.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            pending.put(END);
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the encoders");
+        } finally {
+            workers.shutdownNow();
+        }
+        checkFailure();
+        encoder.finish();
+    }
+}
@@ -0,0 +1,56 @@
+package src.main.java.sortvisualiser.export;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import javax.imageio.ImageIO;
+
+/**
+ * A classe PngSequenceEncoder grava cada quadro como um arquivo PNG em um diretório, com
+ * nomes numerados (frame_000000.png, frame_000001.png, ...). Cada arquivo é independente,
+ * então a compressão e a gravação rodam inteiras nos workers do FramePipeline.
+ */
+public final class PngSequenceEncoder implements FrameEncoder<Void> {
+    private final Path directory; // Diretório dos arquivos
+
+    /**
+     * Construtor da classe PngSequenceEncoder.
+     *
+     * @param directory O diretório dos arquivos; é criado se não existir.
+     * @throws IOException se o diretório não puder ser criado.
+     */
+    public PngSequenceEncoder(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Retorna o caminho do arquivo de um quadro.
+     *
+     * @param frameIndex O índice do quadro.
+     * @return O caminho do arquivo PNG.
+     */
+    public Path framePath(int frameIndex) {
+        return directory.resolve(String.format(Locale.ROOT, "frame_%06d.png", frameIndex));
+    }
+
+    @Override
+    public Void encode(int frameIndex, BufferedImage frame) throws IOException {
+        if (!ImageIO.write(frame, "png", framePath(frameIndex).toFile())) {
+            throw new IOException("No PNG writer available");
+        }
+        return null;
+    }
+
+    @Override
+    public void write(int frameIndex, Void encoded) {
+        // Os arquivos já foram gravados pelos workers
+    }
+
+    @Override
+    public void finish() {
+        // Não há nada a finalizar: cada quadro é um arquivo completo
+    }
+}
@@ -0,0 +1,274 @@
+package src.main.java.sortvisualiser.export;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortArrayListener;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.SortAlgorithms;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.engine.SortEngine;
+import src.main.java.sortvisualiser.engine.SortResult;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.input.InputGenerator;
+import src.main.java.sortvisualiser.keys.ElementType;
+import src.main.java.sortvisualiser.keys.SortKeys;
+import src.main.java.sortvisualiser.render.BarRenderer;
+
+/**
+ * A classe SortExport exporta a execução de um algoritmo como uma sequência de PNGs ou um GIF
+ * animado, sem janela (java.awt.headless=true), para gerar material de demonstração em
+ * máquinas sem display.
+ *
+ * <p>Uma primeira execução sem observadores conta as operações animadas, para distribuir os
+ * quadros pedidos ao longo da execução. Na segunda, a thread do algoritmo desenha um quadro a
+ * cada N operações com o mesmo BarRenderer da janela e o entrega a um FramePipeline, que
+ * codifica os quadros em um pool de workers.</p>
+ *
+ * <pre>
+ * java -cp bin src.main.java.sortvisualiser.export.SortExport \
+ *     --algorithm="Quick Sort" --size=256 --format=gif --output=quick-sort.gif
+ * </pre>
+ */
+public final class SortExport {
+    private static final Font OVERLAY_FONT = new Font("Monospaced", Font.BOLD, 20); // Fonte do texto sobreposto
+
+    private String algorithmName = null; // Nome do algoritmo a exportar
+    private int size = 256; // Tamanho do array
+    private InputGenerator distribution = InputDistribution.RANDOM; // Distribuição da entrada
+    private long seed = 42; // Semente da entrada
+    private ElementType elementType = ElementType.INT; // Tipo dos elementos
+    private String format = "gif"; // Formato de saída: gif ou png
+    private Path output = null; // Arquivo GIF ou diretório dos PNGs
+    private int width = 1280; // Largura dos quadros
+    private int height = 720; // Altura dos quadros
+    private int frames = 300; // Número aproximado de quadros
+    private int framesPerSecond = 30; // Taxa de quadros do GIF
+    private int threads = Runtime.getRuntime().availableProcessors(); // Workers de codificação
+    private int queueCapacity = 16; // Quadros pendentes entre o desenho e a escrita
+    private int parallelism = Runtime.getRuntime().availableProcessors(); // Workers dos algoritmos paralelos
+
+    /**
+     * Executa a exportação.
+     *
+     * @param args Opções no formato --nome=valor; --algorithm é obrigatória.
+     * @throws IOException se os quadros não puderem ser gravados.
+     */
+    public static void main(String... args) throws IOException {
+        System.setProperty("java.awt.headless", "true"); // Antes de qualquer classe do AWT ser carregada
+        SortExport export = new SortExport();
+        export.parseArguments(args);
+        export.run();
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "algorithm":
+                    algorithmName = value;
+                    break;
+                case "size":
+                    size = Integer.parseInt(value);
+                    break;
+                case "distribution":
+                    distribution = InputDistribution.parse(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "type":
+                    elementType = ElementType.parse(value);
+                    break;
+                case "format":
+                    format = value.toLowerCase(Locale.ROOT);
+                    break;
+                case "output":
+                    output = Paths.get(value);
+                    break;
+                case "width":
+                    width = Integer.parseInt(value);
+                    break;
+                case "height":
+                    height = Integer.parseInt(value);
+                    break;
+                case "frames":
+                    frames = Integer.parseInt(value);
+                    break;
+                case "fps":
+                    framesPerSecond = Integer.parseInt(value);
+                    break;
+                case "threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "queue":
+                    queueCapacity = Integer.parseInt(value);
+                    break;
+                case "parallelism":
+                    parallelism = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (algorithmName == null) {
+            throw new IllegalArgumentException("Missing --algorithm");
+        }
+        if (!format.equals("gif") && !format.equals("png")) {
+            throw new IllegalArgumentException("Unknown format " + format + ", expected gif or png");
+        }
+        if (frames < 1 || framesPerSecond < 1 || width < 1 || height < 1) {
+            throw new IllegalArgumentException("Frames, fps, width and height must be positive");
+        }
+        if (output == null) {
+            String baseName = algorithmName.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+            output = Paths.get(format.equals("gif") ? baseName + ".gif" : baseName + "-frames");
+        }
+    }
+
+    private UiSortAlgoritimo createAlgorithm() {
+        UiSortAlgoritimo algorithm = SortAlgorithms.create(algorithmName);
+        algorithm.setDelay(0);
+        if (algorithm instanceof ParallelSortAlgoritimo) {
+            ((ParallelSortAlgoritimo) algorithm).setParallelism(parallelism);
+        }
+        return algorithm;
+    }
+
+    private FrameEncoder<?> createEncoder() throws IOException {
+        if (format.equals("png")) {
+            return new PngSequenceEncoder(output);
+        }
+        Color[] barColours = BarRenderer.barColours();
+        Color[] palette = new Color[barColours.length + 1];
+        palette[0] = BarRenderer.BACKGROUND_COLOUR;
+        System.arraycopy(barColours, 0, palette, 1, barColours.length);
+        return new AnimatedGifEncoder(output, width, height, Math.max(1, 100 / framesPerSecond), palette);
+    }
+
+    private void run() throws IOException {
+        int[] input = InputCache.shared().get(distribution, size, seed);
+        SortKeys keys = elementType.createKeys(input);
+        if (keys != null) {
+            input = keys.handles();
+        }
+        SortEngine engine = new SortEngine();
+
+        // Execução de contagem: as operações animadas são as trocas e as escritas, inclusive nos buffers auxiliares
+        SortResult dryRun = engine.run(createAlgorithm(), SortEngine.newArray(createAlgorithm(), input, keys));
+        long animatedOps = dryRun.getSwaps() + dryRun.getWrites();
+        long opsPerFrame = Math.max(1, (animatedOps + frames - 1) / frames);
+
+        long start = System.nanoTime();
+        SortArray array = SortEngine.newArray(createAlgorithm(), input, keys);
+        SortResult result;
+        int exported;
+        try (FramePipeline<?> pipeline = new FramePipeline<>(createEncoder(), threads, queueCapacity)) {
+            FrameCapture capture = new FrameCapture(array, pipeline, opsPerFrame);
+            array.addListener(capture);
+            capture.capture(); // Quadro inicial, com a entrada desordenada
+            try {
+                result = engine.run(createAlgorithm(), array);
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            array.resetColours();
+            capture.capture(); // Quadro final, com o array ordenado
+            exported = pipeline.getSubmittedFrames();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%s: %d frames (%d ops/frame) to %s in %.2f s (%.1f frames/s), sorted=%b%n",
+                result.getAlgorithmName(), exported, opsPerFrame, output, seconds, exported / seconds, result.isSorted());
+    }
+
+    /**
+     * Observador que desenha um quadro a cada opsPerFrame operações animadas e o entrega ao
+     * pipeline. Os métodos são sincronizados porque os algoritmos paralelos notificam de
+     * vários workers ao mesmo tempo.
+     */
+    private final class FrameCapture implements SortArrayListener {
+        private final SortArray array; // Array exportado
+        private final FramePipeline<?> pipeline; // Pipeline que codifica os quadros
+        private final BarRenderer renderer; // Mesmo renderer de barras da janela
+        private final long opsPerFrame; // Operações animadas entre dois quadros
+        private long operations = 0; // Operações animadas desde o início
+
+        FrameCapture(SortArray array, FramePipeline<?> pipeline, long opsPerFrame) {
+            this.array = array;
+            this.pipeline = pipeline;
+            this.renderer = new BarRenderer(array);
+            this.opsPerFrame = opsPerFrame;
+        }
+
+        @Override
+        public synchronized void onSwap(int firstIndex, int secondIndex, int value, long millisecondDelay, boolean isStep) {
+            renderer.markChanged(firstIndex);
+            renderer.markChanged(secondIndex);
+            countOperation();
+        }
+
+        @Override
+        public synchronized void onUpdate(int index, int previousValue, int value, long millisecondDelay, boolean isStep) {
+            renderer.markChanged(index);
+            countOperation();
+        }
+
+        @Override
+        public synchronized void onAuxUpdate(AuxArray aux, int index, int value, long millisecondDelay) {
+            countOperation();
+        }
+
+        @Override
+        public synchronized void onColoursReset() {
+            renderer.markAll();
+        }
+
+        @Override
+        public synchronized void onHighlight(int from, int to) {
+            renderer.markRange(from, to);
+        }
+
+        private void countOperation() {
+            if (++operations % opsPerFrame == 0) {
+                try {
+                    capture();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        }
+
+        /**
+         * Desenha o estado atual do array em um novo quadro e o entrega ao pipeline.
+         *
+         * @throws IOException se um quadro anterior falhou ou se a thread foi interrompida.
+         */
+        synchronized void capture() throws IOException {
+            renderer.update(width, height);
+            BufferedImage frame = pipeline.acquireFrame(width, height);
+            Graphics2D graphics = frame.createGraphics();
+            graphics.drawImage(renderer.getImage(), 0, 0, null);
+            graphics.setColor(Color.WHITE);
+            graphics.setFont(OVERLAY_FONT); // Sem antialiasing: o texto fica com as cores da paleta do GIF
+            graphics.drawString(" Current algorithm: " + array.algorithmName, 10, 30);
+            graphics.drawString("     Array Changes: " + array.getArrayChanges(), 10, 55);
+            graphics.dispose();
+            pipeline.submit(frame);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package src.main.java.sortvisualiser.external;
+
+import java.util.Locale;
+
+/**
+ * A classe ExternalSortStats guarda o custo de uma ordenação externa: os bytes lidos e escritos
+ * nos arquivos, o número de passadas sobre os dados, as runs geradas, o grau da intercalação,
+ * as comparações e o tempo.
+ */
+public final class ExternalSortStats {
+    private final long elements; // Número de elementos ordenados
+    private final long runs; // Runs geradas na primeira passada
+    private final int fanIn; // Número máximo de runs intercaladas de uma vez
+    private final int passes; // Passadas sobre os dados, incluindo a geração das runs
+    private final long bytesRead; // Bytes lidos dos arquivos
+    private final long bytesWritten; // Bytes escritos nos arquivos
+    private final long compares; // Comparações feitas
+    private final long elapsedNanos; // Tempo da ordenação
+
+    /**
+     * Construtor da classe ExternalSortStats.
+     *
+     * @param elements     O número de elementos ordenados.
+     * @param runs         As runs geradas na primeira passada.
+     * @param fanIn        O número máximo de runs intercaladas de uma vez.
+     * @param passes       As passadas sobre os dados, incluindo a geração das runs.
+     * @param bytesRead    Os bytes lidos dos arquivos.
+     * @param bytesWritten Os bytes escritos nos arquivos.
+     * @param compares     As comparações feitas.
+     * @param elapsedNanos O tempo da ordenação em nanossegundos.
+     */
+    public ExternalSortStats(long elements, long runs, int fanIn, int passes, long bytesRead, long bytesWritten,
+            long compares, long elapsedNanos) {
+        this.elements = elements;
+        this.runs = runs;
+        this.fanIn = fanIn;
+        this.passes = passes;
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.compares = compares;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retorna o número de elementos ordenados.
+     *
+     * @return O número de elementos.
+     */
+    public long getElements() {
+        return elements;
+    }
+
+    /**
+     * Retorna o número de runs ordenadas geradas na primeira passada.
+     *
+     * @return O número de runs.
+     */
+    public long getRuns() {
+        return runs;
+    }
+
+    /**
+     * Retorna o número máximo de runs intercaladas de uma vez.
+     *
+     * @return O grau da intercalação.
+     */
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    /**
+     * Retorna o número de passadas sobre os dados: a geração das runs e cada nível de intercalação.
+     *
+     * @return O número de passadas.
+     */
+    public int getPasses() {
+        return passes;
+    }
+
+    /**
+     * Retorna os bytes lidos dos arquivos.
+     *
+     * @return Os bytes lidos.
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Retorna os bytes escritos nos arquivos.
+     *
+     * @return Os bytes escritos.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Retorna o número de comparações feitas. Na ordem natural, as runs iniciais são ordenadas
+     * com Arrays.sort e só as comparações da intercalação são contadas.
+     *
+     * @return As comparações.
+     */
+    public long getCompares() {
+        return compares;
+    }
+
+    /**
+     * Retorna o tempo da ordenação.
+     *
+     * @return O tempo em nanossegundos.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        double seconds = elapsedNanos / 1e9;
+        double megabytes = (bytesRead + bytesWritten) / (1024.0 * 1024.0);
+        return String.format(Locale.ROOT, "%d elements, %d runs, fan-in %d, %d passes, %.1f MiB read, "
+                + "%.1f MiB written, %d compares, %.3f s (%.1f MiB/s)", elements, runs, fanIn, passes,
+                bytesRead / (1024.0 * 1024.0), bytesWritten / (1024.0 * 1024.0), compares, seconds,
+                seconds > 0 ? megabytes / seconds : 0.0);
+    }
+}
@@ -0,0 +1,126 @@
+package src.main.java.sortvisualiser.external;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * A classe ExternalSortTool ordena pela linha de comando um arquivo de ints maior que o heap,
+ * com o ExternalSorter, e imprime o custo de E/S: bytes lidos e escritos, passadas e runs.
+ *
+ * <p>Com --size, o arquivo é criado antes com valores aleatórios, gerados bloco a bloco para
+ * que nem a geração precise do arquivo inteiro no heap.</p>
+ *
+ * <pre>
+ * java -Xmx256m -cp bin src.main.java.sortvisualiser.external.ExternalSortTool \
+ *     --file=data.bin --size=1000000000 --memory-mb=64 --block-kb=256
+ * </pre>
+ */
+public final class ExternalSortTool {
+    private static final int GENERATION_BLOCK = 1 << 20; // Valores gerados de cada vez
+
+    private Path file; // Arquivo a ordenar
+    private long size = -1; // Elementos a gerar, ou -1 para ordenar o arquivo existente
+    private long seed = 42; // Semente dos valores gerados
+    private int memoryMegabytes = 64; // Memória do heap usada pela ordenação
+    private int blockKilobytes = 256; // Tamanho de cada bloco de leitura ou escrita
+    private Path tempDirectory; // Diretório do arquivo temporário, ou null para o do arquivo
+    private boolean verify = true; // Confere se o arquivo terminou ordenado
+
+    /**
+     * Ordena o arquivo e imprime o custo.
+     *
+     * @param args Opções no formato --nome=valor.
+     * @throws IOException se o arquivo não puder ser lido ou escrito.
+     */
+    public static void main(String... args) throws IOException {
+        ExternalSortTool tool = new ExternalSortTool();
+        tool.parseArguments(args);
+        tool.run();
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "file":
+                    file = Path.of(value);
+                    break;
+                case "size":
+                    size = Long.parseLong(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "memory-mb":
+                    memoryMegabytes = Integer.parseInt(value);
+                    break;
+                case "block-kb":
+                    blockKilobytes = Integer.parseInt(value);
+                    break;
+                case "temp-dir":
+                    tempDirectory = Path.of(value);
+                    break;
+                case "verify":
+                    verify = Boolean.parseBoolean(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("--file is required");
+        }
+    }
+
+    private void run() throws IOException {
+        int memoryInts = (int) Math.min(Integer.MAX_VALUE - 8, (long) memoryMegabytes * 1024 * 1024 / Integer.BYTES);
+        int blockInts = blockKilobytes * 1024 / Integer.BYTES;
+        ExternalSorter sorter = new ExternalSorter(memoryInts, blockInts, tempDirectory);
+        try (MappedIntArray data = size >= 0 ? MappedIntArray.create(file, size) : MappedIntArray.open(file)) {
+            if (size >= 0) {
+                generate(data);
+                data.resetCounters();
+            }
+            ExternalSortStats stats = sorter.sort(data, null, null);
+            System.out.println(stats);
+            if (verify) {
+                long unsorted = firstUnsortedIndex(data);
+                System.out.println(unsorted < 0 ? "Sorted" : "NOT sorted at index " + unsorted);
+            }
+        }
+    }
+
+    private void generate(MappedIntArray data) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] block = new int[(int) Math.min(GENERATION_BLOCK, data.length())];
+        for (long first = 0; first < data.length(); first += block.length) {
+            int count = (int) Math.min(block.length, data.length() - first);
+            for (int i = 0; i < count; i++) {
+                block[i] = random.nextInt();
+            }
+            data.write(first, block, 0, count);
+        }
+    }
+
+    private static long firstUnsortedIndex(MappedIntArray data) {
+        int[] block = new int[(int) Math.min(GENERATION_BLOCK, Math.max(1, data.length()))];
+        int previous = Integer.MIN_VALUE;
+        for (long first = 0; first < data.length(); first += block.length) {
+            int count = (int) Math.min(block.length, data.length() - first);
+            data.read(first, block, 0, count);
+            for (int i = 0; i < count; i++) {
+                if (block[i] < previous) {
+                    return first + i;
+                }
+                previous = block[i];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,342 @@
+package src.main.java.sortvisualiser.external;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A classe ExternalSorter implementa o merge sort externo sobre um MappedIntArray, usando uma
+ * quantidade fixa de memória do heap independentemente do tamanho do arquivo.
+ *
+ * <p>A primeira passada lê o arquivo em blocos do tamanho da memória, ordena cada bloco e o
+ * grava como uma run ordenada. Cada passada seguinte intercala grupos de até fanIn runs com um
+ * heap mínimo das cabeças das runs, lendo e escrevendo em blocos de blockInts valores, até
+ * sobrar uma única run. As passadas alternam entre o arquivo original e um arquivo temporário
+ * do mesmo tamanho; como o número de passadas é conhecido antes de começar, a primeira passada
+ * escolhe o destino para que a última termine no arquivo original, sem uma cópia final.</p>
+ *
+ * <p>Cada passada lê e escreve o arquivo inteiro uma vez, então os bytes de E/S são
+ * 4 * n * passadas em cada sentido, com passadas = 1 + ceil(log_fanIn(runs)).</p>
+ */
+public final class ExternalSorter {
+
+    /**
+     * Observador das escritas de uma ordenação externa, usado pela visualização.
+     */
+    public interface Observer {
+        /**
+         * Chamado antes de cada passada.
+         *
+         * @param pass         O número da passada, começando em 1 na geração das runs.
+         * @param runsToMerge  O número de runs que a passada vai produzir.
+         */
+        default void onPassStarted(int pass, long runsToMerge) {
+        }
+
+        /**
+         * Chamado depois que um bloco de valores foi escrito no arquivo de destino da passada.
+         *
+         * @param index  O índice do primeiro valor escrito.
+         * @param values O array com os valores escritos.
+         * @param offset A posição do primeiro valor no array.
+         * @param count  O número de valores escritos.
+         */
+        void onWrite(long index, int[] values, int offset, int count);
+    }
+
+    private final int memoryInts; // Valores que cabem na memória: o tamanho de cada run inicial
+    private final int blockInts; // Valores lidos ou escritos de uma vez na intercalação
+    private final int fanIn; // Runs intercaladas de uma vez
+    private final Path tempDirectory; // Diretório do arquivo temporário, ou null para o do arquivo ordenado
+
+    private IntBinaryOperator comparator; // Ordem dos valores na ordenação atual
+    private long compares; // Comparações da ordenação atual
+
+    /**
+     * Construtor da classe ExternalSorter.
+     *
+     * @param memoryInts    O número de valores que cabem na memória; define o tamanho das runs iniciais.
+     * @param blockInts     O número de valores de cada bloco de leitura ou escrita na intercalação.
+     * @param tempDirectory O diretório do arquivo temporário, ou null para usar o diretório do arquivo ordenado.
+     * @throws IllegalArgumentException se a memória não comportar ao menos três blocos (duas runs e a saída).
+     */
+    public ExternalSorter(int memoryInts, int blockInts, Path tempDirectory) {
+        if (blockInts < 1 || memoryInts / 3 < blockInts) {
+            throw new IllegalArgumentException("Memory of " + memoryInts + " ints must hold at least three blocks of "
+                    + blockInts + " ints");
+        }
+        this.memoryInts = memoryInts;
+        this.blockInts = blockInts;
+        this.fanIn = memoryInts / blockInts - 1; // Um bloco para cada run e um para a saída
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Retorna o número de runs intercaladas de uma vez.
+     *
+     * @return O grau da intercalação.
+     */
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    /**
+     * Ordena o arquivo em ordem crescente.
+     *
+     * @param data       O arquivo a ordenar; recebe o resultado.
+     * @param comparator A ordem dos valores, ou null para a ordem natural dos ints.
+     * @param observer   O observador das escritas, ou null.
+     * @return O custo da ordenação.
+     * @throws IOException se o arquivo temporário não puder ser criado.
+     */
+    public ExternalSortStats sort(MappedIntArray data, IntBinaryOperator comparator, Observer observer) throws IOException {
+        long start = System.nanoTime();
+        long length = data.length();
+        this.comparator = comparator == null ? Integer::compare : comparator;
+        this.compares = 0;
+        long runs = Math.max(1, (length + memoryInts - 1) / memoryInts);
+        int mergePasses = 0;
+        for (long remaining = runs; remaining > 1; remaining = (remaining + fanIn - 1) / fanIn) {
+            mergePasses++;
+        }
+        long readBefore = data.getBytesRead();
+        long writtenBefore = data.getBytesWritten();
+        long tempRead = 0;
+        long tempWritten = 0;
+        if (mergePasses == 0) {
+            generateRuns(data, data, comparator == null, observer);
+        } else {
+            Path directory = tempDirectory != null ? tempDirectory : data.getPath().toAbsolutePath().getParent();
+            Path tempPath = Files.createTempFile(directory, "external-sort-", ".tmp");
+            try (MappedIntArray temp = MappedIntArray.create(tempPath, length)) {
+                MappedIntArray source = (mergePasses & 1) == 1 ? temp : data; // A última passada termina em data
+                MappedIntArray target = source == data ? temp : data;
+                generateRuns(data, source, comparator == null, observer);
+                long width = memoryInts;
+                long runsLeft = runs;
+                for (int pass = 0; pass < mergePasses; pass++) {
+                    runsLeft = (runsLeft + fanIn - 1) / fanIn;
+                    if (observer != null) {
+                        observer.onPassStarted(pass + 2, runsLeft);
+                    }
+                    mergePass(source, target, width, observer);
+                    width *= fanIn;
+                    MappedIntArray swap = source;
+                    source = target;
+                    target = swap;
+                }
+                tempRead = temp.getBytesRead();
+                tempWritten = temp.getBytesWritten();
+            } finally {
+                deleteTemp(tempPath);
+            }
+        }
+        return new ExternalSortStats(length, runs, fanIn, 1 + mergePasses,
+                data.getBytesRead() - readBefore + tempRead, data.getBytesWritten() - writtenBefore + tempWritten,
+                compares, System.nanoTime() - start);
+    }
+
+    /**
+     * Apaga o arquivo temporário. Em sistemas que não apagam um arquivo ainda mapeado, ele é
+     * apagado na saída da JVM.
+     */
+    private static void deleteTemp(Path tempPath) {
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException ex) {
+            tempPath.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Primeira passada: ordena cada bloco de memoryInts valores e o grava como uma run.
+     */
+    private void generateRuns(MappedIntArray input, MappedIntArray output, boolean naturalOrder, Observer observer) {
+        long length = input.length();
+        if (observer != null) {
+            observer.onPassStarted(1, Math.max(1, (length + memoryInts - 1) / memoryInts));
+        }
+        int[] buffer = new int[(int) Math.min(memoryInts, length)];
+        for (long first = 0; first < length; first += memoryInts) {
+            int count = (int) Math.min(memoryInts, length - first);
+            input.read(first, buffer, 0, count);
+            if (naturalOrder) {
+                Arrays.sort(buffer, 0, count);
+            } else {
+                heapSort(buffer, count);
+            }
+            output.write(first, buffer, 0, count);
+            if (observer != null) {
+                observer.onWrite(first, buffer, 0, count);
+            }
+        }
+    }
+
+    /**
+     * Intercala grupos consecutivos de até fanIn runs de largura width, do arquivo de origem para o de destino.
+     */
+    private void mergePass(MappedIntArray source, MappedIntArray target, long width, Observer observer) {
+        long length = source.length();
+        RunReader[] readers = new RunReader[fanIn];
+        for (int i = 0; i < fanIn; i++) {
+            readers[i] = new RunReader(source, blockInts);
+        }
+        int[] output = new int[blockInts];
+        int[] heap = new int[fanIn]; // Índices dos leitores, ordenados pela cabeça de cada run
+        for (long groupStart = 0; groupStart < length; groupStart += width * fanIn) {
+            int heapSize = 0;
+            for (int i = 0; i < fanIn; i++) {
+                long runStart = groupStart + i * width;
+                if (runStart >= length) {
+                    break;
+                }
+                readers[i].reset(runStart, Math.min(runStart + width, length));
+                heap[heapSize++] = i;
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i, readers);
+            }
+            long outputIndex = groupStart;
+            int buffered = 0;
+            while (heapSize > 0) {
+                RunReader smallest = readers[heap[0]];
+                output[buffered++] = smallest.head();
+                if (buffered == output.length) {
+                    flush(target, outputIndex, output, buffered, observer);
+                    outputIndex += buffered;
+                    buffered = 0;
+                }
+                if (!smallest.advance()) {
+                    heap[0] = heap[--heapSize]; // A run acabou
+                }
+                if (heapSize > 0) {
+                    siftDown(heap, heapSize, 0, readers);
+                }
+            }
+            if (buffered > 0) {
+                flush(target, outputIndex, output, buffered, observer);
+            }
+        }
+    }
+
+    private static void flush(MappedIntArray target, long index, int[] output, int count, Observer observer) {
+        target.write(index, output, 0, count);
+        if (observer != null) {
+            observer.onWrite(index, output, 0, count);
+        }
+    }
+
+    private void siftDown(int[] heap, int heapSize, int node, RunReader[] readers) {
+        int reader = heap[node];
+        int value = readers[reader].head();
+        while (true) {
+            int child = 2 * node + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && compare(readers[heap[child + 1]].head(), readers[heap[child]].head()) < 0) {
+                child++;
+            }
+            if (compare(readers[heap[child]].head(), value) >= 0) {
+                break;
+            }
+            heap[node] = heap[child];
+            node = child;
+        }
+        heap[node] = reader;
+    }
+
+    /**
+     * Ordena a run em memória com o comparador, in-place, sem memória extra além da run.
+     */
+    private void heapSort(int[] values, int count) {
+        for (int i = count / 2 - 1; i >= 0; i--) {
+            siftDown(values, i, count);
+        }
+        for (int end = count - 1; end > 0; end--) {
+            int temp = values[0];
+            values[0] = values[end];
+            values[end] = temp;
+            siftDown(values, 0, end);
+        }
+    }
+
+    private void siftDown(int[] values, int node, int count) {
+        int value = values[node];
+        while (true) {
+            int child = 2 * node + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && compare(values[child + 1], values[child]) > 0) {
+                child++;
+            }
+            if (compare(values[child], value) <= 0) {
+                break;
+            }
+            values[node] = values[child];
+            node = child;
+        }
+        values[node] = value;
+    }
+
+    private int compare(int first, int second) {
+        compares++;
+        return comparator.applyAsInt(first, second);
+    }
+
+    /**
+     * Leitor sequencial de uma run, com um bloco de valores em memória.
+     */
+    private static final class RunReader {
+        private final MappedIntArray source; // Arquivo de onde a run é lida
+        private final int[] block; // Bloco atual da run
+        private long next; // Índice no arquivo do próximo bloco
+        private long end; // Fim da run no arquivo (exclusivo)
+        private int position; // Posição da cabeça da run no bloco
+        private int count; // Valores válidos no bloco
+
+        RunReader(MappedIntArray source, int blockInts) {
+            this.source = source;
+            this.block = new int[blockInts];
+        }
+
+        /**
+         * Posiciona o leitor no início de uma run não vazia e lê o primeiro bloco.
+         */
+        void reset(long start, long end) {
+            this.next = start;
+            this.end = end;
+            refill();
+        }
+
+        int head() {
+            return block[position];
+        }
+
+        /**
+         * Avança para o próximo valor da run.
+         *
+         * @return false se a run acabou.
+         */
+        boolean advance() {
+            if (++position < count) {
+                return true;
+            }
+            if (next >= end) {
+                return false;
+            }
+            refill();
+            return true;
+        }
+
+        private void refill() {
+            count = (int) Math.min(block.length, end - next);
+            source.read(next, block, 0, count);
+            next += count;
+            position = 0;
+        }
+    }
+}
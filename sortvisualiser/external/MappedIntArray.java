@@ -0,0 +1,230 @@
+package src.main.java.sortvisualiser.external;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A classe MappedIntArray é um array de int guardado em um arquivo mapeado em memória
+ * (FileChannel.map), indexado por long. Os valores ficam fora do heap, então o array pode ser
+ * maior que a memória da JVM: o sistema operacional carrega e descarrega as páginas do arquivo
+ * conforme elas são usadas.
+ *
+ * <p>O arquivo é mapeado em segmentos de 1 GiB, porque um único mapeamento é limitado a 2 GiB.
+ * Os valores usam a ordem de bytes nativa, então o arquivo não é portável entre arquiteturas.</p>
+ *
+ * <p>As leituras e escritas são contadas em bytes, para medir o custo de E/S de quem usa o
+ * array. Os contadores não são sincronizados: o array deve ser usado por uma thread de cada vez.</p>
+ */
+public final class MappedIntArray implements AutoCloseable {
+    private static final int SEGMENT_SHIFT = 28; // 2^28 ints (1 GiB) por segmento
+    private static final long SEGMENT_INTS = 1L << SEGMENT_SHIFT; // Número de ints de cada segmento
+    private static final long SEGMENT_MASK = SEGMENT_INTS - 1; // Máscara do índice dentro do segmento
+
+    private final Path path; // Arquivo mapeado
+    private final FileChannel channel; // Canal do arquivo, mantido aberto até close()
+    private final MappedByteBuffer[] mappings; // Mapeamentos de cada segmento
+    private final IntBuffer[] segments; // Visões int de cada segmento
+    private final long length; // Número de elementos
+    private long bytesRead; // Bytes lidos desde a criação ou o último resetCounters()
+    private long bytesWritten; // Bytes escritos desde a criação ou o último resetCounters()
+
+    private MappedIntArray(Path path, FileChannel channel, long length) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.length = length;
+        int segmentCount = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        mappings = new MappedByteBuffer[segmentCount];
+        segments = new IntBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long first = (long) i << SEGMENT_SHIFT;
+            long ints = Math.min(SEGMENT_INTS, length - first);
+            mappings[i] = channel.map(FileChannel.MapMode.READ_WRITE, first * Integer.BYTES, ints * Integer.BYTES);
+            mappings[i].order(ByteOrder.nativeOrder());
+            segments[i] = mappings[i].asIntBuffer();
+        }
+    }
+
+    /**
+     * Cria um arquivo com o número de elementos informado, zerados, substituindo o arquivo se ele existir.
+     *
+     * @param path   O arquivo.
+     * @param length O número de elementos.
+     * @return O array mapeado.
+     * @throws IOException se o arquivo não puder ser criado ou mapeado.
+     */
+    public static MappedIntArray create(Path path, long length) throws IOException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedIntArray(path, channel, length); // O mapeamento de escrita estende o arquivo
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Abre um arquivo existente de ints na ordem de bytes nativa.
+     *
+     * @param path O arquivo.
+     * @return O array mapeado, com um elemento para cada 4 bytes do arquivo.
+     * @throws IOException se o arquivo não puder ser aberto ou mapeado, ou se o seu tamanho não for múltiplo de 4.
+     */
+    public static MappedIntArray open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IOException(path + " has " + size + " bytes, which is not a whole number of ints");
+            }
+            return new MappedIntArray(path, channel, size / Integer.BYTES);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Retorna o arquivo mapeado.
+     *
+     * @return O caminho do arquivo.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Retorna o número de elementos do array.
+     *
+     * @return O número de elementos.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Lê um valor, contando 4 bytes lidos.
+     *
+     * @param index O índice do valor.
+     * @return O valor.
+     */
+    public int get(long index) {
+        bytesRead += Integer.BYTES;
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    /**
+     * Escreve um valor, contando 4 bytes escritos.
+     *
+     * @param index O índice do valor.
+     * @param value O novo valor.
+     */
+    public void set(long index, int value) {
+        bytesWritten += Integer.BYTES;
+        segments[(int) (index >>> SEGMENT_SHIFT)].put((int) (index & SEGMENT_MASK), value);
+    }
+
+    /**
+     * Copia valores consecutivos do arquivo para um array, atravessando segmentos se preciso.
+     *
+     * @param index  O índice do primeiro valor no arquivo.
+     * @param target O array de destino.
+     * @param offset A posição do primeiro valor no destino.
+     * @param count  O número de valores.
+     */
+    public void read(long index, int[] target, int offset, int count) {
+        checkRange(index, count);
+        bytesRead += (long) count * Integer.BYTES;
+        while (count > 0) {
+            int segment = (int) (index >>> SEGMENT_SHIFT);
+            int position = (int) (index & SEGMENT_MASK);
+            int chunk = (int) Math.min(count, SEGMENT_INTS - position);
+            segments[segment].get(position, target, offset, chunk);
+            index += chunk;
+            offset += chunk;
+            count -= chunk;
+        }
+    }
+
+    /**
+     * Copia valores consecutivos de um array para o arquivo, atravessando segmentos se preciso.
+     *
+     * @param index  O índice do primeiro valor no arquivo.
+     * @param source O array de origem.
+     * @param offset A posição do primeiro valor na origem.
+     * @param count  O número de valores.
+     */
+    public void write(long index, int[] source, int offset, int count) {
+        checkRange(index, count);
+        bytesWritten += (long) count * Integer.BYTES;
+        while (count > 0) {
+            int segment = (int) (index >>> SEGMENT_SHIFT);
+            int position = (int) (index & SEGMENT_MASK);
+            int chunk = (int) Math.min(count, SEGMENT_INTS - position);
+            segments[segment].put(position, source, offset, chunk);
+            index += chunk;
+            offset += chunk;
+            count -= chunk;
+        }
+    }
+
+    private void checkRange(long index, int count) {
+        if (index < 0 || count < 0 || index > length - count) {
+            throw new IndexOutOfBoundsException("Range [" + index + ", " + (index + count) + ") out of [0, " + length + ")");
+        }
+    }
+
+    /**
+     * Retorna os bytes lidos desde a criação ou o último resetCounters().
+     *
+     * @return Os bytes lidos.
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Retorna os bytes escritos desde a criação ou o último resetCounters().
+     *
+     * @return Os bytes escritos.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Zera os contadores de bytes lidos e escritos.
+     */
+    public void resetCounters() {
+        bytesRead = 0;
+        bytesWritten = 0;
+    }
+
+    /**
+     * Grava no disco as páginas alteradas do arquivo.
+     */
+    public void force() {
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+
+    /**
+     * Fecha o canal do arquivo. O Java não desfaz o mapeamento explicitamente: as páginas são
+     * liberadas quando os buffers forem coletados, então o array não deve ser usado depois.
+     *
+     * @throws IOException se o canal não puder ser fechado.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,52 @@
+package src.main.java.sortvisualiser.external;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe MappedWindow mostra uma janela de um arquivo em ordenação externa em um SortArray:
+ * as escritas da ordenação que caem na faixa [offset, offset + tamanho do SortArray) do
+ * arquivo são repetidas no SortArray com updateSingle, e o SortArrayPanel anima apenas essa
+ * faixa. O restante do arquivo nunca passa pelo heap.
+ *
+ * <p>As escritas repetidas passam pelos observadores do SortArray, então também contam nas
+ * métricas, seguem o atraso da animação e respeitam o cancelamento da execução.</p>
+ */
+public final class MappedWindow implements ExternalSorter.Observer {
+    private final SortArray view; // Array exibido, com o tamanho da janela
+    private final long offset; // Índice no arquivo do primeiro elemento da janela
+    private final long millisecondDelay; // Atraso de cada escrita repetida
+
+    /**
+     * Construtor da classe MappedWindow.
+     *
+     * @param view             O array exibido; o seu tamanho é o tamanho da janela.
+     * @param offset           O índice no arquivo do primeiro elemento da janela.
+     * @param millisecondDelay O atraso em milissegundos de cada escrita repetida.
+     */
+    public MappedWindow(SortArray view, long offset, long millisecondDelay) {
+        this.view = view;
+        this.offset = offset;
+        this.millisecondDelay = millisecondDelay;
+    }
+
+    /**
+     * Copia a janela do arquivo para o array exibido de uma só vez, sem atrasos.
+     *
+     * @param data O arquivo.
+     */
+    public void load(MappedIntArray data) {
+        int[] values = new int[view.arraySize()];
+        int count = (int) Math.max(0, Math.min(values.length, data.length() - offset));
+        data.read(offset, values, 0, count);
+        view.setValues(values);
+    }
+
+    @Override
+    public void onWrite(long index, int[] values, int valueOffset, int count) {
+        long first = Math.max(index, offset);
+        long end = Math.min(index + count, offset + view.arraySize());
+        for (long i = first; i < end; i++) {
+            view.updateSingle((int) (i - offset), values[valueOffset + (int) (i - index)], millisecondDelay, true);
+        }
+    }
+}
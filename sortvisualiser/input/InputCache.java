@@ -0,0 +1,124 @@
+package src.main.java.sortvisualiser.input;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A classe InputCache guarda as entradas já geradas, indexadas pelo nome do gerador, pelo
+ * tamanho e pela semente, para que execuções repetidas (várias medições do benchmark, a mesma
+ * entrada para todos os algoritmos da fila) não gerem os mesmos valores de novo.
+ *
+ * <p>O cache é um LRU limitado pelo número total de elementos guardados: quando o limite é
+ * ultrapassado, as entradas usadas há mais tempo são descartadas. Cada chamada a get devolve
+ * uma cópia, de modo que quem ordena a entrada não altera o que está no cache.</p>
+ */
+public final class InputCache {
+    public static final long DEFAULT_CAPACITY = 1L << 24; // 16 Mi elementos, 64 MiB de valores
+
+    private static final InputCache SHARED = new InputCache(DEFAULT_CAPACITY);
+
+    private final long capacity; // Maior número de elementos guardados ao mesmo tempo
+    private final LinkedHashMap<String, int[]> entries = new LinkedHashMap<>(16, 0.75f, true); // Em ordem de acesso
+    private long cachedElements = 0; // Número de elementos guardados
+    private long hits = 0; // Entradas encontradas no cache
+    private long misses = 0; // Entradas que precisaram ser geradas
+
+    /**
+     * Construtor da classe InputCache.
+     *
+     * @param capacity O maior número total de elementos guardados.
+     * @throws IllegalArgumentException se a capacidade for negativa.
+     */
+    public InputCache(long capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Retorna o cache compartilhado pela aplicação e pelo benchmark.
+     *
+     * @return O cache compartilhado.
+     */
+    public static InputCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retorna uma cópia da entrada gerada por generator com o tamanho e a semente informados,
+     * gerando-a e guardando-a no cache se ainda não estiver lá.
+     *
+     * @param generator O gerador da entrada.
+     * @param size      O tamanho da entrada.
+     * @param seed      A semente do gerador de números aleatórios.
+     * @return Uma cópia da entrada.
+     */
+    public int[] get(InputGenerator generator, int size, long seed) {
+        String key = generator.getName() + '/' + size + '/' + seed;
+        synchronized (this) {
+            int[] cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached.clone();
+            }
+            misses++;
+        }
+        // Gera fora do lock; duas threads pedindo a mesma entrada apenas geram em dobro
+        int[] values = generator.generate(size, seed);
+        if (size <= capacity) {
+            put(key, values.clone());
+        }
+        return values;
+    }
+
+    private synchronized void put(String key, int[] values) {
+        int[] previous = entries.put(key, values);
+        cachedElements += values.length - (previous == null ? 0 : previous.length);
+        Iterator<Map.Entry<String, int[]>> eldest = entries.entrySet().iterator();
+        while (cachedElements > capacity && eldest.hasNext()) {
+            Map.Entry<String, int[]> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            cachedElements -= entry.getValue().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Descarta todas as entradas guardadas.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        cachedElements = 0;
+    }
+
+    /**
+     * Retorna o número de entradas encontradas no cache.
+     *
+     * @return Os acertos do cache.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retorna o número de entradas que precisaram ser geradas.
+     *
+     * @return As faltas do cache.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retorna o número total de elementos guardados.
+     *
+     * @return Os elementos no cache.
+     */
+    public synchronized long getCachedElements() {
+        return cachedElements;
+    }
+}
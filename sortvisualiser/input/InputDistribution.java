@@ -0,0 +1,188 @@
+package src.main.java.sortvisualiser.input;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * A enumeração InputDistribution define as distribuições de entrada usadas para
+ * preencher os arrays a serem ordenados. Todas geram valores no intervalo [0, n),
+ * a partir de uma semente, em uma única passada sobre o array.
+ */
+public enum InputDistribution implements InputGenerator {
+    /**
+     * Permutação aleatória uniforme dos valores de 0 a n - 1 (Fisher–Yates).
+     */
+    RANDOM {
+        @Override
+        public void fill(int[] values, Random rng) {
+            SORTED.fill(values, rng);
+            for (int i = values.length - 1; i > 0; i--) {
+                swap(values, i, rng.nextInt(i + 1));
+            }
+        }
+    },
+    /**
+     * Valores já em ordem crescente.
+     */
+    SORTED {
+        @Override
+        public void fill(int[] values, Random rng) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i;
+            }
+        }
+    },
+    /**
+     * Valores em ordem decrescente.
+     */
+    REVERSED {
+        @Override
+        public void fill(int[] values, Random rng) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = values.length - 1 - i;
+            }
+        }
+    },
+    /**
+     * Valores ordenados com cerca de 1% das posições trocadas aleatoriamente.
+     * Use nearlySorted(int) para escolher o número de trocas.
+     */
+    NEARLY_SORTED {
+        @Override
+        public void fill(int[] values, Random rng) {
+            fillNearlySorted(values, rng, Math.max(1, values.length / 100));
+        }
+    },
+    /**
+     * Quatro rampas crescentes seguidas, como dentes de serra.
+     */
+    SAWTOOTH {
+        @Override
+        public void fill(int[] values, Random rng) {
+            int period = Math.max(1, (values.length + SAWTOOTH_TEETH - 1) / SAWTOOTH_TEETH);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (int) ((long) (i % period) * values.length / period);
+            }
+        }
+    },
+    /**
+     * Os valores pares em ordem crescente seguidos dos ímpares em ordem decrescente, como tubos de órgão.
+     */
+    ORGAN_PIPE {
+        @Override
+        public void fill(int[] values, Random rng) {
+            int half = (values.length + 1) / 2;
+            for (int i = 0; i < half; i++) {
+                values[i] = 2 * i;
+            }
+            for (int i = half; i < values.length; i++) {
+                values[i] = 2 * (values.length - 1 - i) + 1;
+            }
+        }
+    },
+    /**
+     * Poucos valores distintos (cerca de raiz de n) em ordem aleatória.
+     */
+    FEW_UNIQUE {
+        @Override
+        public void fill(int[] values, Random rng) {
+            int distinct = Math.max(1, (int) Math.sqrt(values.length));
+            int step = Math.max(1, values.length / distinct);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rng.nextInt(distinct) * step;
+            }
+        }
+    },
+    /**
+     * Valores com distribuição normal centrada em n / 2 e desvio padrão n / 6, limitados a [0, n).
+     */
+    GAUSSIAN {
+        @Override
+        public void fill(int[] values, Random rng) {
+            double mean = values.length / 2.0;
+            double deviation = values.length / 6.0;
+            for (int i = 0; i < values.length; i++) {
+                long value = Math.round(mean + rng.nextGaussian() * deviation);
+                values[i] = (int) Math.max(0, Math.min(values.length - 1, value));
+            }
+        }
+    };
+
+    private static final int SAWTOOTH_TEETH = 4; // Número de rampas da distribuição SAWTOOTH
+    private static final String SWAPS_SEPARATOR = ":"; // Separa a distribuição do número de trocas em parse
+
+    @Override
+    public String getName() {
+        return name();
+    }
+
+    /**
+     * Preenche o array com valores desta distribuição.
+     *
+     * @param values O array a ser preenchido.
+     * @param rng    O gerador de números aleatórios.
+     */
+    @Override
+    public abstract void fill(int[] values, Random rng);
+
+    /**
+     * Cria um gerador de valores ordenados com exatamente swaps trocas entre posições aleatórias.
+     *
+     * @param swaps O número de trocas.
+     * @return O gerador, com o nome NEARLY_SORTED:swaps.
+     * @throws IllegalArgumentException se o número de trocas for negativo.
+     */
+    public static InputGenerator nearlySorted(int swaps) {
+        if (swaps < 0) {
+            throw new IllegalArgumentException("Swap count must not be negative");
+        }
+        String name = NEARLY_SORTED.name() + SWAPS_SEPARATOR + swaps;
+        return new InputGenerator() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public void fill(int[] values, Random rng) {
+                fillNearlySorted(values, rng, swaps);
+            }
+        };
+    }
+
+    /**
+     * Converte um nome de distribuição, sem diferenciar maiúsculas e minúsculas, no seu gerador.
+     * Aceita também NEARLY_SORTED:k para k trocas.
+     *
+     * @param spec O nome da distribuição.
+     * @return O gerador correspondente.
+     * @throws IllegalArgumentException se o nome não corresponder a nenhuma distribuição.
+     */
+    public static InputGenerator parse(String spec) {
+        String name = spec.trim().toUpperCase(Locale.ROOT);
+        int separator = name.indexOf(SWAPS_SEPARATOR);
+        if (separator < 0) {
+            return valueOf(name);
+        }
+        if (!name.substring(0, separator).equals(NEARLY_SORTED.name())) {
+            throw new IllegalArgumentException("Only " + NEARLY_SORTED.name() + " takes a swap count: " + spec);
+        }
+        return nearlySorted(Integer.parseInt(name.substring(separator + 1)));
+    }
+
+    private static void fillNearlySorted(int[] values, Random rng, int swaps) {
+        SORTED.fill(values, rng);
+        if (values.length < 2) {
+            return;
+        }
+        for (int i = 0; i < swaps; i++) {
+            swap(values, rng.nextInt(values.length), rng.nextInt(values.length));
+        }
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+    }
+}
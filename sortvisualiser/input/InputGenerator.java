@@ -0,0 +1,43 @@
+package src.main.java.sortvisualiser.input;
+
+import java.util.Random;
+
+/**
+ * A interface InputGenerator define um gerador de entradas para os arrays a serem ordenados.
+ * As distribuições prontas estão em InputDistribution; novos geradores podem ser usados no
+ * benchmark e no cache de entradas sem alterar o restante do código.
+ *
+ * <p>Um gerador deve ser determinístico: o mesmo tamanho e o mesmo gerador de números
+ * aleatórios (com a mesma semente) produzem sempre os mesmos valores.</p>
+ */
+public interface InputGenerator {
+
+    /**
+     * Retorna o nome do gerador. É usado como parte da chave do cache de entradas, então
+     * geradores com parâmetros diferentes devem ter nomes diferentes.
+     *
+     * @return O nome do gerador.
+     */
+    String getName();
+
+    /**
+     * Preenche o array com valores gerados, em uma única passada.
+     *
+     * @param values O array a ser preenchido.
+     * @param rng    O gerador de números aleatórios.
+     */
+    void fill(int[] values, Random rng);
+
+    /**
+     * Cria um novo array de tamanho size preenchido com valores deste gerador.
+     *
+     * @param size O tamanho do array.
+     * @param seed A semente do gerador de números aleatórios.
+     * @return O array gerado.
+     */
+    default int[] generate(int size, long seed) {
+        int[] values = new int[size];
+        fill(values, new Random(seed));
+        return values;
+    }
+}
@@ -0,0 +1,43 @@
+package src.main.java.sortvisualiser.keys;
+
+/**
+ * A classe DoubleKeys guarda chaves double em um double[] indexado pelo handle, e as compara
+ * com Double.compare, sem boxing. A ordem é total, a mesma de Arrays.sort(double[]):
+ * -0.0 vem antes de 0.0 e todos os NaN são iguais entre si e maiores que qualquer outro
+ * valor, inclusive o infinito positivo. Comparar com os operadores &lt; e &gt; não serviria:
+ * qualquer comparação com NaN é falsa e -0.0 == 0.0.
+ */
+public final class DoubleKeys extends SortKeys {
+    private final double[] keys; // Chaves, indexadas pelo handle (ou seja, na ordem da entrada)
+
+    /**
+     * Construtor da classe DoubleKeys.
+     *
+     * @param values As chaves, na ordem da entrada; o array é guardado sem cópia e não deve
+     *               ser alterado depois.
+     */
+    public DoubleKeys(double[] values) {
+        super(values.length);
+        this.keys = values;
+    }
+
+    /**
+     * Retorna a chave de um elemento.
+     *
+     * @param handle O handle do elemento.
+     * @return A chave.
+     */
+    public double getKey(int handle) {
+        return keys[handle];
+    }
+
+    @Override
+    public String getTypeName() {
+        return "double";
+    }
+
+    @Override
+    public int compare(int firstHandle, int secondHandle) {
+        return Double.compare(keys[firstHandle], keys[secondHandle]);
+    }
+}
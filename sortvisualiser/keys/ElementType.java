@@ -0,0 +1,152 @@
+package src.main.java.sortvisualiser.keys;
+
+import java.util.Comparator;
+
+/**
+ * A enumeração ElementType define o tipo dos elementos ordenados. As entradas continuam sendo
+ * geradas como int pelas distribuições; os outros tipos convertem cada valor para uma chave do
+ * tipo preservando a ordem e as repetições, então uma entrada ordenada continua ordenada e uma
+ * entrada com poucos valores distintos continua com poucos valores distintos.
+ */
+public enum ElementType {
+    /**
+     * Valores int guardados diretamente no SortArray, sem chaves.
+     */
+    INT("int") {
+        @Override
+        public SortKeys createKeys(int[] values) {
+            return null;
+        }
+    },
+    /**
+     * Chaves long que usam os 64 bits, incluindo valores negativos.
+     */
+    LONG("long") {
+        @Override
+        public SortKeys createKeys(int[] values) {
+            return new LongKeys(toLongKeys(values));
+        }
+    },
+    /**
+     * Chaves double, negativas e positivas, com parte fracionária. O valor do meio vira -0.0,
+     * o seguinte vira 0.0 e o maior vira NaN, que na ordem de Double.compare ficam nessas
+     * mesmas posições; assim a ordem total de DoubleKeys é exercitada em toda entrada.
+     */
+    DOUBLE("double") {
+        @Override
+        public SortKeys createKeys(int[] values) {
+            double[] keys = new double[values.length];
+            int middle = values.length / 2;
+            int max = Integer.MIN_VALUE;
+            for (int value : values) {
+                max = Math.max(max, value);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == middle) {
+                    keys[i] = -0.0; // Maior que qualquer chave negativa, menor que 0.0
+                } else if (values[i] == middle + 1) {
+                    keys[i] = 0.0;
+                } else if (values[i] == max && max > middle + 1) {
+                    keys[i] = Double.NaN; // Maior que qualquer outra chave, inclusive o infinito
+                } else {
+                    // A parte fracionária fica em [0, 1), então a ordem dos valores é preservada
+                    keys[i] = (values[i] - middle + (mix(values[i]) & 0xFFFF) / 65536.0) * 0.25;
+                }
+            }
+            return new DoubleKeys(keys);
+        }
+    },
+    /**
+     * Registros comparados por um Comparator que lê a chave de cada registro a cada comparação.
+     */
+    RECORD("record") {
+        @Override
+        public SortKeys createKeys(int[] values) {
+            return new ObjectKeys<>(toRecords(values), Comparator.comparingLong(KeyedRecord::getKey), getName());
+        }
+    },
+    /**
+     * Registros cujas chaves são extraídas uma única vez para um long[] antes da ordenação.
+     */
+    RECORD_CACHED_KEY("record (cached key)") {
+        @Override
+        public SortKeys createKeys(int[] values) {
+            return LongKeys.extract(toRecords(values), KeyedRecord::getKey, getName());
+        }
+    };
+
+    private final String name; // Nome exibido do tipo
+
+    ElementType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Cria as chaves do tipo a partir dos valores gerados.
+     *
+     * @param values Os valores gerados, na ordem da entrada.
+     * @return As chaves, ou null para INT, que não usa chaves.
+     */
+    public abstract SortKeys createKeys(int[] values);
+
+    /**
+     * Retorna o nome exibido do tipo.
+     *
+     * @return O nome do tipo.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Converte um nome de tipo, sem diferenciar maiúsculas, como "long" ou "RECORD_CACHED_KEY".
+     *
+     * @param text O nome do tipo.
+     * @return O tipo correspondente.
+     * @throws IllegalArgumentException se o nome não corresponder a nenhum tipo.
+     */
+    public static ElementType parse(String text) {
+        String normalised = text.trim();
+        for (ElementType type : values()) {
+            if (type.name().equalsIgnoreCase(normalised) || type.name.equalsIgnoreCase(normalised)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown element type " + text);
+    }
+
+    private static long[] toLongKeys(int[] values) {
+        long[] keys = new long[values.length];
+        long middle = values.length / 2;
+        for (int i = 0; i < values.length; i++) {
+            // Valor nos 32 bits altos e bits pseudoaleatórios do próprio valor nos baixos
+            keys[i] = ((values[i] - middle) << 32) | (mix(values[i]) & 0xFFFFFFFFL);
+        }
+        return keys;
+    }
+
+    private static KeyedRecord[] toRecords(int[] values) {
+        long[] keys = toLongKeys(values);
+        KeyedRecord[] records = new KeyedRecord[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            records[i] = new KeyedRecord(keys[i], "item-" + i);
+        }
+        return records;
+    }
+
+    /**
+     * Mistura os bits de um valor (finalizador do SplitMix64), para derivar bits de chave que
+     * dependem apenas do valor e, portanto, se repetem quando o valor se repete.
+     */
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
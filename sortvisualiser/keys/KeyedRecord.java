@@ -0,0 +1,44 @@
+package src.main.java.sortvisualiser.keys;
+
+/**
+ * A classe KeyedRecord é um registro com uma chave de 64 bits e um conteúdo, usado para
+ * medir a ordenação de objetos: cada comparação segue as referências até o campo da chave.
+ */
+public final class KeyedRecord {
+    private final long key; // Chave de ordenação
+    private final String payload; // Conteúdo do registro, que não participa da ordem
+
+    /**
+     * Construtor da classe KeyedRecord.
+     *
+     * @param key     A chave de ordenação.
+     * @param payload O conteúdo do registro.
+     */
+    public KeyedRecord(long key, String payload) {
+        this.key = key;
+        this.payload = payload;
+    }
+
+    /**
+     * Retorna a chave de ordenação.
+     *
+     * @return A chave.
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Retorna o conteúdo do registro.
+     *
+     * @return O conteúdo.
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return payload + "#" + key;
+    }
+}
@@ -0,0 +1,66 @@
+package src.main.java.sortvisualiser.keys;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * A classe LongKeys guarda chaves long de 64 bits em um long[] indexado pelo handle, e as
+ * compara com Long.compare, sem boxing.
+ */
+public final class LongKeys extends SortKeys {
+    private final long[] keys; // Chaves, indexadas pelo handle (ou seja, na ordem da entrada)
+    private final String typeName; // Nome exibido do tipo
+
+    /**
+     * Construtor da classe LongKeys.
+     *
+     * @param values As chaves, na ordem da entrada; o array é guardado sem cópia e não deve
+     *               ser alterado depois.
+     */
+    public LongKeys(long[] values) {
+        this(values, "long");
+    }
+
+    private LongKeys(long[] values, String typeName) {
+        super(values.length);
+        this.keys = values;
+        this.typeName = typeName;
+    }
+
+    /**
+     * Extrai uma chave long de cada registro uma única vez e guarda as chaves em um long[],
+     * para que as comparações não chamem o extrator nem acessem os registros.
+     *
+     * @param records      Os registros, na ordem da entrada.
+     * @param keyExtractor A função que extrai a chave de um registro.
+     * @param typeName     O nome exibido do tipo.
+     * @param <T>          O tipo dos registros.
+     * @return As chaves extraídas.
+     */
+    public static <T> LongKeys extract(T[] records, ToLongFunction<? super T> keyExtractor, String typeName) {
+        long[] values = new long[records.length];
+        for (int i = 0; i < records.length; i++) {
+            values[i] = keyExtractor.applyAsLong(records[i]);
+        }
+        return new LongKeys(values, typeName);
+    }
+
+    /**
+     * Retorna a chave de um elemento.
+     *
+     * @param handle O handle do elemento.
+     * @return A chave.
+     */
+    public long getKey(int handle) {
+        return keys[handle];
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public int compare(int firstHandle, int secondHandle) {
+        return Long.compare(keys[firstHandle], keys[secondHandle]);
+    }
+}
@@ -0,0 +1,76 @@
+package src.main.java.sortvisualiser.keys;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * A classe ObjectKeys guarda objetos, indexados pelo handle, e os compara com um Comparator.
+ * Cada comparação chama o Comparator sobre as referências, como ao ordenar um array de registros.
+ *
+ * <p>Quando a chave é derivada do registro por um extrator caro (um campo calculado, uma
+ * String montada), cached() extrai a chave de cada registro uma única vez e compara as chaves
+ * guardadas, em vez de chamar o extrator duas vezes por comparação.</p>
+ *
+ * @param <T> O tipo dos objetos comparados.
+ */
+public final class ObjectKeys<T> extends SortKeys {
+    private final T[] keys; // Objetos, indexados pelo handle (ou seja, na ordem da entrada)
+    private final Comparator<? super T> comparator; // Ordem dos objetos
+    private final String typeName; // Nome exibido do tipo
+
+    /**
+     * Construtor da classe ObjectKeys.
+     *
+     * @param values     Os objetos, na ordem da entrada; o array é guardado sem cópia e não
+     *                   deve ser alterado depois.
+     * @param comparator A ordem dos objetos.
+     * @param typeName   O nome exibido do tipo.
+     */
+    public ObjectKeys(T[] values, Comparator<? super T> comparator, String typeName) {
+        super(values.length);
+        this.keys = values;
+        this.comparator = comparator;
+        this.typeName = typeName;
+    }
+
+    /**
+     * Extrai a chave de cada registro uma única vez e compara as chaves extraídas.
+     *
+     * @param records       Os registros, na ordem da entrada.
+     * @param keyExtractor  A função que extrai a chave de um registro.
+     * @param keyComparator A ordem das chaves.
+     * @param typeName      O nome exibido do tipo.
+     * @param <T>           O tipo dos registros.
+     * @param <K>           O tipo das chaves.
+     * @return As chaves extraídas.
+     */
+    public static <T, K> ObjectKeys<K> cached(T[] records, Function<? super T, ? extends K> keyExtractor,
+            Comparator<? super K> keyComparator, String typeName) {
+        @SuppressWarnings("unchecked")
+        K[] values = (K[]) new Object[records.length];
+        for (int i = 0; i < records.length; i++) {
+            values[i] = keyExtractor.apply(records[i]);
+        }
+        return new ObjectKeys<>(values, keyComparator, typeName);
+    }
+
+    /**
+     * Retorna o objeto de um elemento.
+     *
+     * @param handle O handle do elemento.
+     * @return O objeto.
+     */
+    public T getKey(int handle) {
+        return keys[handle];
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public int compare(int firstHandle, int secondHandle) {
+        return comparator.compare(keys[firstHandle], keys[secondHandle]);
+    }
+}
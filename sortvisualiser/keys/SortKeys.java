@@ -0,0 +1,137 @@
+package src.main.java.sortvisualiser.keys;
+
+/**
+ * A classe SortKeys guarda as chaves de um array cujos elementos não são int: chaves long,
+ * double ou objetos comparados por um Comparator.
+ *
+ * <p>Os algoritmos continuam movendo valores int pelo SortArray e pelos buffers auxiliares,
+ * mas esses valores passam a ser handles: o handle de um elemento é a sua posição na entrada,
+ * de 0 a n - 1, e indexa as chaves, guardadas na ordem da entrada. Cada comparação lê as
+ * chaves reais no armazenamento do tipo, sem boxing, com o mesmo padrão de acesso à memória
+ * de ordenar um array do tipo.</p>
+ *
+ * <p>Como os handles não seguem a ordem das chaves, só as comparações feitas por compare()
+ * respeitam essa ordem; por isso apenas algoritmos de comparação
+ * (UiSortAlgoritimo.isComparisonSort()) podem ordenar um array com chaves. Para a altura das
+ * barras, rank() converte um handle no posto da sua chave; o mapa de postos só é montado na
+ * primeira chamada, então as execuções sem visualização não pagam por ele.</p>
+ */
+public abstract class SortKeys {
+    private final int size; // Número de elementos
+    private volatile int[] ranks; // Posto da chave de cada handle, montado sob demanda
+    private int maxRank; // Maior posto, válido depois de montar os postos
+
+    /**
+     * Construtor da classe SortKeys.
+     *
+     * @param size O número de elementos.
+     */
+    protected SortKeys(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Retorna o número de elementos.
+     *
+     * @return O número de chaves.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retorna os valores iniciais do SortArray: o handle de cada elemento, na ordem da entrada,
+     * que é a própria posição do elemento.
+     *
+     * @return Os handles, de 0 a n - 1.
+     */
+    public int[] handles() {
+        int[] handles = new int[size];
+        for (int i = 0; i < size; i++) {
+            handles[i] = i;
+        }
+        return handles;
+    }
+
+    /**
+     * Retorna o nome do tipo das chaves, exibido na tela e nos relatórios.
+     *
+     * @return O nome do tipo.
+     */
+    public abstract String getTypeName();
+
+    /**
+     * Compara as chaves de dois elementos.
+     *
+     * @param firstHandle  O handle do primeiro elemento.
+     * @param secondHandle O handle do segundo elemento.
+     * @return Um valor negativo, zero ou positivo se a primeira chave for menor, igual ou maior que a segunda.
+     */
+    public abstract int compare(int firstHandle, int secondHandle);
+
+    /**
+     * Retorna o posto da chave de um elemento: o número de chaves menores que ela. Chaves
+     * iguais têm o mesmo posto e, portanto, a mesma altura de barra.
+     *
+     * @param handle O handle do elemento.
+     * @return O posto da chave, de 0 a n - 1.
+     */
+    public int rank(int handle) {
+        return ranks()[handle];
+    }
+
+    /**
+     * Retorna o maior posto, usado como escala das alturas.
+     *
+     * @return O posto da maior chave, ou 0 sem elementos.
+     */
+    public int maxRank() {
+        ranks();
+        return maxRank;
+    }
+
+    private int[] ranks() {
+        int[] current = ranks;
+        if (current == null) {
+            synchronized (this) {
+                current = ranks;
+                if (current == null) {
+                    current = buildRanks();
+                    ranks = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Ordena os handles pelas chaves com um Merge Sort de baixo para cima e atribui a cada um
+     * a posição da primeira chave igual na ordem final.
+     */
+    private int[] buildRanks() {
+        int[] order = handles();
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width *= 2) {
+            for (int low = 0; low < size - width; low += 2 * width) {
+                int middle = low + width;
+                int high = Math.min(low + 2 * width, size);
+                int left = low;
+                int right = middle;
+                int out = low;
+                while (left < middle && right < high) {
+                    buffer[out++] = compare(order[right], order[left]) < 0 ? order[right++] : order[left++];
+                }
+                System.arraycopy(order, left, buffer, out, middle - left);
+                out += middle - left;
+                System.arraycopy(order, right, buffer, out, high - right);
+                System.arraycopy(buffer, low, order, low, high - low);
+            }
+        }
+        int[] result = new int[size];
+        for (int i = 1; i < size; i++) {
+            result[order[i]] = compare(order[i - 1], order[i]) == 0 ? result[order[i - 1]] : i;
+        }
+        maxRank = size == 0 ? 0 : result[order[size - 1]];
+        return result;
+    }
+}
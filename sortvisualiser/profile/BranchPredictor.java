@@ -0,0 +1,104 @@
+package src.main.java.sortvisualiser.profile;
+
+import java.util.Arrays;
+
+/**
+ * A classe BranchPredictor simula um preditor de desvios gshare: uma tabela de contadores de
+ * saturação de 2 bits indexada pelo endereço do desvio combinado (XOR) com o histórico global
+ * dos últimos resultados.
+ *
+ * <p>O profiler não conhece o endereço real das instruções de comparação do algoritmo; ele
+ * passa um identificador por tipo de comparação (veja HardwareProfiler), então comparações
+ * feitas em pontos diferentes do código dividem a mesma entrada e se distinguem apenas pelo
+ * histórico.</p>
+ */
+public final class BranchPredictor {
+    private final int historyBits; // Bits do histórico global e do índice da tabela
+    private final int mask; // Máscara do índice da tabela
+    private final byte[] counters; // Contadores de 2 bits: 0 e 1 preveem não tomado, 2 e 3 tomado
+    private int history; // Resultados mais recentes, um bit por desvio
+    private long branches; // Desvios simulados
+    private long mispredictions; // Desvios previstos errado
+
+    /**
+     * Construtor da classe BranchPredictor.
+     *
+     * @param historyBits O número de bits do histórico global, entre 1 e 24; a tabela tem 2^historyBits contadores.
+     * @throws IllegalArgumentException se o número de bits estiver fora do intervalo.
+     */
+    public BranchPredictor(int historyBits) {
+        if (historyBits < 1 || historyBits > 24) {
+            throw new IllegalArgumentException("History bits must be between 1 and 24");
+        }
+        this.historyBits = historyBits;
+        this.mask = (1 << historyBits) - 1;
+        this.counters = new byte[1 << historyBits];
+        reset();
+    }
+
+    /**
+     * Zera o histórico, os contadores da tabela (fracamente não tomado) e as estatísticas.
+     */
+    public void reset() {
+        Arrays.fill(counters, (byte) 1);
+        history = 0;
+        branches = 0;
+        mispredictions = 0;
+    }
+
+    /**
+     * Simula um desvio: faz a previsão, compara com o resultado e atualiza a tabela e o histórico.
+     *
+     * @param site  O identificador do desvio, no lugar do seu endereço.
+     * @param taken O resultado real do desvio.
+     * @return true se a previsão estava correta.
+     */
+    public boolean predict(int site, boolean taken) {
+        int index = (site * 0x9E3779B1 ^ history) & mask;
+        int counter = counters[index];
+        boolean correct = (counter >= 2) == taken;
+        if (taken) {
+            counters[index] = (byte) Math.min(3, counter + 1);
+        } else {
+            counters[index] = (byte) Math.max(0, counter - 1);
+        }
+        history = ((history << 1) | (taken ? 1 : 0)) & mask;
+        branches++;
+        if (!correct) {
+            mispredictions++;
+        }
+        return correct;
+    }
+
+    /**
+     * Retorna o número de desvios simulados.
+     *
+     * @return Os desvios.
+     */
+    public long getBranches() {
+        return branches;
+    }
+
+    /**
+     * Retorna o número de desvios previstos errado.
+     *
+     * @return As previsões erradas.
+     */
+    public long getMispredictions() {
+        return mispredictions;
+    }
+
+    /**
+     * Retorna o número de bits do histórico global.
+     *
+     * @return Os bits do histórico.
+     */
+    public int getHistoryBits() {
+        return historyBits;
+    }
+
+    @Override
+    public String toString() {
+        return "gshare, " + historyBits + "-bit history";
+    }
+}
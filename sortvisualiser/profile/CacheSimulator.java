@@ -0,0 +1,144 @@
+package src.main.java.sortvisualiser.profile;
+
+import java.util.Arrays;
+
+/**
+ * A classe CacheSimulator simula um nível de cache associativo por conjuntos com substituição
+ * LRU. Cada acesso recebe um endereço em bytes; a linha correspondente é procurada nas vias do
+ * seu conjunto e, se não estiver lá, ocupa o lugar da via usada há mais tempo.
+ *
+ * <p>Leituras e escritas são tratadas da mesma forma (write-allocate), e não há pré-busca: o
+ * simulador mede apenas a localidade dos acessos do algoritmo, não o comportamento de um
+ * processador específico.</p>
+ */
+public final class CacheSimulator {
+    private final long sizeBytes; // Capacidade do cache
+    private final int lineBytes; // Tamanho de cada linha
+    private final int associativity; // Vias de cada conjunto
+    private final int lineShift; // log2 de lineBytes
+    private final int setMask; // Máscara do índice do conjunto
+    private final long[] tags; // Linha guardada em cada via, ou -1 se a via estiver vazia
+    private final long[] lastUse; // Instante do último uso de cada via, para o LRU
+    private long clock; // Relógio de acessos
+    private long accesses; // Acessos simulados
+    private long misses; // Acessos que não encontraram a linha
+
+    /**
+     * Construtor da classe CacheSimulator.
+     *
+     * @param sizeBytes     A capacidade do cache em bytes.
+     * @param lineBytes     O tamanho de cada linha em bytes, potência de dois.
+     * @param associativity O número de vias de cada conjunto.
+     * @throws IllegalArgumentException se os parâmetros não formarem um número de conjuntos potência de dois.
+     */
+    public CacheSimulator(long sizeBytes, int lineBytes, int associativity) {
+        if (lineBytes <= 0 || Integer.bitCount(lineBytes) != 1) {
+            throw new IllegalArgumentException("Line size must be a power of two");
+        }
+        if (associativity < 1) {
+            throw new IllegalArgumentException("Associativity must be at least 1");
+        }
+        long sets = sizeBytes / ((long) lineBytes * associativity);
+        if (sets < 1 || Long.bitCount(sets) != 1 || sets * lineBytes * associativity != sizeBytes
+                || sets * associativity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cache size must be a power-of-two number of sets of "
+                    + associativity + " x " + lineBytes + " bytes");
+        }
+        this.sizeBytes = sizeBytes;
+        this.lineBytes = lineBytes;
+        this.associativity = associativity;
+        this.lineShift = Integer.numberOfTrailingZeros(lineBytes);
+        this.setMask = (int) sets - 1;
+        this.tags = new long[(int) sets * associativity];
+        this.lastUse = new long[tags.length];
+        reset();
+    }
+
+    /**
+     * Esvazia o cache e zera os contadores.
+     */
+    public void reset() {
+        Arrays.fill(tags, -1);
+        Arrays.fill(lastUse, 0);
+        clock = 0;
+        accesses = 0;
+        misses = 0;
+    }
+
+    /**
+     * Simula um acesso.
+     *
+     * @param address O endereço acessado, em bytes, não negativo.
+     * @return true se a linha já estava no cache.
+     */
+    public boolean access(long address) {
+        long line = address >>> lineShift;
+        int base = ((int) line & setMask) * associativity;
+        int victim = base;
+        accesses++;
+        clock++;
+        for (int way = base; way < base + associativity; way++) {
+            if (tags[way] == line) {
+                lastUse[way] = clock;
+                return true;
+            }
+            if (lastUse[way] < lastUse[victim]) {
+                victim = way; // Vias vazias têm lastUse 0 e são escolhidas primeiro
+            }
+        }
+        misses++;
+        tags[victim] = line;
+        lastUse[victim] = clock;
+        return false;
+    }
+
+    /**
+     * Retorna o número de acessos simulados.
+     *
+     * @return Os acessos.
+     */
+    public long getAccesses() {
+        return accesses;
+    }
+
+    /**
+     * Retorna o número de acessos que não encontraram a linha no cache.
+     *
+     * @return As faltas.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retorna a capacidade do cache.
+     *
+     * @return A capacidade em bytes.
+     */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Retorna o tamanho de cada linha.
+     *
+     * @return O tamanho da linha em bytes.
+     */
+    public int getLineBytes() {
+        return lineBytes;
+    }
+
+    /**
+     * Retorna o número de vias de cada conjunto.
+     *
+     * @return A associatividade.
+     */
+    public int getAssociativity() {
+        return associativity;
+    }
+
+    @Override
+    public String toString() {
+        return (sizeBytes / 1024) + " KiB, " + associativity + "-way, " + lineBytes + " B lines";
+    }
+}
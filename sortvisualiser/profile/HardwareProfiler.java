@@ -0,0 +1,253 @@
+package src.main.java.sortvisualiser.profile;
+
+import java.util.Arrays;
+
+import src.main.java.sortvisualiser.AuxArray;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortArrayListener;
+
+/**
+ * A classe HardwareProfiler estima o custo de hardware de uma execução. Registrada como
+ * observadora de um SortArray, ela transforma cada leitura, escrita, troca e comparação em
+ * acessos a dois níveis de cache simulados (CacheSimulator) e cada comparação em um desvio de
+ * um preditor gshare (BranchPredictor). O resultado são faltas de L1 e L2 e previsões erradas
+ * por elemento, que explicam diferenças que a contagem de trocas não mostra.
+ *
+ * <p>O modelo de memória é o de um int[]: o elemento i do array está no endereço 4·i e cada
+ * buffer auxiliar ocupa uma região própria, longe do array e deslocada por um número ímpar de
+ * linhas. Uma troca lê e escreve os dois elementos; uma atualização escreve um. Com chaves
+ * long, double ou registros, apenas os handles int são simulados.</p>
+ *
+ * <p>Cada comparação é um desvio, tomado quando o primeiro valor é maior. As comparações entre
+ * índices (compare()) e entre valores (compareValues()) usam identificadores de desvio
+ * diferentes; o profiler não distingue os pontos do código do algoritmo.</p>
+ *
+ * <p>O profiler também guarda quando cada faixa do array foi acessada pela última vez, usado
+ * pelo painel para desenhar o mapa de calor dos acessos recentes. Os observadores dos
+ * algoritmos paralelos são chamados por vários workers ao mesmo tempo, então os métodos de
+ * observador são sincronizados: os workers dividem o mesmo cache simulado.</p>
+ */
+public final class HardwareProfiler implements SortArrayListener {
+    public static final int DEFAULT_LINE_BYTES = 64; // Tamanho padrão das linhas de cache
+    public static final int DEFAULT_L1_KIB = 32; // Capacidade padrão do L1
+    public static final int DEFAULT_L1_WAYS = 8; // Associatividade padrão do L1
+    public static final int DEFAULT_L2_KIB = 1_024; // Capacidade padrão do L2
+    public static final int DEFAULT_L2_WAYS = 16; // Associatividade padrão do L2
+    public static final int DEFAULT_HISTORY_BITS = 12; // Bits de histórico padrão do preditor
+
+    private static final int ELEMENT_BYTES = Integer.BYTES; // Tamanho de cada elemento simulado
+    private static final int HEAT_BUCKETS = 2_048; // Faixas do mapa de calor (uma por barra em arrays pequenos)
+    private static final long MIN_HEAT_WINDOW = 64; // Menor janela de acessos do mapa de calor
+    private static final int INDEX_COMPARE_SITE = 0; // Identificador dos desvios de compare()
+    private static final int VALUE_COMPARE_SITE = 1; // Identificador dos desvios de compareValues()
+
+    private final int elements; // Tamanho do array observado
+    private final CacheSimulator l1; // Primeiro nível de cache
+    private final CacheSimulator l2; // Segundo nível, acessado apenas nas faltas do L1
+    private final BranchPredictor predictor; // Preditor das comparações
+    private final long[] lastAccess; // Relógio do último acesso de cada faixa do mapa de calor
+    private final long heatWindow; // Acessos até uma faixa esfriar completamente
+    private volatile long accessClock; // Acessos ao array, o relógio do mapa de calor
+    private AuxArray[] auxArrays = new AuxArray[0]; // Buffers auxiliares já vistos, na ordem das suas regiões
+
+    /**
+     * Construtor da classe HardwareProfiler.
+     *
+     * @param array     O array a observar, que define o número de elementos.
+     * @param l1        O primeiro nível de cache.
+     * @param l2        O segundo nível de cache.
+     * @param predictor O preditor de desvios.
+     */
+    public HardwareProfiler(SortArray array, CacheSimulator l1, CacheSimulator l2, BranchPredictor predictor) {
+        this.elements = array.arraySize();
+        this.l1 = l1;
+        this.l2 = l2;
+        this.predictor = predictor;
+        this.lastAccess = new long[Math.max(1, Math.min(elements, HEAT_BUCKETS))];
+        Arrays.fill(lastAccess, Long.MIN_VALUE / 2); // Faixas nunca acessadas ficam frias
+        this.heatWindow = Math.max(MIN_HEAT_WINDOW, elements);
+    }
+
+    /**
+     * Cria um profiler com os caches e o preditor padrão: L1 de 32 KiB com 8 vias, L2 de 1 MiB
+     * com 16 vias, linhas de 64 bytes e 12 bits de histórico.
+     *
+     * @param array O array a observar.
+     * @return O profiler, que deve ser registrado como observador do array.
+     */
+    public static HardwareProfiler withDefaults(SortArray array) {
+        return new HardwareProfiler(array,
+                new CacheSimulator(DEFAULT_L1_KIB * 1024L, DEFAULT_LINE_BYTES, DEFAULT_L1_WAYS),
+                new CacheSimulator(DEFAULT_L2_KIB * 1024L, DEFAULT_LINE_BYTES, DEFAULT_L2_WAYS),
+                new BranchPredictor(DEFAULT_HISTORY_BITS));
+    }
+
+    private void accessMemory(long address) {
+        if (!l1.access(address)) {
+            l2.access(address);
+        }
+    }
+
+    private void accessElement(int index) {
+        accessMemory((long) index * ELEMENT_BYTES);
+        long now = accessClock + 1;
+        accessClock = now;
+        lastAccess[(int) ((long) index * lastAccess.length / elements)] = now;
+    }
+
+    private void accessAux(AuxArray aux, int index) {
+        int region = auxArrays.length;
+        for (int i = 0; i < auxArrays.length; i++) {
+            if (auxArrays[i] == aux) {
+                region = i;
+                break;
+            }
+        }
+        if (region == auxArrays.length) {
+            auxArrays = Arrays.copyOf(auxArrays, region + 1); // Só quando o algoritmo cria um buffer novo
+            auxArrays[region] = aux;
+        }
+        long base = ((region + 1L) << 40) + (2L * region + 1) * l1.getLineBytes();
+        accessMemory(base + (long) index * ELEMENT_BYTES);
+    }
+
+    private void branch(int site, int result) {
+        predictor.predict(site, result > 0);
+    }
+
+    @Override
+    public synchronized void onSwap(int firstIndex, int secondIndex, int value, long millisecondDelay, boolean isStep) {
+        accessElement(firstIndex);
+        accessElement(secondIndex);
+        accessElement(firstIndex);
+        accessElement(secondIndex);
+    }
+
+    @Override
+    public synchronized void onUpdate(int index, int previousValue, int value, long millisecondDelay, boolean isStep) {
+        accessElement(index);
+    }
+
+    @Override
+    public synchronized void onRead(int index) {
+        accessElement(index);
+    }
+
+    @Override
+    public synchronized void onCompare(int firstIndex, int secondIndex, int result) {
+        accessElement(firstIndex);
+        accessElement(secondIndex);
+        branch(INDEX_COMPARE_SITE, result);
+    }
+
+    @Override
+    public synchronized void onValueCompare(int firstValue, int secondValue, int result) {
+        branch(VALUE_COMPARE_SITE, result);
+    }
+
+    @Override
+    public synchronized void onAuxRead(AuxArray aux, int index) {
+        accessAux(aux, index);
+    }
+
+    @Override
+    public synchronized void onAuxUpdate(AuxArray aux, int index, int value, long millisecondDelay) {
+        accessAux(aux, index);
+    }
+
+    /**
+     * Retorna o número de elementos do array observado.
+     *
+     * @return O número de elementos.
+     */
+    public int getElements() {
+        return elements;
+    }
+
+    /**
+     * Retorna o primeiro nível de cache simulado.
+     *
+     * @return O L1.
+     */
+    public CacheSimulator getL1() {
+        return l1;
+    }
+
+    /**
+     * Retorna o segundo nível de cache simulado.
+     *
+     * @return O L2.
+     */
+    public CacheSimulator getL2() {
+        return l2;
+    }
+
+    /**
+     * Retorna o preditor de desvios simulado.
+     *
+     * @return O preditor.
+     */
+    public BranchPredictor getPredictor() {
+        return predictor;
+    }
+
+    /**
+     * Retorna as faltas do L1 por elemento do array.
+     *
+     * @return As faltas do L1 divididas pelo número de elementos.
+     */
+    public double getL1MissesPerElement() {
+        return (double) l1.getMisses() / elements;
+    }
+
+    /**
+     * Retorna as faltas do L2 por elemento do array.
+     *
+     * @return As faltas do L2 divididas pelo número de elementos.
+     */
+    public double getL2MissesPerElement() {
+        return (double) l2.getMisses() / elements;
+    }
+
+    /**
+     * Retorna as previsões erradas de desvio por elemento do array.
+     *
+     * @return As previsões erradas divididas pelo número de elementos.
+     */
+    public double getMispredictionsPerElement() {
+        return (double) predictor.getMispredictions() / elements;
+    }
+
+    /**
+     * Retorna a fração dos desvios previstos errado.
+     *
+     * @return A taxa de previsões erradas, entre 0 e 1, ou 0 sem desvios.
+     */
+    public double getMispredictionRate() {
+        long branches = predictor.getBranches();
+        return branches == 0 ? 0 : (double) predictor.getMispredictions() / branches;
+    }
+
+    /**
+     * Retorna o número de faixas do mapa de calor: uma por elemento em arrays de até 2048
+     * elementos, e faixas de elementos vizinhos nos maiores.
+     *
+     * @return O número de faixas.
+     */
+    public int getHeatBuckets() {
+        return lastAccess.length;
+    }
+
+    /**
+     * Retorna o quão recente foi o último acesso a uma faixa do array. Chamado pela
+     * visualização, sem sincronização: o valor pode estar um pouco atrasado.
+     *
+     * @param bucket A faixa, entre 0 e getHeatBuckets() - 1.
+     * @return 1 para a faixa acessada por último, caindo linearmente até 0 depois de tantos
+     * acessos quanto o número de elementos.
+     */
+    public double getRecency(int bucket) {
+        long age = accessClock - lastAccess[bucket];
+        return age >= heatWindow ? 0 : 1 - (double) age / heatWindow;
+    }
+}
@@ -0,0 +1,181 @@
+package src.main.java.sortvisualiser.profile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.SortAlgorithms;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.engine.SortEngine;
+import src.main.java.sortvisualiser.engine.SortResult;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.input.InputGenerator;
+
+/**
+ * A classe SortProfile executa os algoritmos com um HardwareProfiler, sem janela, e imprime as
+ * faltas de cache simuladas e as previsões erradas de desvio por elemento, ao lado das
+ * operações contadas pelas métricas. Todos os algoritmos recebem a mesma entrada.
+ *
+ * <pre>
+ * java -cp bin src.main.java.sortvisualiser.profile.SortProfile \
+ *     --size=65536 --l1-kb=32 --l1-ways=8 --l2-kb=1024 --l2-ways=16 --output=profile.csv
+ * </pre>
+ */
+public final class SortProfile {
+    private int size = 65_536; // Tamanho do array
+    private InputGenerator distribution = InputDistribution.RANDOM; // Distribuição da entrada
+    private long seed = 42; // Semente da entrada
+    private List<String> algorithmFilter = List.of(); // Nomes dos algoritmos (vazio = todos)
+    private int lineBytes = HardwareProfiler.DEFAULT_LINE_BYTES; // Tamanho das linhas de cache
+    private int l1Kib = HardwareProfiler.DEFAULT_L1_KIB; // Capacidade do L1
+    private int l1Ways = HardwareProfiler.DEFAULT_L1_WAYS; // Associatividade do L1
+    private int l2Kib = HardwareProfiler.DEFAULT_L2_KIB; // Capacidade do L2
+    private int l2Ways = HardwareProfiler.DEFAULT_L2_WAYS; // Associatividade do L2
+    private int historyBits = HardwareProfiler.DEFAULT_HISTORY_BITS; // Bits de histórico do preditor
+    private int parallelism = Runtime.getRuntime().availableProcessors(); // Workers dos algoritmos paralelos
+    private Path output = null; // Arquivo CSV, ou null para apenas imprimir
+
+    /**
+     * Executa o profiling.
+     *
+     * @param args Opções no formato --nome=valor.
+     * @throws IOException se o CSV não puder ser gravado.
+     */
+    public static void main(String... args) throws IOException {
+        SortProfile profile = new SortProfile();
+        profile.parseArguments(args);
+        profile.run();
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "size":
+                    size = Integer.parseInt(value);
+                    break;
+                case "distribution":
+                    distribution = InputDistribution.parse(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "algorithms":
+                    algorithmFilter = List.of(value.split(",(?![^(]*\\))")); // Vírgulas entre parênteses fazem parte do nome
+                    break;
+                case "line-bytes":
+                    lineBytes = Integer.parseInt(value);
+                    break;
+                case "l1-kb":
+                    l1Kib = Integer.parseInt(value);
+                    break;
+                case "l1-ways":
+                    l1Ways = Integer.parseInt(value);
+                    break;
+                case "l2-kb":
+                    l2Kib = Integer.parseInt(value);
+                    break;
+                case "l2-ways":
+                    l2Ways = Integer.parseInt(value);
+                    break;
+                case "history-bits":
+                    historyBits = Integer.parseInt(value);
+                    break;
+                case "parallelism":
+                    parallelism = Integer.parseInt(value);
+                    break;
+                case "output":
+                    output = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        createProfiler(new SortArray(2)); // Valida a configuração antes de executar qualquer algoritmo
+    }
+
+    private HardwareProfiler createProfiler(SortArray array) {
+        return new HardwareProfiler(array,
+                new CacheSimulator(l1Kib * 1024L, lineBytes, l1Ways),
+                new CacheSimulator(l2Kib * 1024L, lineBytes, l2Ways),
+                new BranchPredictor(historyBits));
+    }
+
+    private List<UiSortAlgoritimo> selectedAlgorithms() {
+        if (algorithmFilter.isEmpty()) {
+            return SortAlgorithms.createAll();
+        }
+        List<UiSortAlgoritimo> algorithms = new ArrayList<>();
+        for (String name : algorithmFilter) {
+            algorithms.add(SortAlgorithms.create(name));
+        }
+        return algorithms;
+    }
+
+    private void run() throws IOException {
+        int[] input = InputCache.shared().get(distribution, size, seed);
+        SortEngine engine = new SortEngine();
+        HardwareProfiler sample = createProfiler(new SortArray(2));
+        System.out.println("L1: " + sample.getL1() + ", L2: " + sample.getL2() + ", predictor: " + sample.getPredictor());
+        System.out.printf(Locale.ROOT, "%-34s %9s %12s %12s %12s %12s %9s %7s%n",
+                "Algorithm", "n", "ops/elem", "L1 miss/el", "L2 miss/el", "mispred/el", "mispred%", "sorted");
+        StringBuilder csv = new StringBuilder(
+                "algorithm,distribution,size,reads,compares,writes,swaps,l1_accesses,l1_misses,l2_misses,"
+                + "branches,mispredictions,sorted\n");
+        for (UiSortAlgoritimo algorithm : selectedAlgorithms()) {
+            algorithm.setDelay(0);
+            if (algorithm instanceof ParallelSortAlgoritimo) {
+                ((ParallelSortAlgoritimo) algorithm).setParallelism(parallelism);
+            }
+            SortArray array = SortEngine.newArray(algorithm, input);
+            HardwareProfiler profiler = createProfiler(array);
+            array.addListener(profiler);
+            SortResult result = engine.run(algorithm, array);
+            array.removeListener(profiler);
+
+            long operations = result.getReads() + result.getCompares() + result.getWrites() + result.getSwaps();
+            System.out.printf(Locale.ROOT, "%-34s %9d %12.2f %12.4f %12.4f %12.4f %9.2f %7b%n",
+                    result.getAlgorithmName(), size, (double) operations / size,
+                    profiler.getL1MissesPerElement(), profiler.getL2MissesPerElement(),
+                    profiler.getMispredictionsPerElement(), profiler.getMispredictionRate() * 100,
+                    result.isSorted());
+            csv.append(csvField(result.getAlgorithmName())).append(',').append(csvField(distribution.getName()))
+                    .append(',').append(size)
+                    .append(',').append(result.getReads()).append(',').append(result.getCompares())
+                    .append(',').append(result.getWrites()).append(',').append(result.getSwaps())
+                    .append(',').append(profiler.getL1().getAccesses())
+                    .append(',').append(profiler.getL1().getMisses())
+                    .append(',').append(profiler.getL2().getMisses())
+                    .append(',').append(profiler.getPredictor().getBranches())
+                    .append(',').append(profiler.getPredictor().getMispredictions())
+                    .append(',').append(result.isSorted()).append('\n');
+        }
+        if (output != null) {
+            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                writer.write(csv.toString());
+            }
+            System.out.println("Results written to " + output.toAbsolutePath());
+        }
+    }
+
+    private static String csvField(String text) {
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
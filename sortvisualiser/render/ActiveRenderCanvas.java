@@ -0,0 +1,185 @@
+package src.main.java.sortvisualiser.render;
+
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A classe ActiveRenderCanvas é o backend de desenho ativo: um Canvas com um BufferStrategy
+ * desenhado por uma thread própria, em vez do repaint() passivo do Swing, que agrupa os
+ * pedidos de forma imprevisível e divide a Event Dispatch Thread com os eventos da interface.
+ *
+ * <p>O BufferStrategy usa dois ou três buffers; quando o sistema permite, eles são superfícies
+ * aceleradas (VolatileImage) trocadas por page flipping, e senão são copiados para a tela. O
+ * conteúdo perdido pelos buffers acelerados é tratado com contentsRestored() e contentsLost().
+ * Cada quadro é medido em um FrameStats.</p>
+ *
+ * <p>A thread de desenho começa quando o canvas ganha um peer (addNotify()) e termina quando
+ * ele é removido da janela (removeNotify()).</p>
+ */
+public final class ActiveRenderCanvas extends Canvas {
+    private static final long MAX_LAG_FRAMES = 2; // Atraso máximo antes de desistir dos quadros perdidos
+    private static final long STOP_TIMEOUT_MILLIS = 500; // Espera máxima pelo fim da thread de desenho
+
+    /**
+     * A interface FramePainter desenha o conteúdo de um quadro.
+     */
+    public interface FramePainter {
+
+        /**
+         * Desenha um quadro inteiro. Chamado na thread de desenho do canvas.
+         *
+         * @param g      O objeto Graphics2D do buffer de fundo.
+         * @param width  A largura do canvas.
+         * @param height A altura do canvas.
+         */
+        public void paintFrame(Graphics2D g, int width, int height);
+    }
+
+    private final FramePainter painter; // Conteúdo dos quadros
+    private final int buffers; // Número de buffers do BufferStrategy
+    private final long frameNanos; // Intervalo entre quadros
+    private final FrameStats frameStats; // Medidas dos quadros
+    private volatile Thread renderThread; // Thread de desenho, ou null enquanto o canvas não tem peer
+    private volatile boolean running = false; // Indica se a thread de desenho deve continuar
+
+    /**
+     * Construtor da classe ActiveRenderCanvas.
+     *
+     * @param painter         O conteúdo dos quadros.
+     * @param buffers         O número de buffers: 2 (double buffering) ou 3 (triple buffering).
+     * @param framesPerSecond A taxa de quadros.
+     * @param frameStats      As medidas dos quadros, alimentadas pela thread de desenho.
+     * @throws IllegalArgumentException se o número de buffers ou a taxa de quadros forem inválidos.
+     */
+    public ActiveRenderCanvas(FramePainter painter, int buffers, double framesPerSecond, FrameStats frameStats) {
+        if (buffers < 2 || buffers > 3) {
+            throw new IllegalArgumentException("Buffers must be 2 or 3");
+        }
+        if (!(framesPerSecond > 0)) {
+            throw new IllegalArgumentException("Frames per second must be positive: " + framesPerSecond);
+        }
+        this.painter = painter;
+        this.buffers = buffers;
+        this.frameNanos = (long) (1_000_000_000L / framesPerSecond);
+        this.frameStats = frameStats;
+        setIgnoreRepaint(true); // Os quadros vêm apenas da thread de desenho
+        setBackground(BarRenderer.BACKGROUND_COLOUR);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(buffers);
+        running = true;
+        Thread thread = new Thread(this::renderLoop, "active-render");
+        thread.setDaemon(true);
+        renderThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        stopRendering(); // A thread não pode desenhar depois que o peer e os buffers forem destruídos
+        super.removeNotify();
+    }
+
+    /**
+     * Para a thread de desenho e espera o quadro em andamento. removeNotify() é chamado com a
+     * trava da árvore de componentes, então a espera é limitada: se o quadro depender dessa
+     * trava, a thread termina sozinha ao perceber que o peer foi destruído.
+     */
+    private void stopRendering() {
+        running = false;
+        Thread thread = renderThread;
+        renderThread = null;
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+        boolean interrupted = false;
+        long remaining;
+        while (thread.isAlive() && (remaining = deadline - System.currentTimeMillis()) > 0) {
+            try {
+                thread.join(remaining);
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Indica se o BufferStrategy troca os buffers por page flipping, em vez de copiá-los.
+     *
+     * @return true se houver page flipping; false sem BufferStrategy ou com cópia.
+     */
+    public boolean isPageFlipping() {
+        BufferStrategy strategy = getBufferStrategy();
+        return strategy != null && strategy.getCapabilities().isPageFlipping();
+    }
+
+    /**
+     * Indica se o buffer de fundo é uma superfície acelerada pela placa de vídeo.
+     *
+     * @return true se o buffer de fundo for acelerado.
+     */
+    public boolean isAccelerated() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            return false;
+        }
+        BufferCapabilities capabilities = strategy.getCapabilities();
+        return capabilities.getBackBufferCapabilities().isAccelerated();
+    }
+
+    private void renderLoop() {
+        BufferStrategy strategy = getBufferStrategy();
+        long deadline = System.nanoTime();
+        while (running) {
+            long start = System.nanoTime();
+            try {
+                renderFrame(strategy);
+            } catch (IllegalStateException ex) {
+                if (running) {
+                    throw ex;
+                }
+                return; // O peer foi destruído durante o último quadro
+            }
+            Toolkit.getDefaultToolkit().sync(); // Entrega o quadro ao sistema de janelas, sem esperar o próximo evento
+            frameStats.record(start, System.nanoTime() - start);
+
+            deadline += frameNanos;
+            long wait = deadline - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else if (wait < -MAX_LAG_FRAMES * frameNanos) {
+                deadline = System.nanoTime(); // Atrasou demais: não tenta recuperar os quadros perdidos
+            }
+        }
+    }
+
+    /**
+     * Desenha um quadro no buffer de fundo e o mostra, repetindo enquanto o conteúdo dos
+     * buffers acelerados for perdido ou restaurado no meio do caminho.
+     */
+    private void renderFrame(BufferStrategy strategy) {
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    painter.paintFrame(g, getWidth(), getHeight());
+                } finally {
+                    g.dispose();
+                }
+            } while (running && strategy.contentsRestored());
+            strategy.show();
+        } while (running && strategy.contentsLost());
+    }
+}
@@ -0,0 +1,264 @@
+package src.main.java.sortvisualiser.render;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe ArraySnapshot publica cópias consistentes de um SortArray da thread do algoritmo
+ * para a thread de desenho, sem que nenhuma das duas bloqueie. Sem ela, quem desenha lê o
+ * array enquanto o algoritmo escreve, e um quadro pode mostrar uma troca pela metade.
+ *
+ * <p>São três cópias (buffer triplo): a do produtor, que recebe as alterações; a do meio, a
+ * última publicada; e a de quem desenha, lida durante o quadro. Publicar e adquirir são uma
+ * única troca atômica (VarHandle.getAndSet) do índice da cópia do meio, com semântica de
+ * liberação e aquisição: as escritas da cópia publicada são visíveis para quem a adquire, e
+ * as leituras de quem desenha terminam antes de o produtor reaproveitar a cópia.</p>
+ *
+ * <p>A cada publicação, apenas as palavras de 64 elementos alteradas desde a última vez em que
+ * aquela cópia foi preenchida são copiadas do array. Cada cópia guarda, por palavra, a
+ * publicação em que a palavra mudou pela última vez; assim quem desenha sabe quais elementos
+ * mudaram desde o quadro anterior, mesmo que publicações intermediárias tenham sido puladas.</p>
+ *
+ * <p>Os métodos mark*() e publish*() devem ser chamados sempre pela thread que
+ * altera o array, depois de cada alteração completa; acquire() e a leitura pela ArrayView,
+ * sempre pela mesma thread de desenho. Não serve para um ConcurrentSortArray, em que vários
+ * workers alteram o array ao mesmo tempo e não há um instante consistente para copiar.</p>
+ */
+public final class ArraySnapshot implements ArrayView {
+    private static final VarHandle MIDDLE; // Acesso atômico a middle
+    private static final int FRESH = 4; // Bit de middle que indica uma cópia publicada e ainda não adquirida
+    private static final int INDEX_MASK = 3; // Bits de middle com o índice da cópia
+
+    static {
+        try {
+            MIDDLE = MethodHandles.lookup().findVarHandle(ArraySnapshot.class, "middle", int.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private final SortArray sortArray; // Array publicado
+    private final int size; // Número de elementos
+    private final int wordCount; // Número de palavras de 64 elementos
+    private final Buffer[] buffers = new Buffer[3]; // As três cópias
+    private volatile int middle = 1; // Índice da cópia do meio, mais o bit FRESH
+
+    // Estado do produtor, usado apenas pela thread do algoritmo
+    private int back = 0; // Cópia preenchida pelo produtor
+    private long publication = 1; // Número da próxima publicação
+    private final long[] changedAt; // Publicação em que cada palavra mudou pela última vez
+    private long resetAt = 0; // Publicação do último markAll()
+    private boolean pending = false; // Indica alterações ainda não publicadas
+
+    // Estado de quem desenha, usado apenas pela thread de desenho
+    private int front = 2; // Cópia lida durante o quadro
+    private long drawnPublication = -1; // Publicação da cópia desenhada no quadro anterior, ou -1
+
+    /**
+     * Construtor da classe ArraySnapshot. As três cópias começam com o conteúdo atual do array,
+     * que não deve estar sendo alterado durante a construção.
+     *
+     * @param sortArray O array a ser publicado.
+     */
+    public ArraySnapshot(SortArray sortArray) {
+        this.sortArray = sortArray;
+        this.size = sortArray.arraySize();
+        this.wordCount = (size + 63) >>> 6;
+        this.changedAt = new long[wordCount];
+        int maxValue = sortArray.getMaxValue();
+        for (int i = 0; i < buffers.length; i++) {
+            Buffer buffer = new Buffer(size, wordCount);
+            sortArray.copyRange(0, size, buffer.values, buffer.colours);
+            buffer.maxValue = maxValue;
+            buffers[i] = buffer;
+        }
+    }
+
+    /**
+     * Registra a alteração de um elemento. A palavra do elemento passa a ser copiada na
+     * próxima publicação de cada uma das três cópias.
+     *
+     * @param index O índice alterado.
+     */
+    public void markChanged(int index) {
+        markWord(index >>> 6);
+    }
+
+    /**
+     * Registra a alteração dos elementos de uma faixa, como as cores de uma faixa destacada.
+     *
+     * @param from O primeiro índice alterado.
+     * @param to   O índice logo após o fim da faixa.
+     */
+    public void markRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        for (int word = from >>> 6; word <= (to - 1) >>> 6; word++) {
+            markWord(word);
+        }
+    }
+
+    private void markWord(int word) {
+        pending = true;
+        if (changedAt[word] == publication) {
+            return; // Já marcada desde a última publicação
+        }
+        changedAt[word] = publication;
+        for (Buffer buffer : buffers) {
+            buffer.markStale(word);
+        }
+    }
+
+    /**
+     * Registra a alteração de todos os elementos, como depois de resetar as cores: a próxima
+     * publicação de cada cópia copia o array inteiro.
+     */
+    public void markAll() {
+        pending = true;
+        Arrays.fill(changedAt, publication);
+        resetAt = publication;
+        for (Buffer buffer : buffers) {
+            buffer.allStale = true;
+        }
+    }
+
+    /**
+     * Publica as alterações pendentes se quem desenha já adquiriu a publicação anterior.
+     * Custa uma leitura volátil quando não há nada a fazer, e pode ser chamado a cada operação.
+     */
+    public void publishIfConsumed() {
+        if (pending && ((int) MIDDLE.getAcquire(this) & FRESH) == 0) {
+            publish();
+        }
+    }
+
+    /**
+     * Publica as alterações pendentes, mesmo que a publicação anterior não tenha sido
+     * adquirida. Chamado antes de a thread do algoritmo ficar parada, para que o quadro
+     * desenhado durante a espera mostre o estado mais recente.
+     */
+    public void publish() {
+        if (!pending) {
+            return;
+        }
+        Buffer buffer = buffers[back];
+        buffer.fill(sortArray, changedAt);
+        buffer.maxValue = sortArray.getMaxValue();
+        buffer.resetPublication = resetAt;
+        buffer.publication = publication++;
+        pending = false;
+        back = (int) MIDDLE.getAndSet(this, back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Adquire a publicação mais recente, se houver uma nova, e marca no renderer os elementos
+     * que mudaram desde o quadro anterior. Deve ser chamado no início de cada quadro, antes de
+     * render(); a cópia adquirida não muda até a próxima chamada.
+     *
+     * @param renderer O renderer que desenha esta ArrayView.
+     * @return true se uma nova publicação foi adquirida.
+     */
+    public boolean acquire(Renderer renderer) {
+        if (((int) MIDDLE.getAcquire(this) & FRESH) == 0) {
+            if (drawnPublication < 0) {
+                renderer.markAll(); // Primeiro quadro: desenha a cópia inicial
+                drawnPublication = 0;
+            }
+            return false;
+        }
+        front = (int) MIDDLE.getAndSet(this, front) & INDEX_MASK;
+        Buffer buffer = buffers[front];
+        if (drawnPublication < 0 || buffer.resetPublication > drawnPublication) {
+            renderer.markAll();
+        } else {
+            long[] versions = buffer.versions;
+            for (int word = 0; word < wordCount; word++) {
+                if (versions[word] > drawnPublication) {
+                    int from = word << 6;
+                    renderer.markRange(from, Math.min(size, from + 64));
+                }
+            }
+        }
+        drawnPublication = buffer.publication;
+        return true;
+    }
+
+    @Override
+    public int arraySize() {
+        return size;
+    }
+
+    @Override
+    public int peekValue(int index) {
+        return buffers[front].values[index];
+    }
+
+    @Override
+    public byte getBarColour(int index) {
+        return buffers[front].colours[index];
+    }
+
+    @Override
+    public int getMaxValue() {
+        return buffers[front].maxValue;
+    }
+
+    /**
+     * Uma das três cópias do array, com as palavras que ainda precisam ser copiadas para ela.
+     */
+    private static final class Buffer {
+        private final int[] values; // Valores copiados
+        private final byte[] colours; // Cores copiadas
+        private final long[] versions; // Publicação em que cada palavra copiada mudou pela última vez
+        private final boolean[] stale; // Indica as palavras que precisam ser copiadas
+        private final int[] staleWords; // As palavras que precisam ser copiadas, sem repetição
+        private int staleCount = 0; // Número de palavras em staleWords
+        private boolean allStale = false; // Indica que o array inteiro precisa ser copiado
+        private int maxValue; // Maior valor do array na publicação
+        private long publication = 0; // Número da publicação desta cópia
+        private long resetPublication = 0; // Publicação do último markAll() incluído nesta cópia
+
+        private Buffer(int size, int wordCount) {
+            values = new int[size];
+            colours = new byte[size];
+            versions = new long[wordCount];
+            stale = new boolean[wordCount];
+            staleWords = new int[wordCount];
+        }
+
+        private void markStale(int word) {
+            if (!allStale && !stale[word]) {
+                stale[word] = true;
+                staleWords[staleCount++] = word;
+            }
+        }
+
+        /**
+         * Copia do array as palavras pendentes desta cópia, ou o array inteiro depois de um markAll().
+         */
+        private void fill(SortArray sortArray, long[] changedAt) {
+            int size = values.length;
+            if (allStale) {
+                sortArray.copyRange(0, size, values, colours);
+                System.arraycopy(changedAt, 0, versions, 0, versions.length);
+                for (int i = 0; i < staleCount; i++) {
+                    stale[staleWords[i]] = false;
+                }
+                allStale = false;
+            } else {
+                for (int i = 0; i < staleCount; i++) {
+                    int word = staleWords[i];
+                    int from = word << 6;
+                    sortArray.copyRange(from, Math.min(size, from + 64) - from, values, colours);
+                    versions[word] = changedAt[word];
+                    stale[word] = false;
+                }
+            }
+            staleCount = 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package src.main.java.sortvisualiser.render;
+
+/**
+ * A interface ArrayView define o que os renderers leem de um array: os valores, as cores das
+ * barras e o maior valor. O próprio SortArray é uma ArrayView, lida diretamente; o
+ * ArraySnapshot é uma cópia consistente publicada pela thread do algoritmo.
+ */
+public interface ArrayView {
+
+    /**
+     * Retorna o número de elementos.
+     *
+     * @return O tamanho do array.
+     */
+    public int arraySize();
+
+    /**
+     * Retorna o valor de um índice, sem contar como leitura do algoritmo.
+     *
+     * @param index O índice.
+     * @return O valor do índice.
+     */
+    public int peekValue(int index);
+
+    /**
+     * Retorna a cor da barra de um índice.
+     *
+     * @param index O índice.
+     * @return A cor da barra.
+     */
+    public byte getBarColour(int index);
+
+    /**
+     * Retorna o maior valor do array, usado como escala das alturas.
+     *
+     * @return O maior valor.
+     */
+    public int getMaxValue();
+}
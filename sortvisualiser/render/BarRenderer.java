@@ -0,0 +1,315 @@
+package src.main.java.sortvisualiser.render;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import src.main.java.sortvisualiser.ConcurrentSortArray;
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe BarRenderer desenha uma ArrayView como barras em uma imagem fora da tela. É usada
+ * pelo SortArrayPanel e pela exportação de quadros, de forma que a janela e os arquivos
+ * exportados mostram exatamente as mesmas barras.
+ *
+ * <p>A imagem é reaproveitada enquanto o tamanho não muda, e apenas as barras marcadas com
+ * markChanged() desde a última atualização são redesenhadas. Arrays com mais elementos do que
+ * pixels de largura são desenhados por coluna de pixels, com o resumo mantido por um
+ * ColumnDecimator. Não é segura para várias threads: as marcações podem vir da thread do
+ * algoritmo, mas update() deve ser chamado sempre pela mesma thread.</p>
+ */
+public final class BarRenderer implements Renderer {
+    /**
+     * Percentagem da imagem que as barras vão consumir com base no número original de barras.
+     * Cada barra tem 2x sua própria altura em uma imagem de 720 pixels de altura.
+     */
+    public static final double BAR_HEIGHT_PERCENT = 512.0 / 720.0;
+
+    public static final Color BACKGROUND_COLOUR = Color.DARK_GRAY; // Cor de fundo
+    public static final Color BAR_DEFAULT_COLOUR = new Color(255, 255, 255); // Cor das barras padrão
+    public static final Color BAR_CHANGED_COLOUR = new Color(255, 0, 0); // Cor das barras alteradas
+    public static final Color BAR_OTHER_COLOUR = new Color(0, 255, 0); // Cor dos demais destaques
+    public static final Color COLUMN_RANGE_COLOUR = Color.GRAY; // Cor da faixa entre mínimo e máximo de uma coluna
+    private static final Color[] WORKER_COLOURS = createWorkerColours(); // Uma cor por worker dos algoritmos paralelos
+
+    private final ArrayView array; // Array desenhado
+    private final ColumnDecimator decimator; // Resumo por coluna de pixels, para arrays maiores que a imagem
+    private final DirtyIndexSet dirtyBars; // Barras alteradas desde a última atualização
+
+    private BufferedImage image; // Imagem das barras, reaproveitada enquanto o tamanho não muda
+    private Graphics2D imageGraphics; // Graphics da imagem
+    private int drawnMaxValue = Integer.MIN_VALUE; // Maior valor usado para as alturas na imagem
+    private boolean drawingColumns = false; // Indica se a imagem está desenhada por coluna de pixels
+
+    /**
+     * Construtor da classe BarRenderer. Não registra nenhum observador: quem cria o renderer
+     * deve chamar markChanged() e markAll() a partir das notificações do array, ou
+     * ArraySnapshot.acquire() a cada quadro.
+     *
+     * @param array O array a ser desenhado, um SortArray ou um ArraySnapshot.
+     */
+    public BarRenderer(ArrayView array) {
+        this.array = array;
+        this.decimator = new ColumnDecimator(array);
+        this.dirtyBars = new DirtyIndexSet(array.arraySize());
+    }
+
+    /**
+     * Marca uma barra para ser redesenhada na próxima atualização.
+     *
+     * @param index O índice da barra alterada.
+     */
+    @Override
+    public void markChanged(int index) {
+        dirtyBars.mark(index);
+        decimator.touch(index);
+    }
+
+    /**
+     * Marca um intervalo de barras para ser redesenhado na próxima atualização.
+     *
+     * @param from O primeiro índice alterado.
+     * @param to   O índice seguinte ao último alterado.
+     */
+    @Override
+    public void markRange(int from, int to) {
+        dirtyBars.markRange(from, to);
+        decimator.touchRange(from, to);
+    }
+
+    /**
+     * Marca todas as barras para serem redesenhadas, como depois de resetar as cores.
+     */
+    @Override
+    public void markAll() {
+        dirtyBars.markAll();
+        decimator.invalidate();
+    }
+
+    /**
+     * Retorna a imagem das barras, válida após um update() que retornou true.
+     *
+     * @return A imagem, reaproveitada entre as atualizações.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Atualiza a imagem das barras. A imagem só é recriada quando o tamanho muda, e só é
+     * redesenhada por inteiro quando a escala das alturas ou o modo de desenho mudam.
+     *
+     * @param width  A largura da imagem.
+     * @param height A altura da imagem.
+     * @return true se a imagem estiver pronta para ser desenhada.
+     */
+    public boolean update(int width, int height) {
+        if (width <= 0 || height <= 0 || array.arraySize() == 0) {
+            return false;
+        }
+        boolean redrawAll = false;
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            if (imageGraphics != null) {
+                imageGraphics.dispose();
+            }
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            imageGraphics = image.createGraphics();
+            redrawAll = true;
+        }
+        boolean columnMode = array.arraySize() > width;
+        if (columnMode != drawingColumns) {
+            drawingColumns = columnMode;
+            redrawAll = true;
+        }
+        if (columnMode) {
+            drawColumns(redrawAll);
+        } else {
+            drawBars(redrawAll);
+        }
+        return true;
+    }
+
+    /**
+     * Atualiza a imagem das barras e a desenha na origem.
+     *
+     * @param g      O objeto Graphics2D utilizado para desenhar.
+     * @param width  A largura da área.
+     * @param height A altura da área.
+     * @return false se a imagem não pôde ser atualizada.
+     */
+    @Override
+    public boolean render(Graphics2D g, int width, int height) {
+        if (!update(width, height)) {
+            return false;
+        }
+        g.drawImage(image, 0, 0, null);
+        return true;
+    }
+
+    /**
+     * Calcula a altura em pixels de uma barra.
+     *
+     * @param value       O valor da barra.
+     * @param maxValue    O maior valor do array.
+     * @param imageHeight A altura da imagem.
+     * @return A altura da barra em pixels.
+     */
+    private static int barHeight(int value, double maxValue, int imageHeight) {
+        double percentOfMax = value / maxValue;
+        double heightPercentOfPanel = percentOfMax * BAR_HEIGHT_PERCENT;
+        return (int) (imageHeight * heightPercentOfPanel);
+    }
+
+    /**
+     * Desenha na imagem as barras representando os valores do array.
+     *
+     * @param redrawAll Indica se todas as barras devem ser redesenhadas, e não apenas as alteradas.
+     */
+    private void drawBars(boolean redrawAll) {
+        int numBars = array.arraySize();
+        int maxValue = array.getMaxValue();
+        if (maxValue != drawnMaxValue) {
+            drawnMaxValue = maxValue;
+            redrawAll = true;
+        }
+        int barWidth = image.getWidth() / numBars;
+        if (redrawAll) {
+            imageGraphics.setColor(BACKGROUND_COLOUR);
+            imageGraphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            for (int word = 0; word < dirtyBars.wordCount(); word++) {
+                dirtyBars.drainWord(word);
+            }
+            for (int x = 0; x < numBars; x++) {
+                drawBar(x, barWidth, maxValue);
+            }
+            return;
+        }
+        for (int word = 0; word < dirtyBars.wordCount(); word++) {
+            long bits = dirtyBars.drainWord(word);
+            while (bits != 0) {
+                int x = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (x < numBars) {
+                    drawBar(x, barWidth, maxValue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Redesenha uma única barra na imagem, limpando antes a sua faixa.
+     *
+     * @param x        O índice da barra.
+     * @param barWidth A largura da barra em pixels.
+     * @param maxValue O maior valor do array.
+     */
+    private void drawBar(int x, int barWidth, double maxValue) {
+        int imageHeight = image.getHeight();
+        int height = barHeight(array.peekValue(x), maxValue, imageHeight);
+        imageGraphics.setColor(BACKGROUND_COLOUR);
+        imageGraphics.fillRect(x * barWidth, 0, barWidth, imageHeight - height);
+        imageGraphics.setColor(barFillColour(array.getBarColour(x)));
+        imageGraphics.fillRect(x * barWidth, imageHeight - height, barWidth, height);
+    }
+
+    /**
+     * Retorna a cor pré-alocada correspondente à cor de uma barra.
+     *
+     * @param barColour A cor da barra no SortArray.
+     * @return A cor de preenchimento.
+     */
+    public static Color barFillColour(byte barColour) {
+        if (barColour == SortArray.COLOUR_DEFAULT) {
+            return BAR_DEFAULT_COLOUR;
+        } else if (barColour == SortArray.COLOUR_CHANGED) {
+            return BAR_CHANGED_COLOUR;
+        } else if (ConcurrentSortArray.isWorkerColour(barColour)) {
+            return WORKER_COLOURS[barColour - ConcurrentSortArray.COLOUR_WORKER_FIRST];
+        }
+        return BAR_OTHER_COLOUR;
+    }
+
+    /**
+     * Retorna as cores usadas pelas barras, na ordem padrão, alterada, demais destaques, faixa
+     * das colunas e uma por worker. Usado para montar paletas fixas, como a dos GIFs exportados.
+     *
+     * @return Uma nova cópia das cores.
+     */
+    public static Color[] barColours() {
+        Color[] colours = new Color[4 + WORKER_COLOURS.length];
+        colours[0] = BAR_DEFAULT_COLOUR;
+        colours[1] = BAR_CHANGED_COLOUR;
+        colours[2] = BAR_OTHER_COLOUR;
+        colours[3] = COLUMN_RANGE_COLOUR;
+        System.arraycopy(WORKER_COLOURS, 0, colours, 4, WORKER_COLOURS.length);
+        return colours;
+    }
+
+    /**
+     * Cria as cores dos workers, espalhadas pelo círculo de matizes.
+     *
+     * @return Uma cor para cada worker.
+     */
+    private static Color[] createWorkerColours() {
+        Color[] colours = new Color[ConcurrentSortArray.WORKER_COLOUR_COUNT];
+        for (int i = 0; i < colours.length; i++) {
+            colours[i] = Color.getHSBColor((float) i / colours.length + 0.08f, 0.8f, 1.0f);
+        }
+        return colours;
+    }
+
+    /**
+     * Desenha na imagem o array por coluna de pixels, quando há mais elementos do que pixels de
+     * largura. Cada coluna mostra a faixa entre o menor e o maior valor do seu intervalo e uma
+     * marca na altura do último elemento alterado. Apenas as colunas recalculadas pelo
+     * ColumnDecimator são redesenhadas.
+     *
+     * @param redrawAll Indica se todas as colunas devem ser redesenhadas.
+     */
+    private void drawColumns(boolean redrawAll) {
+        int columns = image.getWidth();
+        decimator.resize(columns);
+        int changed = decimator.refresh();
+        int maxValue = Math.max(1, decimator.getMaxValue());
+        if (maxValue != drawnMaxValue) {
+            drawnMaxValue = maxValue;
+            redrawAll = true;
+        }
+        if (redrawAll) {
+            for (int x = 0; x < columns; x++) {
+                drawColumn(x, maxValue);
+            }
+            return;
+        }
+        for (int i = 0; i < changed; i++) {
+            drawColumn(decimator.getChangedColumn(i), maxValue);
+        }
+    }
+
+    /**
+     * Redesenha uma única coluna de pixels na imagem.
+     *
+     * @param x        A coluna.
+     * @param maxValue O maior valor do array.
+     */
+    private void drawColumn(int x, double maxValue) {
+        int imageHeight = image.getHeight();
+        int minHeight = barHeight(decimator.getMin(x), maxValue, imageHeight);
+        int maxHeight = barHeight(decimator.getMax(x), maxValue, imageHeight);
+
+        imageGraphics.setColor(BACKGROUND_COLOUR);
+        imageGraphics.fillRect(x, 0, 1, imageHeight - maxHeight);
+        imageGraphics.setColor(COLUMN_RANGE_COLOUR);
+        imageGraphics.fillRect(x, imageHeight - maxHeight, 1, maxHeight - minHeight);
+        imageGraphics.setColor(decimator.isHighlighted(x) ? BAR_CHANGED_COLOUR : BAR_DEFAULT_COLOUR);
+        imageGraphics.fillRect(x, imageHeight - minHeight, 1, minHeight);
+
+        int lastTouched = decimator.getLastTouched(x);
+        if (lastTouched >= 0) {
+            int touchedHeight = barHeight(array.peekValue(lastTouched), maxValue, imageHeight);
+            byte touchedColour = array.getBarColour(lastTouched);
+            imageGraphics.setColor(ConcurrentSortArray.isWorkerColour(touchedColour) ? barFillColour(touchedColour) : BAR_OTHER_COLOUR);
+            imageGraphics.fillRect(x, imageHeight - touchedHeight - 1, 1, 3);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package src.main.java.sortvisualiser.render;
+
+import java.util.Arrays;
+
+/**
+ * A classe ColourWheelRenderer desenha o array como um disco: cada elemento ocupa uma fatia,
+ * em ordem, pintada com a matiz do seu valor. Um array ordenado forma um círculo de cores
+ * contínuo; um embaralhado, ruído.
+ *
+ * <p>Para cada pixel do disco, o elemento correspondente é calculado uma vez, quando o tamanho
+ * muda; um quadro apenas lê um valor por pixel.</p>
+ */
+public final class ColourWheelRenderer extends RasterRenderer {
+    private int[] discPixels = new int[0]; // Posição de cada pixel do disco na imagem
+    private int[] discElements = new int[0]; // Elemento desenhado em cada pixel do disco
+
+    /**
+     * Construtor da classe ColourWheelRenderer.
+     *
+     * @param array O array a ser desenhado.
+     */
+    public ColourWheelRenderer(ArrayView array) {
+        super(array);
+    }
+
+    @Override
+    protected void resized(int width, int height) {
+        int plotHeight = plotHeight(height);
+        int radius = Math.max(1, Math.min(width, plotHeight) / 2 - 4);
+        int centreX = width / 2;
+        int centreY = height - plotHeight / 2;
+        int size = array.arraySize();
+        int capacity = (2 * radius + 1) * (2 * radius + 1);
+        int[] offsets = new int[capacity];
+        int[] elements = new int[capacity];
+        int count = 0;
+        for (int dy = -radius; dy <= radius; dy++) {
+            int y = centreY + dy;
+            if (y < 0 || y >= height) {
+                continue;
+            }
+            for (int dx = -radius; dx <= radius; dx++) {
+                int x = centreX + dx;
+                if (x < 0 || x >= width || dx * dx + dy * dy > radius * radius) {
+                    continue;
+                }
+                double turn = (Math.atan2(dx, -dy) / (2 * Math.PI) + 1) % 1; // 0 no topo, no sentido horário
+                offsets[count] = y * width + x;
+                elements[count] = Math.min(size - 1, (int) (turn * size));
+                count++;
+            }
+        }
+        discPixels = Arrays.copyOf(offsets, count);
+        discElements = Arrays.copyOf(elements, count);
+    }
+
+    @Override
+    protected void draw(int[] pixels, int width, int height) {
+        int maxValue = Math.max(1, array.getMaxValue());
+        for (int i = 0; i < discPixels.length; i++) {
+            pixels[discPixels[i]] = hue(array.peekValue(discElements[i]), maxValue);
+        }
+    }
+}
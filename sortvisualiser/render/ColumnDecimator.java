@@ -0,0 +1,247 @@
+package src.main.java.sortvisualiser.render;
+
+import java.util.Arrays;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe ColumnDecimator resume uma ArrayView maior do que a largura do painel em colunas
+ * de pixels. Cada coluna agrupa um intervalo contíguo de elementos e guarda o menor valor,
+ * o maior valor, o último elemento alterado e se algum elemento está destacado.
+ *
+ * <p>O resumo é mantido de forma incremental: as alterações do array apenas marcam a coluna
+ * como suja, e refresh() recalcula somente as colunas sujas, nunca o array inteiro.</p>
+ */
+public final class ColumnDecimator {
+    private final ArrayView array; // Array resumido
+    private int columns = 0; // Número de colunas de pixels
+    private int[] minValues = new int[0]; // Menor valor de cada coluna
+    private int[] maxValues = new int[0]; // Maior valor de cada coluna
+    private int[] lastTouched = new int[0]; // Índice do último elemento alterado em cada coluna, ou -1
+    private boolean[] highlighted = new boolean[0]; // Indica se a coluna contém barras destacadas
+    private DirtyIndexSet dirtyColumns = new DirtyIndexSet(0); // Colunas que precisam ser recalculadas
+    private int[] changedColumns = new int[0]; // Colunas recalculadas no último refresh()
+
+    /**
+     * Construtor da classe ColumnDecimator.
+     *
+     * @param array O array a ser resumido.
+     */
+    public ColumnDecimator(ArrayView array) {
+        this.array = array;
+    }
+
+    /**
+     * Define o número de colunas de pixels. Se o número mudar, todas as colunas são recalculadas
+     * no próximo refresh().
+     *
+     * @param columns O número de colunas.
+     */
+    public void resize(int columns) {
+        if (columns == this.columns) {
+            return;
+        }
+        this.columns = columns;
+        minValues = new int[columns];
+        maxValues = new int[columns];
+        lastTouched = new int[columns];
+        highlighted = new boolean[columns];
+        changedColumns = new int[columns];
+        Arrays.fill(lastTouched, -1);
+        DirtyIndexSet dirty = new DirtyIndexSet(columns);
+        dirty.markAll();
+        dirtyColumns = dirty;
+    }
+
+    /**
+     * Retorna o número de colunas de pixels.
+     *
+     * @return O número de colunas.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Retorna a coluna que contém o índice informado.
+     *
+     * @param index O índice do elemento.
+     * @return A coluna do elemento.
+     */
+    public int columnOf(int index) {
+        return (int) ((long) index * columns / array.arraySize());
+    }
+
+    /**
+     * Retorna o primeiro índice da coluna informada.
+     *
+     * @param column A coluna.
+     * @return O primeiro índice da coluna.
+     */
+    private int firstIndexOf(int column) {
+        long size = array.arraySize();
+        return (int) ((column * size + columns - 1) / columns);
+    }
+
+    /**
+     * Registra a alteração de um elemento, marcando sua coluna como suja.
+     *
+     * @param index O índice alterado.
+     */
+    public void touch(int index) {
+        int[] touched = lastTouched; // Cópias locais: resize() pode rodar ao mesmo tempo na thread de desenho
+        DirtyIndexSet dirty = dirtyColumns;
+        if (touched.length == 0) {
+            return;
+        }
+        int column = (int) ((long) index * touched.length / array.arraySize());
+        if (column < dirty.capacity()) {
+            touched[column] = index;
+            dirty.mark(column);
+        }
+    }
+
+    /**
+     * Registra a alteração de um intervalo de elementos, marcando suas colunas como sujas sem
+     * mudar o último elemento alterado: ao recalcular a coluna, ele passa a ser o último
+     * elemento destacado.
+     *
+     * @param from O primeiro índice alterado.
+     * @param to   O índice seguinte ao último alterado.
+     */
+    public void touchRange(int from, int to) {
+        DirtyIndexSet dirty = dirtyColumns; // Cópia local, como em touch()
+        int count = dirty.capacity();
+        if (count == 0 || from >= to) {
+            return;
+        }
+        int size = array.arraySize();
+        int first = (int) ((long) from * count / size);
+        int last = (int) ((long) (to - 1) * count / size);
+        for (int column = first; column <= last && column < count; column++) {
+            dirty.mark(column);
+        }
+    }
+
+    /**
+     * Marca todas as colunas como sujas.
+     */
+    public void invalidate() {
+        dirtyColumns.markAll();
+    }
+
+    /**
+     * Recalcula as colunas sujas a partir dos valores atuais do array, sem alocar memória.
+     * As colunas recalculadas podem ser consultadas com getChangedColumn().
+     *
+     * @return O número de colunas recalculadas.
+     */
+    public int refresh() {
+        int changed = 0;
+        DirtyIndexSet dirty = dirtyColumns;
+        for (int word = 0; word < dirty.wordCount(); word++) {
+            long bits = dirty.drainWord(word);
+            while (bits != 0) {
+                int column = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (column < columns) {
+                    recompute(column);
+                    changedColumns[changed++] = column;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private void recompute(int column) {
+        int from = firstIndexOf(column);
+        int to = firstIndexOf(column + 1);
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        int lastHighlighted = -1;
+        for (int i = from; i < to; i++) {
+            int value = array.peekValue(i);
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+            if (array.getBarColour(i) != SortArray.COLOUR_DEFAULT) {
+                lastHighlighted = i;
+            }
+        }
+        minValues[column] = min;
+        maxValues[column] = max;
+        highlighted[column] = lastHighlighted >= 0;
+        int touched = lastTouched[column];
+        if (lastHighlighted < 0) {
+            lastTouched[column] = -1;
+        } else if (touched < from || touched >= to || array.getBarColour(touched) == SortArray.COLOUR_DEFAULT) {
+            lastTouched[column] = lastHighlighted; // Sem um elemento alterado destacado, como após touchRange()
+        }
+    }
+
+    /**
+     * Retorna uma das colunas recalculadas no último refresh().
+     *
+     * @param position A posição entre 0 e o valor retornado por refresh() - 1.
+     * @return A coluna recalculada.
+     */
+    public int getChangedColumn(int position) {
+        return changedColumns[position];
+    }
+
+    /**
+     * Retorna o menor valor da coluna.
+     *
+     * @param column A coluna.
+     * @return O menor valor da coluna.
+     */
+    public int getMin(int column) {
+        return minValues[column];
+    }
+
+    /**
+     * Retorna o maior valor da coluna.
+     *
+     * @param column A coluna.
+     * @return O maior valor da coluna.
+     */
+    public int getMax(int column) {
+        return maxValues[column];
+    }
+
+    /**
+     * Retorna o índice do último elemento alterado na coluna.
+     *
+     * @param column A coluna.
+     * @return O índice do último elemento alterado, ou -1 se nenhum estiver destacado.
+     */
+    public int getLastTouched(int column) {
+        return lastTouched[column];
+    }
+
+    /**
+     * Indica se a coluna contém barras destacadas.
+     *
+     * @param column A coluna.
+     * @return true se alguma barra da coluna estiver destacada.
+     */
+    public boolean isHighlighted(int column) {
+        return highlighted[column];
+    }
+
+    /**
+     * Retorna o maior valor entre todas as colunas.
+     *
+     * @return O maior valor do array, ou Integer.MIN_VALUE se não houver colunas.
+     */
+    public int getMaxValue() {
+        int max = Integer.MIN_VALUE;
+        for (int column = 0; column < columns; column++) {
+            max = Math.max(max, maxValues[column]);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,96 @@
+package src.main.java.sortvisualiser.render;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A classe DirtyIndexSet é um conjunto de índices marcados como alterados, compartilhado
+ * entre a thread que altera o array e a thread que desenha. As marcações são bits em um
+ * AtomicLongArray: marcar um índice nunca bloqueia, e quem desenha esvazia o conjunto uma
+ * palavra de 64 índices por vez, sem alocar memória.
+ */
+public final class DirtyIndexSet {
+    private final AtomicLongArray words; // Bits dos índices alterados
+    private final int capacity; // Número de índices do conjunto
+
+    /**
+     * Construtor da classe DirtyIndexSet.
+     *
+     * @param capacity O número de índices do conjunto.
+     */
+    public DirtyIndexSet(int capacity) {
+        this.capacity = capacity;
+        this.words = new AtomicLongArray((capacity + 63) >>> 6);
+    }
+
+    /**
+     * Retorna o número de índices do conjunto.
+     *
+     * @return A capacidade do conjunto.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Retorna o número de palavras de 64 índices do conjunto.
+     *
+     * @return O número de palavras.
+     */
+    public int wordCount() {
+        return words.length();
+    }
+
+    /**
+     * Marca um índice como alterado.
+     *
+     * @param index O índice alterado.
+     */
+    public void mark(int index) {
+        long bit = 1L << index;
+        int word = index >>> 6;
+        if ((words.get(word) & bit) == 0) {
+            words.getAndAccumulate(word, bit, (current, mask) -> current | mask);
+        }
+    }
+
+    /**
+     * Marca um intervalo de índices como alterado, uma palavra por vez.
+     *
+     * @param from O primeiro índice.
+     * @param to   O índice seguinte ao último.
+     */
+    public void markRange(int from, int to) {
+        while (from < to) {
+            int word = from >>> 6;
+            int end = Math.min(to, (word + 1) << 6);
+            long bits = (-1L >>> (64 - (end - from))) << from; // Bits de from a end - 1 na palavra
+            if ((words.get(word) & bits) != bits) {
+                words.getAndAccumulate(word, bits, (current, mask) -> current | mask);
+            }
+            from = end;
+        }
+    }
+
+    /**
+     * Marca todos os índices como alterados.
+     */
+    public void markAll() {
+        for (int word = 0; word < words.length(); word++) {
+            words.set(word, -1L);
+        }
+    }
+
+    /**
+     * Retorna e limpa os bits de uma palavra. O bit i corresponde ao índice word * 64 + i;
+     * bits de índices além da capacidade podem estar marcados e devem ser ignorados.
+     *
+     * @param word O índice da palavra.
+     * @return Os bits marcados na palavra antes de ela ser limpa.
+     */
+    public long drainWord(int word) {
+        if (words.get(word) == 0) {
+            return 0;
+        }
+        return words.getAndSet(word, 0);
+    }
+}
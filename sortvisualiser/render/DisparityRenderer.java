@@ -0,0 +1,63 @@
+package src.main.java.sortvisualiser.render;
+
+/**
+ * A classe DisparityRenderer desenha cada elemento como um ponto em um círculo, no ângulo da
+ * sua posição, com a distância ao centro indicando o quão perto ele está da posição final:
+ * na borda quando está no lugar, no centro quando está do lado oposto do array. Um array
+ * ordenado é um anel colorido na borda; durante a ordenação os pontos migram para fora.
+ *
+ * <p>A posição final de um valor é estimada proporcionalmente ao maior valor do array, o que
+ * é exato para as entradas geradas (permutações de 1 a n) e aproximado com valores repetidos.</p>
+ */
+public final class DisparityRenderer extends RasterRenderer {
+    private float[] cosines = new float[0]; // Cosseno do ângulo de cada ponto
+    private float[] sines = new float[0]; // Seno do ângulo de cada ponto
+
+    /**
+     * Construtor da classe DisparityRenderer.
+     *
+     * @param array O array a ser desenhado.
+     */
+    public DisparityRenderer(ArrayView array) {
+        super(array);
+    }
+
+    @Override
+    protected void resized(int width, int height) {
+        int points = pointCount();
+        if (cosines.length == points) {
+            return; // Os ângulos dependem só do número de pontos
+        }
+        cosines = new float[points];
+        sines = new float[points];
+        for (int point = 0; point < points; point++) {
+            double angle = 2 * Math.PI * point / points - Math.PI / 2; // O primeiro elemento no topo
+            cosines[point] = (float) Math.cos(angle);
+            sines[point] = (float) Math.sin(angle);
+        }
+    }
+
+    @Override
+    protected void draw(int[] pixels, int width, int height) {
+        int points = cosines.length;
+        int size = array.arraySize();
+        int maxValue = Math.max(1, array.getMaxValue());
+        int plotHeight = plotHeight(height);
+        double radius = Math.max(1, Math.min(width, plotHeight) / 2 - 4);
+        int centreX = width / 2;
+        int centreY = height - plotHeight / 2;
+        int dot = points <= 4_096 ? 3 : points <= 65_536 ? 2 : 1;
+        for (int point = 0; point < points; point++) {
+            int index = indexOf(point);
+            int value = array.peekValue(index);
+            long target = (long) Math.max(0, value - 1) * size / maxValue; // Posição final estimada
+            long distance = Math.abs(target - index);
+            distance = Math.min(distance, size - distance); // Distância em volta do círculo
+            double reach = radius * (1 - 2.0 * distance / size);
+            int x = centreX + (int) Math.round(cosines[point] * reach) - dot / 2;
+            int y = centreY + (int) Math.round(sines[point] * reach) - dot / 2;
+            int highlight = highlightColour(index);
+            plot(pixels, width, height, x, y, dot, highlight < 0 ? hue(value, maxValue) : highlight);
+        }
+    }
+}
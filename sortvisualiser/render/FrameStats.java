@@ -0,0 +1,87 @@
+package src.main.java.sortvisualiser.render;
+
+/**
+ * A classe FrameStats mede os quadros de uma visualização: o tempo de desenho de cada quadro
+ * e o intervalo entre quadros consecutivos, sobre uma janela dos últimos WINDOW quadros. É
+ * alimentada pela thread de desenho e pode ser lida por qualquer thread.
+ */
+public final class FrameStats {
+    private static final int WINDOW = 120; // Quadros considerados nas médias
+
+    private final long[] renderNanos = new long[WINDOW]; // Tempo de desenho dos últimos quadros
+    private final long[] intervalNanos = new long[WINDOW]; // Intervalo antes de cada um dos últimos quadros
+    private int samples; // Quadros na janela
+    private int next; // Próxima posição da janela
+    private long lastStartNanos = -1; // Início do quadro anterior
+    private long frames; // Quadros desde a criação
+
+    /**
+     * Registra um quadro.
+     *
+     * @param startNanos  O início do quadro, em System.nanoTime().
+     * @param renderNanos O tempo gasto desenhando o quadro.
+     */
+    public synchronized void record(long startNanos, long renderNanos) {
+        this.renderNanos[next] = renderNanos;
+        intervalNanos[next] = lastStartNanos >= 0 ? startNanos - lastStartNanos : 0; // O primeiro quadro não tem intervalo
+        lastStartNanos = startNanos;
+        samples = Math.min(WINDOW, samples + 1);
+        next = (next + 1) % WINDOW;
+        frames++;
+    }
+
+    /**
+     * Retorna o tempo médio de desenho de um quadro.
+     *
+     * @return A média em milissegundos, ou 0 sem quadros.
+     */
+    public synchronized double getAverageMillis() {
+        if (samples == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 0; i < samples; i++) {
+            total += renderNanos[i];
+        }
+        return total / 1e6 / samples;
+    }
+
+    /**
+     * Retorna o maior tempo de desenho da janela.
+     *
+     * @return O maior tempo em milissegundos.
+     */
+    public synchronized double getMaxMillis() {
+        long max = 0;
+        for (int i = 0; i < samples; i++) {
+            max = Math.max(max, renderNanos[i]);
+        }
+        return max / 1e6;
+    }
+
+    /**
+     * Retorna a taxa de quadros medida pelos intervalos entre os quadros da janela.
+     *
+     * @return Os quadros por segundo, ou 0 com menos de dois quadros.
+     */
+    public synchronized double getFramesPerSecond() {
+        long total = 0;
+        int counted = 0;
+        for (int i = 0; i < samples; i++) {
+            if (intervalNanos[i] > 0) {
+                total += intervalNanos[i];
+                counted++;
+            }
+        }
+        return total == 0 ? 0 : counted * 1e9 / total;
+    }
+
+    /**
+     * Retorna o número de quadros registrados.
+     *
+     * @return Os quadros desde a criação.
+     */
+    public synchronized long getFrames() {
+        return frames;
+    }
+}
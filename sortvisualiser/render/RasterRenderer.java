@@ -0,0 +1,172 @@
+package src.main.java.sortvisualiser.render;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import src.main.java.sortvisualiser.SortArray;
+
+/**
+ * A classe RasterRenderer é a base das visualizações desenhadas pixel a pixel, direto no
+ * int[] de uma imagem RGB, sem uma chamada de Graphics por elemento. Cada quadro é desenhado
+ * por inteiro: markChanged(), markRange() e markAll() não fazem nada, e o custo de um quadro é
+ * o de limpar a imagem mais o de visitar os elementos desenhados.
+ *
+ * <p>A área desenhada fica na parte de baixo da imagem, com a mesma altura das barras, para
+ * não cobrir o texto sobreposto pelo painel. Arrays maiores que MAX_POINTS são amostrados a
+ * passos regulares.</p>
+ */
+public abstract class RasterRenderer implements Renderer {
+    protected static final int MAX_POINTS = 1 << 18; // Elementos visitados por quadro, no máximo
+    private static final int BACKGROUND_RGB = BarRenderer.BACKGROUND_COLOUR.getRGB(); // Cor de fundo
+    private static final int[] HUES = createHues(1_024); // Círculo de matizes, do menor ao maior valor
+
+    protected final ArrayView array; // Array desenhado
+    private BufferedImage image; // Imagem reaproveitada enquanto o tamanho não muda
+    private int[] pixels; // Pixels da imagem, escritos diretamente
+
+    /**
+     * Construtor da classe RasterRenderer.
+     *
+     * @param array O array a ser desenhado.
+     */
+    protected RasterRenderer(ArrayView array) {
+        this.array = array;
+    }
+
+    @Override
+    public void markChanged(int index) {
+        // Cada quadro é desenhado por inteiro
+    }
+
+    @Override
+    public void markAll() {
+        // Cada quadro é desenhado por inteiro
+    }
+
+    @Override
+    public void markRange(int from, int to) {
+        // Cada quadro é desenhado por inteiro
+    }
+
+    @Override
+    public final boolean render(Graphics2D g, int width, int height) {
+        if (width <= 0 || height <= 0 || array.arraySize() == 0) {
+            return false;
+        }
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            resized(width, height);
+        }
+        Arrays.fill(pixels, BACKGROUND_RGB);
+        draw(pixels, width, height);
+        g.drawImage(image, 0, 0, null);
+        return true;
+    }
+
+    /**
+     * Chamado quando o tamanho da imagem muda, antes do próximo draw(), para recalcular
+     * tabelas que dependem do tamanho.
+     *
+     * @param width  A nova largura.
+     * @param height A nova altura.
+     */
+    protected void resized(int width, int height) {
+    }
+
+    /**
+     * Desenha o array nos pixels, já limpos com a cor de fundo.
+     *
+     * @param pixels Os pixels da imagem, linha por linha.
+     * @param width  A largura da imagem.
+     * @param height A altura da imagem.
+     */
+    protected abstract void draw(int[] pixels, int width, int height);
+
+    /**
+     * Retorna a altura da área desenhada, a mesma das barras.
+     *
+     * @param height A altura da imagem.
+     * @return A altura da área, na parte de baixo da imagem.
+     */
+    protected static int plotHeight(int height) {
+        return Math.max(1, (int) (height * BarRenderer.BAR_HEIGHT_PERCENT));
+    }
+
+    /**
+     * Retorna o número de elementos visitados por quadro.
+     *
+     * @return O tamanho do array, limitado a MAX_POINTS.
+     */
+    protected final int pointCount() {
+        return Math.min(array.arraySize(), MAX_POINTS);
+    }
+
+    /**
+     * Retorna o índice do array correspondente a um ponto amostrado.
+     *
+     * @param point O ponto, entre 0 e pointCount() - 1.
+     * @return O índice do elemento.
+     */
+    protected final int indexOf(int point) {
+        int size = array.arraySize();
+        return size <= MAX_POINTS ? point : (int) ((long) point * size / MAX_POINTS);
+    }
+
+    /**
+     * Retorna a cor de um valor no círculo de matizes, de forma que um array ordenado forma um arco-íris.
+     *
+     * @param value    O valor.
+     * @param maxValue O maior valor do array, maior que zero.
+     * @return A cor RGB.
+     */
+    protected static int hue(int value, int maxValue) {
+        long level = (long) Math.max(0, value) * (HUES.length - 1) / maxValue;
+        return HUES[(int) Math.min(HUES.length - 1, level)];
+    }
+
+    /**
+     * Retorna a cor RGB de um elemento destacado pelo algoritmo, ou -1 se ele não estiver destacado.
+     *
+     * @param index O índice do elemento.
+     * @return A cor do destaque, ou -1.
+     */
+    protected final int highlightColour(int index) {
+        byte colour = array.getBarColour(index);
+        return colour == SortArray.COLOUR_DEFAULT ? -1 : BarRenderer.barFillColour(colour).getRGB();
+    }
+
+    /**
+     * Pinta um quadrado de pixels, recortado pelas bordas da imagem.
+     *
+     * @param pixels Os pixels da imagem.
+     * @param width  A largura da imagem.
+     * @param height A altura da imagem.
+     * @param x      A coluna do canto superior esquerdo.
+     * @param y      A linha do canto superior esquerdo.
+     * @param size   O lado do quadrado.
+     * @param rgb    A cor.
+     */
+    protected static void plot(int[] pixels, int width, int height, int x, int y, int size, int rgb) {
+        int startX = Math.max(0, x);
+        int endX = Math.min(width, x + size);
+        int endY = Math.min(height, y + size);
+        for (int row = Math.max(0, y); row < endY; row++) {
+            int offset = row * width;
+            for (int column = startX; column < endX; column++) {
+                pixels[offset + column] = rgb;
+            }
+        }
+    }
+
+    private static int[] createHues(int levels) {
+        int[] hues = new int[levels];
+        for (int i = 0; i < levels; i++) {
+            hues[i] = Color.HSBtoRGB(0.85f * i / (levels - 1), 0.85f, 1.0f); // Do vermelho ao violeta, sem voltar ao vermelho
+        }
+        return hues;
+    }
+}
@@ -0,0 +1,93 @@
+package src.main.java.sortvisualiser.render;
+
+import java.awt.Component;
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.swing.Timer;
+
+import src.main.java.sortvisualiser.engine.FramePacer;
+
+/**
+ * A classe RenderScheduler redesenha um conjunto de componentes em uma taxa de quadros fixa,
+ * em vez de um repaint por operação do algoritmo. Por padrão usa a taxa de atualização do
+ * monitor; um único agendador pode redesenhar vários painéis no mesmo tick.
+ */
+public final class RenderScheduler {
+    private final Timer timer; // Timer do Swing que dispara cada quadro na Event Dispatch Thread
+    private final List<Component> targets = new CopyOnWriteArrayList<>(); // Componentes redesenhados a cada quadro
+    private final double framesPerSecond; // Taxa de quadros
+
+    /**
+     * Construtor da classe RenderScheduler.
+     *
+     * @param framesPerSecond A taxa de quadros, ou 0 para usar a taxa de atualização do monitor.
+     */
+    public RenderScheduler(double framesPerSecond) {
+        this.framesPerSecond = framesPerSecond > 0 ? framesPerSecond : detectRefreshRate();
+        int periodMillis = (int) Math.max(1, Math.round(1000.0 / this.framesPerSecond));
+        timer = new Timer(periodMillis, (event) -> {
+            for (Component target : targets) {
+                target.repaint();
+            }
+        });
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Retorna a taxa de atualização do monitor principal.
+     *
+     * @return A taxa de atualização em Hz, ou FramePacer.DEFAULT_FRAMES_PER_SECOND se for desconhecida.
+     */
+    public static double detectRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return FramePacer.DEFAULT_FRAMES_PER_SECOND;
+        }
+        DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode();
+        int refreshRate = mode.getRefreshRate();
+        return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? FramePacer.DEFAULT_FRAMES_PER_SECOND : refreshRate;
+    }
+
+    /**
+     * Retorna a taxa de quadros do agendador.
+     *
+     * @return Os quadros por segundo.
+     */
+    public double getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    /**
+     * Adiciona um componente a ser redesenhado a cada quadro.
+     *
+     * @param target O componente.
+     */
+    public void add(Component target) {
+        targets.add(target);
+    }
+
+    /**
+     * Remove um componente do agendador.
+     *
+     * @param target O componente.
+     */
+    public void remove(Component target) {
+        targets.remove(target);
+    }
+
+    /**
+     * Começa a disparar os quadros.
+     */
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Para de disparar os quadros.
+     */
+    public void stop() {
+        timer.stop();
+    }
+}
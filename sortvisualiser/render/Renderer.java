@@ -0,0 +1,47 @@
+package src.main.java.sortvisualiser.render;
+
+import java.awt.Graphics2D;
+
+/**
+ * A interface Renderer define uma forma de desenhar uma ArrayView, como barras ou pontos. O
+ * painel chama markChanged(), markRange() e markAll() a partir das notificações do array, na
+ * thread do algoritmo, ou markRange() a partir do ArraySnapshot, na thread de desenho; render() é chamado
+ * a cada quadro, sempre na mesma thread de desenho: a Event Dispatch Thread no modo passivo ou
+ * a thread do ActiveRenderCanvas.
+ */
+public interface Renderer {
+
+    /**
+     * Marca um elemento como alterado desde o último quadro.
+     *
+     * @param index O índice alterado.
+     */
+    public void markChanged(int index);
+
+    /**
+     * Marca todos os elementos como alterados, como depois de resetar as cores.
+     */
+    public void markAll();
+
+    /**
+     * Marca um intervalo de elementos como alterado desde o último quadro.
+     *
+     * @param from O primeiro índice alterado.
+     * @param to   O índice seguinte ao último alterado.
+     */
+    public default void markRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            markChanged(i);
+        }
+    }
+
+    /**
+     * Desenha o array, ocupando toda a área informada.
+     *
+     * @param g      O objeto Graphics2D utilizado para desenhar.
+     * @param width  A largura da área.
+     * @param height A altura da área.
+     * @return false se não havia nada a desenhar (área vazia ou array vazio).
+     */
+    public boolean render(Graphics2D g, int width, int height);
+}
@@ -0,0 +1,88 @@
+package src.main.java.sortvisualiser.render;
+
+/**
+ * A enumeração RendererType define as visualizações disponíveis para um array.
+ */
+public enum RendererType {
+    /**
+     * Barras com a altura do valor, redesenhadas apenas onde o array mudou.
+     */
+    BARS("Bars") {
+        @Override
+        public Renderer create(ArrayView array) {
+            return new BarRenderer(array);
+        }
+    },
+    /**
+     * Um ponto por elemento, na altura do valor.
+     */
+    SCATTER("Scatter") {
+        @Override
+        public Renderer create(ArrayView array) {
+            return new ScatterRenderer(array);
+        }
+    },
+    /**
+     * Um disco com uma fatia por elemento, pintada com a matiz do valor.
+     */
+    COLOUR_WHEEL("Colour wheel") {
+        @Override
+        public Renderer create(ArrayView array) {
+            return new ColourWheelRenderer(array);
+        }
+    },
+    /**
+     * Pontos em um círculo, tão perto da borda quanto da posição final.
+     */
+    DISPARITY("Disparity") {
+        @Override
+        public Renderer create(ArrayView array) {
+            return new DisparityRenderer(array);
+        }
+    };
+
+    private final String name; // Nome exibido no menu
+
+    RendererType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Cria a visualização para um array.
+     *
+     * @param array O array a ser desenhado, lido diretamente ou por um ArraySnapshot.
+     * @return O renderer.
+     */
+    public abstract Renderer create(ArrayView array);
+
+    /**
+     * Retorna o nome da visualização.
+     *
+     * @return O nome exibido no menu.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Converte um nome de visualização, sem diferenciar maiúsculas, como "scatter" ou "COLOUR_WHEEL".
+     *
+     * @param text O nome da visualização.
+     * @return A visualização correspondente.
+     * @throws IllegalArgumentException se o nome não corresponder a nenhuma visualização.
+     */
+    public static RendererType parse(String text) {
+        String normalised = text.trim();
+        for (RendererType type : values()) {
+            if (type.name().equalsIgnoreCase(normalised) || type.name.equalsIgnoreCase(normalised)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown renderer " + text);
+    }
+}
@@ -0,0 +1,36 @@
+package src.main.java.sortvisualiser.render;
+
+/**
+ * A classe ScatterRenderer desenha cada elemento como um ponto na altura do seu valor. Um
+ * array ordenado vira uma diagonal, e os elementos fora do lugar aparecem como pontos soltos,
+ * o que torna visível a estrutura que as barras escondem em arrays grandes. Os elementos
+ * destacados pelo algoritmo usam a cor do destaque.
+ */
+public final class ScatterRenderer extends RasterRenderer {
+    private static final int POINT_RGB = BarRenderer.BAR_DEFAULT_COLOUR.getRGB(); // Cor dos pontos
+
+    /**
+     * Construtor da classe ScatterRenderer.
+     *
+     * @param array O array a ser desenhado.
+     */
+    public ScatterRenderer(ArrayView array) {
+        super(array);
+    }
+
+    @Override
+    protected void draw(int[] pixels, int width, int height) {
+        int points = pointCount();
+        int maxValue = Math.max(1, array.getMaxValue());
+        int plotHeight = plotHeight(height);
+        int size = Math.max(1, Math.min(4, width / points)); // Pontos maiores quando há poucos elementos
+        for (int point = 0; point < points; point++) {
+            int index = indexOf(point);
+            int value = array.peekValue(index);
+            int x = (int) ((long) point * width / points);
+            int y = height - size - (int) ((long) Math.max(0, value) * (plotHeight - size) / maxValue);
+            int highlight = highlightColour(index);
+            plot(pixels, width, height, x, y, size, highlight < 0 ? POINT_RGB : highlight);
+        }
+    }
+}
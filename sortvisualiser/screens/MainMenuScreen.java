@@ -1,162 +1,280 @@
-package src.main.java.sortvisualiser.screens;
-
-import src.main.java.sortvisualiser.MainApp;
-import src.main.java.sortvisualiser.algoritimos.BubbleSort;
-import src.main.java.sortvisualiser.algoritimos.QuickSort;
-import src.main.java.sortvisualiser.algoritimos.SelectionSort;
-import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
-import javax.swing.*;
-import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.util.ArrayList;
-
-/**
- * A classe MainMenuScreen representa a tela principal do menu do visualizador de algoritmos de ordenação.
- * Ela permite que o usuário selecione quais algoritmos deseja visualizar e inicia a tela de visualização
- * ao clicar no botão de início.
- */
-public final class MainMenuScreen extends Screen {
-    private static final Color BACKGROUND_COLOUR = Color.DARK_GRAY; // Cor de fundo da tela
-    private final ArrayList<AlgorithmCheckBox> checkBoxes; // Lista de caixas de seleção para os algoritmos
-    private final MainApp app; // Instância do aplicativo principal
-
-    /**
-     * Construtor da classe MainMenuScreen.
-     * Inicializa a tela do menu principal e configura a interface gráfica.
-     *
-     * @param app A instância do aplicativo principal.
-     */
-    public MainMenuScreen(MainApp app) {
-        super(app); // Certifique-se de chamar o construtor da classe base
-        this.app = app;
-        checkBoxes = new ArrayList<>();
-        setUpGUI();
-    }
-
-    /**
-     * Adiciona uma caixa de seleção para um algoritmo de ordenação ao painel fornecido.
-     *
-     * @param algorithm O algoritmo a ser associado à caixa de seleção.
-     * @param panel     O painel onde a caixa de seleção será adicionada.
-     */
-    private void addCheckBox(UiSortAlgoritimo algorithm, JPanel panel) {
-        JCheckBox box = new JCheckBox(algorithm.getName(), true);
-        box.setAlignmentX(Component.LEFT_ALIGNMENT);
-        box.setBackground(BACKGROUND_COLOUR);
-        box.setForeground(Color.WHITE);
-        checkBoxes.add(new AlgorithmCheckBox(algorithm, box));
-        panel.add(box);
-    }
-
-    /**
-     * Inicializa o layout do painel para usar um BoxLayout com orientação vertical.
-     *
-     * @param p O painel a ser inicializado.
-     */
-    private void initContainer(JPanel p) {
-        p.setLayout(new BoxLayout(p, BoxLayout.PAGE_AXIS));
-        p.setBackground(BACKGROUND_COLOUR);
-    }
-
-    /**
-     * Configura a interface gráfica da tela principal do menu.
-     */
-    public void setUpGUI() {
-        JPanel sortAlgorithmContainer = new JPanel();
-        JPanel optionsContainer = new JPanel();
-        JPanel outerContainer = new JPanel();
-        initContainer(this);
-        initContainer(optionsContainer);
-        initContainer(sortAlgorithmContainer);
-
-        outerContainer.setBackground(BACKGROUND_COLOUR);
-        outerContainer.setLayout(new BoxLayout(outerContainer, BoxLayout.LINE_AXIS));
-
-        sortAlgorithmContainer.setAlignmentX(Component.CENTER_ALIGNMENT);
-        addCheckBox(new BubbleSort(), sortAlgorithmContainer);
-        addCheckBox(new SelectionSort(), sortAlgorithmContainer);
-        addCheckBox(new QuickSort(), sortAlgorithmContainer);
-
-        JButton startButton = new JButton("Begin Visual Sorter");
-        startButton.addActionListener((ActionEvent e) -> {
-            ArrayList<UiSortAlgoritimo> algorithms = new ArrayList<>();
-            for (AlgorithmCheckBox cb : checkBoxes) {
-                if (cb.isSelected()) {
-                    algorithms.add(cb.getAlgorithm());
-                }
-            }
-            app.pushScreen(
-                    new SortingVisualiserScreen(
-                            algorithms,
-                            app
-                    ));
-        });
-        startButton.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        outerContainer.add(optionsContainer);
-        outerContainer.add(Box.createRigidArea(new Dimension(5, 0)));
-        outerContainer.add(sortAlgorithmContainer);
-
-        int gap = 15;
-        add(Box.createRigidArea(new Dimension(0, gap)));
-        add(outerContainer);
-        add(Box.createRigidArea(new Dimension(0, gap)));
-        add(startButton);
-    }
-
-    /**
-     * Ação a ser executada quando a tela é aberta.
-     * Desmarca todas as caixas de seleção.
-     */
-    @Override
-    public void onOpen() {
-        checkBoxes.forEach((box) -> {
-            box.unselect();
-        });
-    }
-
-    /**
-     * Classe interna que representa uma caixa de seleção para um algoritmo de ordenação.
-     */
-    private class AlgorithmCheckBox {
-        private final UiSortAlgoritimo algorithm; // Algoritmo associado à caixa de seleção
-        private final JCheckBox box; // Caixa de seleção
-
-        /**
-         * Construtor da classe AlgorithmCheckBox.
-         *
-         * @param algorithm O algoritmo associado.
-         * @param box       A caixa de seleção.
-         */
-        public AlgorithmCheckBox(UiSortAlgoritimo algorithm, JCheckBox box) {
-            this.algorithm = algorithm;
-            this.box = box;
-            this.box.setText(algorithm.getName());
-        }
-
-        /**
-         * Desmarca a caixa de seleção.
-         */
-        public void unselect() {
-            box.setSelected(false);
-        }
-
-        /**
-         * Verifica se a caixa de seleção está marcada.
-         *
-         * @return true se a caixa de seleção estiver marcada, false caso contrário.
-         */
-        public boolean isSelected() {
-            return box.isSelected();
-        }
-
-        /**
-         * Retorna o algoritmo associado à caixa de seleção.
-         *
-         * @return O algoritmo associado.
-         */
-        public UiSortAlgoritimo getAlgorithm() {
-            return algorithm;
-        }
-    }
-}
+package src.main.java.sortvisualiser.screens;
+
+import src.main.java.sortvisualiser.MainApp;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.algoritimos.SortAlgorithms;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.keys.ElementType;
+import src.main.java.sortvisualiser.render.RendererType;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+
+/**
+ * A classe MainMenuScreen representa a tela principal do menu do visualizador de algoritmos de ordenação.
+ * Ela permite que o usuário selecione quais algoritmos deseja visualizar e inicia a tela de visualização
+ * ao clicar no botão de início.
+ */
+public final class MainMenuScreen extends Screen {
+    private static final Color BACKGROUND_COLOUR = Color.DARK_GRAY; // Cor de fundo da tela
+    private final ArrayList<AlgorithmCheckBox> checkBoxes; // Lista de caixas de seleção para os algoritmos
+    private final MainApp app; // Instância do aplicativo principal
+    private final VisualiserOptions options = new VisualiserOptions(); // Opções da tela de visualização
+
+    /**
+     * Construtor da classe MainMenuScreen.
+     * Inicializa a tela do menu principal e configura a interface gráfica.
+     *
+     * @param app A instância do aplicativo principal.
+     */
+    public MainMenuScreen(MainApp app) {
+        super(app); // Certifique-se de chamar o construtor da classe base
+        this.app = app;
+        checkBoxes = new ArrayList<>();
+        setUpGUI();
+    }
+
+    /**
+     * Adiciona uma caixa de seleção para um algoritmo de ordenação ao painel fornecido.
+     *
+     * @param algorithm O algoritmo a ser associado à caixa de seleção.
+     * @param panel     O painel onde a caixa de seleção será adicionada.
+     */
+    private void addCheckBox(UiSortAlgoritimo algorithm, JPanel panel) {
+        JCheckBox box = new JCheckBox(algorithm.getName(), true);
+        box.setAlignmentX(Component.LEFT_ALIGNMENT);
+        box.setBackground(BACKGROUND_COLOUR);
+        box.setForeground(Color.WHITE);
+        checkBoxes.add(new AlgorithmCheckBox(algorithm, box));
+        panel.add(box);
+    }
+
+    /**
+     * Adiciona uma caixa de seleção de opção ao painel fornecido.
+     *
+     * @param text     O texto da opção.
+     * @param selected O estado inicial da opção.
+     * @param panel    O painel onde a caixa de seleção será adicionada.
+     * @return A caixa de seleção criada.
+     */
+    private JCheckBox addOptionCheckBox(String text, boolean selected, JPanel panel) {
+        JCheckBox box = new JCheckBox(text, selected);
+        box.setAlignmentX(Component.LEFT_ALIGNMENT);
+        box.setBackground(BACKGROUND_COLOUR);
+        box.setForeground(Color.WHITE);
+        panel.add(box);
+        return box;
+    }
+
+    /**
+     * Adiciona um spinner de opção, precedido de um rótulo, ao painel fornecido.
+     *
+     * @param text  O texto do rótulo.
+     * @param model O modelo do spinner.
+     * @param panel O painel onde o spinner será adicionado.
+     * @return O spinner criado.
+     */
+    private JSpinner addOptionSpinner(String text, SpinnerNumberModel model, JPanel panel) {
+        JPanel row = new JPanel();
+        row.setLayout(new BoxLayout(row, BoxLayout.LINE_AXIS));
+        row.setAlignmentX(Component.LEFT_ALIGNMENT);
+        row.setBackground(BACKGROUND_COLOUR);
+        JLabel label = new JLabel(text + " ");
+        label.setForeground(Color.WHITE);
+        JSpinner spinner = new JSpinner(model);
+        spinner.setMaximumSize(spinner.getPreferredSize());
+        row.add(label);
+        row.add(spinner);
+        panel.add(row);
+        return spinner;
+    }
+
+    /**
+     * Adiciona uma caixa de escolha de opção, precedida de um rótulo, ao painel fornecido.
+     *
+     * @param text   O texto do rótulo.
+     * @param values Os valores que podem ser escolhidos.
+     * @param panel  O painel onde a caixa de escolha será adicionada.
+     * @param <T>    O tipo dos valores.
+     * @return A caixa de escolha criada.
+     */
+    private <T> JComboBox<T> addOptionComboBox(String text, T[] values, JPanel panel) {
+        JPanel row = new JPanel();
+        row.setLayout(new BoxLayout(row, BoxLayout.LINE_AXIS));
+        row.setAlignmentX(Component.LEFT_ALIGNMENT);
+        row.setBackground(BACKGROUND_COLOUR);
+        JLabel label = new JLabel(text + " ");
+        label.setForeground(Color.WHITE);
+        JComboBox<T> comboBox = new JComboBox<>(values);
+        comboBox.setMaximumSize(comboBox.getPreferredSize());
+        row.add(label);
+        row.add(comboBox);
+        panel.add(row);
+        return comboBox;
+    }
+
+    /**
+     * Inicializa o layout do painel para usar um BoxLayout com orientação vertical.
+     *
+     * @param p O painel a ser inicializado.
+     */
+    private void initContainer(JPanel p) {
+        p.setLayout(new BoxLayout(p, BoxLayout.PAGE_AXIS));
+        p.setBackground(BACKGROUND_COLOUR);
+    }
+
+    /**
+     * Configura a interface gráfica da tela principal do menu.
+     */
+    public void setUpGUI() {
+        JPanel sortAlgorithmContainer = new JPanel();
+        JPanel optionsContainer = new JPanel();
+        JPanel outerContainer = new JPanel();
+        initContainer(this);
+        initContainer(optionsContainer);
+        initContainer(sortAlgorithmContainer);
+
+        outerContainer.setBackground(BACKGROUND_COLOUR);
+        outerContainer.setLayout(new BoxLayout(outerContainer, BoxLayout.LINE_AXIS));
+
+        sortAlgorithmContainer.setAlignmentX(Component.CENTER_ALIGNMENT);
+        for (UiSortAlgoritimo algorithm : SortAlgorithms.createAll()) {
+            addCheckBox(algorithm, sortAlgorithmContainer);
+        }
+
+        JCheckBox replayBox = addOptionCheckBox("Record then replay", options.isReplayMode(), optionsContainer);
+        replayBox.addActionListener((ActionEvent e) -> options.setReplayMode(replayBox.isSelected()));
+        JCheckBox raceBox = addOptionCheckBox("Race mode", options.isRaceMode(), optionsContainer);
+        raceBox.addActionListener((ActionEvent e) -> options.setRaceMode(raceBox.isSelected()));
+        JCheckBox metricsBox = addOptionCheckBox("Export metrics (CSV/JSON)", options.isExportMetrics(), optionsContainer);
+        metricsBox.addActionListener((ActionEvent e) -> options.setExportMetrics(metricsBox.isSelected()));
+        JCheckBox soundBox = addOptionCheckBox("Sound (live + WAV)", options.isSonify(), optionsContainer);
+        soundBox.addActionListener((ActionEvent e) -> options.setSonify(soundBox.isSelected()));
+        JCheckBox profileBox = addOptionCheckBox("Cache/branch profiler", options.isProfileHardware(), optionsContainer);
+        profileBox.addActionListener((ActionEvent e) -> options.setProfileHardware(profileBox.isSelected()));
+        JSpinner sizeSpinner = addOptionSpinner("Array size",
+                new SpinnerNumberModel(options.getArraySize(), 2, SortArray.MAX_SIZE, 256), optionsContainer);
+        sizeSpinner.addChangeListener((event) -> options.setArraySize((Integer) sizeSpinner.getValue()));
+        JSpinner fpsSpinner = addOptionSpinner("FPS (0 = display)",
+                new SpinnerNumberModel(options.getFramesPerSecond(), 0, 240, 1), optionsContainer);
+        fpsSpinner.addChangeListener((event) -> options.setFramesPerSecond((Integer) fpsSpinner.getValue()));
+        JCheckBox activeBox = addOptionCheckBox("Active rendering (BufferStrategy)", options.isActiveRendering(), optionsContainer);
+        activeBox.addActionListener((ActionEvent e) -> options.setActiveRendering(activeBox.isSelected()));
+        JSpinner parallelismSpinner = addOptionSpinner("Parallel workers",
+                new SpinnerNumberModel(options.getParallelism(), 1, 64, 1), optionsContainer);
+        parallelismSpinner.addChangeListener((event) -> options.setParallelism((Integer) parallelismSpinner.getValue()));
+        JSpinner durationSpinner = addOptionSpinner("Target duration (s, 0 = off)",
+                new SpinnerNumberModel(options.getTargetDurationSeconds(), 0, 3600, 5), optionsContainer);
+        durationSpinner.addChangeListener((event) -> options.setTargetDurationSeconds((Integer) durationSpinner.getValue()));
+        JComboBox<RendererType> rendererBox = addOptionComboBox("View", RendererType.values(), optionsContainer);
+        rendererBox.setSelectedItem(options.getRendererType());
+        rendererBox.addActionListener((ActionEvent e) ->
+                options.setRendererType((RendererType) rendererBox.getSelectedItem()));
+        JComboBox<InputDistribution> distributionBox = addOptionComboBox("Input",
+                InputDistribution.values(), optionsContainer);
+        distributionBox.setSelectedItem(options.getInputDistribution());
+        distributionBox.addActionListener((ActionEvent e) ->
+                options.setInputDistribution((InputDistribution) distributionBox.getSelectedItem()));
+        JComboBox<ElementType> elementTypeBox = addOptionComboBox("Element type",
+                ElementType.values(), optionsContainer);
+        elementTypeBox.setSelectedItem(options.getElementType());
+        elementTypeBox.addActionListener((ActionEvent e) ->
+                options.setElementType((ElementType) elementTypeBox.getSelectedItem()));
+        JSpinner seedSpinner = addOptionSpinner("Seed (0 = random)",
+                new SpinnerNumberModel((int) options.getSeed(), 0, Integer.MAX_VALUE, 1), optionsContainer);
+        seedSpinner.addChangeListener((event) -> options.setSeed((Integer) seedSpinner.getValue()));
+        JCheckBox animatedFillBox = addOptionCheckBox("Animate input fill", options.isAnimatedFill(), optionsContainer);
+        animatedFillBox.addActionListener((ActionEvent e) -> options.setAnimatedFill(animatedFillBox.isSelected()));
+
+        JButton startButton = new JButton("Begin Visual Sorter");
+        startButton.addActionListener((ActionEvent e) -> {
+            ArrayList<UiSortAlgoritimo> algorithms = new ArrayList<>();
+            for (AlgorithmCheckBox cb : checkBoxes) {
+                // Contagem e radix usam os valores int diretamente e não ordenam chaves de outros tipos
+                if (cb.isSelected() && (options.getElementType() == ElementType.INT
+                        || cb.getAlgorithm().isComparisonSort())) {
+                    algorithms.add(cb.getAlgorithm());
+                }
+            }
+            if (options.isRaceMode()) {
+                app.pushScreen(new RaceScreen(algorithms, options, app));
+                return;
+            }
+            app.pushScreen(
+                    new SortingVisualiserScreen(
+                            algorithms,
+                            options,
+                            app
+                    ));
+        });
+        startButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        outerContainer.add(optionsContainer);
+        outerContainer.add(Box.createRigidArea(new Dimension(5, 0)));
+        outerContainer.add(sortAlgorithmContainer);
+
+        int gap = 15;
+        add(Box.createRigidArea(new Dimension(0, gap)));
+        add(outerContainer);
+        add(Box.createRigidArea(new Dimension(0, gap)));
+        add(startButton);
+    }
+
+    /**
+     * Ação a ser executada quando a tela é aberta.
+     * Desmarca todas as caixas de seleção.
+     */
+    @Override
+    public void onOpen() {
+        checkBoxes.forEach((box) -> {
+            box.unselect();
+        });
+    }
+
+    /**
+     * Classe interna que representa uma caixa de seleção para um algoritmo de ordenação.
+     */
+    private class AlgorithmCheckBox {
+        private final UiSortAlgoritimo algorithm; // Algoritmo associado à caixa de seleção
+        private final JCheckBox box; // Caixa de seleção
+
+        /**
+         * Construtor da classe AlgorithmCheckBox.
+         *
+         * @param algorithm O algoritmo associado.
+         * @param box       A caixa de seleção.
+         */
+        public AlgorithmCheckBox(UiSortAlgoritimo algorithm, JCheckBox box) {
+            this.algorithm = algorithm;
+            this.box = box;
+            this.box.setText(algorithm.getName());
+        }
+
+        /**
+         * Desmarca a caixa de seleção.
+         */
+        public void unselect() {
+            box.setSelected(false);
+        }
+
+        /**
+         * Verifica se a caixa de seleção está marcada.
+         *
+         * @return true se a caixa de seleção estiver marcada, false caso contrário.
+         */
+        public boolean isSelected() {
+            return box.isSelected();
+        }
+
+        /**
+         * Retorna o algoritmo associado à caixa de seleção.
+         *
+         * @return O algoritmo associado.
+         */
+        public UiSortAlgoritimo getAlgorithm() {
+            return algorithm;
+        }
+    }
+}
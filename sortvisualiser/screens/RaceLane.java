@@ -0,0 +1,88 @@
+package src.main.java.sortvisualiser.screens;
+
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortArrayPanel;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.engine.SortResult;
+
+/**
+ * A classe RaceLane representa uma raia do modo corrida: um algoritmo, a sua cópia da entrada
+ * compartilhada e o painel que a visualiza. O resultado é publicado pela thread do algoritmo
+ * e lido pelo placar na Event Dispatch Thread.
+ */
+final class RaceLane {
+    private final UiSortAlgoritimo algorithm; // Algoritmo que corre nesta raia
+    private final SortArray sortArray; // Cópia da entrada compartilhada
+    private final SortArrayPanel panel; // Painel que visualiza a raia
+    private volatile SortResult result; // Resultado da execução, ou null enquanto o algoritmo corre
+    private volatile int place = 0; // Colocação na chegada, ou 0 enquanto o algoritmo corre
+
+    /**
+     * Construtor da classe RaceLane.
+     *
+     * @param algorithm O algoritmo que corre nesta raia.
+     * @param sortArray A cópia da entrada compartilhada.
+     * @param panel     O painel que visualiza a raia.
+     */
+    RaceLane(UiSortAlgoritimo algorithm, SortArray sortArray, SortArrayPanel panel) {
+        this.algorithm = algorithm;
+        this.sortArray = sortArray;
+        this.panel = panel;
+    }
+
+    /**
+     * Retorna o algoritmo que corre nesta raia.
+     *
+     * @return O algoritmo.
+     */
+    UiSortAlgoritimo getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Retorna a cópia da entrada ordenada nesta raia.
+     *
+     * @return O array da raia.
+     */
+    SortArray getSortArray() {
+        return sortArray;
+    }
+
+    /**
+     * Retorna o painel que visualiza a raia.
+     *
+     * @return O painel.
+     */
+    SortArrayPanel getPanel() {
+        return panel;
+    }
+
+    /**
+     * Registra a chegada do algoritmo.
+     *
+     * @param result O resultado da execução.
+     * @param place  A colocação na chegada, começando em 1.
+     */
+    void finish(SortResult result, int place) {
+        this.result = result;
+        this.place = place;
+    }
+
+    /**
+     * Retorna o resultado da execução.
+     *
+     * @return O resultado, ou null se o algoritmo ainda estiver correndo.
+     */
+    SortResult getResult() {
+        return result;
+    }
+
+    /**
+     * Retorna a colocação na chegada.
+     *
+     * @return A colocação, ou 0 se o algoritmo ainda estiver correndo.
+     */
+    int getPlace() {
+        return place;
+    }
+}
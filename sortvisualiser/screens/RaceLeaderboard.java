@@ -0,0 +1,97 @@
+package src.main.java.sortvisualiser.screens;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.util.List;
+import java.util.Locale;
+
+import javax.swing.JPanel;
+
+import src.main.java.sortvisualiser.engine.SortResult;
+
+/**
+ * A classe RaceLeaderboard desenha o placar do modo corrida: os algoritmos que já terminaram
+ * na ordem de chegada, com as mudanças no array e o tempo de parede, seguidos dos que ainda
+ * correm, ordenados pelo número de mudanças feitas até agora. É redesenhado pelo mesmo
+ * RenderScheduler dos painéis, então o placar e as barras avançam no mesmo quadro.
+ */
+final class RaceLeaderboard extends JPanel {
+    private static final Font FONT = new Font("Monospaced", Font.BOLD, 14); // Fonte do placar
+    private static final int LINE_HEIGHT = 18; // Altura de cada linha, em pixels
+
+    private final RaceLane[] lanes; // Raias exibidas no placar
+    private final RaceLane[] order; // Raias na ordem do placar, reaproveitado entre os quadros
+    private final long seed; // Semente da entrada compartilhada
+    private volatile long startNanos = 0; // Instante da largada, ou 0 antes dela
+
+    /**
+     * Construtor da classe RaceLeaderboard.
+     *
+     * @param lanes As raias da corrida.
+     * @param seed  A semente da entrada compartilhada.
+     */
+    RaceLeaderboard(List<RaceLane> lanes, long seed) {
+        this.lanes = lanes.toArray(new RaceLane[0]);
+        this.order = this.lanes.clone();
+        this.seed = seed;
+        setBackground(Color.DARK_GRAY);
+        setPreferredSize(new Dimension(0, LINE_HEIGHT * (this.lanes.length + 1) + 8));
+    }
+
+    /**
+     * Registra o instante da largada, usado para o tempo das raias que ainda correm.
+     *
+     * @param startNanos O instante da largada, em System.nanoTime().
+     */
+    void start(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Indica se uma raia deve aparecer antes de outra no placar.
+     *
+     * @param a A primeira raia.
+     * @param b A segunda raia.
+     * @return true se a primeira raia estiver à frente.
+     */
+    private static boolean ranksBefore(RaceLane a, RaceLane b) {
+        int placeA = a.getPlace();
+        int placeB = b.getPlace();
+        if (placeA != 0 || placeB != 0) {
+            return placeA != 0 && (placeB == 0 || placeA < placeB);
+        }
+        return a.getSortArray().getArrayChanges() > b.getSortArray().getArrayChanges();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        // Ordenação por inserção: poucas raias e nenhuma alocação por quadro
+        for (int i = 1; i < order.length; i++) {
+            RaceLane lane = order[i];
+            int j = i - 1;
+            while (j >= 0 && ranksBefore(lane, order[j])) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = lane;
+        }
+
+        g.setFont(FONT);
+        g.setColor(Color.WHITE);
+        int y = LINE_HEIGHT;
+        g.drawString(String.format(Locale.ROOT, " %-4s %-24s %14s %12s   seed %d", "#", "Algorithm", "Array changes", "Wall time", seed), 4, y);
+        long now = System.nanoTime();
+        for (RaceLane lane : order) {
+            y += LINE_HEIGHT;
+            SortResult result = lane.getResult();
+            String place = result == null ? "-" : Integer.toString(lane.getPlace());
+            int changes = result == null ? lane.getSortArray().getArrayChanges() : result.getArrayChanges();
+            long nanos = result != null ? result.getElapsedNanos() : startNanos == 0 ? 0 : now - startNanos;
+            g.setColor(result == null ? Color.LIGHT_GRAY : Color.GREEN);
+            g.drawString(String.format(Locale.ROOT, " %-4s %-24s %14d %10.2f s", place, lane.getAlgorithm().getName(), changes, nanos / 1e9), 4, y);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package src.main.java.sortvisualiser.screens;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.GridLayout;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.SwingWorker;
+import src.main.java.sortvisualiser.MainApp;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortArrayPanel;
+import src.main.java.sortvisualiser.SortCancelledException;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.engine.FramePacer;
+import src.main.java.sortvisualiser.engine.MetricsExporter;
+import src.main.java.sortvisualiser.engine.RunController;
+import src.main.java.sortvisualiser.engine.SortEngine;
+import src.main.java.sortvisualiser.engine.SortResult;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.keys.SortKeys;
+import src.main.java.sortvisualiser.render.RenderScheduler;
+
+/**
+ * A classe RaceScreen executa todos os algoritmos selecionados ao mesmo tempo, cada um em uma
+ * cópia da mesma entrada e em um painel de uma grade. Todos os painéis andam no mesmo ritmo de
+ * operações por quadro e são redesenhados pelo mesmo RenderScheduler, então o algoritmo que
+ * faz menos mudanças no array chega primeiro. A demonstração dura o tempo do algoritmo mais
+ * lento, e não a soma dos tempos de todos. O botão Stop encerra todas as raias e volta ao menu.
+ */
+public final class RaceScreen extends Screen {
+    private static final long RACE_STEP_DELAY = 2; // Atraso por passo usado para o ritmo comum das raias
+    private static final long FINISH_PAUSE_MILLIS = 3000; // Tempo em que o placar final fica na tela
+
+    private final List<RaceLane> lanes = new ArrayList<>(); // Uma raia por algoritmo
+    private final RaceLeaderboard leaderboard; // Placar da corrida
+    private final RenderScheduler renderScheduler; // Redesenha todos os painéis e o placar no mesmo tick
+    private final AtomicInteger finishedCount = new AtomicInteger(); // Algoritmos que já terminaram
+    private final MetricsExporter metricsExporter; // Grava as métricas de cada raia, se ativado
+    private final RunController controller = new RunController(); // Cancela todas as raias pelo botão Stop
+
+    /**
+     * Construtor da classe RaceScreen.
+     * Gera uma única entrada, com a distribuição escolhida no menu, e cria uma raia com uma cópia dela para cada algoritmo.
+     *
+     * @param algorithms A lista de algoritmos que vão correr.
+     * @param options As opções escolhidas no menu principal.
+     * @param app A instância do aplicativo principal.
+     */
+    public RaceScreen(List<UiSortAlgoritimo> algorithms, VisualiserOptions options, MainApp app) {
+        super(app);
+        setLayout(new BorderLayout());
+        renderScheduler = new RenderScheduler(options.getFramesPerSecond());
+        metricsExporter = options.isExportMetrics() ? new MetricsExporter(options.getMetricsDirectory()) : null;
+        double fps = renderScheduler.getFramesPerSecond();
+        double opsPerFrame = FramePacer.opsPerFrameForDelay(RACE_STEP_DELAY, fps);
+
+        long seed = options.nextSeed();
+        int[] input = InputCache.shared().get(options.getInputDistribution(), options.getArraySize(), seed);
+        SortKeys keys = options.getElementType().createKeys(input); // Chaves imutáveis, compartilhadas pelas pistas
+        if (keys != null) {
+            input = keys.handles();
+        }
+        int columns = (int) Math.ceil(Math.sqrt(Math.max(1, algorithms.size())));
+        JPanel grid = new JPanel(new GridLayout(0, columns, 2, 2));
+        for (UiSortAlgoritimo algorithm : algorithms) {
+            if (algorithm instanceof ParallelSortAlgoritimo) {
+                ((ParallelSortAlgoritimo) algorithm).setParallelism(options.getParallelism());
+            }
+            SortArray sortArray = SortEngine.newArray(algorithm, input, keys);
+            controller.register(sortArray);
+            sortArray.setAlgorithm(algorithm);
+            SortArrayPanel panel = new SortArrayPanel(sortArray, new FramePacer(fps, opsPerFrame), options.getRendererType(), false);
+            lanes.add(new RaceLane(algorithm, sortArray, panel));
+            renderScheduler.add(panel);
+            grid.add(panel);
+        }
+        grid.setBackground(Color.DARK_GRAY);
+        leaderboard = new RaceLeaderboard(lanes, seed);
+        renderScheduler.add(leaderboard);
+        add(grid, BorderLayout.CENTER);
+        JButton stopButton = new JButton("Stop");
+        stopButton.addActionListener((event) -> {
+            stopButton.setEnabled(false);
+            controller.cancel();
+        });
+        JPanel bottom = new JPanel(new BorderLayout());
+        bottom.add(leaderboard, BorderLayout.CENTER);
+        bottom.add(stopButton, BorderLayout.LINE_END);
+        add(bottom, BorderLayout.PAGE_END);
+    }
+
+    /**
+     * Cria a thread de uma raia. Ela espera a largada, executa o algoritmo e registra a chegada.
+     *
+     * @param lane      A raia.
+     * @param startGate A largada, liberada quando todas as threads estão prontas.
+     * @return A thread da raia, ainda não iniciada.
+     */
+    private Thread createRunner(RaceLane lane, CountDownLatch startGate) {
+        Thread runner = new Thread(() -> {
+            try {
+                startGate.await();
+            } catch (InterruptedException ex) {
+                return;
+            }
+            SortResult result;
+            try {
+                result = new SortEngine().run(lane.getAlgorithm(), lane.getSortArray());
+            } catch (SortCancelledException ex) {
+                return; // Corrida parada pelo botão Stop
+            }
+            lane.finish(result, finishedCount.incrementAndGet());
+            if (metricsExporter != null) {
+                try {
+                    metricsExporter.export(result);
+                } catch (IOException ex) {
+                    ex.printStackTrace();
+                }
+            }
+            lane.getSortArray().resetColours();
+        }, "race-" + lane.getAlgorithm().getName());
+        runner.setDaemon(true);
+        return runner;
+    }
+
+    @Override
+    public void onOpen() {
+        // Espera as raias terminarem fora da Event Dispatch Thread.
+
+        SwingWorker<Void, Void> swingWorker = new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                CountDownLatch startGate = new CountDownLatch(1);
+                List<Thread> runners = new ArrayList<>();
+                controller.register(Thread.currentThread());
+                for (RaceLane lane : lanes) {
+                    Thread runner = createRunner(lane, startGate);
+                    runners.add(runner);
+                    controller.register(runner);
+                    runner.start();
+                }
+                try {
+                    controller.sleep(250); // Pausa inicial antes da largada
+                    leaderboard.start(System.nanoTime());
+                    startGate.countDown();
+                    for (Thread runner : runners) {
+                        runner.join();
+                    }
+                    controller.sleep(FINISH_PAUSE_MILLIS); // Mantém o placar final na tela
+                } catch (SortCancelledException | InterruptedException ex) {
+                    // Parada pelo botão Stop: as raias param na próxima operação
+                } finally {
+                    Thread.interrupted(); // Limpa a interrupção do cancelamento antes de devolver a thread ao pool
+                }
+                return null;
+            }
+
+            @Override
+            public void done() {
+                renderScheduler.stop();
+                controller.release();
+                app.popScreen(); // Volta ao menu após a corrida
+            }
+        };
+
+        renderScheduler.start();
+        swingWorker.execute(); // Executa a corrida em segundo plano
+    }
+}
@@ -1,90 +1,499 @@
-package src.main.java.sortvisualiser.screens;
-
-import java.awt.BorderLayout;
-import java.util.ArrayList;
-import javax.swing.SwingWorker;
-import src.main.java.sortvisualiser.MainApp;
-import src.main.java.sortvisualiser.SortArray;
-import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
-
-/**
- * A classe SortingVisualiserScreen é responsável por exibir a tela de visualização
- * dos algoritmos de ordenação. Ela configura a interface gráfica do usuário (GUI)
- * e executa os algoritmos de ordenação selecionados em uma fila.
- */
-public final class SortingVisualiserScreen extends Screen {
-    private final SortArray sortArray; // Componente que representa a visualização do array a ser ordenado
-    private final ArrayList<UiSortAlgoritimo> sortQueue; // Lista de algoritmos de ordenação a serem executados
-
-    /**
-     * Construtor da classe SortingVisualiserScreen.
-     * Inicializa a tela de visualização de algoritmos com os algoritmos fornecidos
-     * e configura a GUI.
-     *
-     * @param algorithms A lista de algoritmos de ordenação a serem executados.
-     * @param app A instância do aplicativo principal.
-     */
-    public SortingVisualiserScreen(ArrayList<UiSortAlgoritimo> algorithms, MainApp app) {
-        super(app);
-        setLayout(new BorderLayout());
-        sortArray = new SortArray(false); // Inicializa o componente de visualização de array
-        add(sortArray, BorderLayout.CENTER); // Adiciona o componente à tela
-        sortQueue = algorithms; // Armazena a lista de algoritmos
-    }
-
-    /**
-     * Pausa a execução por um segundo.
-     */
-    private void longSleep() {
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException ex) {
-            ex.printStackTrace();
-        }
-    }
-
-    /**
-     * Embaralha o array e aguarda a execução do tempo de pausa.
-     */
-    private void shuffleAndWait() {
-        sortArray.shuffle(); // Embaralha os elementos do array
-        sortArray.resetColours(); // Reseta as cores dos elementos
-        longSleep(); // Pausa a execução
-    }
-
-    @Override
-    public void onOpen() {
-        // Bloqueia a Event Dispatch Thread e precisa rodar em uma worker thread.
-
-        SwingWorker<Void, Void> swingWorker = new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                try {
-                    Thread.sleep(250); // Pausa inicial antes de começar a execução dos algoritmos
-                } catch (InterruptedException ex) {
-                    ex.printStackTrace();
-                }
-                for (UiSortAlgoritimo algorithm : sortQueue) {
-                    shuffleAndWait(); // Embaralha e aguarda
-
-                    sortArray.setName(algorithm.getName()); // Define o nome do algoritmo na visualização
-                    sortArray.setAlgorithm(algorithm); // Define o algoritmo a ser executado
-
-                    algorithm.runSort(sortArray); // Executa o algoritmo de ordenação
-                    sortArray.resetColours(); // Reseta as cores após a execução
-                    sortArray.highlightArray(); // Destaca o array ordenado
-                    sortArray.resetColours(); // Reseta as cores novamente
-                    longSleep(); // Pausa a execução
-                }
-                return null; // Retorna null após a conclusão
-            }
-
-            @Override
-            public void done() {
-                app.popScreen(); // Remove a tela de visualização após a conclusão
-            }
-        };
-
-        swingWorker.execute(); // Executa a tarefa em segundo plano
-    }
-}
+package src.main.java.sortvisualiser.screens;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Locale;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JSlider;
+import javax.swing.JToggleButton;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import src.main.java.sortvisualiser.ConcurrentSortArray;
+import src.main.java.sortvisualiser.MainApp;
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.SortArrayPanel;
+import src.main.java.sortvisualiser.SortCancelledException;
+import src.main.java.sortvisualiser.algoritimos.ParallelSortAlgoritimo;
+import src.main.java.sortvisualiser.algoritimos.SortAlgorithms;
+import src.main.java.sortvisualiser.algoritimos.UiSortAlgoritimo;
+import src.main.java.sortvisualiser.audio.Sonifier;
+import src.main.java.sortvisualiser.engine.FramePacer;
+import src.main.java.sortvisualiser.engine.MetricsExporter;
+import src.main.java.sortvisualiser.engine.OperationLog;
+import src.main.java.sortvisualiser.engine.OperationLogPlayer;
+import src.main.java.sortvisualiser.engine.OperationRecorder;
+import src.main.java.sortvisualiser.engine.RunController;
+import src.main.java.sortvisualiser.engine.RunProgress;
+import src.main.java.sortvisualiser.engine.SortEngine;
+import src.main.java.sortvisualiser.engine.SortResult;
+import src.main.java.sortvisualiser.profile.HardwareProfiler;
+import src.main.java.sortvisualiser.render.RenderScheduler;
+
+/**
+ * A classe SortingVisualiserScreen é responsável por exibir a tela de visualização
+ * dos algoritmos de ordenação. Ela configura a interface gráfica do usuário (GUI)
+ * e executa os algoritmos de ordenação selecionados em uma fila. O botão Stop cancela a
+ * execução a qualquer momento e volta ao menu principal.
+ *
+ * <p>Na execução ao vivo, cada algoritmo também roda em segundo plano, na velocidade máxima,
+ * sobre uma cópia da entrada, para contar o total de operações animadas: o painel mostra o
+ * progresso e o tempo restante e, com uma duração alvo nas opções, o ritmo é escolhido para
+ * que a animação termine nesse tempo.</p>
+ */
+public final class SortingVisualiserScreen extends Screen {
+    private static final int MAX_ANIMATED_SETUP_SIZE = 1024; // Maior array preenchido e destacado com animação
+    private static final long SETUP_STEP_DELAY = 5; // Atraso por passo do preenchimento e do destaque final
+    private static final int SCRUB_RESOLUTION = 1000; // Número de posições da barra de busca
+    private static final int SCRUB_REFRESH_MILLIS = 100; // Intervalo de atualização da barra de busca
+
+    private final SortArray sortArray; // Array a ser ordenado
+    private final SortArrayPanel sortArrayPanel; // Componente que representa a visualização do array
+    private final FramePacer pacer; // Ritmo da animação, pausado pelos controles na execução ao vivo
+    private final SortEngine engine = new SortEngine(); // Motor que executa os algoritmos
+    private final RenderScheduler renderScheduler; // Dispara os quadros da animação
+    private final ArrayList<UiSortAlgoritimo> sortQueue; // Lista de algoritmos de ordenação a serem executados
+    private final VisualiserOptions options; // Opções escolhidas no menu principal
+    private final MetricsExporter metricsExporter; // Grava as métricas de cada execução, se ativado
+    private final RunController controller = new RunController(); // Cancela a execução pelo botão Stop
+    private volatile OperationLogPlayer player; // Reprodutor da execução gravada, no modo de reprodução
+    private volatile boolean reverse = false; // Indica se a reprodução deve andar para trás
+    private volatile boolean paused = false; // Indica se a execução ou a reprodução está pausada
+    private Timer scrubTimer; // Atualiza a barra de busca com a posição da reprodução
+
+    /**
+     * Construtor da classe SortingVisualiserScreen.
+     * Inicializa a tela de visualização de algoritmos com os algoritmos fornecidos
+     * e configura a GUI.
+     *
+     * @param algorithms A lista de algoritmos de ordenação a serem executados.
+     * @param options As opções escolhidas no menu principal.
+     * @param app A instância do aplicativo principal.
+     */
+    public SortingVisualiserScreen(ArrayList<UiSortAlgoritimo> algorithms, VisualiserOptions options, MainApp app) {
+        super(app);
+        setLayout(new BorderLayout());
+        boolean parallel = false;
+        for (UiSortAlgoritimo algorithm : algorithms) {
+            if (algorithm instanceof ParallelSortAlgoritimo) {
+                ((ParallelSortAlgoritimo) algorithm).setParallelism(options.getParallelism());
+                parallel = true;
+            }
+        }
+        // Algoritmos paralelos escrevem no array a partir de vários workers
+        sortArray = parallel ? new ConcurrentSortArray(options.getArraySize()) : new SortArray(options.getArraySize());
+        renderScheduler = new RenderScheduler(options.getFramesPerSecond());
+        double fps = renderScheduler.getFramesPerSecond();
+        pacer = new FramePacer(fps, FramePacer.opsPerFrameForDelay(SETUP_STEP_DELAY, fps));
+        // Inicializa o componente de visualização de array
+        sortArrayPanel = new SortArrayPanel(sortArray, pacer, options.getRendererType(), options.isActiveRendering());
+        if (!options.isActiveRendering()) {
+            renderScheduler.add(sortArrayPanel); // No modo ativo, o canvas do painel desenha na sua própria thread
+        }
+        add(sortArrayPanel, BorderLayout.CENTER); // Adiciona o componente à tela
+        sortQueue = algorithms; // Armazena a lista de algoritmos
+        this.options = options;
+        metricsExporter = new MetricsExporter(options.getMetricsDirectory());
+        add(createPlaybackControls(), BorderLayout.PAGE_END);
+        controller.register(sortArray);
+        controller.onCancel(() -> pacer.setPaused(false)); // Libera os workers estacionados pela pausa
+    }
+
+    /**
+     * Cria os controles da execução: parada, pausa e passo à frente. No modo de reprodução há também
+     * o passo para trás, a inversão da direção e uma barra de busca sobre as operações gravadas.
+     *
+     * @return O painel com os controles.
+     */
+    private JPanel createPlaybackControls() {
+        JPanel controls = new JPanel();
+        controls.setBackground(sortArrayPanel.getBackground());
+        boolean replay = options.isReplayMode();
+
+        JButton stopButton = new JButton("Stop");
+        stopButton.addActionListener((event) -> {
+            stopButton.setEnabled(false);
+            controller.cancel();
+        });
+        controls.add(stopButton);
+
+        JToggleButton pauseButton = new JToggleButton("Pause");
+        pauseButton.addActionListener((event) -> {
+            paused = pauseButton.isSelected();
+            OperationLogPlayer current = player;
+            if (current != null) {
+                current.setPaused(paused);
+            } else if (!replay) {
+                pacer.setPaused(paused);
+            }
+        });
+        controls.add(pauseButton);
+
+        if (replay) {
+            JButton backButton = new JButton("Step back");
+            backButton.addActionListener((event) -> {
+                OperationLogPlayer current = player;
+                if (current != null) {
+                    current.requestStep(false);
+                }
+            });
+            controls.add(backButton);
+        }
+        JButton stepButton = new JButton("Step");
+        stepButton.addActionListener((event) -> {
+            OperationLogPlayer current = player;
+            if (current != null) {
+                current.requestStep(true);
+            } else if (!replay) {
+                pacer.stepOnce();
+            }
+        });
+        controls.add(stepButton);
+
+        if (replay) {
+            JToggleButton reverseButton = new JToggleButton("Reverse");
+            reverseButton.addActionListener((event) -> {
+                reverse = reverseButton.isSelected();
+                OperationLogPlayer current = player;
+                if (current != null) {
+                    current.setReverse(reverse);
+                }
+            });
+            controls.add(reverseButton);
+            addScrubBar(controls);
+        }
+        return controls;
+    }
+
+    /**
+     * Adiciona a barra de busca da reprodução. Arrastar a barra salta para a operação
+     * correspondente; fora disso, a barra acompanha a posição da reprodução.
+     *
+     * @param controls O painel dos controles.
+     */
+    private void addScrubBar(JPanel controls) {
+        JSlider scrubBar = new JSlider(0, SCRUB_RESOLUTION, 0);
+        scrubBar.setBackground(controls.getBackground());
+        JLabel positionLabel = new JLabel();
+        positionLabel.setForeground(Color.WHITE);
+        boolean[] updating = {false}; // Evita tratar como busca as atualizações feitas pelo timer
+        scrubBar.addChangeListener((event) -> {
+            OperationLogPlayer current = player;
+            if (updating[0] || current == null || !scrubBar.getValueIsAdjusting()) {
+                return;
+            }
+            current.requestSeek(current.size() * scrubBar.getValue() / SCRUB_RESOLUTION);
+        });
+        scrubTimer = new Timer(SCRUB_REFRESH_MILLIS, (event) -> {
+            OperationLogPlayer current = player;
+            if (current == null || scrubBar.getValueIsAdjusting()) {
+                return;
+            }
+            long size = Math.max(1, current.size());
+            updating[0] = true;
+            scrubBar.setValue((int) (current.getPosition() * SCRUB_RESOLUTION / size));
+            updating[0] = false;
+            positionLabel.setText(current.getPosition() + " / " + current.size());
+        });
+        controls.add(scrubBar);
+        controls.add(positionLabel);
+    }
+
+    /**
+     * Executa o algoritmo na velocidade máxima sobre uma cópia do array, gravando as operações,
+     * e depois anima a execução gravada sobre o array visualizado.
+     *
+     * @param algorithm O algoritmo a ser executado.
+     * @param profiler  O profiler que observa a execução gravada, ou null.
+     * @return O resultado da execução gravada, sem o custo da animação.
+     */
+    private SortResult recordAndReplay(UiSortAlgoritimo algorithm, HardwareProfiler profiler) {
+        SortArray headless = SortEngine.newArray(algorithm, sortArray.toArray(), sortArray.getKeys());
+        OperationRecorder recorder = new OperationRecorder(new OperationLog(), false);
+        headless.addListener(recorder);
+        if (profiler != null) {
+            headless.addListener(profiler); // A reprodução não repete leituras e comparações
+        }
+        controller.register(headless);
+        OperationLogPlayer replay = null;
+        try {
+            SortResult result = engine.run(algorithm, headless); // Sem o painel como observador: roda sem atrasos
+
+            RunProgress runProgress = new RunProgress(); // Só para o ritmo: o progresso é mostrado pela barra de busca
+            runProgress.setTotal(recorder.getLog().size()); // Cada operação gravada passa pelo FramePacer
+            applyTargetDuration(runProgress);
+            sortArray.setAlgorithm(algorithm);
+            replay = new OperationLogPlayer(recorder.getLog(), sortArray);
+            replay.setReverse(reverse);
+            replay.setPaused(paused);
+            player = replay;
+            replay.play(); // Termina ao ser interrompida, se o cancelamento ocorrer durante a pausa
+            controller.checkCancelled();
+            return result;
+        } finally {
+            player = null;
+            if (replay != null) {
+                replay.closeAuxArrays(); // Buffers ainda abertos se a reprodução foi cancelada
+            }
+            controller.unregister(headless);
+            recorder.getLog().clear();
+        }
+    }
+
+    /**
+     * Executa o algoritmo ao vivo, observado pelo painel, enquanto uma execução prévia em
+     * segundo plano conta o total de operações para o progresso e para a duração alvo.
+     *
+     * @param algorithm O algoritmo a ser executado.
+     * @return O resultado da execução.
+     */
+    private SortResult runWithProgress(UiSortAlgoritimo algorithm) {
+        RunProgress runProgress = new RunProgress();
+        SortArray copy = startDryRun(algorithm, runProgress);
+        sortArrayPanel.setProgress(runProgress);
+        try {
+            return engine.run(algorithm, sortArray);
+        } finally {
+            sortArrayPanel.setProgress(null);
+            copy.cancel(); // Se a contagem ainda não terminou, não é mais necessária
+        }
+    }
+
+    /**
+     * Inicia a execução prévia do algoritmo sobre uma cópia do array, em uma thread própria e
+     * sem observadores. Ao terminar, ela publica o total de operações animadas no progresso e
+     * aplica a duração alvo. A execução prévia usa uma instância própria do algoritmo, com o
+     * mesmo atraso e paralelismo, para não dividir com a execução ao vivo o estado interno
+     * (buffers, contadores e pools) da instância.
+     *
+     * @param algorithm   O algoritmo a ser executado.
+     * @param runProgress O progresso da execução ao vivo.
+     * @return A cópia do array, para cancelar a contagem.
+     */
+    private SortArray startDryRun(UiSortAlgoritimo algorithm, RunProgress runProgress) {
+        UiSortAlgoritimo counter = SortAlgorithms.create(algorithm.getName());
+        counter.setDelay(algorithm.getDelay());
+        if (algorithm instanceof ParallelSortAlgoritimo && counter instanceof ParallelSortAlgoritimo) {
+            ((ParallelSortAlgoritimo) counter).setParallelism(((ParallelSortAlgoritimo) algorithm).getParallelism());
+        }
+        SortArray copy = SortEngine.newArray(counter, sortArray.toArray(), sortArray.getKeys());
+        controller.register(copy);
+        Thread dryRun = new Thread(() -> {
+            try {
+                runProgress.setTotal(animatedOperations(new SortEngine().run(counter, copy)));
+                if (!copy.isCancelled()) {
+                    applyTargetDuration(runProgress);
+                }
+            } catch (SortCancelledException ex) {
+                // A execução ao vivo terminou ou foi parada antes da contagem
+            } finally {
+                controller.unregister(copy);
+            }
+        }, "dry-run-" + algorithm.getName());
+        dryRun.setDaemon(true);
+        dryRun.start();
+        return copy;
+    }
+
+    /**
+     * Retorna o número de operações animadas de uma execução: as trocas e as escritas,
+     * inclusive nos buffers auxiliares, que são as operações que passam pelo FramePacer.
+     *
+     * @param result O resultado da execução.
+     * @return As operações animadas.
+     */
+    private static long animatedOperations(SortResult result) {
+        return result.getSwaps() + result.getWrites();
+    }
+
+    /**
+     * Ajusta o ritmo para que a animação termine na duração alvo das opções, se houver uma.
+     *
+     * @param runProgress O progresso da execução, com o total conhecido.
+     */
+    private void applyTargetDuration(RunProgress runProgress) {
+        int targetSeconds = options.getTargetDurationSeconds();
+        if (targetSeconds > 0) {
+            sortArrayPanel.setOpsPerFrame(runProgress.opsPerFrameForTarget(targetSeconds, pacer.getFramesPerSecond()));
+        }
+    }
+
+    /**
+     * Grava as métricas da execução, se a exportação estiver ativada nas opções.
+     *
+     * @param result O resultado da execução.
+     */
+    private void exportMetrics(SortResult result) {
+        if (!options.isExportMetrics()) {
+            return;
+        }
+        try {
+            metricsExporter.export(result);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Cria um HardwareProfiler e o exibe no painel, se a opção estiver ativada. Ao vivo ele
+     * observa o array visualizado; no modo de reprodução, a execução gravada.
+     *
+     * @return O profiler, ou null se a opção estiver desativada.
+     */
+    private HardwareProfiler startProfiler() {
+        if (!options.isProfileHardware()) {
+            return null;
+        }
+        HardwareProfiler profiler = HardwareProfiler.withDefaults(sortArray);
+        if (!options.isReplayMode()) {
+            sortArray.addListener(profiler);
+        }
+        sortArrayPanel.setProfiler(profiler);
+        return profiler;
+    }
+
+    /**
+     * Registra um sonificador no array, se a opção de som estiver ativada. Ele é registrado
+     * depois do painel, então o som acompanha o ritmo da animação.
+     *
+     * @param algorithm O algoritmo que vai ser executado, que dá nome ao arquivo WAV.
+     * @return O sonificador, ou null se o som estiver desativado ou o arquivo não puder ser criado.
+     */
+    private Sonifier startSonifier(UiSortAlgoritimo algorithm) {
+        if (!options.isSonify()) {
+            return null;
+        }
+        try {
+            Files.createDirectories(options.getSoundDirectory());
+            String fileName = algorithm.getName().trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-") + ".wav";
+            Sonifier sonifier = Sonifier.live(sortArray, options.getSoundDirectory().resolve(fileName));
+            sortArray.addListener(sonifier);
+            return sonifier;
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Remove o sonificador do array e espera o fim do som, fechando o arquivo WAV.
+     *
+     * @param sonifier O sonificador, ou null.
+     */
+    private void stopSonifier(Sonifier sonifier) {
+        if (sonifier == null) {
+            return;
+        }
+        sortArray.removeListener(sonifier);
+        try {
+            sonifier.close();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Pausa a execução por um segundo.
+     *
+     * @throws SortCancelledException se a execução for cancelada durante a pausa.
+     */
+    private void longSleep() {
+        controller.sleep(1000);
+    }
+
+    /**
+     * Preenche o array com a entrada escolhida no menu e aguarda a execução do tempo de pausa.
+     */
+    private void fillAndWait() {
+        sortArrayPanel.setStepDelay(SETUP_STEP_DELAY);
+        long seed = options.nextSeed();
+        if (options.isAnimatedFill() && sortArray.arraySize() <= MAX_ANIMATED_SETUP_SIZE) {
+            sortArray.fillAnimated(options.getInputDistribution(), seed, options.getElementType(), SETUP_STEP_DELAY);
+        } else {
+            // Preencher com animação levaria horas em arrays grandes
+            sortArray.fill(options.getInputDistribution(), seed, options.getElementType());
+        }
+        sortArray.resetColours(); // Reseta as cores dos elementos
+        longSleep(); // Pausa a execução
+    }
+
+    @Override
+    public void onOpen() {
+        // Bloqueia a Event Dispatch Thread e precisa rodar em uma worker thread.
+
+        SwingWorker<Void, Void> swingWorker = new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                controller.register(Thread.currentThread());
+                try {
+                    runQueue();
+                } catch (SortCancelledException ex) {
+                    // Parada pelo botão Stop: o restante da fila é descartado
+                } finally {
+                    Thread.interrupted(); // Limpa a interrupção do cancelamento antes de devolver a thread ao pool
+                }
+                return null; // Retorna null após a conclusão
+            }
+
+            @Override
+            public void done() {
+                if (scrubTimer != null) {
+                    scrubTimer.stop();
+                }
+                renderScheduler.stop();
+                renderScheduler.remove(sortArrayPanel);
+                sortArray.removeListener(sortArrayPanel);
+                controller.release();
+                app.popScreen(); // Remove a tela de visualização após a conclusão ou a parada
+            }
+        };
+
+        renderScheduler.start();
+        if (scrubTimer != null) {
+            scrubTimer.start();
+        }
+        swingWorker.execute(); // Executa a tarefa em segundo plano
+    }
+
+    /**
+     * Executa a fila de algoritmos, preenchendo o array antes de cada um.
+     *
+     * @throws SortCancelledException se a execução for cancelada.
+     */
+    private void runQueue() {
+        controller.sleep(250); // Pausa inicial antes de começar a execução dos algoritmos
+        for (UiSortAlgoritimo algorithm : sortQueue) {
+            sortArrayPanel.setProfiler(null); // Oculta o profiler do algoritmo anterior
+            fillAndWait(); // Preenche e aguarda
+
+            sortArrayPanel.setStepDelay(algorithm.getDelay()); // Velocidade padrão do algoritmo
+            SortResult result;
+            HardwareProfiler profiler = startProfiler();
+            Sonifier sonifier = startSonifier(algorithm);
+            try {
+                if (options.isReplayMode()) {
+                    result = recordAndReplay(algorithm, profiler); // Grava em velocidade máxima e anima depois
+                } else {
+                    result = runWithProgress(algorithm); // Executa o algoritmo, observado pelo painel
+                }
+            } finally {
+                stopSonifier(sonifier);
+                if (profiler != null) {
+                    sortArray.removeListener(profiler); // O painel continua exibindo o resultado até o próximo algoritmo
+                }
+            }
+            exportMetrics(result);
+            sortArray.resetColours(); // Reseta as cores após a execução
+            sortArrayPanel.setStepDelay(SETUP_STEP_DELAY);
+            if (sortArray.arraySize() <= MAX_ANIMATED_SETUP_SIZE) {
+                sortArray.highlightArray(); // Destaca o array ordenado
+            }
+            sortArray.resetColours(); // Reseta as cores novamente
+            longSleep(); // Pausa a execução
+        }
+    }
+}
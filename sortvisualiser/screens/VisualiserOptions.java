@@ -0,0 +1,371 @@
+package src.main.java.sortvisualiser.screens;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import src.main.java.sortvisualiser.SortArray;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.keys.ElementType;
+import src.main.java.sortvisualiser.render.RendererType;
+
+/**
+ * A classe VisualiserOptions guarda as opções escolhidas no menu principal que controlam
+ * como a tela de visualização executa e anima os algoritmos.
+ */
+public final class VisualiserOptions {
+    private boolean replayMode = false; // Grava a execução em velocidade máxima e anima depois
+    private boolean raceMode = false; // Executa todos os algoritmos ao mesmo tempo, um painel para cada
+    private int arraySize = SortArray.DEFAULT_SIZE; // Número de elementos do array
+    private int framesPerSecond = 0; // Taxa de quadros da animação (0 = taxa de atualização do monitor)
+    private RendererType rendererType = RendererType.BARS; // Visualização do array
+    private boolean activeRendering = false; // Desenha com um BufferStrategy em uma thread própria
+    private int parallelism = Runtime.getRuntime().availableProcessors(); // Workers dos algoritmos paralelos
+    private boolean exportMetrics = false; // Grava as métricas de cada execução em CSV e JSON
+    private Path metricsDirectory = Paths.get("sort-metrics"); // Diretório das métricas exportadas
+    private boolean sonify = false; // Toca o som dos acessos e o grava em WAV
+    private Path soundDirectory = Paths.get("sort-sound"); // Diretório dos arquivos WAV
+    private boolean profileHardware = false; // Simula caches e preditor de desvios e exibe o mapa de calor
+    private InputDistribution inputDistribution = InputDistribution.RANDOM; // Distribuição da entrada
+    private ElementType elementType = ElementType.INT; // Tipo dos elementos ordenados
+    private long seed = 0; // Semente da entrada (0 = uma semente nova a cada execução)
+    private boolean animatedFill = true; // Anima o preenchimento da entrada em arrays pequenos
+    private int targetDurationSeconds = 0; // Duração alvo da animação de cada algoritmo (0 = ritmo padrão do algoritmo)
+
+    /**
+     * Indica se a execução deve ser gravada em velocidade máxima e animada depois.
+     *
+     * @return true se o modo de gravação e reprodução estiver ativo.
+     */
+    public boolean isReplayMode() {
+        return replayMode;
+    }
+
+    /**
+     * Define se a execução deve ser gravada em velocidade máxima e animada depois.
+     *
+     * @param replayMode true para ativar o modo de gravação e reprodução.
+     */
+    public void setReplayMode(boolean replayMode) {
+        this.replayMode = replayMode;
+    }
+
+    /**
+     * Indica se os algoritmos devem correr ao mesmo tempo sobre a mesma entrada, em vez de um após o outro.
+     *
+     * @return true se o modo corrida estiver ativo.
+     */
+    public boolean isRaceMode() {
+        return raceMode;
+    }
+
+    /**
+     * Define se os algoritmos devem correr ao mesmo tempo sobre a mesma entrada. No modo
+     * corrida a opção de gravação e reprodução é ignorada.
+     *
+     * @param raceMode true para ativar o modo corrida.
+     */
+    public void setRaceMode(boolean raceMode) {
+        this.raceMode = raceMode;
+    }
+
+    /**
+     * Retorna o número de elementos do array a ser ordenado.
+     *
+     * @return O tamanho do array.
+     */
+    public int getArraySize() {
+        return arraySize;
+    }
+
+    /**
+     * Define o número de elementos do array a ser ordenado.
+     *
+     * @param arraySize O tamanho do array, entre 2 e SortArray.MAX_SIZE.
+     * @throws IllegalArgumentException se o tamanho estiver fora do intervalo suportado.
+     */
+    public void setArraySize(int arraySize) {
+        if (arraySize < 2 || arraySize > SortArray.MAX_SIZE) {
+            throw new IllegalArgumentException("Array size must be between 2 and " + SortArray.MAX_SIZE);
+        }
+        this.arraySize = arraySize;
+    }
+
+    /**
+     * Retorna a taxa de quadros da animação.
+     *
+     * @return Os quadros por segundo, ou 0 para usar a taxa de atualização do monitor.
+     */
+    public int getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    /**
+     * Define a taxa de quadros da animação.
+     *
+     * @param framesPerSecond Os quadros por segundo, ou 0 para usar a taxa de atualização do monitor.
+     * @throws IllegalArgumentException se o valor for negativo.
+     */
+    public void setFramesPerSecond(int framesPerSecond) {
+        if (framesPerSecond < 0) {
+            throw new IllegalArgumentException("Frames per second must not be negative");
+        }
+        this.framesPerSecond = framesPerSecond;
+    }
+
+    /**
+     * Retorna a visualização do array.
+     *
+     * @return A visualização.
+     */
+    public RendererType getRendererType() {
+        return rendererType;
+    }
+
+    /**
+     * Define a visualização do array.
+     *
+     * @param rendererType A visualização.
+     */
+    public void setRendererType(RendererType rendererType) {
+        this.rendererType = rendererType;
+    }
+
+    /**
+     * Indica se os quadros devem ser desenhados pelo backend ativo, um Canvas com BufferStrategy
+     * em uma thread própria, em vez do repaint() do Swing.
+     *
+     * @return true se o backend ativo estiver escolhido.
+     */
+    public boolean isActiveRendering() {
+        return activeRendering;
+    }
+
+    /**
+     * Define se os quadros devem ser desenhados pelo backend ativo. No modo corrida os painéis
+     * continuam no modo passivo.
+     *
+     * @param activeRendering true para usar o backend ativo.
+     */
+    public void setActiveRendering(boolean activeRendering) {
+        this.activeRendering = activeRendering;
+    }
+
+    /**
+     * Retorna o número de workers usados pelos algoritmos paralelos.
+     *
+     * @return O nível de paralelismo.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Define o número de workers usados pelos algoritmos paralelos.
+     *
+     * @param parallelism O nível de paralelismo, maior que zero.
+     * @throws IllegalArgumentException se o paralelismo for menor que 1.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Indica se as métricas de cada execução devem ser gravadas em CSV e JSON.
+     *
+     * @return true se a exportação estiver ativa.
+     */
+    public boolean isExportMetrics() {
+        return exportMetrics;
+    }
+
+    /**
+     * Define se as métricas de cada execução devem ser gravadas em CSV e JSON.
+     *
+     * @param exportMetrics true para ativar a exportação.
+     */
+    public void setExportMetrics(boolean exportMetrics) {
+        this.exportMetrics = exportMetrics;
+    }
+
+    /**
+     * Retorna o diretório onde as métricas são gravadas.
+     *
+     * @return O diretório das métricas.
+     */
+    public Path getMetricsDirectory() {
+        return metricsDirectory;
+    }
+
+    /**
+     * Define o diretório onde as métricas são gravadas.
+     *
+     * @param metricsDirectory O diretório das métricas.
+     */
+    public void setMetricsDirectory(Path metricsDirectory) {
+        this.metricsDirectory = metricsDirectory;
+    }
+
+    /**
+     * Indica se os acessos de cada algoritmo devem virar som, tocado ao vivo e gravado em WAV.
+     *
+     * @return true se a sonificação estiver ativa.
+     */
+    public boolean isSonify() {
+        return sonify;
+    }
+
+    /**
+     * Define se os acessos de cada algoritmo devem virar som. O som é tocado ao vivo quando há
+     * um dispositivo de áudio e é sempre gravado em um arquivo WAV por algoritmo.
+     *
+     * @param sonify true para ativar a sonificação.
+     */
+    public void setSonify(boolean sonify) {
+        this.sonify = sonify;
+    }
+
+    /**
+     * Retorna o diretório onde os arquivos WAV são gravados.
+     *
+     * @return O diretório dos arquivos WAV.
+     */
+    public Path getSoundDirectory() {
+        return soundDirectory;
+    }
+
+    /**
+     * Define o diretório onde os arquivos WAV são gravados.
+     *
+     * @param soundDirectory O diretório dos arquivos WAV.
+     */
+    public void setSoundDirectory(Path soundDirectory) {
+        this.soundDirectory = soundDirectory;
+    }
+
+    /**
+     * Indica se cada execução deve passar por um HardwareProfiler, com caches e preditor de
+     * desvios simulados e o mapa de calor dos acessos no painel.
+     *
+     * @return true se o profiler estiver ativo.
+     */
+    public boolean isProfileHardware() {
+        return profileHardware;
+    }
+
+    /**
+     * Define se cada execução deve passar por um HardwareProfiler. A simulação deixa o
+     * algoritmo mais lento, mas não muda o ritmo da animação.
+     *
+     * @param profileHardware true para ativar o profiler.
+     */
+    public void setProfileHardware(boolean profileHardware) {
+        this.profileHardware = profileHardware;
+    }
+
+    /**
+     * Retorna a distribuição usada para gerar a entrada dos algoritmos.
+     *
+     * @return A distribuição da entrada.
+     */
+    public InputDistribution getInputDistribution() {
+        return inputDistribution;
+    }
+
+    /**
+     * Define a distribuição usada para gerar a entrada dos algoritmos.
+     *
+     * @param inputDistribution A distribuição da entrada.
+     */
+    public void setInputDistribution(InputDistribution inputDistribution) {
+        this.inputDistribution = inputDistribution;
+    }
+
+    /**
+     * Retorna o tipo dos elementos ordenados.
+     *
+     * @return O tipo dos elementos.
+     */
+    public ElementType getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Define o tipo dos elementos ordenados. Com um tipo diferente de INT, apenas algoritmos
+     * de comparação são executados.
+     *
+     * @param elementType O tipo dos elementos.
+     */
+    public void setElementType(ElementType elementType) {
+        this.elementType = elementType;
+    }
+
+    /**
+     * Retorna a semente da entrada.
+     *
+     * @return A semente, ou 0 para usar uma semente nova a cada execução.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Define a semente da entrada. Com uma semente fixa, todos os algoritmos da fila recebem
+     * a mesma entrada e as execuções podem ser repetidas.
+     *
+     * @param seed A semente, ou 0 para usar uma semente nova a cada execução.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Retorna a semente de uma execução: a semente fixa, se houver, ou uma semente nova.
+     *
+     * @return A semente a ser usada.
+     */
+    public long nextSeed() {
+        return seed != 0 ? seed : System.nanoTime();
+    }
+
+    /**
+     * Indica se o preenchimento da entrada deve ser animado, um valor por passo.
+     *
+     * @return true se o preenchimento for animado.
+     */
+    public boolean isAnimatedFill() {
+        return animatedFill;
+    }
+
+    /**
+     * Define se o preenchimento da entrada deve ser animado. Arrays grandes são sempre
+     * preenchidos de uma só vez.
+     *
+     * @param animatedFill true para animar o preenchimento.
+     */
+    public void setAnimatedFill(boolean animatedFill) {
+        this.animatedFill = animatedFill;
+    }
+
+    /**
+     * Retorna a duração alvo da animação de cada algoritmo.
+     *
+     * @return A duração em segundos, ou 0 para usar o ritmo padrão de cada algoritmo.
+     */
+    public int getTargetDurationSeconds() {
+        return targetDurationSeconds;
+    }
+
+    /**
+     * Define a duração alvo da animação de cada algoritmo. O ritmo é escolhido a partir do total
+     * de operações contado em uma execução prévia, para que todos os algoritmos e tamanhos
+     * terminem em aproximadamente o mesmo tempo.
+     *
+     * @param targetDurationSeconds A duração em segundos, ou 0 para usar o ritmo padrão de cada algoritmo.
+     */
+    public void setTargetDurationSeconds(int targetDurationSeconds) {
+        this.targetDurationSeconds = targetDurationSeconds;
+    }
+}
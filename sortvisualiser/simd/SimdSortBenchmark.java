@@ -0,0 +1,184 @@
+package src.main.java.sortvisualiser.simd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import src.main.java.sortvisualiser.benchmark.RawIntSorts;
+import src.main.java.sortvisualiser.input.InputCache;
+import src.main.java.sortvisualiser.input.InputDistribution;
+import src.main.java.sortvisualiser.input.InputGenerator;
+
+/**
+ * A classe SimdSortBenchmark compara, em int[], o Quick Sort com desvios de RawIntSorts com as
+ * redes de ordenação sem desvios: as versões escalares de RawIntSorts (min/max por par) e as
+ * versões vetorizadas de VectorSortingNetworks. Arrays.sort é medido como referência.
+ *
+ * <p>Para cada distribuição e tamanho, cada variante executa iterações de aquecimento e de
+ * medição como no SortBenchmark, e o resultado é conferido com Arrays.sort. O speedup é em
+ * relação ao Quick Sort. As redes fazem O(n log² n) comparações, contra O(n log n) do Quick
+ * Sort, então a vantagem da vetorização diminui conforme o tamanho cresce.</p>
+ *
+ * <p>O Quick Sort usa o último elemento como pivô e é quadrático em entradas já ordenadas. Uma
+ * variante que estoure a pilha é reportada como "stack overflow".</p>
+ *
+ * <pre>
+ * java --add-modules jdk.incubator.vector -cp bin src.main.java.sortvisualiser.simd.SimdSortBenchmark \
+ *     --sizes=1024,65536,1048576 --distributions=RANDOM,FEW_UNIQUE
+ * </pre>
+ */
+public final class SimdSortBenchmark {
+    private static final int[] DEFAULT_SIZES = {256, 4_096, 65_536, 1_048_576};
+    private static final String QUICK_SORT = "Quick Sort";
+
+    private static volatile int sink; // Evita que o JIT elimine o trabalho medido
+
+    private int[] sizes = DEFAULT_SIZES; // Tamanhos dos arrays
+    private List<InputGenerator> distributions = List.of(InputDistribution.RANDOM); // Distribuições de entrada
+    private int warmupIterations = 3; // Iterações de aquecimento
+    private int measurementIterations = 5; // Iterações medidas
+    private long iterationMillis = 300; // Duração mínima de cada iteração
+    private long seed = 42; // Semente das entradas
+
+    /**
+     * Executa os benchmarks e imprime os resultados.
+     *
+     * @param args Opções no formato --nome=valor.
+     */
+    public static void main(String... args) {
+        SimdSortBenchmark benchmark = new SimdSortBenchmark();
+        benchmark.parseArguments(args);
+        benchmark.run();
+    }
+
+    private static int[] parseInts(String value) {
+        String[] parts = value.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "sizes":
+                    sizes = parseInts(value);
+                    break;
+                case "distributions":
+                    List<InputGenerator> selected = new ArrayList<>();
+                    for (String part : value.split(",")) {
+                        selected.add(InputDistribution.parse(part));
+                    }
+                    distributions = selected;
+                    break;
+                case "warmup":
+                    warmupIterations = Integer.parseInt(value);
+                    break;
+                case "iterations":
+                    measurementIterations = Integer.parseInt(value);
+                    break;
+                case "iteration-ms":
+                    iterationMillis = Long.parseLong(value);
+                    break;
+                case "seed":
+                    seed = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+    }
+
+    /**
+     * Retorna as variantes medidas, na ordem das linhas; a primeira é a referência do speedup.
+     */
+    private static Map<String, RawIntSorts.IntArraySorter> variants() {
+        VectorSortingNetworks networks = new VectorSortingNetworks();
+        Map<String, RawIntSorts.IntArraySorter> variants = new LinkedHashMap<>();
+        variants.put(QUICK_SORT + " [int[]]", RawIntSorts.baselineFor(QUICK_SORT));
+        variants.put("Bitonic Sort [int[]]", RawIntSorts.baselineFor("Bitonic Sort"));
+        variants.put("Bitonic Sort [vector]", networks::bitonicSort);
+        variants.put("Odd-Even Merge Sort [int[]]", RawIntSorts.baselineFor("Odd-Even Merge Sort"));
+        variants.put("Odd-Even Merge Sort [vector]", networks::oddEvenMergeSort);
+        variants.put("Arrays.sort", Arrays::sort);
+        return variants;
+    }
+
+    private void run() {
+        System.out.printf(Locale.ROOT, "Vector: %d int lanes%n", VectorSortingNetworks.lanes());
+        System.out.printf(Locale.ROOT, "%-30s %-14s %9s %14s %10s %8s%n",
+                "Benchmark", "Distribution", "n", "ns/op", "ns/elem", "speedup");
+        Map<String, RawIntSorts.IntArraySorter> variants = variants();
+        for (InputGenerator distribution : distributions) {
+            for (int size : sizes) {
+                int[] input = InputCache.shared().get(distribution, size, seed);
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+                double referenceNanos = Double.NaN;
+                for (Map.Entry<String, RawIntSorts.IntArraySorter> variant : variants.entrySet()) {
+                    double nanosPerOp;
+                    try {
+                        nanosPerOp = measure(variant.getValue(), input, expected);
+                    } catch (StackOverflowError ex) {
+                        System.out.printf(Locale.ROOT, "%-30s %-14s %9d %14s%n",
+                                variant.getKey(), distribution.getName(), size, "stack overflow");
+                        continue;
+                    }
+                    if (variant.getKey().startsWith(QUICK_SORT)) {
+                        referenceNanos = nanosPerOp;
+                    }
+                    String speedup = Double.isNaN(referenceNanos) ? "" :
+                            String.format(Locale.ROOT, "%.2fx", referenceNanos / nanosPerOp);
+                    System.out.printf(Locale.ROOT, "%-30s %-14s %9d %14.1f %10.3f %8s%n",
+                            variant.getKey(), distribution.getName(), size, nanosPerOp, nanosPerOp / size, speedup);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mede uma variante e confere o resultado.
+     *
+     * @return O tempo médio de uma ordenação, em nanossegundos.
+     */
+    private double measure(RawIntSorts.IntArraySorter sorter, int[] input, int[] expected) {
+        int[] values = input.clone();
+        sorter.sort(values);
+        if (!Arrays.equals(values, expected)) {
+            throw new IllegalStateException("Result is not sorted");
+        }
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(sorter, input, values, new long[2]);
+        }
+        long[] totals = new long[2]; // Ordenações executadas e tempo total
+        for (int i = 0; i < measurementIterations; i++) {
+            iterate(sorter, input, values, totals);
+        }
+        return (double) totals[1] / totals[0];
+    }
+
+    private void iterate(RawIntSorts.IntArraySorter sorter, int[] input, int[] values, long[] totals) {
+        long iterationNanos = iterationMillis * 1_000_000L;
+        long elapsed = 0;
+        do {
+            System.arraycopy(input, 0, values, 0, input.length);
+            long start = System.nanoTime();
+            sorter.sort(values);
+            elapsed += System.nanoTime() - start;
+            sink ^= values[input.length / 2];
+            totals[0]++;
+        } while (elapsed < iterationNanos);
+        totals[1] += elapsed;
+    }
+}
@@ -0,0 +1,229 @@
+package src.main.java.sortvisualiser.simd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A classe VectorSortingNetworks implementa as redes bitônica e de intercalação par-ímpar de
+ * Batcher com a Vector API do JDK (jdk.incubator.vector). Cada camada de compara-e-troca vira
+ * min/max de vetores inteiros, sem nenhum desvio que dependa dos valores: o custo é o mesmo
+ * para qualquer entrada, e não há previsões de desvio erradas como as do Quick Sort.
+ *
+ * <p>O array é copiado para um buffer do tamanho da próxima potência de dois (no mínimo um
+ * vetor), completado com Integer.MAX_VALUE, que fica no fim depois da ordenação. Camadas com
+ * distância de pelo menos um vetor comparam vetores inteiros; camadas com distância menor
+ * comparam lanes do mesmo vetor com rearrange e blend; na intercalação par-ímpar, os vetores
+ * são deslocados para que cada par fique dentro de um vetor.</p>
+ *
+ * <p>Usa o tamanho de vetor preferido da CPU (IntVector.SPECIES_PREFERRED). O buffer é
+ * reaproveitado entre ordenações, de forma que uma instância não deve ser usada por duas
+ * threads ao mesmo tempo. Precisa de --add-modules jdk.incubator.vector para compilar e executar.</p>
+ */
+public final class VectorSortingNetworks {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int LANE_BITS = Integer.numberOfTrailingZeros(LANES);
+
+    // Por distância j < LANES (índice log2 j): troca cada lane com a lane j ^ lane
+    private static final List<VectorShuffle<Integer>> PARTNERS = partnerShuffles();
+    // Por distância j < LANES: lanes com o bit j ligado, que ficam com o maior valor em ordem crescente
+    private static final List<VectorMask<Integer>> UPPER = upperMasks();
+
+    private int[] buffer = new int[0]; // Buffer com a potência de dois e a folga de um vetor
+
+    /**
+     * Retorna o número de lanes int do vetor usado.
+     *
+     * @return O número de lanes.
+     */
+    public static int lanes() {
+        return LANES;
+    }
+
+    /**
+     * Ordena o array com a rede bitônica vetorizada.
+     *
+     * @param values O array a ser ordenado.
+     */
+    public void bitonicSort(int[] values) {
+        int padded = prepare(values);
+        int[] v = buffer;
+        for (int k = 2; k <= padded; k <<= 1) {
+            for (int j = k >> 1; j > 0; j >>= 1) {
+                if (j >= LANES) {
+                    bitonicAcrossVectors(v, padded, j, k);
+                } else {
+                    bitonicWithinVectors(v, padded, j, k);
+                }
+            }
+        }
+        System.arraycopy(v, 0, values, 0, values.length);
+    }
+
+    /**
+     * Ordena o array com a rede de intercalação par-ímpar vetorizada.
+     *
+     * @param values O array a ser ordenado.
+     */
+    public void oddEvenMergeSort(int[] values) {
+        int padded = prepare(values);
+        int[] v = buffer;
+        for (int p = 1; p < padded; p <<= 1) {
+            for (int k = p; k > 0; k >>= 1) {
+                if (k >= LANES) {
+                    oddEvenAcrossVectors(v, padded, p, k);
+                } else {
+                    oddEvenWithinVectors(v, padded, p, k);
+                }
+            }
+        }
+        System.arraycopy(v, 0, values, 0, values.length);
+    }
+
+    /**
+     * Copia o array para o buffer e completa até a potência de dois com Integer.MAX_VALUE.
+     *
+     * @return O tamanho completado.
+     */
+    private int prepare(int[] values) {
+        int size = values.length;
+        int padded = Math.max(LANES, Integer.highestOneBit(Math.max(1, size - 1)) << 1);
+        if (buffer.length < padded + LANES) {
+            buffer = new int[padded + LANES]; // Folga para os vetores deslocados da intercalação par-ímpar
+        }
+        System.arraycopy(values, 0, buffer, 0, size);
+        Arrays.fill(buffer, size, padded, Integer.MAX_VALUE);
+        return padded;
+    }
+
+    /**
+     * Camada bitônica com distância j >= LANES: o elemento x é comparado com x + j, e o
+     * sentido (bit k de x) é o mesmo para todas as lanes do vetor.
+     */
+    private static void bitonicAcrossVectors(int[] v, int padded, int j, int k) {
+        for (int base = 0; base < padded; base += 2 * j) {
+            boolean ascending = (base & k) == 0;
+            for (int x = base; x < base + j; x += LANES) {
+                IntVector a = IntVector.fromArray(SPECIES, v, x);
+                IntVector b = IntVector.fromArray(SPECIES, v, x + j);
+                IntVector low = a.min(b);
+                IntVector high = a.max(b);
+                if (ascending) {
+                    low.intoArray(v, x);
+                    high.intoArray(v, x + j);
+                } else {
+                    high.intoArray(v, x);
+                    low.intoArray(v, x + j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Camada bitônica com distância j < LANES: cada lane é comparada com a lane j ^ lane do
+     * mesmo vetor e fica com o maior valor quando o bit j e o sentido indicam.
+     */
+    private static void bitonicWithinVectors(int[] v, int padded, int j, int k) {
+        VectorShuffle<Integer> partners = PARTNERS.get(Integer.numberOfTrailingZeros(j));
+        VectorMask<Integer> upper = UPPER.get(Integer.numberOfTrailingZeros(j));
+        VectorMask<Integer> lower = upper.not();
+        VectorMask<Integer> mixed = k < LANES ? upper.eq(UPPER.get(Integer.numberOfTrailingZeros(k))).not() : null; // Sentido muda dentro do vetor
+        for (int x = 0; x < padded; x += LANES) {
+            IntVector a = IntVector.fromArray(SPECIES, v, x);
+            IntVector b = a.rearrange(partners);
+            VectorMask<Integer> mask = mixed != null ? mixed : (x & k) == 0 ? upper : lower;
+            a.min(b).blend(a.max(b), mask).intoArray(v, x);
+        }
+    }
+
+    /**
+     * Camada par-ímpar com distância k >= LANES: cada vetor alinhado está inteiro em um bloco
+     * de 2p elementos e em um grupo de k comparações, então é comparado inteiro ou pulado.
+     */
+    private static void oddEvenAcrossVectors(int[] v, int padded, int p, int k) {
+        long block = 2L * p;
+        for (int j = k % p; j + k < padded; j += 2 * k) {
+            for (int x = j; x < j + k; x += LANES) {
+                if (x / block != (x + k) / block) {
+                    continue;
+                }
+                IntVector a = IntVector.fromArray(SPECIES, v, x);
+                IntVector b = IntVector.fromArray(SPECIES, v, x + k);
+                a.min(b).intoArray(v, x);
+                a.max(b).intoArray(v, x + k);
+            }
+        }
+    }
+
+    /**
+     * Camada par-ímpar com distância k < LANES: os pares começam em k % p, então, com os
+     * vetores deslocados por k % p, cada par fica dentro de um vetor, nas lanes l e l ^ k, e a
+     * camada é feita com rearrange e blend. O padrão das lanes se repete a cada vetor, exceto
+     * no vetor que cruza o fim de um bloco de 2p elementos, cujos pares cruzando o fim são pulados.
+     */
+    private static void oddEvenWithinVectors(int[] v, int padded, int p, int k) {
+        int first = k % p;
+        int block = 2 * p;
+        VectorShuffle<Integer> partners = PARTNERS.get(Integer.numberOfTrailingZeros(k));
+        VectorMask<Integer> interiorLow = oddEvenLanes(p, k, first, 0);
+        VectorMask<Integer> interiorHigh = oddEvenLanes(p, k, first, k);
+        VectorMask<Integer> endLow = interiorLow;
+        VectorMask<Integer> endHigh = interiorHigh;
+        if (block > LANES) {
+            endLow = oddEvenLanes(p, k, block - LANES + first, 0);
+            endHigh = oddEvenLanes(p, k, block - LANES + first, k);
+        }
+        for (int x = first; x < padded; x += LANES) {
+            boolean blockEnd = ((x - first + LANES) & (block - 1)) == 0;
+            IntVector a = IntVector.fromArray(SPECIES, v, x);
+            IntVector b = a.rearrange(partners);
+            a.blend(a.min(b), blockEnd ? endLow : interiorLow)
+                    .blend(a.max(b), blockEnd ? endHigh : interiorHigh)
+                    .intoArray(v, x);
+        }
+    }
+
+    /**
+     * Retorna as lanes de um vetor que começa em base cujo índice menos shift é o menor
+     * índice de uma comparação da camada (p, k), na mesma regra da forma iterativa de
+     * OddEvenMergeSort: com shift 0, as lanes que ficam com o menor valor; com shift k, as
+     * que ficam com o maior.
+     */
+    private static VectorMask<Integer> oddEvenLanes(int p, int k, int base, int shift) {
+        int first = k % p;
+        int block = 2 * p;
+        boolean[] lanes = new boolean[LANES];
+        for (int lane = shift; lane < LANES; lane++) {
+            int x = base + lane - shift;
+            lanes[lane] = Math.floorMod(x - first, 2 * k) < k && x / block == (x + k) / block;
+        }
+        return VectorMask.fromArray(SPECIES, lanes, 0);
+    }
+
+    private static List<VectorShuffle<Integer>> partnerShuffles() {
+        List<VectorShuffle<Integer>> shuffles = new ArrayList<>(LANE_BITS);
+        for (int bit = 0; bit < LANE_BITS; bit++) {
+            int distance = 1 << bit;
+            shuffles.add(VectorShuffle.fromOp(SPECIES, lane -> lane ^ distance));
+        }
+        return List.copyOf(shuffles);
+    }
+
+    private static List<VectorMask<Integer>> upperMasks() {
+        List<VectorMask<Integer>> masks = new ArrayList<>(LANE_BITS);
+        for (int bit = 0; bit < LANE_BITS; bit++) {
+            boolean[] lanes = new boolean[LANES];
+            for (int lane = 0; lane < LANES; lane++) {
+                lanes[lane] = (lane & (1 << bit)) != 0;
+            }
+            masks.add(VectorMask.fromArray(SPECIES, lanes, 0));
+        }
+        return List.copyOf(masks);
+    }
+}